@@ -1,14 +1,21 @@
 package com.crystalrealm.ecotalebanking;
 
 import com.crystalrealm.ecotalebanking.commands.BankCommandCollection;
+import com.crystalrealm.ecotalebanking.commands.CommandDispatcher;
 import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.CompiledConfig;
 import com.crystalrealm.ecotalebanking.config.ConfigManager;
+import com.crystalrealm.ecotalebanking.config.HotReloader;
+import com.crystalrealm.ecotalebanking.gui.AdminStatsCache;
 import com.crystalrealm.ecotalebanking.lang.LangManager;
 import com.crystalrealm.ecotalebanking.protection.AbuseGuard;
 import com.crystalrealm.ecotalebanking.scheduler.BankScheduler;
 import com.crystalrealm.ecotalebanking.service.*;
 import com.crystalrealm.ecotalebanking.storage.BankStorage;
+import com.crystalrealm.ecotalebanking.storage.InflationSeries;
 import com.crystalrealm.ecotalebanking.storage.JsonBankStorage;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.IdGenerator;
 import com.crystalrealm.ecotalebanking.util.MessageUtil;
 import com.crystalrealm.ecotalebanking.util.PermissionHelper;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
@@ -17,6 +24,10 @@ import com.hypixel.hytale.server.core.plugin.JavaPlugin;
 import com.hypixel.hytale.server.core.plugin.JavaPluginInit;
 
 import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.function.Supplier;
 
 /**
  * EcoTaleBanking — полноценная банковская система для Hytale.
@@ -68,12 +79,18 @@ public class EcoTaleBankingPlugin extends JavaPlugin {
     private DepositService depositService;
     private LoanService loanService;
     private BankService bankService;
+    private WealthTaxEngine wealthTax;
+    private AdminStatsCache adminStats;
 
     // ── Protection ──────────────────────────────────────────
     private AbuseGuard abuseGuard;
 
     // ── Scheduler ───────────────────────────────────────────
     private BankScheduler scheduler;
+    private HotReloader hotReloader;
+
+    // ── Commands ────────────────────────────────────────────
+    private CommandDispatcher commandDispatcher;
 
     /**
      * Обязательный конструктор для Hytale plugins.
@@ -121,31 +138,40 @@ public class EcoTaleBankingPlugin extends JavaPlugin {
                 config.getProtection().getMaxAuditLogEntries()
         );
         storage.loadAll();
+        IdGenerator.init(getDataDirectory());
 
-        // 4. Services (in dependency order)
-        creditService = new CreditRatingService(storage, config.getCredit());
-        inflationService = new InflationService(config.getInflation());
-        taxService = new TaxService(config.getTaxes());
+        // 4. Services (in dependency order), all on the tick-cached system clock
+        BankClock clock = BankClock.system();
+        Supplier<CompiledConfig> compiled = configManager::getCompiled;
+        creditService = new CreditRatingService(storage, compiled, clock);
+        inflationService = new InflationService(compiled, new Random(), clock,
+                InflationSeries.load(getDataDirectory().resolve("inflation.bin")));
+        taxService = new TaxService(compiled,
+                TreasuryLedger.load(getDataDirectory().resolve("treasury.json"), clock));
 
         depositService = new DepositService(
-                storage, config.getDeposits(),
-                inflationService, taxService, creditService
+                storage, compiled,
+                inflationService, taxService, creditService, clock
         );
 
         loanService = new LoanService(
-                storage, config.getLoans(),
-                inflationService, creditService
+                storage, compiled,
+                inflationService, creditService, clock
         );
 
         bankService = new BankService(
                 storage, depositService, loanService,
                 creditService, taxService, inflationService
         );
+        wealthTax = new WealthTaxEngine(bankService, clock,
+                getDataDirectory().resolve("wealth_tax.json"));
+        adminStats = new AdminStatsCache(bankService);
 
         // 5. Protection
-        abuseGuard = new AbuseGuard(config.getProtection());
+        abuseGuard = new AbuseGuard(compiled);
 
         // 6. Commands
+        commandDispatcher = new CommandDispatcher(4, 256, 4);
         getCommandRegistry().registerCommand(new BankCommandCollection(this));
 
         LOGGER.info("Setup phase complete. Services initialized.");
@@ -173,15 +199,48 @@ public class EcoTaleBankingPlugin extends JavaPlugin {
         // Запуск планировщика
         BankingConfig config = configManager.getConfig();
         scheduler = new BankScheduler(
-                bankService, storage, inflationService,
+                bankService, storage, inflationService, abuseGuard, wealthTax,
                 config.getGeneral().getAutoSaveMinutes(),
                 config.getInflation().getUpdateIntervalHours()
         );
         scheduler.start();
+        wealthTax.start();
+        adminStats.refresh();
+
+        startHotReload();
 
         LOGGER.info("EcoTaleBanking started! Banking system is active.");
     }
 
+    /**
+     * Watches the config, custom lang files and permissions.json so edits
+     * apply within seconds without {@code /bank admin reload}.
+     */
+    private void startHotReload() {
+        try {
+            hotReloader = new HotReloader();
+        } catch (IOException e) {
+            LOGGER.warn("File watching unavailable, use /bank admin reload: {}", e.getMessage());
+            return;
+        }
+
+        hotReloader.watchFile("config", configManager.getConfigPath(), () -> {
+            if (configManager.reloadIfChanged()) {
+                String lang = configManager.getCompiled().getGeneral().getLanguage();
+                if (!lang.equals(langManager.getServerLang())) langManager.reload(lang);
+            }
+        });
+        hotReloader.watchDirectory("lang", langManager.getOverrideDirectory(),
+                () -> langManager.reload(configManager.getCompiled().getGeneral().getLanguage()));
+
+        Path permissionsFile = PermissionHelper.getInstance().getPermissionsFile();
+        if (permissionsFile != null) {
+            hotReloader.watchFile("permissions", permissionsFile,
+                    () -> PermissionHelper.getInstance().reload());
+        }
+        hotReloader.start();
+    }
+
     /**
      * Фаза SHUTDOWN — сохранение, очистка.
      */
@@ -189,8 +248,14 @@ public class EcoTaleBankingPlugin extends JavaPlugin {
     protected void shutdown() {
         LOGGER.info("EcoTaleBanking shutting down...");
 
+        if (hotReloader != null) hotReloader.shutdown();
+        if (commandDispatcher != null) commandDispatcher.shutdown(5);
+        if (wealthTax != null) wealthTax.shutdown();
+        if (adminStats != null) adminStats.shutdown();
+        if (bankService != null) bankService.shutdown();
         if (scheduler != null) scheduler.shutdown();
         if (storage != null) storage.saveAll();
+        if (taxService != null) taxService.getLedger().checkpoint();
         if (abuseGuard != null) abuseGuard.clearAll();
         if (langManager != null) langManager.clearPlayerData();
         MessageUtil.clearCache();
@@ -208,6 +273,8 @@ public class EcoTaleBankingPlugin extends JavaPlugin {
     @Nonnull public ConfigManager getConfigManager() { return configManager; }
     @Nonnull public LangManager getLangManager() { return langManager; }
     @Nonnull public BankService getBankService() { return bankService; }
+    @Nonnull public AdminStatsCache getAdminStats() { return adminStats; }
     @Nonnull public AbuseGuard getAbuseGuard() { return abuseGuard; }
+    @Nonnull public CommandDispatcher getCommandDispatcher() { return commandDispatcher; }
     @Nonnull public BankStorage getStorage() { return storage; }
 }
@@ -1,17 +1,24 @@
 package com.crystalrealm.ecotalebanking.commands;
 
 import com.crystalrealm.ecotalebanking.EcoTaleBankingPlugin;
+import com.crystalrealm.ecotalebanking.config.BankingConfig;
 import com.crystalrealm.ecotalebanking.gui.AdminBankGui;
 import com.crystalrealm.ecotalebanking.gui.PlayerBankGui;
 import com.crystalrealm.ecotalebanking.lang.LangManager;
 import com.crystalrealm.ecotalebanking.model.*;
 import com.crystalrealm.ecotalebanking.protection.AbuseGuard;
+import com.crystalrealm.ecotalebanking.protection.OperationType;
+import com.crystalrealm.ecotalebanking.service.AuditReplayEngine;
 import com.crystalrealm.ecotalebanking.service.BankService;
-import com.crystalrealm.ecotalebanking.service.BankService.BankResult;
+import com.crystalrealm.ecotalebanking.simulation.EconomySimulator;
+import com.crystalrealm.ecotalebanking.simulation.SimulationResult;
+import com.crystalrealm.ecotalebanking.simulation.SimulationScenario;
+import com.crystalrealm.ecotalebanking.util.IdGenerator;
 import com.crystalrealm.ecotalebanking.util.MessageUtil;
 import com.crystalrealm.ecotalebanking.util.MiniMessageParser;
 import com.crystalrealm.ecotalebanking.util.PermissionHelper;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
+import com.crystalrealm.ecotalebanking.util.ReflectionBridge;
 
 import com.hypixel.hytale.component.ComponentType;
 import com.hypixel.hytale.component.Ref;
@@ -31,7 +38,9 @@ import java.util.List;
 import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
 
 /**
  * Collection of /bank commands.
@@ -43,12 +52,18 @@ public class BankCommandCollection extends AbstractCommandCollection {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
+    // World-thread dispatch for GUIs, resolved once per class
+    private static final ReflectionBridge.Call GET_EXTERNAL_DATA = ReflectionBridge.method("getExternalData");
+    private static final ReflectionBridge.Call GET_WORLD = ReflectionBridge.method("getWorld");
+    private static final ReflectionBridge.Call GET_COMPONENT =
+            ReflectionBridge.method("getComponent", Ref.class, ComponentType.class);
+
     /** Keywords to filter out when parsing trailing args from getInputString(). */
     private static final Set<String> COMMAND_KEYWORDS = Set.of(
             "b", "bank", "balance", "deposit", "withdraw", "deposits", "plans",
             "loan", "repay", "loans", "info", "history", "lang",
             "langen", "langru", "langpt_br", "langfr", "langde", "langes",
-            "help", "gui", "admin", "freeze", "unfreeze", "reload"
+            "help", "gui", "admin", "freeze", "unfreeze", "reload", "simulate", "verify"
     );
 
     private final EcoTaleBankingPlugin plugin;
@@ -85,6 +100,46 @@ public class BankCommandCollection extends AbstractCommandCollection {
         addSubCommand(new AdminSubCommand());
     }
 
+    // ────────────────────────────────────────────────────────
+    //  ASYNC EXECUTION
+    // ────────────────────────────────────────────────────────
+
+    /**
+     * Base of all bank subcommands: the body runs on the plugin's
+     * {@link CommandDispatcher} (per-player ordered) instead of the
+     * thread that dispatched the command.
+     */
+    private abstract class BankSubCommand extends AbstractAsyncCommand {
+
+        BankSubCommand(String name, String description) {
+            super(name, description);
+        }
+
+        /**
+         * Command body, run on a dispatcher worker.
+         */
+        protected abstract CompletableFuture<Void> run(CommandContext context);
+
+        @Override
+        public final CompletableFuture<Void> executeAsync(CommandContext context) {
+            UUID senderUuid = context.isPlayer() ? context.sender().getUuid() : null;
+            return plugin.getCommandDispatcher()
+                    .dispatch(senderUuid, () -> run(context))
+                    .exceptionally(e -> {
+                        Throwable cause = e instanceof CompletionException && e.getCause() != null
+                                ? e.getCause() : e;
+                        if (cause instanceof RejectedExecutionException) {
+                            if (context.isPlayer()) {
+                                context.sendMessage(msg(L(context.sender(), "cmd.error.busy")));
+                            }
+                        } else {
+                            LOGGER.error("Command /b {} failed: {}", getName(), cause.getMessage());
+                        }
+                        return null;
+                    });
+        }
+    }
+
     // ────────────────────────────────────────────────────────
     //  ARG PARSING (getInputString based)
     // ────────────────────────────────────────────────────────
@@ -118,18 +173,18 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank (balance overview)
     // ════════════════════════════════════════════════════════
 
-    private class BalanceSubCommand extends AbstractAsyncCommand {
+    private class BalanceSubCommand extends BankSubCommand {
         BalanceSubCommand() { super("balance", "Shows bank account overview"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.use")) return done();
 
             UUID uuid = sender.getUuid();
             BankService bank = plugin.getBankService();
-            BankAccount account = bank.getAccount(uuid);
+            AccountView account = bank.getView(uuid);
 
             double wallet = bank.getWalletBalance(uuid);
             BigDecimal deposited = account.getTotalDeposited();
@@ -147,10 +202,9 @@ public class BankCommandCollection extends AbstractCommandCollection {
             context.sendMessage(msg(L(sender, "cmd.bank.loans_count",
                     "count", String.valueOf(account.getActiveLoans().size()))));
 
-            CreditScore credit = bank.getCreditService().getScore(uuid);
             context.sendMessage(msg(L(sender, "cmd.bank.credit",
-                    "score", String.valueOf(credit.getScore()),
-                    "rating", credit.getRating())));
+                    "score", String.valueOf(account.getCreditScore()),
+                    "rating", account.getCreditRating())));
 
             if (account.isFrozen()) {
                 context.sendMessage(msg(L(sender, "cmd.bank.frozen",
@@ -166,11 +220,11 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank deposit <plan> <amount>
     // ════════════════════════════════════════════════════════
 
-    private class DepositSubCommand extends AbstractAsyncCommand {
+    private class DepositSubCommand extends BankSubCommand {
         DepositSubCommand() { super("deposit", "Open a bank deposit"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.deposit")) return done();
@@ -178,7 +232,7 @@ public class BankCommandCollection extends AbstractCommandCollection {
             UUID uuid = sender.getUuid();
             AbuseGuard guard = plugin.getAbuseGuard();
 
-            if (!guard.checkRateLimit(uuid)) {
+            if (!guard.checkRateLimit(uuid, OperationType.DEPOSIT)) {
                 context.sendMessage(msg(L(sender, "cmd.error.rate_limit")));
                 return done();
             }
@@ -205,19 +259,17 @@ public class BankCommandCollection extends AbstractCommandCollection {
                 return done();
             }
 
-            BankResult result = plugin.getBankService().openDeposit(uuid, planName, amount);
-
-            if (result.isSuccess()) {
-                guard.recordDeposit(uuid);
-                context.sendMessage(msg(L(sender, "cmd.deposit.success",
-                        "amount", MessageUtil.formatCoins(amount),
-                        "plan", planName,
-                        "id", result.getDetail())));
-            } else {
-                context.sendMessage(msg(L(sender, "cmd.error." + result.getMessageKey())));
-            }
-
-            return done();
+            return plugin.getBankService().openDepositAsync(uuid, planName, amount).thenAccept(result -> {
+                if (result.isSuccess()) {
+                    guard.recordDeposit(uuid);
+                    context.sendMessage(msg(L(sender, "cmd.deposit.success",
+                            "amount", MessageUtil.formatCoins(amount),
+                            "plan", planName,
+                            "id", result.getDetail())));
+                } else {
+                    context.sendMessage(msg(L(sender, "cmd.error." + result.getMessageKey())));
+                }
+            });
         }
     }
 
@@ -225,35 +277,38 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank withdraw <id>
     // ════════════════════════════════════════════════════════
 
-    private class WithdrawSubCommand extends AbstractAsyncCommand {
+    private class WithdrawSubCommand extends BankSubCommand {
         WithdrawSubCommand() { super("withdraw", "Close/withdraw a deposit"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.deposit")) return done();
 
             UUID uuid = sender.getUuid();
+            if (!plugin.getAbuseGuard().checkRateLimit(uuid, OperationType.WITHDRAW)) {
+                context.sendMessage(msg(L(sender, "cmd.error.rate_limit")));
+                return done();
+            }
+
             List<String> args = parseArgs(context);
             if (args.isEmpty()) {
                 context.sendMessage(msg(L(sender, "cmd.help.withdraw")));
                 return done();
             }
 
-            String depositId = args.get(0);
-            BankResult result = plugin.getBankService().closeDeposit(uuid, depositId);
-
-            if (result.isSuccess()) {
-                plugin.getAbuseGuard().recordGenericOperation(uuid);
-                context.sendMessage(msg(L(sender, "cmd.withdraw.success",
-                        "id", depositId,
-                        "amount", result.getDetail())));
-            } else {
-                context.sendMessage(msg(L(sender, "cmd.error." + result.getMessageKey())));
-            }
-
-            return done();
+            String depositId = IdGenerator.normalize(args.get(0));
+            return plugin.getBankService().closeDepositAsync(uuid, depositId).thenAccept(result -> {
+                if (result.isSuccess()) {
+                    plugin.getAbuseGuard().recordOperation(uuid, OperationType.WITHDRAW);
+                    context.sendMessage(msg(L(sender, "cmd.withdraw.success",
+                            "id", depositId,
+                            "amount", result.getDetail())));
+                } else {
+                    context.sendMessage(msg(L(sender, "cmd.error." + result.getMessageKey())));
+                }
+            });
         }
     }
 
@@ -261,25 +316,24 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank deposits
     // ════════════════════════════════════════════════════════
 
-    private class DepositsListSubCommand extends AbstractAsyncCommand {
+    private class DepositsListSubCommand extends BankSubCommand {
         DepositsListSubCommand() { super("deposits", "List active deposits"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.use")) return done();
 
             UUID uuid = sender.getUuid();
-            BankAccount account = plugin.getBankService().getAccount(uuid);
-            List<Deposit> deposits = account.getActiveDeposits();
+            List<DepositView> deposits = plugin.getBankService().getView(uuid).getActiveDeposits();
 
             context.sendMessage(msg(L(sender, "cmd.deposits.header")));
 
             if (deposits.isEmpty()) {
                 context.sendMessage(msg(L(sender, "cmd.deposits.none")));
             } else {
-                for (Deposit d : deposits) {
+                for (DepositView d : deposits) {
                     context.sendMessage(msg(L(sender, "cmd.deposits.entry",
                             "id", d.getId(),
                             "plan", d.getPlanName(),
@@ -287,7 +341,8 @@ public class BankCommandCollection extends AbstractCommandCollection {
                             "rate", MessageUtil.formatPercent(d.getInterestRate()),
                             "accrued", MessageUtil.formatCoins(d.getAccruedInterest()),
                             "days_left", String.valueOf(
-                                    Math.max(0, d.getTermDays() - d.getElapsedDays())),
+                                    Math.max(0, d.getTermDays()
+                                            - d.getElapsedDays(plugin.getBankService().getClock()))),
                             "status", MessageUtil.coloredStatus(d.getStatus().name())
                     )));
                 }
@@ -302,11 +357,11 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank plans
     // ════════════════════════════════════════════════════════
 
-    private class PlansSubCommand extends AbstractAsyncCommand {
+    private class PlansSubCommand extends BankSubCommand {
         PlansSubCommand() { super("plans", "Show deposit plans"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
 
@@ -332,11 +387,11 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank loan <amount>
     // ════════════════════════════════════════════════════════
 
-    private class LoanSubCommand extends AbstractAsyncCommand {
+    private class LoanSubCommand extends BankSubCommand {
         LoanSubCommand() { super("loan", "Take a loan"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.loan")) return done();
@@ -344,7 +399,7 @@ public class BankCommandCollection extends AbstractCommandCollection {
             UUID uuid = sender.getUuid();
             AbuseGuard guard = plugin.getAbuseGuard();
 
-            if (!guard.checkRateLimit(uuid)) {
+            if (!guard.checkRateLimit(uuid, OperationType.LOAN)) {
                 context.sendMessage(msg(L(sender, "cmd.error.rate_limit")));
                 return done();
             }
@@ -370,20 +425,18 @@ public class BankCommandCollection extends AbstractCommandCollection {
                 return done();
             }
 
-            BankResult result = plugin.getBankService().takeLoan(uuid, amount);
-
-            if (result.isSuccess()) {
-                guard.recordLoan(uuid);
-                BigDecimal rate = plugin.getBankService().getLoanService().getEffectiveRate(uuid);
-                context.sendMessage(msg(L(sender, "cmd.loan.success",
-                        "amount", MessageUtil.formatCoins(amount),
-                        "rate", MessageUtil.formatPercent(rate),
-                        "id", result.getDetail())));
-            } else {
-                context.sendMessage(msg(L(sender, "cmd.error." + result.getMessageKey())));
-            }
-
-            return done();
+            return plugin.getBankService().takeLoanAsync(uuid, amount).thenAccept(result -> {
+                if (result.isSuccess()) {
+                    guard.recordLoan(uuid);
+                    BigDecimal rate = plugin.getBankService().getLoanService().getEffectiveRate(uuid);
+                    context.sendMessage(msg(L(sender, "cmd.loan.success",
+                            "amount", MessageUtil.formatCoins(amount),
+                            "rate", MessageUtil.formatPercent(rate),
+                            "id", result.getDetail())));
+                } else {
+                    context.sendMessage(msg(L(sender, "cmd.error." + result.getMessageKey())));
+                }
+            });
         }
     }
 
@@ -391,23 +444,28 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank repay <id> <amount>
     // ════════════════════════════════════════════════════════
 
-    private class RepaySubCommand extends AbstractAsyncCommand {
+    private class RepaySubCommand extends BankSubCommand {
         RepaySubCommand() { super("repay", "Repay a loan"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.loan")) return done();
 
             UUID uuid = sender.getUuid();
+            if (!plugin.getAbuseGuard().checkRateLimit(uuid, OperationType.REPAY)) {
+                context.sendMessage(msg(L(sender, "cmd.error.rate_limit")));
+                return done();
+            }
+
             List<String> args = parseArgs(context);
             if (args.size() < 2) {
                 context.sendMessage(msg(L(sender, "cmd.help.repay")));
                 return done();
             }
 
-            String loanId = args.get(0);
+            String loanId = IdGenerator.normalize(args.get(0));
             BigDecimal amount;
             try {
                 amount = new BigDecimal(args.get(1));
@@ -417,18 +475,16 @@ public class BankCommandCollection extends AbstractCommandCollection {
                 return done();
             }
 
-            BankResult result = plugin.getBankService().repayLoan(uuid, loanId, amount);
-
-            if (result.isSuccess()) {
-                plugin.getAbuseGuard().recordGenericOperation(uuid);
-                context.sendMessage(msg(L(sender, "cmd." + result.getMessageKey(),
-                        "id", loanId,
-                        "amount", result.getDetail())));
-            } else {
-                context.sendMessage(msg(L(sender, "cmd.error." + result.getMessageKey())));
-            }
-
-            return done();
+            return plugin.getBankService().repayLoanAsync(uuid, loanId, amount).thenAccept(result -> {
+                if (result.isSuccess()) {
+                    plugin.getAbuseGuard().recordOperation(uuid, OperationType.REPAY);
+                    context.sendMessage(msg(L(sender, "cmd." + result.getMessageKey(),
+                            "id", loanId,
+                            "amount", result.getDetail())));
+                } else {
+                    context.sendMessage(msg(L(sender, "cmd.error." + result.getMessageKey())));
+                }
+            });
         }
     }
 
@@ -436,31 +492,31 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank loans
     // ════════════════════════════════════════════════════════
 
-    private class LoansListSubCommand extends AbstractAsyncCommand {
+    private class LoansListSubCommand extends BankSubCommand {
         LoansListSubCommand() { super("loans", "List active loans"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.use")) return done();
 
             UUID uuid = sender.getUuid();
-            BankAccount account = plugin.getBankService().getAccount(uuid);
-            List<Loan> loans = account.getActiveLoans();
+            List<LoanView> loans = plugin.getBankService().getView(uuid).getActiveLoans();
 
             context.sendMessage(msg(L(sender, "cmd.loans.header")));
 
             if (loans.isEmpty()) {
                 context.sendMessage(msg(L(sender, "cmd.loans.none")));
             } else {
-                for (Loan l : loans) {
+                for (LoanView l : loans) {
                     context.sendMessage(msg(L(sender, "cmd.loans.entry",
                             "id", l.getId(),
                             "principal", MessageUtil.formatCoins(l.getPrincipalAmount()),
                             "remaining", MessageUtil.formatCoins(l.getRemainingBalance()),
                             "rate", MessageUtil.formatPercent(l.getInterestRate()),
-                            "days_left", String.valueOf(l.getDaysUntilDue()),
+                            "days_left", String.valueOf(
+                                    l.getDaysUntilDue(plugin.getBankService().getClock())),
                             "status", MessageUtil.coloredStatus(l.getStatus().name())
                     )));
                 }
@@ -475,24 +531,24 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank info
     // ════════════════════════════════════════════════════════
 
-    private class InfoSubCommand extends AbstractAsyncCommand {
+    private class InfoSubCommand extends BankSubCommand {
         InfoSubCommand() { super("info", "Detailed bank info"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
 
             UUID uuid = sender.getUuid();
             BankService bank = plugin.getBankService();
-            CreditScore credit = bank.getCreditService().getScore(uuid);
+            AccountView credit = bank.getView(uuid);
 
             context.sendMessage(msg(L(sender, "cmd.info.header")));
             context.sendMessage(msg(L(sender, "cmd.info.version",
                     "version", plugin.getVersion())));
             context.sendMessage(msg(L(sender, "cmd.info.credit_score",
-                    "score", String.valueOf(credit.getScore()),
-                    "rating", credit.getRating())));
+                    "score", String.valueOf(credit.getCreditScore()),
+                    "rating", credit.getCreditRating())));
             context.sendMessage(msg(L(sender, "cmd.info.loans_completed",
                     "count", String.valueOf(credit.getTotalLoansCompleted()))));
             context.sendMessage(msg(L(sender, "cmd.info.loans_defaulted",
@@ -521,11 +577,11 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank history
     // ════════════════════════════════════════════════════════
 
-    private class HistorySubCommand extends AbstractAsyncCommand {
+    private class HistorySubCommand extends BankSubCommand {
         HistorySubCommand() { super("history", "Transaction history"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.use")) return done();
@@ -556,11 +612,11 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank lang | /b langen | /b langru
     // ════════════════════════════════════════════════════════
 
-    private class LangSubCommand extends AbstractAsyncCommand {
+    private class LangSubCommand extends BankSubCommand {
         LangSubCommand() { super("lang", "Show language usage"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             context.sendMessage(msg(L(sender, "cmd.lang.usage")));
@@ -568,7 +624,7 @@ public class BankCommandCollection extends AbstractCommandCollection {
         }
     }
 
-    private class LangSwitchSubCommand extends AbstractAsyncCommand {
+    private class LangSwitchSubCommand extends BankSubCommand {
         private final String langCode;
 
         LangSwitchSubCommand(String name, String langCode, String description) {
@@ -577,7 +633,7 @@ public class BankCommandCollection extends AbstractCommandCollection {
         }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (plugin.getLangManager().setPlayerLang(sender.getUuid(), langCode)) {
@@ -593,11 +649,11 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank help
     // ════════════════════════════════════════════════════════
 
-    private class HelpSubCommand extends AbstractAsyncCommand {
+    private class HelpSubCommand extends BankSubCommand {
         HelpSubCommand() { super("help", "Shows help"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
 
@@ -625,11 +681,11 @@ public class BankCommandCollection extends AbstractCommandCollection {
     //  /bank gui
     // ════════════════════════════════════════════════════════
 
-    private class GuiSubCommand extends AbstractAsyncCommand {
+    private class GuiSubCommand extends BankSubCommand {
         GuiSubCommand() { super("gui", "Open bank GUI panel"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.use")) return done();
@@ -651,31 +707,34 @@ public class BankCommandCollection extends AbstractCommandCollection {
             addSubCommand(new FreezeSubCommand());
             addSubCommand(new UnfreezeSubCommand());
             addSubCommand(new ReloadSubCommand());
+            addSubCommand(new SimulateSubCommand());
+            addSubCommand(new VerifySubCommand());
             addSubCommand(new AdminGuiSubCommand());
         }
     }
 
-    private class AdminGuiSubCommand extends AbstractAsyncCommand {
-        AdminGuiSubCommand() { super("gui", "Open admin bank GUI panel"); }
+    private class AdminGuiSubCommand extends BankSubCommand {
+        AdminGuiSubCommand() { super("gui", "Open admin bank GUI panel [name search]"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.admin")) return done();
 
+            List<String> args = parseArgs(context);
             if (sender instanceof Player player) {
-                return openGui(player, sender.getUuid(), true);
+                return openGui(player, sender.getUuid(), true, args.isEmpty() ? null : args.get(0));
             }
             return done();
         }
     }
 
-    private class FreezeSubCommand extends AbstractAsyncCommand {
+    private class FreezeSubCommand extends BankSubCommand {
         FreezeSubCommand() { super("freeze", "Freeze a player account"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.admin")) return done();
@@ -699,11 +758,11 @@ public class BankCommandCollection extends AbstractCommandCollection {
         }
     }
 
-    private class UnfreezeSubCommand extends AbstractAsyncCommand {
+    private class UnfreezeSubCommand extends BankSubCommand {
         UnfreezeSubCommand() { super("unfreeze", "Unfreeze a player account"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.admin")) return done();
@@ -726,11 +785,118 @@ public class BankCommandCollection extends AbstractCommandCollection {
         }
     }
 
-    private class ReloadSubCommand extends AbstractAsyncCommand {
+    private class SimulateSubCommand extends BankSubCommand {
+        SimulateSubCommand() { super("simulate", "Project the bank economy N game days ahead"); }
+
+        private static final int DEFAULT_DAYS = 30;
+        private static final int MAX_DAYS = 3650;
+
+        @Override
+        protected CompletableFuture<Void> run(CommandContext context) {
+            if (!context.isPlayer()) return done();
+            CommandSender sender = context.sender();
+            if (!checkPerm(context, sender, "ecotale.bank.admin")) return done();
+
+            List<String> args = parseArgs(context);
+            int days = DEFAULT_DAYS;
+            if (!args.isEmpty()) {
+                try {
+                    days = Integer.parseInt(args.get(0));
+                } catch (NumberFormatException e) {
+                    days = -1;
+                }
+                if (days <= 0 || days > MAX_DAYS) {
+                    context.sendMessage(msg(L(sender, "cmd.admin.simulate_usage")));
+                    return done();
+                }
+            }
+
+            try {
+                BankService bank = plugin.getBankService();
+                BankingConfig config = plugin.getConfigManager().getConfig();
+                EconomySimulator simulator = new EconomySimulator(plugin.getStorage(), bank.getWallet());
+
+                List<SimulationScenario> scenarios = new ArrayList<>();
+                scenarios.add(new SimulationScenario("baseline", config));
+                SimulationScenario inflation = new SimulationScenario("high-inflation", config);
+                inflation.getConfig().getInflation().setEnabled(true);
+                inflation.setStartInflationRate(BigDecimal.valueOf(
+                        config.getInflation().getMaxInflationRate()));
+                scenarios.add(inflation);
+                scenarios.add(new SimulationScenario("wallet-shock", config).setWalletFactor(0.5));
+
+                context.sendMessage(msg(L(sender, "cmd.admin.simulate_started",
+                        "scenarios", String.valueOf(scenarios.size()),
+                        "days", String.valueOf(days),
+                        "accounts", String.valueOf(simulator.getAccountCount()))));
+
+                for (SimulationResult result : simulator.run(scenarios, days)) {
+                    SimulationResult.DayPoint end = result.getEnd();
+                    context.sendMessage(msg(L(sender, "cmd.admin.simulate_result",
+                            "scenario", result.getScenario(),
+                            "supply", MessageUtil.formatCoins(end.getMoneySupply()),
+                            "liability", MessageUtil.formatCoins(end.getInterestLiability()),
+                            "debt", MessageUtil.formatCoins(end.getOutstandingDebt()),
+                            "defaults", String.valueOf(result.getNewDefaults()),
+                            "exposure", MessageUtil.formatCoins(end.getDefaultExposure()),
+                            "tax", MessageUtil.formatCoins(end.getTaxRevenue()))));
+                }
+            } catch (Exception e) {
+                LOGGER.error("Economy projection failed: {}", e.getMessage());
+                context.sendMessage(msg(L(sender, "cmd.admin.simulate_fail",
+                        "error", String.valueOf(e.getMessage()))));
+            }
+            return done();
+        }
+    }
+
+    private class VerifySubCommand extends BankSubCommand {
+        VerifySubCommand() { super("verify", "Replay the audit journal and compare it with stored state"); }
+
+        private static final int MAX_LISTED = 5;
+
+        @Override
+        protected CompletableFuture<Void> run(CommandContext context) {
+            if (!context.isPlayer()) return done();
+            CommandSender sender = context.sender();
+            if (!checkPerm(context, sender, "ecotale.bank.admin")) return done();
+
+            try {
+                int maxEntries = plugin.getConfigManager().getConfig().getProtection().getMaxAuditLogEntries();
+                AuditReplayEngine.Report report =
+                        new AuditReplayEngine(plugin.getStorage(), maxEntries,
+                                plugin.getBankService().getClock()).verifyAll();
+
+                context.sendMessage(msg(L(sender, "cmd.admin.verify_result",
+                        "players", String.valueOf(report.getPlayers()),
+                        "entries", String.valueOf(report.getEntries()),
+                        "ms", String.valueOf(report.getElapsedMillis()),
+                        "rate", String.valueOf(report.getEntriesPerSecond()),
+                        "count", String.valueOf(report.getDivergences().size()))));
+
+                if (report.getDivergences().isEmpty()) {
+                    context.sendMessage(msg(L(sender, "cmd.admin.verify_clean")));
+                }
+                report.getDivergences().stream().limit(MAX_LISTED).forEach(d ->
+                        context.sendMessage(msg(L(sender, "cmd.admin.verify_divergence",
+                                "uuid", d.getPlayerUuid().toString().substring(0, 8),
+                                "id", d.getInstrumentId() != null ? d.getInstrumentId() : "-",
+                                "kind", d.getKind().name(),
+                                "detail", d.getDetail()))));
+            } catch (Exception e) {
+                LOGGER.error("Audit replay failed: {}", e.getMessage());
+                context.sendMessage(msg(L(sender, "cmd.admin.verify_fail",
+                        "error", String.valueOf(e.getMessage()))));
+            }
+            return done();
+        }
+    }
+
+    private class ReloadSubCommand extends BankSubCommand {
         ReloadSubCommand() { super("reload", "Reload banking config"); }
 
         @Override
-        public CompletableFuture<Void> executeAsync(CommandContext context) {
+        protected CompletableFuture<Void> run(CommandContext context) {
             if (!context.isPlayer()) return done();
             CommandSender sender = context.sender();
             if (!checkPerm(context, sender, "ecotale.bank.admin")) return done();
@@ -755,26 +921,32 @@ public class BankCommandCollection extends AbstractCommandCollection {
     // ════════════════════════════════════════════════════════
 
     private CompletableFuture<Void> openGui(Player player, UUID uuid, boolean admin) {
+        return openGui(player, uuid, admin, null);
+    }
+
+    /**
+     * @param accountQuery admin only: opens the accounts tab filtered by this name prefix
+     */
+    private CompletableFuture<Void> openGui(Player player, UUID uuid, boolean admin,
+                                           String accountQuery) {
         try {
             Ref<EntityStore> ref = player.getReference();
             if (ref == null || !ref.isValid()) return done();
 
             Store<EntityStore> store = ref.getStore();
 
-            java.lang.reflect.Method getExt = store.getClass().getMethod("getExternalData");
-            Object extData = getExt.invoke(store);
-            java.lang.reflect.Method getWorld = extData.getClass().getMethod("getWorld");
-            Object worldObj = getWorld.invoke(extData);
+            Object extData = GET_EXTERNAL_DATA.invoke(store);
+            Object worldObj = GET_WORLD.invoke(extData);
 
             if (worldObj instanceof Executor worldExec) {
                 return CompletableFuture.runAsync(() -> {
                     try {
-                        java.lang.reflect.Method getComp = store.getClass()
-                                .getMethod("getComponent", Ref.class, ComponentType.class);
-                        Object result = getComp.invoke(store, ref, PlayerRef.getComponentType());
+                        Object result = GET_COMPONENT.invoke(store, ref, PlayerRef.getComponentType());
                         if (result instanceof PlayerRef playerRef) {
                             MessageUtil.cachePlayerRef(uuid, playerRef);
-                            if (admin) {
+                            if (admin && accountQuery != null) {
+                                AdminBankGui.openSearch(plugin, playerRef, ref, store, uuid, accountQuery);
+                            } else if (admin) {
                                 AdminBankGui.open(plugin, playerRef, ref, store, uuid);
                             } else {
                                 PlayerBankGui.open(plugin, playerRef, ref, store, uuid);
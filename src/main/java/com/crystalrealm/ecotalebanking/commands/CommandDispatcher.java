@@ -0,0 +1,142 @@
+package com.crystalrealm.ecotalebanking.commands;
+
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Runs bank command bodies off the command dispatcher thread.
+ *
+ * <p>Bodies run on a bounded worker pool, so slow I/O (Ecotale calls,
+ * file writes, permission lookups) never stalls the server's command
+ * handling. Commands of the same player form a lane and run strictly in
+ * submission order; different players run in parallel. A player with too
+ * many queued commands, or a saturated pool, gets the returned future
+ * completed with {@link RejectedExecutionException}.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class CommandDispatcher {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    /** Lane key for senders without a UUID (console). */
+    private static final UUID CONSOLE = new UUID(0L, 0L);
+
+    private final ThreadPoolExecutor executor;
+    private final int maxPendingPerPlayer;
+    private final Map<UUID, Lane> lanes = new ConcurrentHashMap<>();
+
+    /**
+     * @param threads             worker threads
+     * @param queueCapacity       bodies that may wait for a free worker
+     * @param maxPendingPerPlayer commands one player may have queued or running
+     */
+    public CommandDispatcher(int threads, int queueCapacity, int maxPendingPerPlayer) {
+        AtomicInteger counter = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(threads, threads,
+                60L, TimeUnit.SECONDS,
+                new ArrayBlockingQueue<>(queueCapacity),
+                r -> {
+                    Thread t = new Thread(r, "EcoTaleBanking-Command-" + counter.incrementAndGet());
+                    t.setDaemon(true);
+                    return t;
+                },
+                new ThreadPoolExecutor.AbortPolicy());
+        this.executor.allowCoreThreadTimeOut(true);
+        this.maxPendingPerPlayer = maxPendingPerPlayer;
+    }
+
+    /**
+     * Queues a command body in the player's lane.
+     *
+     * @param playerUuid sender, or null for the console
+     * @param body       command body; may itself return a pending future
+     *                   (e.g. work handed to the world thread)
+     * @return completes when the body and the future it returned complete
+     */
+    @Nonnull
+    public CompletableFuture<Void> dispatch(UUID playerUuid,
+                                            @Nonnull Supplier<CompletableFuture<Void>> body) {
+        UUID key = playerUuid != null ? playerUuid : CONSOLE;
+        CompletableFuture<Void> result = new CompletableFuture<>();
+        boolean[] accepted = {false};
+
+        lanes.compute(key, (k, existing) -> {
+            Lane lane = existing != null ? existing : new Lane();
+            if (lane.pending >= maxPendingPerPlayer) return existing;
+            lane.pending++;
+            CompletableFuture<Void> previous = lane.tail;
+            lane.tail = result;
+            previous.whenComplete((v, e) -> submit(body, result));
+            accepted[0] = true;
+            return lane;
+        });
+
+        if (!accepted[0]) {
+            result.completeExceptionally(new RejectedExecutionException(
+                    "Too many pending commands for " + key));
+            return result;
+        }
+        result.whenComplete((v, e) -> release(key));
+        return result;
+    }
+
+    private void submit(Supplier<CompletableFuture<Void>> body, CompletableFuture<Void> result) {
+        try {
+            executor.execute(() -> {
+                try {
+                    body.get().whenComplete((v, e) -> {
+                        if (e != null) result.completeExceptionally(e);
+                        else result.complete(null);
+                    });
+                } catch (Throwable t) {
+                    result.completeExceptionally(t);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            result.completeExceptionally(e);
+        }
+    }
+
+    private void release(UUID key) {
+        lanes.computeIfPresent(key, (k, l) -> --l.pending == 0 ? null : l);
+    }
+
+    /**
+     * @return commands queued or running over all players
+     */
+    public int getPending() {
+        return executor.getQueue().size() + executor.getActiveCount();
+    }
+
+    /**
+     * Stops accepting commands and waits briefly for running ones.
+     */
+    public void shutdown(long timeoutSeconds) {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                LOGGER.warn("Bank commands did not finish within {}s", timeoutSeconds);
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * Ordering lane of one player. Mutated only inside {@code lanes.compute}.
+     */
+    private static final class Lane {
+        CompletableFuture<Void> tail = CompletableFuture.completedFuture(null);
+        int pending;
+    }
+}
@@ -202,6 +202,7 @@ public class BankingConfig {
         private boolean balanceTaxEnabled = false;
         private double balanceTaxRate = 0.01;
         private double taxFreeThreshold = 1000;
+        private int balanceTaxIntervalDays = 7;
         private boolean interestTaxEnabled = true;
         private double interestTaxRate = 0.13;
         private boolean transactionTaxEnabled = false;
@@ -216,6 +217,7 @@ public class BankingConfig {
         public boolean isBalanceTaxEnabled() { return balanceTaxEnabled; }
         public double getBalanceTaxRate() { return balanceTaxRate; }
         public double getTaxFreeThreshold() { return taxFreeThreshold; }
+        public int getBalanceTaxIntervalDays() { return balanceTaxIntervalDays; }
         public boolean isInterestTaxEnabled() { return interestTaxEnabled; }
         public double getInterestTaxRate() { return interestTaxRate; }
         public boolean isTransactionTaxEnabled() { return transactionTaxEnabled; }
@@ -246,6 +248,10 @@ public class BankingConfig {
 
     public static class ProtectionConfig {
         private int maxOperationsPerHour = 30;
+        private int depositOpsPerHour = 10;
+        private int loanOpsPerHour = 5;
+        private int repayOpsPerHour = 20;
+        private int guiActionsPerHour = 600;
         private int depositCooldownSeconds = 60;
         private int loanCooldownSeconds = 300;
         private int minAccountAgeDaysForLoan = 1;
@@ -254,6 +260,14 @@ public class BankingConfig {
 
         public int getMaxOperationsPerHour() { return maxOperationsPerHour; }
         public void setMaxOperationsPerHour(int n) { this.maxOperationsPerHour = n; }
+        public int getDepositOpsPerHour() { return depositOpsPerHour; }
+        public void setDepositOpsPerHour(int n) { this.depositOpsPerHour = n; }
+        public int getLoanOpsPerHour() { return loanOpsPerHour; }
+        public void setLoanOpsPerHour(int n) { this.loanOpsPerHour = n; }
+        public int getRepayOpsPerHour() { return repayOpsPerHour; }
+        public void setRepayOpsPerHour(int n) { this.repayOpsPerHour = n; }
+        public int getGuiActionsPerHour() { return guiActionsPerHour; }
+        public void setGuiActionsPerHour(int n) { this.guiActionsPerHour = n; }
         public int getDepositCooldownSeconds() { return depositCooldownSeconds; }
         public void setDepositCooldownSeconds(int s) { this.depositCooldownSeconds = s; }
         public int getLoanCooldownSeconds() { return loanCooldownSeconds; }
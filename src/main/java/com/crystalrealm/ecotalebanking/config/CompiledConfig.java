@@ -0,0 +1,422 @@
+package com.crystalrealm.ecotalebanking.config;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Immutable, pre-converted snapshot of a {@link BankingConfig}.
+ *
+ * <p>Services read rates, limits and bracket tables from here instead of
+ * converting {@code double} getters to {@link BigDecimal} on every call.
+ * A snapshot never changes; {@link ConfigManager} compiles a new one on
+ * every edit or reload and publishes it atomically, so one operation
+ * that reads {@code config.get()} once sees one consistent version.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class CompiledConfig {
+
+    private final long version;
+    private final General general;
+    private final Deposits deposits;
+    private final Loans loans;
+    private final Credit credit;
+    private final Inflation inflation;
+    private final Taxes taxes;
+    private final Protection protection;
+
+    private CompiledConfig(long version, BankingConfig source) {
+        this.version = version;
+        this.general = new General(source.getGeneral());
+        this.deposits = new Deposits(source.getDeposits());
+        this.loans = new Loans(source.getLoans());
+        this.credit = new Credit(source.getCredit());
+        this.inflation = new Inflation(source.getInflation());
+        this.taxes = new Taxes(source.getTaxes());
+        this.protection = new Protection(source.getProtection());
+    }
+
+    /**
+     * Compiles a snapshot. Later changes to {@code source} do not affect it.
+     */
+    @Nonnull
+    public static CompiledConfig compile(@Nonnull BankingConfig source, long version) {
+        return new CompiledConfig(version, source);
+    }
+
+    /**
+     * Compiles an unversioned snapshot (projections).
+     */
+    @Nonnull
+    public static CompiledConfig compile(@Nonnull BankingConfig source) {
+        return compile(source, 0);
+    }
+
+    public long getVersion() { return version; }
+    @Nonnull public General getGeneral() { return general; }
+    @Nonnull public Deposits getDeposits() { return deposits; }
+    @Nonnull public Loans getLoans() { return loans; }
+    @Nonnull public Credit getCredit() { return credit; }
+    @Nonnull public Inflation getInflation() { return inflation; }
+    @Nonnull public Taxes getTaxes() { return taxes; }
+    @Nonnull public Protection getProtection() { return protection; }
+
+    private static BigDecimal dec(double value) {
+        return BigDecimal.valueOf(value);
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  GENERAL
+    // ═════════════════════════════════════════════════════════
+
+    public static final class General {
+        private final String language;
+        private final boolean debugMode;
+        private final int autoSaveMinutes;
+        private final String currencySymbol;
+        private final int secondsPerGameDay;
+
+        General(BankingConfig.GeneralConfig c) {
+            this.language = c.getLanguage();
+            this.debugMode = c.isDebugMode();
+            this.autoSaveMinutes = c.getAutoSaveMinutes();
+            this.currencySymbol = c.getCurrencySymbol();
+            this.secondsPerGameDay = c.getSecondsPerGameDay();
+        }
+
+        public String getLanguage() { return language; }
+        public boolean isDebugMode() { return debugMode; }
+        public int getAutoSaveMinutes() { return autoSaveMinutes; }
+        public String getCurrencySymbol() { return currencySymbol; }
+        public int getSecondsPerGameDay() { return secondsPerGameDay; }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  DEPOSITS
+    // ═════════════════════════════════════════════════════════
+
+    public static final class Deposits {
+        private final boolean enabled;
+        private final int maxPerPlayer;
+        private final BigDecimal earlyWithdrawalPenaltyRate;
+        private final List<BankingConfig.DepositPlanConfig> plans;
+
+        Deposits(BankingConfig.DepositsConfig c) {
+            this.enabled = c.isEnabled();
+            this.maxPerPlayer = c.getMaxPerPlayer();
+            this.earlyWithdrawalPenaltyRate = dec(c.getEarlyWithdrawalPenaltyRate());
+            // Plan configs have no setters; a fresh list identifies this version
+            this.plans = c.getPlans() == null ? List.of() : List.copyOf(c.getPlans());
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public int getMaxPerPlayer() { return maxPerPlayer; }
+        public BigDecimal getEarlyWithdrawalPenaltyRate() { return earlyWithdrawalPenaltyRate; }
+        public List<BankingConfig.DepositPlanConfig> getPlans() { return plans; }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  LOANS
+    // ═════════════════════════════════════════════════════════
+
+    public static final class Loans {
+        private final boolean enabled;
+        private final BigDecimal baseInterestRate;
+        private final BigDecimal minAmount;
+        private final BigDecimal maxAmount;
+        private final int maxActiveLoans;
+        private final int defaultTermDays;
+        private final BigDecimal overduePenaltyRate;
+        private final int defaultAfterDays;
+        private final double collateralRate;
+        private final BigDecimal collateralRateDecimal;
+        private final int minCreditScoreForLoan;
+        private final int minLoanDaysForCreditBonus;
+
+        Loans(BankingConfig.LoansConfig c) {
+            this.enabled = c.isEnabled();
+            this.baseInterestRate = dec(c.getBaseInterestRate());
+            this.minAmount = dec(c.getMinAmount());
+            this.maxAmount = dec(c.getMaxAmount());
+            this.maxActiveLoans = c.getMaxActiveLoans();
+            this.defaultTermDays = c.getDefaultTermDays();
+            this.overduePenaltyRate = dec(c.getOverduePenaltyRate());
+            this.defaultAfterDays = c.getDefaultAfterDays();
+            this.collateralRate = c.getCollateralRate();
+            this.collateralRateDecimal = dec(c.getCollateralRate());
+            this.minCreditScoreForLoan = c.getMinCreditScoreForLoan();
+            this.minLoanDaysForCreditBonus = c.getMinLoanDaysForCreditBonus();
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public BigDecimal getBaseInterestRate() { return baseInterestRate; }
+        public BigDecimal getMinAmount() { return minAmount; }
+        public BigDecimal getMaxAmount() { return maxAmount; }
+        public int getMaxActiveLoans() { return maxActiveLoans; }
+        public int getDefaultTermDays() { return defaultTermDays; }
+        public BigDecimal getOverduePenaltyRate() { return overduePenaltyRate; }
+        public int getDefaultAfterDays() { return defaultAfterDays; }
+        public double getCollateralRate() { return collateralRate; }
+        public BigDecimal getCollateralRateDecimal() { return collateralRateDecimal; }
+        public int getMinCreditScoreForLoan() { return minCreditScoreForLoan; }
+        public int getMinLoanDaysForCreditBonus() { return minLoanDaysForCreditBonus; }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  CREDIT RATING
+    // ═════════════════════════════════════════════════════════
+
+    public static final class Credit {
+        private final int initialScore;
+        private final int loanCompletedBonus;
+        private final int loanDefaultPenalty;
+        private final int onTimePaymentBonus;
+        private final int latePaymentPenalty;
+        private final int depositCompletedBonus;
+        private final BigDecimal excellentRateModifier;
+        private final BigDecimal goodRateModifier;
+        private final BigDecimal poorRateModifier;
+        private final BigDecimal badRateModifier;
+
+        Credit(BankingConfig.CreditConfig c) {
+            this.initialScore = c.getInitialScore();
+            this.loanCompletedBonus = c.getLoanCompletedBonus();
+            this.loanDefaultPenalty = c.getLoanDefaultPenalty();
+            this.onTimePaymentBonus = c.getOnTimePaymentBonus();
+            this.latePaymentPenalty = c.getLatePaymentPenalty();
+            this.depositCompletedBonus = c.getDepositCompletedBonus();
+            this.excellentRateModifier = dec(-c.getExcellentRateDiscount());
+            this.goodRateModifier = dec(-c.getExcellentRateDiscount() / 2.0);
+            this.poorRateModifier = dec(c.getPoorRatePenalty() / 2.0);
+            this.badRateModifier = dec(c.getPoorRatePenalty());
+        }
+
+        public int getInitialScore() { return initialScore; }
+        public int getLoanCompletedBonus() { return loanCompletedBonus; }
+        public int getLoanDefaultPenalty() { return loanDefaultPenalty; }
+        public int getOnTimePaymentBonus() { return onTimePaymentBonus; }
+        public int getLatePaymentPenalty() { return latePaymentPenalty; }
+        public int getDepositCompletedBonus() { return depositCompletedBonus; }
+
+        /** Rate modifier for Excellent (800+), negative = discount. */
+        public BigDecimal getExcellentRateModifier() { return excellentRateModifier; }
+        /** Rate modifier for Good (600+). */
+        public BigDecimal getGoodRateModifier() { return goodRateModifier; }
+        /** Rate modifier for Poor (200+). */
+        public BigDecimal getPoorRateModifier() { return poorRateModifier; }
+        /** Rate modifier for Bad (&lt;200). */
+        public BigDecimal getBadRateModifier() { return badRateModifier; }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  INFLATION
+    // ═════════════════════════════════════════════════════════
+
+    public static final class Inflation {
+        private final boolean enabled;
+        private final BigDecimal baseInflationRate;
+        private final int updateIntervalHours;
+        private final BigDecimal maxInflationRate;
+        private final BigDecimal minInflationRate;
+
+        Inflation(BankingConfig.InflationConfig c) {
+            this.enabled = c.isEnabled();
+            this.baseInflationRate = dec(c.getBaseInflationRate());
+            this.updateIntervalHours = c.getUpdateIntervalHours();
+            this.maxInflationRate = dec(c.getMaxInflationRate());
+            this.minInflationRate = dec(c.getMinInflationRate());
+        }
+
+        public boolean isEnabled() { return enabled; }
+        public BigDecimal getBaseInflationRate() { return baseInflationRate; }
+        public int getUpdateIntervalHours() { return updateIntervalHours; }
+        public BigDecimal getMaxInflationRate() { return maxInflationRate; }
+        public BigDecimal getMinInflationRate() { return minInflationRate; }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  TAXES
+    // ═════════════════════════════════════════════════════════
+
+    public static final class Taxes {
+        private final boolean balanceTaxEnabled;
+        private final BigDecimal balanceTaxRate;
+        private final BigDecimal taxFreeThreshold;
+        private final int balanceTaxIntervalDays;
+        private final boolean interestTaxEnabled;
+        private final double interestTaxRate;
+        private final BigDecimal interestTaxRateDecimal;
+        private final boolean transactionTaxEnabled;
+        private final double transactionTaxRate;
+        private final BigDecimal transactionTaxRateDecimal;
+        private final List<Bracket> brackets;
+        private final BracketTable bracketTable;
+
+        Taxes(BankingConfig.TaxConfig c) {
+            this.balanceTaxEnabled = c.isBalanceTaxEnabled();
+            this.balanceTaxRate = dec(c.getBalanceTaxRate());
+            this.taxFreeThreshold = dec(c.getTaxFreeThreshold());
+            this.balanceTaxIntervalDays = c.getBalanceTaxIntervalDays();
+            this.interestTaxEnabled = c.isInterestTaxEnabled();
+            this.interestTaxRate = c.getInterestTaxRate();
+            this.interestTaxRateDecimal = dec(c.getInterestTaxRate());
+            this.transactionTaxEnabled = c.isTransactionTaxEnabled();
+            this.transactionTaxRate = c.getTransactionTaxRate();
+            this.transactionTaxRateDecimal = dec(c.getTransactionTaxRate());
+
+            List<BankingConfig.TaxBracket> source = c.getProgressiveBrackets();
+            if (source == null) {
+                this.brackets = List.of();
+            } else {
+                Bracket[] compiled = new Bracket[source.size()];
+                for (int i = 0; i < compiled.length; i++) {
+                    BankingConfig.TaxBracket b = source.get(i);
+                    compiled[i] = new Bracket(dec(b.getFrom()), dec(b.getTo()), dec(b.getRate()));
+                }
+                this.brackets = List.of(compiled);
+            }
+            this.bracketTable = new BracketTable(brackets);
+        }
+
+        public boolean isBalanceTaxEnabled() { return balanceTaxEnabled; }
+        public BigDecimal getBalanceTaxRate() { return balanceTaxRate; }
+        public BigDecimal getTaxFreeThreshold() { return taxFreeThreshold; }
+        public int getBalanceTaxIntervalDays() { return balanceTaxIntervalDays; }
+        public boolean isInterestTaxEnabled() { return interestTaxEnabled; }
+        public double getInterestTaxRate() { return interestTaxRate; }
+        public BigDecimal getInterestTaxRateDecimal() { return interestTaxRateDecimal; }
+        public boolean isTransactionTaxEnabled() { return transactionTaxEnabled; }
+        public double getTransactionTaxRate() { return transactionTaxRate; }
+        public BigDecimal getTransactionTaxRateDecimal() { return transactionTaxRateDecimal; }
+        /** Progressive brackets in configured order (empty = flat rate). */
+        public List<Bracket> getBrackets() { return brackets; }
+        /** Cumulative form of {@link #getBrackets()} for O(log n) evaluation. */
+        public BracketTable getBracketTable() { return bracketTable; }
+    }
+
+    /**
+     * One progressive tax bracket with its bounds already converted.
+     */
+    public static final class Bracket {
+        private final BigDecimal from;
+        private final BigDecimal to;
+        private final BigDecimal size;
+        private final BigDecimal rate;
+
+        Bracket(BigDecimal from, BigDecimal to, BigDecimal rate) {
+            this.from = from;
+            this.to = to;
+            this.size = to.subtract(from);
+            this.rate = rate;
+        }
+
+        public BigDecimal getFrom() { return from; }
+        public BigDecimal getTo() { return to; }
+        /** {@code to - from} */
+        public BigDecimal getSize() { return size; }
+        public BigDecimal getRate() { return rate; }
+    }
+
+    /**
+     * Progressive brackets laid end to end: bracket {@code i} taxes the
+     * slice {@code [start[i], start[i] + size[i])} of the taxable amount,
+     * and {@code baseTax[i]} is the tax of all full brackets before it.
+     * Each bracket's tax is rounded to cents, as when summing bracket by
+     * bracket, so both give identical results.
+     */
+    public static final class BracketTable {
+        private final BigDecimal[] starts;
+        private final BigDecimal[] baseTax;
+        private final BigDecimal[] rates;
+        private final BigDecimal end;
+        private final BigDecimal totalTax;
+
+        BracketTable(List<Bracket> brackets) {
+            int n = brackets.size();
+            this.starts = new BigDecimal[n];
+            this.baseTax = new BigDecimal[n];
+            this.rates = new BigDecimal[n];
+            BigDecimal start = BigDecimal.ZERO;
+            BigDecimal tax = BigDecimal.ZERO;
+            for (int i = 0; i < n; i++) {
+                Bracket b = brackets.get(i);
+                BigDecimal size = b.getSize().max(BigDecimal.ZERO);
+                starts[i] = start;
+                baseTax[i] = tax;
+                rates[i] = b.getRate();
+                start = start.add(size);
+                tax = tax.add(size.multiply(b.getRate()).setScale(2, RoundingMode.HALF_UP));
+            }
+            this.end = start;
+            this.totalTax = tax;
+        }
+
+        public boolean isEmpty() { return starts.length == 0; }
+
+        /**
+         * @param amount taxable amount (above the tax-free threshold)
+         * @return progressive tax; amounts past the last bracket are not taxed
+         */
+        @Nonnull
+        public BigDecimal taxOn(@Nonnull BigDecimal amount) {
+            if (amount.signum() <= 0 || starts.length == 0) return BigDecimal.ZERO;
+            if (amount.compareTo(end) >= 0) return totalTax;
+
+            // Last bracket whose start is below the amount
+            int lo = 0;
+            int hi = starts.length - 1;
+            while (lo < hi) {
+                int mid = (lo + hi + 1) >>> 1;
+                if (starts[mid].compareTo(amount) < 0) lo = mid;
+                else hi = mid - 1;
+            }
+            BigDecimal partial = amount.subtract(starts[lo]).multiply(rates[lo])
+                    .setScale(2, RoundingMode.HALF_UP);
+            return baseTax[lo].add(partial);
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  PROTECTION (Anti-abuse)
+    // ═════════════════════════════════════════════════════════
+
+    public static final class Protection {
+        private final int maxOperationsPerHour;
+        private final int depositOpsPerHour;
+        private final int loanOpsPerHour;
+        private final int repayOpsPerHour;
+        private final int guiActionsPerHour;
+        private final int depositCooldownSeconds;
+        private final int loanCooldownSeconds;
+        private final int minAccountAgeDaysForLoan;
+        private final boolean auditLogEnabled;
+        private final int maxAuditLogEntries;
+
+        Protection(BankingConfig.ProtectionConfig c) {
+            this.maxOperationsPerHour = c.getMaxOperationsPerHour();
+            this.depositOpsPerHour = c.getDepositOpsPerHour();
+            this.loanOpsPerHour = c.getLoanOpsPerHour();
+            this.repayOpsPerHour = c.getRepayOpsPerHour();
+            this.guiActionsPerHour = c.getGuiActionsPerHour();
+            this.depositCooldownSeconds = c.getDepositCooldownSeconds();
+            this.loanCooldownSeconds = c.getLoanCooldownSeconds();
+            this.minAccountAgeDaysForLoan = c.getMinAccountAgeDaysForLoan();
+            this.auditLogEnabled = c.isAuditLogEnabled();
+            this.maxAuditLogEntries = c.getMaxAuditLogEntries();
+        }
+
+        public int getMaxOperationsPerHour() { return maxOperationsPerHour; }
+        public int getDepositOpsPerHour() { return depositOpsPerHour; }
+        public int getLoanOpsPerHour() { return loanOpsPerHour; }
+        public int getRepayOpsPerHour() { return repayOpsPerHour; }
+        public int getGuiActionsPerHour() { return guiActionsPerHour; }
+        public int getDepositCooldownSeconds() { return depositCooldownSeconds; }
+        public int getLoanCooldownSeconds() { return loanCooldownSeconds; }
+        public int getMinAccountAgeDaysForLoan() { return minAccountAgeDaysForLoan; }
+        public boolean isAuditLogEnabled() { return auditLogEnabled; }
+        public int getMaxAuditLogEntries() { return maxAuditLogEntries; }
+    }
+}
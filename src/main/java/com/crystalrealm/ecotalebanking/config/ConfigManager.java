@@ -9,11 +9,26 @@ import java.io.*;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 
 /**
  * Менеджер конфигурации — загрузка, сохранение и hot-reload
  * JSON-конфига из директории данных плагина.
  *
+ * <p>The published {@link BankingConfig} is never modified in place:
+ * edits go through {@link #update(Consumer)}, which changes a copy,
+ * compiles it and swaps both atomically. Services read the
+ * {@link CompiledConfig} snapshot via {@link #getCompiled()}.</p>
+ *
+ * <p>Updates, reloads and saves all hold the manager's monitor for their
+ * whole read-modify-publish step, so a disk reload can neither slip in
+ * between an update's copy and its publish nor publish text it read
+ * before an update.</p>
+ *
  * @author CrystalRealm
  * @version 1.0.0
  */
@@ -27,7 +42,12 @@ public class ConfigManager {
             .create();
 
     private final Path dataDirectory;
-    private BankingConfig config;
+    private volatile BankingConfig config;
+    private final AtomicReference<CompiledConfig> compiled = new AtomicReference<>();
+    private final AtomicLong versions = new AtomicLong();
+
+    /** Raw text last read from or written to disk — lets the watcher skip our own saves. */
+    private volatile String lastSeenText;
 
     /**
      * @param dataDirectory директория данных плагина (mods/CrystalRealm_EcoTaleBanking/)
@@ -46,13 +66,13 @@ public class ConfigManager {
             Files.createDirectories(dataDirectory);
 
             if (Files.exists(configPath)) {
-                loadFromFile(configPath);
+                loadFromFile(configPath, false);
             } else {
                 createDefault(configPath);
             }
         } catch (IOException e) {
             LOGGER.error("Failed to load config: {}", e.getMessage());
-            config = new BankingConfig(); // fallback to defaults
+            publish(new BankingConfig()); // fallback to defaults
         }
     }
 
@@ -61,7 +81,7 @@ public class ConfigManager {
      *
      * @return true если успешно перезагружен
      */
-    public boolean reload() {
+    public synchronized boolean reload() {
         Path configPath = getConfigPath();
         if (!Files.exists(configPath)) {
             LOGGER.warn("Config file not found: {}", configPath);
@@ -69,7 +89,7 @@ public class ConfigManager {
         }
 
         try {
-            loadFromFile(configPath);
+            loadFromFile(configPath, true);
             LOGGER.info("Configuration reloaded successfully.");
             return true;
         } catch (IOException e) {
@@ -79,21 +99,73 @@ public class ConfigManager {
     }
 
     /**
-     * @return текущая загруженная конфигурация
+     * Reloads the file if its content differs from the version last read
+     * or written by this manager. Used by the file watcher, so our own
+     * {@link #save()} does not bounce back as a reload.
+     *
+     * @return true if a new version was published
+     */
+    public synchronized boolean reloadIfChanged() {
+        Path configPath = getConfigPath();
+        if (!Files.exists(configPath)) return false;
+        try {
+            String text = Files.readString(configPath, StandardCharsets.UTF_8);
+            if (text.equals(lastSeenText)) return false;
+            publishText(text, true);
+            LOGGER.info("Configuration change detected on disk — reloaded.");
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Config change on disk rejected, keeping current version: {}", e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * @return текущая загруженная конфигурация (read-only — edit via {@link #update(Consumer)})
      */
     @Nonnull
     public BankingConfig getConfig() {
-        if (config == null) {
-            config = new BankingConfig();
+        BankingConfig current = config;
+        if (current == null) {
+            publish(new BankingConfig());
+            current = config;
         }
-        return config;
+        return current;
+    }
+
+    /**
+     * @return current compiled snapshot
+     */
+    @Nonnull
+    public CompiledConfig getCompiled() {
+        CompiledConfig current = compiled.get();
+        if (current == null) {
+            getConfig();
+            current = compiled.get();
+        }
+        return current;
+    }
+
+    /**
+     * Applies an edit to a copy of the current configuration and
+     * publishes the result. Concurrent readers see either the old or
+     * the new version, never a half-applied edit.
+     *
+     * @return the newly published snapshot
+     */
+    @Nonnull
+    public synchronized CompiledConfig update(@Nonnull Consumer<BankingConfig> edit) {
+        BankingConfig copy = copyOf(getConfig());
+        edit.accept(copy);
+        publish(copy);
+        return compiled.get();
     }
 
     /**
      * Сбрасывает конфигурацию к значениям по умолчанию.
      */
     public void resetToDefaults() {
-        config = new BankingConfig();
+        publish(new BankingConfig());
         LOGGER.info("Configuration reset to defaults.");
     }
 
@@ -102,11 +174,13 @@ public class ConfigManager {
      *
      * @return true если успешно сохранено
      */
-    public boolean save() {
+    public synchronized boolean save() {
         Path configPath = getConfigPath();
+        String text = GSON.toJson(getConfig());
         try (Writer writer = new OutputStreamWriter(
                 Files.newOutputStream(configPath), StandardCharsets.UTF_8)) {
-            GSON.toJson(config, writer);
+            lastSeenText = text;
+            writer.write(text);
             LOGGER.info("Configuration saved to {}", configPath);
             return true;
         } catch (IOException e) {
@@ -115,6 +189,14 @@ public class ConfigManager {
         }
     }
 
+    /**
+     * Deep copy of a configuration (used for what-if projections).
+     */
+    @Nonnull
+    public static BankingConfig copyOf(@Nonnull BankingConfig source) {
+        return GSON.fromJson(GSON.toJsonTree(source), BankingConfig.class);
+    }
+
     /**
      * @return полный путь к файлу конфигурации
      */
@@ -125,27 +207,107 @@ public class ConfigManager {
 
     // ─── Private ──────────────────────────────────────────────────
 
-    private void loadFromFile(Path path) throws IOException {
-        try (Reader reader = new InputStreamReader(
-                Files.newInputStream(path), StandardCharsets.UTF_8)) {
-            config = GSON.fromJson(reader, BankingConfig.class);
+    /**
+     * Checks values that would break calculations.
+     *
+     * @return problems found (empty = valid)
+     */
+    @Nonnull
+    public static List<String> validate(@Nonnull BankingConfig config) {
+        List<String> problems = new ArrayList<>();
+        if (config.getGeneral().getSecondsPerGameDay() < 60) {
+            problems.add("general.secondsPerGameDay must be at least 60");
+        }
+        List<BankingConfig.DepositPlanConfig> plans = config.getDeposits().getPlans();
+        if (plans == null) {
+            problems.add("deposits.plans is missing");
+        } else {
+            for (BankingConfig.DepositPlanConfig plan : plans) {
+                if (plan == null || plan.getName() == null) {
+                    problems.add("deposits.plans contains a plan without a name");
+                } else if (plan.getTermDays() <= 0 || plan.getMinAmount() > plan.getMaxAmount()) {
+                    problems.add("deposits.plans." + plan.getName() + " has an invalid term or amount range");
+                }
+            }
+        }
+        BankingConfig.LoansConfig loans = config.getLoans();
+        if (loans.getDefaultTermDays() <= 0) {
+            problems.add("loans.defaultTermDays must be positive");
+        }
+        if (loans.getMinAmount() > loans.getMaxAmount()) {
+            problems.add("loans.minAmount exceeds loans.maxAmount");
+        }
+        BankingConfig.InflationConfig inflation = config.getInflation();
+        if (inflation.getMinInflationRate() > inflation.getMaxInflationRate()) {
+            problems.add("inflation.minInflationRate exceeds inflation.maxInflationRate");
+        }
+        if (config.getTaxes().getBalanceTaxIntervalDays() < 1) {
+            problems.add("taxes.balanceTaxIntervalDays must be at least 1");
+        }
+        List<BankingConfig.TaxBracket> brackets = config.getTaxes().getProgressiveBrackets();
+        if (brackets != null) {
+            for (BankingConfig.TaxBracket bracket : brackets) {
+                if (bracket == null || bracket.getTo() < bracket.getFrom()) {
+                    problems.add("taxes.progressiveBrackets contains an inverted bracket");
+                    break;
+                }
+            }
+        }
+        return problems;
+    }
+
+    private void loadFromFile(Path path, boolean strict) throws IOException {
+        publishText(Files.readString(path, StandardCharsets.UTF_8), strict);
+    }
+
+    /**
+     * Parses and publishes a config text. In strict mode (reloads) an
+     * invalid config is rejected and the current version stays active.
+     */
+    private void publishText(String text, boolean strict) throws IOException {
+        BankingConfig loaded;
+        try {
+            loaded = GSON.fromJson(text, BankingConfig.class);
+        } catch (RuntimeException e) {
+            // Malformed JSON: keep the current version
+            throw new IOException(e.getMessage(), e);
         }
 
-        if (config == null) {
+        if (loaded == null) {
+            if (strict) throw new IOException("config is empty");
             LOGGER.warn("Config parsed as null, using defaults.");
-            config = new BankingConfig();
+            loaded = new BankingConfig();
+        }
+
+        List<String> problems = validate(loaded);
+        if (!problems.isEmpty()) {
+            if (strict) throw new IOException("invalid config: " + String.join("; ", problems));
+            for (String problem : problems) LOGGER.warn("Config: {}", problem);
         }
+        publish(loaded);
+        lastSeenText = text;
+    }
+
+    /**
+     * Compiles and publishes a configuration that nobody else holds a
+     * mutable reference to.
+     */
+    private synchronized void publish(BankingConfig next) {
+        CompiledConfig snapshot = CompiledConfig.compile(next, versions.incrementAndGet());
+        config = next;
+        compiled.set(snapshot);
     }
 
     private void createDefault(Path path) throws IOException {
-        config = new BankingConfig();
+        BankingConfig defaults = new BankingConfig();
+        publish(defaults);
 
         // Попытка скопировать встроенный шаблон
         try (InputStream defaultStream = getClass().getClassLoader()
                 .getResourceAsStream("default-config.json")) {
             if (defaultStream != null) {
                 Files.copy(defaultStream, path);
-                loadFromFile(path);
+                loadFromFile(path, false);
                 LOGGER.info("Default config created at {}", path);
                 return;
             }
@@ -154,7 +316,7 @@ public class ConfigManager {
         // Если шаблон не найден — сериализуем defaults из POJO
         try (Writer writer = new OutputStreamWriter(
                 Files.newOutputStream(path), StandardCharsets.UTF_8)) {
-            GSON.toJson(config, writer);
+            GSON.toJson(defaults, writer);
         }
         LOGGER.info("Default config generated at {}", path);
     }
@@ -0,0 +1,191 @@
+package com.crystalrealm.ecotalebanking.config;
+
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.*;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.*;
+import java.util.function.Predicate;
+
+/**
+ * Watches configuration files and reloads them when they change on disk.
+ *
+ * <p>One daemon thread waits on a {@link WatchService}; every event only
+ * (re)arms a per-target debounce timer, so an editor's burst of writes
+ * results in a single reload once the file has been quiet for
+ * {@link #DEBOUNCE_MILLIS}. Reload actions run on a separate single
+ * thread — never on the command or server thread — and are expected to
+ * parse, validate and swap atomically, keeping the current version when
+ * the new file is invalid.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class HotReloader {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    /** Quiet period after the last change event before reloading. */
+    public static final long DEBOUNCE_MILLIS = 750L;
+
+    private final WatchService watchService;
+    private final ScheduledExecutorService reloadExecutor;
+    private final Map<Path, List<Target>> targetsByDir = new ConcurrentHashMap<>();
+    private final Map<Target, ScheduledFuture<?>> pending = new ConcurrentHashMap<>();
+    private final Thread watchThread;
+    private volatile boolean running;
+
+    /** A watched file (or set of files) and its reload action. */
+    private static final class Target {
+        final String name;
+        final Predicate<Path> matcher;
+        final Runnable action;
+
+        Target(String name, Predicate<Path> matcher, Runnable action) {
+            this.name = name;
+            this.matcher = matcher;
+            this.action = action;
+        }
+    }
+
+    public HotReloader() throws IOException {
+        this.watchService = FileSystems.getDefault().newWatchService();
+        this.reloadExecutor = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "EcoTaleBanking-Reload");
+            t.setDaemon(true);
+            return t;
+        });
+        this.watchThread = new Thread(this::watchLoop, "EcoTaleBanking-FileWatch");
+        this.watchThread.setDaemon(true);
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  REGISTRATION
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Reloads with {@code action} when {@code file} is created or modified.
+     */
+    public void watchFile(@Nonnull String name, @Nonnull Path file, @Nonnull Runnable action) {
+        Path absolute = file.toAbsolutePath().normalize();
+        Path fileName = absolute.getFileName();
+        register(absolute.getParent(), new Target(name, p -> p.equals(fileName), action));
+    }
+
+    /**
+     * Reloads with {@code action} when any {@code .json} file in {@code directory} changes.
+     * Does nothing if the directory does not exist.
+     */
+    public void watchDirectory(@Nonnull String name, @Nonnull Path directory, @Nonnull Runnable action) {
+        Path absolute = directory.toAbsolutePath().normalize();
+        if (!Files.isDirectory(absolute)) {
+            LOGGER.debug("Not watching {} — directory does not exist.", absolute);
+            return;
+        }
+        register(absolute, new Target(name, p -> p.toString().endsWith(".json"), action));
+    }
+
+    private void register(Path dir, Target target) {
+        if (dir == null) return;
+        try {
+            targetsByDir.compute(dir, (k, existing) -> {
+                if (existing == null) {
+                    try {
+                        dir.register(watchService, StandardWatchEventKinds.ENTRY_CREATE,
+                                StandardWatchEventKinds.ENTRY_MODIFY);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    return new CopyOnWriteArrayList<>(List.of(target));
+                }
+                existing.add(target);
+                return existing;
+            });
+            LOGGER.debug("Watching {} for {} changes.", dir, target.name);
+        } catch (UncheckedIOException e) {
+            LOGGER.warn("Cannot watch {}: {}", dir, e.getCause().getMessage());
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  LIFECYCLE
+    // ═════════════════════════════════════════════════════════
+
+    public void start() {
+        running = true;
+        watchThread.start();
+        LOGGER.info("Hot reload active for {} director{}.", targetsByDir.size(),
+                targetsByDir.size() == 1 ? "y" : "ies");
+    }
+
+    public void shutdown() {
+        running = false;
+        try {
+            watchService.close();
+        } catch (IOException e) {
+            LOGGER.debug("Closing watch service failed: {}", e.getMessage());
+        }
+        reloadExecutor.shutdownNow();
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  INTERNAL
+    // ═════════════════════════════════════════════════════════
+
+    private void watchLoop() {
+        while (running) {
+            WatchKey key;
+            try {
+                key = watchService.take();
+            } catch (InterruptedException | ClosedWatchServiceException e) {
+                return;
+            }
+
+            Path dir = (Path) key.watchable();
+            List<Target> targets = targetsByDir.get(dir);
+            for (WatchEvent<?> event : key.pollEvents()) {
+                if (event.kind() == StandardWatchEventKinds.OVERFLOW) {
+                    // Events were lost — reload everything in this directory
+                    if (targets != null) targets.forEach(this::schedule);
+                    continue;
+                }
+                Path changed = (Path) event.context();
+                if (targets == null || changed == null) continue;
+                for (Target target : targets) {
+                    if (target.matcher.test(changed)) schedule(target);
+                }
+            }
+            if (!key.reset()) {
+                targetsByDir.remove(dir);
+                LOGGER.warn("Stopped watching {} — directory is no longer accessible.", dir);
+            }
+        }
+    }
+
+    /**
+     * (Re)arms the debounce timer of a target.
+     */
+    private void schedule(Target target) {
+        try {
+            pending.compute(target, (t, previous) -> {
+                if (previous != null) previous.cancel(false);
+                return reloadExecutor.schedule(() -> run(t), DEBOUNCE_MILLIS, TimeUnit.MILLISECONDS);
+            });
+        } catch (RejectedExecutionException e) {
+            // Shutting down
+        }
+    }
+
+    private void run(Target target) {
+        pending.remove(target);
+        try {
+            target.action.run();
+        } catch (Exception e) {
+            LOGGER.error("Hot reload of {} failed: {}", target.name, e.getMessage());
+        }
+    }
+}
@@ -5,9 +5,7 @@ import com.crystalrealm.ecotalebanking.config.BankingConfig;
 import com.crystalrealm.ecotalebanking.lang.LangManager;
 import com.crystalrealm.ecotalebanking.model.*;
 import com.crystalrealm.ecotalebanking.service.*;
-import com.crystalrealm.ecotalebanking.storage.BankStorage;
 import com.crystalrealm.ecotalebanking.util.MessageUtil;
-import com.crystalrealm.ecotalebanking.util.MiniMessageParser;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 
 import com.hypixel.hytale.codec.builder.BuilderCodec;
@@ -23,9 +21,10 @@ import com.hypixel.hytale.server.core.universe.PlayerRef;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
-import java.math.BigDecimal;
+import javax.annotation.Nullable;
+import java.time.ZoneId;
+import java.time.format.DateTimeFormatter;
 import java.util.*;
-import java.util.stream.Collectors;
 
 /**
  * Native admin GUI for bank management.
@@ -33,11 +32,20 @@ import java.util.stream.Collectors;
  * <p>Tabs:</p>
  * <ul>
  *   <li><b>Dashboard</b> — aggregate statistics</li>
- *   <li><b>Accounts</b> — all accounts with freeze/unfreeze</li>
+ *   <li><b>Accounts</b> — paged, sortable account list with freeze/unfreeze;
+ *       {@code /bank admin gui <name>} opens it filtered by name or UUID prefix</li>
  *   <li><b>Activity</b> — recent operations across all players</li>
  *   <li><b>Settings</b> — in-game config editor with sub-tabs</li>
  * </ul>
  *
+ * <p>Dashboard and activity render from the
+ * {@link AdminStatsCache} snapshot; a stale snapshot is recomputed in the
+ * background and pushed into the open page with {@code sendUpdate}.</p>
+ *
+ * <p>Every tab renders its unique elements into a {@link UiState}; after
+ * the initial build, clicks re-render and send only the values that
+ * changed. The page is reopened only when an update cannot be sent.</p>
+ *
  * @author CrystalRealm
  * @version 2.0.0
  */
@@ -46,10 +54,15 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
     private static final String PAGE_PATH = "Pages/CrystalRealm_EcoTaleBanking_AdminBank.ui";
-    private static final String ACC_ROW   = "Pages/CrystalRealm_EcoTaleBanking_AccRow.ui";
     private static final String ACT_ROW   = "Pages/CrystalRealm_EcoTaleBanking_ActRow.ui";
     private static final String LOG_ROW   = "Pages/CrystalRealm_EcoTaleBanking_LogRow.ui";
 
+    /** Account rows per page (slots #AccSlot0..14 in the page template). */
+    private static final int PAGE_SIZE = 15;
+
+    private static final DateTimeFormatter UPDATED_FORMAT =
+            DateTimeFormatter.ofPattern("HH:mm:ss").withZone(ZoneId.systemDefault());
+
     // ── Event data codec ────────────────────────────────────
     private static final String KEY_ACTION = "Action";
     private static final String KEY_ID     = "Id";
@@ -66,7 +79,13 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
     private final EcoTaleBankingPlugin plugin;
     private final UUID adminUuid;
     private final String selectedTab;
+    private final UiState ui = new UiState();
+    private String currentTab = "dashboard";
     private String currentSettingsSubTab = "general";
+    private final AccountView[] slotAccounts = new AccountView[PAGE_SIZE];
+    private AccountIndex.Sort accountSort = AccountIndex.Sort.STATUS;
+    private String accountQuery;
+    private int accountPage;
 
     private Ref<EntityStore> savedRef;
     private Store<EntityStore> savedStore;
@@ -81,10 +100,22 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
                         @Nonnull PlayerRef playerRef,
                         @Nonnull UUID adminUuid,
                         @Nonnull String selectedTab) {
+        this(plugin, playerRef, adminUuid, selectedTab, null);
+    }
+
+    /**
+     * @param accountQuery name or UUID prefix the accounts tab is filtered by
+     */
+    public AdminBankGui(@Nonnull EcoTaleBankingPlugin plugin,
+                        @Nonnull PlayerRef playerRef,
+                        @Nonnull UUID adminUuid,
+                        @Nonnull String selectedTab,
+                        @Nullable String accountQuery) {
         super(playerRef, CustomPageLifetime.CanDismiss, CODEC);
         this.plugin = plugin;
         this.adminUuid = adminUuid;
         this.selectedTab = selectedTab;
+        this.accountQuery = accountQuery == null || accountQuery.isBlank() ? null : accountQuery.trim();
     }
 
     // ════════════════════════════════════════════════════════
@@ -101,39 +132,22 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
 
         LangManager lang     = plugin.getLangManager();
         BankService bank     = plugin.getBankService();
-        BankStorage storage  = plugin.getStorage();
 
         MessageUtil.cachePlayerRef(adminUuid, playerRef);
 
-        Collection<BankAccount> allAccounts = storage.getAllAccounts();
-        Collection<CreditScore> allCredits  = storage.getAllCreditScores();
+        AdminStatsCache stats = plugin.getAdminStats();
+        AdminStatsCache.Snapshot snapshot = stats.getSnapshot();
 
         // Parse settings sub-tab
-        String settingsSubTab = "general";
-        String mainSelectedTab = selectedTab;
+        currentTab = selectedTab;
         if (selectedTab.startsWith("settings:")) {
-            mainSelectedTab = "settings";
-            settingsSubTab = selectedTab.substring("settings:".length());
+            currentTab = "settings";
+            currentSettingsSubTab = selectedTab.substring("settings:".length());
         }
 
         // Load root template
         cmd.append(PAGE_PATH);
 
-        // Title
-        cmd.set("#TitleLabel.Text", L(lang, "gui.admin.title"));
-
-        // Tab labels
-        cmd.set("#TabDashboard.Text", L(lang, "gui.admin.tab.dashboard"));
-        cmd.set("#TabAccounts.Text", L(lang, "gui.admin.tab.accounts"));
-        cmd.set("#TabActivity.Text", L(lang, "gui.admin.tab.activity"));
-        cmd.set("#TabSettings.Text", L(lang, "gui.admin.tab.settings"));
-
-        // Tab visibility
-        cmd.set("#DashboardContent.Visible", "dashboard".equals(mainSelectedTab));
-        cmd.set("#AccountsContent.Visible",  "accounts".equals(mainSelectedTab));
-        cmd.set("#ActivityContent.Visible",  "activity".equals(mainSelectedTab));
-        cmd.set("#SettingsContent.Visible",  "settings".equals(mainSelectedTab));
-
         // Tab switching events
         events.addEventBinding(CustomUIEventBindingType.Activating, "#TabDashboard",
                 new EventData().append(KEY_ACTION, "tab").append(KEY_TAB, "dashboard"));
@@ -145,14 +159,51 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
                 new EventData().append(KEY_ACTION, "tab").append(KEY_TAB, "settings:general"));
 
         // Build tabs
-        buildDashboardTab(cmd, lang, bank, allAccounts, allCredits);
-        buildAccountsTab(cmd, events, lang, bank, allAccounts, allCredits);
-        buildActivityTab(cmd, lang, bank, allAccounts);
-        buildSettingsTab(cmd, events, lang, settingsSubTab);
+        synchronized (ui) {
+            ui.invalidate();
+            renderPage(events, lang, bank);
+            ui.flush(cmd);
+        }
+        buildActivityTab(cmd, lang, snapshot);
+
+        // Render now, refresh off the world thread
+        if (stats.isStale(snapshot)) {
+            stats.refresh().thenAccept(this::pushSnapshot);
+        }
 
         LOGGER.info("Admin bank GUI built for {}", adminUuid);
     }
 
+    /**
+     * Renders every unique element of the page into {@link #ui}.
+     *
+     * @param events null when re-rendering an open page (bindings are kept)
+     */
+    private void renderPage(@Nullable UIEventBuilder events, LangManager lang, BankService bank) {
+        // Title
+        ui.set("#TitleLabel.Text", L(lang, "gui.admin.title"));
+
+        // Tab labels
+        ui.set("#TabDashboard.Text", L(lang, "gui.admin.tab.dashboard"));
+        ui.set("#TabAccounts.Text", L(lang, "gui.admin.tab.accounts"));
+        ui.set("#TabActivity.Text", L(lang, "gui.admin.tab.activity"));
+        ui.set("#TabSettings.Text", L(lang, "gui.admin.tab.settings"));
+        setTabVisibility(currentTab);
+
+        AdminStatsCache.Snapshot snapshot = plugin.getAdminStats().getSnapshot();
+        buildDashboardTab(lang, snapshot != null
+                ? snapshot.getEconomy() : AdminStatsCache.Economy.of(bank), snapshot);
+        buildAccountsTab(events, lang);
+        buildSettingsTab(events, lang, currentSettingsSubTab);
+    }
+
+    private void setTabVisibility(String mainTab) {
+        ui.set("#DashboardContent.Visible", "dashboard".equals(mainTab));
+        ui.set("#AccountsContent.Visible",  "accounts".equals(mainTab));
+        ui.set("#ActivityContent.Visible",  "activity".equals(mainTab));
+        ui.set("#SettingsContent.Visible",  "settings".equals(mainTab));
+    }
+
     // ════════════════════════════════════════════════════════
     //  HANDLE EVENTS
     // ════════════════════════════════════════════════════════
@@ -161,70 +212,57 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
     public void handleDataEvent(@Nonnull Ref<EntityStore> ref,
                                 @Nonnull Store<EntityStore> store,
                                 @Nonnull AdminEventData data) {
-        LangManager lang    = plugin.getLangManager();
-        BankService bank    = plugin.getBankService();
-        BankStorage storage = plugin.getStorage();
+        LangManager lang = plugin.getLangManager();
+        BankService bank = plugin.getBankService();
 
         switch (data.action) {
             case "tab" -> {
-                try {
-                    String mainTab = data.tab;
-                    if (data.tab.startsWith("settings:")) mainTab = "settings";
-                    UICommandBuilder tabCmd = new UICommandBuilder();
-                    tabCmd.set("#DashboardContent.Visible", "dashboard".equals(mainTab));
-                    tabCmd.set("#AccountsContent.Visible", "accounts".equals(mainTab));
-                    tabCmd.set("#ActivityContent.Visible", "activity".equals(mainTab));
-                    tabCmd.set("#SettingsContent.Visible", "settings".equals(mainTab));
-                    sendUpdate(tabCmd);
-                } catch (Exception e) {
-                    LOGGER.warn("[tab] sendUpdate failed, falling back to reopen: {}", e.getMessage());
-                    reopen(data.tab.startsWith("settings:") ? "settings" : data.tab);
+                currentTab = data.tab.startsWith("settings:") ? "settings" : data.tab;
+                sendDelta(currentTab, () -> setTabVisibility(currentTab));
+            }
+
+            case "acc_action" -> {
+                AccountView target = slotAccounts[Integer.parseInt(data.id)];
+                if (target == null) return;
+                UUID targetUuid = target.getPlayerUuid();
+                String shortId = targetUuid.toString().substring(0, 8);
+                if (target.isFrozen()) {
+                    bank.unfreezeAccount(targetUuid);
+                    sendMsg(L(lang, "gui.admin.unfrozen_success", "uuid", shortId));
+                } else {
+                    bank.freezeAccount(targetUuid, "Frozen by admin via GUI");
+                    sendMsg(L(lang, "gui.admin.frozen_success", "uuid", shortId));
                 }
+                refreshAccounts(lang);
+            }
+
+            case "acc_sort" -> {
+                accountSort = AccountIndex.Sort.valueOf(data.tab);
+                accountPage = 0;
+                refreshAccounts(lang);
             }
 
-            case "freeze" -> {
-                UUID targetUuid = UUID.fromString(data.id);
-                BankAccount acc = bank.getAccount(targetUuid);
-                acc.setFrozen(true, "Frozen by admin via GUI");
-                storage.saveAccount(acc);
-                sendMsg(L(lang, "gui.admin.frozen_success",
-                        "uuid", data.id.substring(0, 8)));
-                reopen("accounts");
+            case "acc_page" -> {
+                accountPage += "next".equals(data.id) ? 1 : -1;
+                refreshAccounts(lang);
             }
 
-            case "unfreeze" -> {
-                UUID targetUuid = UUID.fromString(data.id);
-                BankAccount acc = bank.getAccount(targetUuid);
-                acc.setFrozen(false, null);
-                storage.saveAccount(acc);
-                sendMsg(L(lang, "gui.admin.unfrozen_success",
-                        "uuid", data.id.substring(0, 8)));
-                reopen("accounts");
+            case "acc_clear" -> {
+                accountQuery = null;
+                accountPage = 0;
+                refreshAccounts(lang);
             }
 
             case "settings_subtab" -> {
-                try {
-                    currentSettingsSubTab = data.tab;
-                    UICommandBuilder tabCmd = new UICommandBuilder();
-                    tabCmd.set("#SetGenContent.Visible", "general".equals(data.tab));
-                    tabCmd.set("#SetDepContent.Visible", "deposits".equals(data.tab));
-                    tabCmd.set("#SetLoanContent.Visible", "loans".equals(data.tab));
-                    tabCmd.set("#SetCredContent.Visible", "credit".equals(data.tab));
-                    tabCmd.set("#SetInflContent.Visible", "inflation".equals(data.tab));
-                    tabCmd.set("#SetProtContent.Visible", "protection".equals(data.tab));
-                    tabCmd.set("#SettingsSubTitle.Text", stripDecorators(L(lang, getSubTabKey(data.tab))));
-                    sendUpdate(tabCmd);
-                } catch (Exception e) {
-                    LOGGER.warn("[settings_subtab] sendUpdate failed: {}", e.getMessage());
-                    reopen("settings:" + data.tab);
-                }
+                currentSettingsSubTab = data.tab;
+                sendDelta("settings:" + data.tab, () -> setSettingsSubTab(lang, data.tab));
             }
 
             case "settings_reset" -> {
                 plugin.getConfigManager().resetToDefaults();
                 plugin.getConfigManager().save();
                 sendMsg(L(lang, "gui.admin.settings.reset_success"));
-                reopen(selectedTab.startsWith("settings") ? selectedTab : "settings:general");
+                sendDelta("settings:" + currentSettingsSubTab, () -> renderPage(null, lang, bank));
             }
 
             case "settings_save_config" -> {
@@ -242,7 +280,8 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
                     String newLang = plugin.getConfigManager().getConfig().getGeneral().getLanguage();
                     plugin.getLangManager().reload(newLang);
                     sendMsg(L(lang, "gui.admin.settings.reload_plugin_success"));
-                    reopen(selectedTab.startsWith("settings") ? selectedTab : "settings:general");
+                    // Language may have changed: re-render every label
+                    sendDelta("settings:" + currentSettingsSubTab, () -> renderPage(null, lang, bank));
                 } else {
                     sendMsg(L(lang, "gui.admin.settings.reload_plugin_fail"));
                 }
@@ -252,134 +291,221 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
             case "set" -> {
                 applySettingsChange(data.id);
                 plugin.getConfigManager().save();
-                try {
-                    UICommandBuilder cmd = new UICommandBuilder();
-                    refreshSettingsValues(cmd);
-                    sendUpdate(cmd);
-                } catch (Exception e) {
-                    LOGGER.warn("[set] sendUpdate failed, falling back to reopen: {}", e.getMessage());
-                    reopen("settings:" + currentSettingsSubTab);
-                }
+                sendDelta("settings:" + currentSettingsSubTab,
+                        () -> buildSettingsTab(null, lang, currentSettingsSubTab));
+            }
+        }
+    }
+
+    /**
+     * Renders into {@link #ui} and sends the values that changed. If the
+     * update cannot be sent the page is reopened on {@code fallbackTab}.
+     */
+    private void sendDelta(@Nonnull String fallbackTab, @Nonnull Runnable render) {
+        try {
+            synchronized (ui) {
+                render.run();
+                UICommandBuilder cmd = new UICommandBuilder();
+                if (ui.flush(cmd) > 0) sendUpdate(cmd);
+            }
+        } catch (Exception e) {
+            LOGGER.warn("[update] sendUpdate failed, falling back to reopen: {}", e.getMessage());
+            synchronized (ui) {
+                ui.invalidate();
             }
+            reopen(fallbackTab);
         }
     }
 
+    private static void bind(@Nullable UIEventBuilder events, String selector, EventData data) {
+        if (events != null) events.addEventBinding(CustomUIEventBindingType.Activating, selector, data);
+    }
+
     // ════════════════════════════════════════════════════════
     //  TAB: Dashboard
     // ════════════════════════════════════════════════════════
 
-    private void buildDashboardTab(UICommandBuilder cmd, LangManager lang,
-                                   BankService bank,
-                                   Collection<BankAccount> accounts,
-                                   Collection<CreditScore> credits) {
-        int totalAccounts = accounts.size();
-        int frozenCount   = (int) accounts.stream().filter(BankAccount::isFrozen).count();
-        int totalDeposits = accounts.stream().mapToInt(a -> a.getActiveDeposits().size()).sum();
-        int totalLoans    = accounts.stream().mapToInt(a -> a.getActiveLoans().size()).sum();
-        int overdueLoans  = (int) accounts.stream()
-                .flatMap(a -> a.getActiveLoans().stream())
-                .filter(Loan::isOverdue).count();
-
-        BigDecimal totalDeposited = accounts.stream()
-                .map(BankAccount::getTotalDeposited)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        BigDecimal totalDebt = accounts.stream()
-                .map(BankAccount::getTotalDebt)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
-        double avgCredit = credits.stream()
-                .mapToInt(CreditScore::getScore).average().orElse(0);
-
-        cmd.set("#DashTitle.Text", L(lang, "gui.admin.dashboard_title"));
+    private void buildDashboardTab(LangManager lang,
+                                   AdminStatsCache.Economy economy,
+                                   AdminStatsCache.Snapshot snapshot) {
+        ui.set("#DashTitle.Text", L(lang, "gui.admin.dashboard_title"));
 
         // Row 1
-        cmd.set("#DashAccountsLabel.Text", L(lang, "gui.admin.total_accounts"));
-        cmd.set("#DashAccountsValue.Text", String.valueOf(totalAccounts));
-        cmd.set("#DashDepositsLabel.Text", L(lang, "gui.admin.total_deposits"));
-        cmd.set("#DashDepositsValue.Text", String.valueOf(totalDeposits));
-        cmd.set("#DashLoansLabel.Text", L(lang, "gui.admin.total_loans"));
-        cmd.set("#DashLoansValue.Text", String.valueOf(totalLoans));
-        cmd.set("#DashFrozenLabel.Text", L(lang, "gui.admin.frozen_accounts"));
-        cmd.set("#DashFrozenValue.Text", String.valueOf(frozenCount));
+        ui.set("#DashAccountsLabel.Text", L(lang, "gui.admin.total_accounts"));
+        ui.set("#DashDepositsLabel.Text", L(lang, "gui.admin.total_deposits"));
+        ui.set("#DashLoansLabel.Text", L(lang, "gui.admin.total_loans"));
+        ui.set("#DashFrozenLabel.Text", L(lang, "gui.admin.frozen_accounts"));
 
         // Row 2
-        cmd.set("#DashTotalDepLabel.Text", L(lang, "gui.admin.total_deposited"));
-        cmd.set("#DashTotalDepValue.Text", MessageUtil.formatCoins(totalDeposited) + " $");
-        cmd.set("#DashTotalDebtLabel.Text", L(lang, "gui.admin.total_debt"));
-        cmd.set("#DashTotalDebtValue.Text", MessageUtil.formatCoins(totalDebt) + " $");
-        cmd.set("#DashOverdueLabel.Text", L(lang, "gui.admin.overdue_loans"));
-        cmd.set("#DashOverdueValue.Text", String.valueOf(overdueLoans));
+        ui.set("#DashTotalDepLabel.Text", L(lang, "gui.admin.total_deposited"));
+        ui.set("#DashTotalDebtLabel.Text", L(lang, "gui.admin.total_debt"));
+        ui.set("#DashOverdueLabel.Text", L(lang, "gui.admin.overdue_loans"));
 
         // Row 3
-        cmd.set("#DashAvgCreditLabel.Text", L(lang, "gui.admin.avg_credit"));
-        cmd.set("#DashAvgCreditValue.Text", String.format("%.0f / 1000", avgCredit));
-
-        if (bank.getInflationService().isEnabled()) {
-            cmd.set("#DashInflation.Visible", true);
-            cmd.set("#DashInflationLabel.Text", L(lang, "gui.admin.inflation"));
-            cmd.set("#DashInflationValue.Text", MessageUtil.formatPercent(
-                    bank.getInflationService().getCurrentRate()));
+        ui.set("#DashAvgCreditLabel.Text", L(lang, "gui.admin.avg_credit"));
+        ui.set("#DashInflationLabel.Text", L(lang, "gui.admin.inflation"));
+
+        // Treasury
+        ui.set("#DashTreasuryIncomeLabel.Text", L(lang, "gui.admin.treasury_income"));
+        ui.set("#DashTreasuryPaidLabel.Text", L(lang, "gui.admin.treasury_paid"));
+        ui.set("#DashTreasuryNetLabel.Text", L(lang, "gui.admin.treasury_net"));
+        ui.set("#DashTreasuryWeekLabel.Text", L(lang, "gui.admin.treasury_week"));
+
+        setDashboardValues(lang, economy, snapshot);
+    }
+
+    /**
+     * Dashboard values only — shared by {@link #build} and {@link #pushSnapshot}.
+     */
+    private void setDashboardValues(LangManager lang,
+                                    AdminStatsCache.Economy economy,
+                                    AdminStatsCache.Snapshot snapshot) {
+        ui.set("#DashUpdated.Text", snapshot != null
+                ? L(lang, "gui.admin.updated_at", "time", UPDATED_FORMAT.format(snapshot.getTakenAt()))
+                : L(lang, "gui.admin.loading"));
+
+        ui.set("#DashAccountsValue.Text", String.valueOf(economy.getAccounts()));
+        ui.set("#DashDepositsValue.Text", String.valueOf(economy.getActiveDeposits()));
+        ui.set("#DashLoansValue.Text", String.valueOf(economy.getActiveLoans()));
+        ui.set("#DashFrozenValue.Text", String.valueOf(economy.getFrozenAccounts()));
+
+        ui.set("#DashTotalDepValue.Text", MessageUtil.formatCoins(economy.getTotalDeposited()) + " $");
+        ui.set("#DashTotalDebtValue.Text", MessageUtil.formatCoins(economy.getTotalDebt()) + " $");
+        ui.set("#DashOverdueValue.Text", String.valueOf(economy.getOverdueLoans()));
+
+        ui.set("#DashAvgCreditValue.Text", String.format("%.0f / 1000", economy.getAverageCreditScore()));
+
+        ui.set("#DashInflation.Visible", economy.isInflationEnabled());
+        if (economy.isInflationEnabled()) {
+            ui.set("#DashInflationValue.Text", MessageUtil.formatPercent(economy.getInflationRate()));
         }
+
+        TreasuryLedger.Totals treasury = economy.getTreasury();
+        ui.set("#DashTreasuryIncomeValue.Text", MessageUtil.formatCoins(treasury.getIncome()) + " $");
+        ui.set("#DashTreasuryPaidValue.Text", MessageUtil.formatCoins(
+                treasury.get(TreasuryLedger.Category.INTEREST_PAID)) + " $");
+        ui.set("#DashTreasuryNetValue.Text", MessageUtil.formatCoins(treasury.getNet()) + " $");
+        ui.set("#DashTreasuryWeekValue.Text", MessageUtil.formatCoins(economy.getTreasuryWeekNet()) + " $");
     }
 
     // ════════════════════════════════════════════════════════
-    //  TAB: Accounts
+    //  TAB: Accounts (fixed slot rows, one page at a time)
     // ════════════════════════════════════════════════════════
 
-    private void buildAccountsTab(UICommandBuilder cmd, UIEventBuilder events,
-                                  LangManager lang, BankService bank,
-                                  Collection<BankAccount> accounts,
-                                  Collection<CreditScore> credits) {
+    private void buildAccountsTab(@Nullable UIEventBuilder events, LangManager lang) {
         // Header
-        cmd.set("#AccHdrPlayer.Text", L(lang, "gui.admin.col.player"));
-        cmd.set("#AccHdrDeposits.Text", L(lang, "gui.admin.col.deposits"));
-        cmd.set("#AccHdrDebt.Text", L(lang, "gui.admin.col.debt"));
-        cmd.set("#AccHdrCredit.Text", L(lang, "gui.admin.col.credit"));
-        cmd.set("#AccHdrStatus.Text", L(lang, "gui.admin.col.status"));
-        cmd.set("#AccHdrAction.Text", L(lang, "gui.admin.col.action"));
+        ui.set("#AccHdrPlayer.Text", L(lang, "gui.admin.col.player"));
+        ui.set("#AccHdrDeposits.Text", L(lang, "gui.admin.col.deposits"));
+        ui.set("#AccHdrDebt.Text", L(lang, "gui.admin.col.debt"));
+        ui.set("#AccHdrCredit.Text", L(lang, "gui.admin.col.credit"));
+        ui.set("#AccHdrStatus.Text", L(lang, "gui.admin.col.status"));
+        ui.set("#AccHdrAction.Text", L(lang, "gui.admin.col.action"));
+
+        // Sort and search bar
+        ui.set("#AccSortLabel.Text", L(lang, "gui.admin.sort"));
+        ui.set("#AccSearchClear.Text", L(lang, "gui.admin.btn.clear_search"));
+        for (AccountIndex.Sort sort : AccountIndex.Sort.values()) {
+            bind(events, sortButton(sort),
+                    new EventData().append(KEY_ACTION, "acc_sort").append(KEY_TAB, sort.name()));
+        }
+        bind(events, "#AccSearchClear",
+                new EventData().append(KEY_ACTION, "acc_clear"));
+
+        // Pager
+        bind(events, "#AccPrev",
+                new EventData().append(KEY_ACTION, "acc_page").append(KEY_ID, "prev"));
+        bind(events, "#AccNext",
+                new EventData().append(KEY_ACTION, "acc_page").append(KEY_ID, "next"));
+
+        // Slot actions resolve to whatever account the slot shows
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            bind(events, "#AccAction" + i,
+                    new EventData().append(KEY_ACTION, "acc_action").append(KEY_ID, String.valueOf(i)));
+        }
 
-        Map<UUID, CreditScore> creditMap = new HashMap<>();
-        for (CreditScore c : credits) creditMap.put(c.getPlayerUuid(), c);
+        renderAccountsPage(lang);
+    }
 
-        if (accounts.isEmpty()) {
-            cmd.append("#AccountsContainer", LOG_ROW);
-            cmd.set("#LogDesc.Text", L(lang, "gui.admin.no_accounts"));
-        } else {
-            List<BankAccount> sorted = accounts.stream()
-                    .sorted(Comparator.comparing(BankAccount::isFrozen).reversed()
-                            .thenComparing(a -> a.getTotalDebt().negate()))
-                    .collect(Collectors.toList());
-
-            for (BankAccount acc : sorted) {
-                UUID playerUuid = acc.getPlayerUuid();
-                String shortId = playerUuid.toString().substring(0, 8);
-                String displayName = acc.getLastKnownName() != null
-                        ? acc.getLastKnownName() : shortId;
-                CreditScore cs = creditMap.getOrDefault(playerUuid, new CreditScore(playerUuid));
-
-                cmd.append("#AccountsContainer", ACC_ROW);
-
-                cmd.set("#AccPlayer.Text", displayName);
-                cmd.set("#AccDeposits.Text", MessageUtil.formatCoins(acc.getTotalDeposited())
-                        + " $ (" + acc.getActiveDeposits().size() + ")");
-                cmd.set("#AccDebt.Text", MessageUtil.formatCoins(acc.getTotalDebt())
-                        + " $ (" + acc.getActiveLoans().size() + ")");
-                cmd.set("#AccCredit.Text", String.valueOf(cs.getScore()));
-
-                if (acc.isFrozen()) {
-                    cmd.set("#AccStatus.Text", L(lang, "gui.admin.status.frozen"));
-                    cmd.set("#AccAction.Text", L(lang, "gui.admin.btn.unfreeze"));
-                    events.addEventBinding(CustomUIEventBindingType.Activating, "#AccAction",
-                            new EventData().append(KEY_ACTION, "unfreeze")
-                                    .append(KEY_ID, playerUuid.toString()));
-                } else {
-                    cmd.set("#AccStatus.Text", L(lang, "gui.admin.status.active"));
-                    cmd.set("#AccAction.Text", L(lang, "gui.admin.btn.freeze"));
-                    events.addEventBinding(CustomUIEventBindingType.Activating, "#AccAction",
-                            new EventData().append(KEY_ACTION, "freeze")
-                                    .append(KEY_ID, playerUuid.toString()));
-                }
+    /**
+     * Fills the slot rows with the current page of the account index.
+     * Event bindings are per slot, so this works through {@code sendUpdate}.
+     */
+    private void renderAccountsPage(LangManager lang) {
+        AccountIndex index = plugin.getBankService().getAccountIndex();
+        AccountIndex.Page page = index.page(accountSort, accountQuery, accountPage, PAGE_SIZE);
+        accountPage = page.getPageIndex();
+
+        for (AccountIndex.Sort sort : AccountIndex.Sort.values()) {
+            String label = L(lang, sortLabelKey(sort));
+            ui.set(sortButton(sort) + ".Text", sort == accountSort ? "> " + label : label);
+        }
+        boolean searching = accountQuery != null;
+        ui.set("#AccSearch.Text", searching
+                ? L(lang, "gui.admin.search", "query", accountQuery)
+                : L(lang, "gui.admin.search_hint"));
+        ui.set("#AccSearchClear.Visible", searching);
+
+        List<AccountView> accounts = page.getAccounts();
+        for (int i = 0; i < PAGE_SIZE; i++) {
+            String n = String.valueOf(i);
+            if (i >= accounts.size()) {
+                ui.set("#AccSlot" + n + ".Visible", false);
+                slotAccounts[i] = null;
+                continue;
             }
+            AccountView acc = accounts.get(i);
+            UUID playerUuid = acc.getPlayerUuid();
+            String displayName = acc.getLastKnownName() != null
+                    ? acc.getLastKnownName() : playerUuid.toString().substring(0, 8);
+
+            ui.set("#AccSlot" + n + ".Visible", true);
+            ui.set("#AccPlayer" + n + ".Text", displayName);
+            ui.set("#AccDeposits" + n + ".Text", MessageUtil.formatCoins(acc.getTotalDeposited())
+                    + " $ (" + acc.getActiveDeposits().size() + ")");
+            ui.set("#AccDebt" + n + ".Text", MessageUtil.formatCoins(acc.getTotalDebt())
+                    + " $ (" + acc.getActiveLoans().size() + ")");
+            ui.set("#AccCredit" + n + ".Text", String.valueOf(acc.getCreditScore()));
+            ui.set("#AccStatus" + n + ".Text", L(lang, acc.isFrozen()
+                    ? "gui.admin.status.frozen" : "gui.admin.status.active"));
+            ui.set("#AccAction" + n + ".Text", L(lang, acc.isFrozen()
+                    ? "gui.admin.btn.unfreeze" : "gui.admin.btn.freeze"));
+            slotAccounts[i] = acc;
+        }
+
+        ui.set("#AccEmpty.Visible", accounts.isEmpty());
+        if (accounts.isEmpty()) {
+            ui.set("#AccEmpty.Text", L(lang, searching ? "gui.admin.no_matches" : "gui.admin.no_accounts"));
         }
+
+        int pages = Math.max(1, (page.getTotal() + PAGE_SIZE - 1) / PAGE_SIZE);
+        ui.set("#AccPageLabel.Text", L(lang, "gui.admin.page",
+                "page", String.valueOf(page.getPageIndex() + 1),
+                "pages", String.valueOf(pages),
+                "total", String.valueOf(page.getTotal())));
+        ui.set("#AccPrev.Visible", page.hasPrevious());
+        ui.set("#AccNext.Visible", page.hasNext());
+    }
+
+    private static String sortButton(AccountIndex.Sort sort) {
+        return switch (sort) {
+            case STATUS   -> "#AccSortStatus";
+            case DEBT     -> "#AccSortDebt";
+            case DEPOSITS -> "#AccSortDeposits";
+            case CREDIT   -> "#AccSortCredit";
+        };
+    }
+
+    private static String sortLabelKey(AccountIndex.Sort sort) {
+        return switch (sort) {
+            case STATUS   -> "gui.admin.col.status";
+            case DEBT     -> "gui.admin.col.debt";
+            case DEPOSITS -> "gui.admin.col.deposits";
+            case CREDIT   -> "gui.admin.col.credit";
+        };
+    }
+
+    private void refreshAccounts(LangManager lang) {
+        sendDelta("accounts", () -> renderAccountsPage(lang));
     }
 
     // ════════════════════════════════════════════════════════
@@ -387,26 +513,20 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
     // ════════════════════════════════════════════════════════
 
     private void buildActivityTab(UICommandBuilder cmd, LangManager lang,
-                                  BankService bank, Collection<BankAccount> accounts) {
-        Map<UUID, String> nameMap = new HashMap<>();
-        for (BankAccount acc : accounts) {
-            if (acc.getLastKnownName() != null) {
-                nameMap.put(acc.getPlayerUuid(), acc.getLastKnownName());
-            }
-        }
-
-        List<AuditLog> allLogs = new ArrayList<>();
-        for (BankAccount acc : accounts) {
-            allLogs.addAll(bank.getAuditLogs(acc.getPlayerUuid(), 5));
+                                  AdminStatsCache.Snapshot snapshot) {
+        if (snapshot == null) {
+            cmd.append("#ActivityContainer", LOG_ROW);
+            cmd.set("#LogDesc.Text", L(lang, "gui.admin.loading"));
+            return;
         }
-        allLogs.sort(Comparator.comparing(AuditLog::getTimestamp).reversed());
-        if (allLogs.size() > 30) allLogs = allLogs.subList(0, 30);
 
-        if (allLogs.isEmpty()) {
+        List<AuditLog> logs = snapshot.getActivity();
+        if (logs.isEmpty()) {
             cmd.append("#ActivityContainer", LOG_ROW);
             cmd.set("#LogDesc.Text", L(lang, "gui.admin.no_activity"));
         } else {
-            for (AuditLog log : allLogs) {
+            Map<UUID, String> nameMap = snapshot.getNames();
+            for (AuditLog log : logs) {
                 String playerName = nameMap.getOrDefault(log.getPlayerUuid(),
                         log.getPlayerUuid().toString().substring(0, 8));
                 String typeName = L(lang, "txtype." + log.getType().name());
@@ -421,11 +541,36 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
         }
     }
 
+    // ════════════════════════════════════════════════════════
+    //  BACKGROUND REFRESH
+    // ════════════════════════════════════════════════════════
+
+    /**
+     * Pushes a freshly computed snapshot into the open page. Runs on the
+     * stats worker thread.
+     */
+    private void pushSnapshot(@Nonnull AdminStatsCache.Snapshot snapshot) {
+        LangManager lang = plugin.getLangManager();
+        synchronized (ui) {
+            try {
+                setDashboardValues(lang, snapshot.getEconomy(), snapshot);
+                UICommandBuilder cmd = new UICommandBuilder();
+                ui.flush(cmd);
+                cmd.clear("#ActivityContainer");
+                buildActivityTab(cmd, lang, snapshot);
+                sendUpdate(cmd);
+            } catch (Exception e) {
+                LOGGER.warn("[stats] sendUpdate failed: {}", e.getMessage());
+                ui.invalidate();
+            }
+        }
+    }
+
     // ════════════════════════════════════════════════════════
     //  TAB: Settings (unique IDs per row — no templates)
     // ════════════════════════════════════════════════════════
 
-    private void buildSettingsTab(UICommandBuilder cmd, UIEventBuilder events,
+    private void buildSettingsTab(@Nullable UIEventBuilder events,
                                   LangManager lang, String activeSubTab) {
         BankingConfig config = plugin.getConfigManager().getConfig();
         var gen  = config.getGeneral();
@@ -436,433 +581,380 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
         var prot = config.getProtection();
 
         // Sub-tab button labels (short first word only)
-        cmd.set("#STabGeneral.Text", shortLabel(L(lang, "gui.admin.settings.general")));
-        cmd.set("#STabDeposits.Text", shortLabel(L(lang, "gui.admin.settings.deposits_section")));
-        cmd.set("#STabLoans.Text", shortLabel(L(lang, "gui.admin.settings.loans_section")));
-        cmd.set("#STabCredit.Text", shortLabel(L(lang, "gui.admin.settings.credit_section")));
-        cmd.set("#STabInflation.Text", shortLabel(L(lang, "gui.admin.settings.inflation_section")));
-        cmd.set("#STabProtection.Text", shortLabel(L(lang, "gui.admin.settings.protection_section")));
+        ui.set("#STabGeneral.Text", shortLabel(L(lang, "gui.admin.settings.general")));
+        ui.set("#STabDeposits.Text", shortLabel(L(lang, "gui.admin.settings.deposits_section")));
+        ui.set("#STabLoans.Text", shortLabel(L(lang, "gui.admin.settings.loans_section")));
+        ui.set("#STabCredit.Text", shortLabel(L(lang, "gui.admin.settings.credit_section")));
+        ui.set("#STabInflation.Text", shortLabel(L(lang, "gui.admin.settings.inflation_section")));
+        ui.set("#STabProtection.Text", shortLabel(L(lang, "gui.admin.settings.protection_section")));
 
         // Sub-tab button events
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#STabGeneral",
+        bind(events, "#STabGeneral",
                 new EventData().append(KEY_ACTION, "settings_subtab").append(KEY_TAB, "general"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#STabDeposits",
+        bind(events, "#STabDeposits",
                 new EventData().append(KEY_ACTION, "settings_subtab").append(KEY_TAB, "deposits"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#STabLoans",
+        bind(events, "#STabLoans",
                 new EventData().append(KEY_ACTION, "settings_subtab").append(KEY_TAB, "loans"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#STabCredit",
+        bind(events, "#STabCredit",
                 new EventData().append(KEY_ACTION, "settings_subtab").append(KEY_TAB, "credit"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#STabInflation",
+        bind(events, "#STabInflation",
                 new EventData().append(KEY_ACTION, "settings_subtab").append(KEY_TAB, "inflation"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#STabProtection",
+        bind(events, "#STabProtection",
                 new EventData().append(KEY_ACTION, "settings_subtab").append(KEY_TAB, "protection"));
 
-        // Sub-content visibility
-        cmd.set("#SetGenContent.Visible",  "general".equals(activeSubTab));
-        cmd.set("#SetDepContent.Visible",  "deposits".equals(activeSubTab));
-        cmd.set("#SetLoanContent.Visible", "loans".equals(activeSubTab));
-        cmd.set("#SetCredContent.Visible", "credit".equals(activeSubTab));
-        cmd.set("#SetInflContent.Visible", "inflation".equals(activeSubTab));
-        cmd.set("#SetProtContent.Visible", "protection".equals(activeSubTab));
-
-        cmd.set("#SettingsSubTitle.Text", stripDecorators(L(lang, getSubTabKey(activeSubTab))));
+        setSettingsSubTab(lang, activeSubTab);
 
         // Reset button
-        cmd.set("#SettingsReset.Text", L(lang, "gui.admin.settings.reset"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SettingsReset",
+        ui.set("#SettingsReset.Text", L(lang, "gui.admin.settings.reset"));
+        bind(events, "#SettingsReset",
                 new EventData().append(KEY_ACTION, "settings_reset"));
 
         // Save Config to disk button
-        cmd.set("#SettingsSaveConfig.Text", L(lang, "gui.admin.settings.save_config"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SettingsSaveConfig",
+        ui.set("#SettingsSaveConfig.Text", L(lang, "gui.admin.settings.save_config"));
+        bind(events, "#SettingsSaveConfig",
                 new EventData().append(KEY_ACTION, "settings_save_config"));
 
         // Reload Plugin button
-        cmd.set("#SettingsReloadPlugin.Text", L(lang, "gui.admin.settings.reload_plugin"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SettingsReloadPlugin",
+        ui.set("#SettingsReloadPlugin.Text", L(lang, "gui.admin.settings.reload_plugin"));
+        bind(events, "#SettingsReloadPlugin",
                 new EventData().append(KEY_ACTION, "settings_reload_plugin"));
 
         // ── General ──
-        cmd.set("#SGDebugLbl.Text", L(lang, "gui.admin.settings.debug_mode"));
-        cmd.set("#SGDebugTgl.Text", gen.isDebugMode() ? "ON" : "OFF");
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SGDebugTgl",
+        ui.set("#SGDebugLbl.Text", L(lang, "gui.admin.settings.debug_mode"));
+        ui.set("#SGDebugTgl.Text", gen.isDebugMode() ? "ON" : "OFF");
+        bind(events, "#SGDebugTgl",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "debug_mode"));
 
-        cmd.set("#SGAutoLbl.Text", L(lang, "gui.admin.settings.autosave"));
-        cmd.set("#SGAutoVal.Text", String.valueOf(gen.getAutoSaveMinutes()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SGAutoDn",
+        ui.set("#SGAutoLbl.Text", L(lang, "gui.admin.settings.autosave"));
+        ui.set("#SGAutoVal.Text", String.valueOf(gen.getAutoSaveMinutes()));
+        bind(events, "#SGAutoDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "autosave_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SGAutoUp",
+        bind(events, "#SGAutoUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "autosave_up"));
 
-        cmd.set("#SGDayLbl.Text", L(lang, "gui.admin.settings.game_day_duration"));
-        cmd.set("#SGDayVal.Text", String.valueOf(gen.getSecondsPerGameDay()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SGDayDn",
+        ui.set("#SGDayLbl.Text", L(lang, "gui.admin.settings.game_day_duration"));
+        ui.set("#SGDayVal.Text", String.valueOf(gen.getSecondsPerGameDay()));
+        bind(events, "#SGDayDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "gameday_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SGDayUp",
+        bind(events, "#SGDayUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "gameday_up"));
 
-        cmd.set("#SGLangLbl.Text", L(lang, "gui.admin.settings.language"));
-        cmd.set("#SGLangTgl.Text", gen.getLanguage().toUpperCase());
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SGLangTgl",
+        ui.set("#SGLangLbl.Text", L(lang, "gui.admin.settings.language"));
+        ui.set("#SGLangTgl.Text", gen.getLanguage().toUpperCase());
+        bind(events, "#SGLangTgl",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "language"));
 
         // ── Deposits ──
-        cmd.set("#SDEnabledLbl.Text", L(lang, "gui.admin.settings.enabled"));
-        cmd.set("#SDEnabledTgl.Text", dep.isEnabled() ? "ON" : "OFF");
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SDEnabledTgl",
+        ui.set("#SDEnabledLbl.Text", L(lang, "gui.admin.settings.enabled"));
+        ui.set("#SDEnabledTgl.Text", dep.isEnabled() ? "ON" : "OFF");
+        bind(events, "#SDEnabledTgl",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "dep_enabled"));
 
-        cmd.set("#SDMaxLbl.Text", L(lang, "gui.admin.settings.max_per_player"));
-        cmd.set("#SDMaxVal.Text", String.valueOf(dep.getMaxPerPlayer()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SDMaxDn",
+        ui.set("#SDMaxLbl.Text", L(lang, "gui.admin.settings.max_per_player"));
+        ui.set("#SDMaxVal.Text", String.valueOf(dep.getMaxPerPlayer()));
+        bind(events, "#SDMaxDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "dep_max_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SDMaxUp",
+        bind(events, "#SDMaxUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "dep_max_up"));
 
-        cmd.set("#SDPenLbl.Text", L(lang, "gui.admin.settings.early_penalty"));
-        cmd.set("#SDPenVal.Text", String.format("%.1f%%", dep.getEarlyWithdrawalPenaltyRate() * 100));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SDPenDn",
+        ui.set("#SDPenLbl.Text", L(lang, "gui.admin.settings.early_penalty"));
+        ui.set("#SDPenVal.Text", String.format("%.1f%%", dep.getEarlyWithdrawalPenaltyRate() * 100));
+        bind(events, "#SDPenDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "dep_penalty_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SDPenUp",
+        bind(events, "#SDPenUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "dep_penalty_up"));
 
         // ── Loans ──
-        cmd.set("#SLEnabledLbl.Text", L(lang, "gui.admin.settings.enabled"));
-        cmd.set("#SLEnabledTgl.Text", loan.isEnabled() ? "ON" : "OFF");
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLEnabledTgl",
+        ui.set("#SLEnabledLbl.Text", L(lang, "gui.admin.settings.enabled"));
+        ui.set("#SLEnabledTgl.Text", loan.isEnabled() ? "ON" : "OFF");
+        bind(events, "#SLEnabledTgl",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_enabled"));
 
-        cmd.set("#SLRateLbl.Text", L(lang, "gui.admin.settings.interest_rate"));
-        cmd.set("#SLRateVal.Text", String.format("%.1f%%", loan.getBaseInterestRate() * 100));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLRateDn",
+        ui.set("#SLRateLbl.Text", L(lang, "gui.admin.settings.interest_rate"));
+        ui.set("#SLRateVal.Text", String.format("%.1f%%", loan.getBaseInterestRate() * 100));
+        bind(events, "#SLRateDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_rate_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLRateUp",
+        bind(events, "#SLRateUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_rate_up"));
 
-        cmd.set("#SLMinLbl.Text", L(lang, "gui.admin.settings.min_amount"));
-        cmd.set("#SLMinVal.Text", String.format("%.0f $", loan.getMinAmount()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLMinDn",
+        ui.set("#SLMinLbl.Text", L(lang, "gui.admin.settings.min_amount"));
+        ui.set("#SLMinVal.Text", String.format("%.0f $", loan.getMinAmount()));
+        bind(events, "#SLMinDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_min_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLMinUp",
+        bind(events, "#SLMinUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_min_up"));
 
-        cmd.set("#SLMaxLbl.Text", L(lang, "gui.admin.settings.max_amount"));
-        cmd.set("#SLMaxVal.Text", String.format("%.0f $", loan.getMaxAmount()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLMaxDn",
+        ui.set("#SLMaxLbl.Text", L(lang, "gui.admin.settings.max_amount"));
+        ui.set("#SLMaxVal.Text", String.format("%.0f $", loan.getMaxAmount()));
+        bind(events, "#SLMaxDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_max_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLMaxUp",
+        bind(events, "#SLMaxUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_max_up"));
 
-        cmd.set("#SLActLbl.Text", L(lang, "gui.admin.settings.max_active"));
-        cmd.set("#SLActVal.Text", String.valueOf(loan.getMaxActiveLoans()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLActDn",
+        ui.set("#SLActLbl.Text", L(lang, "gui.admin.settings.max_active"));
+        ui.set("#SLActVal.Text", String.valueOf(loan.getMaxActiveLoans()));
+        bind(events, "#SLActDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_active_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLActUp",
+        bind(events, "#SLActUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_active_up"));
 
-        cmd.set("#SLTermLbl.Text", L(lang, "gui.admin.settings.term_days"));
-        cmd.set("#SLTermVal.Text", String.valueOf(loan.getDefaultTermDays()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLTermDn",
+        ui.set("#SLTermLbl.Text", L(lang, "gui.admin.settings.term_days"));
+        ui.set("#SLTermVal.Text", String.valueOf(loan.getDefaultTermDays()));
+        bind(events, "#SLTermDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_term_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLTermUp",
+        bind(events, "#SLTermUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_term_up"));
 
-        cmd.set("#SLOvdLbl.Text", L(lang, "gui.admin.settings.overdue_penalty"));
-        cmd.set("#SLOvdVal.Text", String.format("%.1f%%", loan.getOverduePenaltyRate() * 100));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLOvdDn",
+        ui.set("#SLOvdLbl.Text", L(lang, "gui.admin.settings.overdue_penalty"));
+        ui.set("#SLOvdVal.Text", String.format("%.1f%%", loan.getOverduePenaltyRate() * 100));
+        bind(events, "#SLOvdDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_overdue_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLOvdUp",
+        bind(events, "#SLOvdUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_overdue_up"));
 
-        cmd.set("#SLDefLbl.Text", L(lang, "gui.admin.settings.default_after"));
-        cmd.set("#SLDefVal.Text", String.valueOf(loan.getDefaultAfterDays()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLDefDn",
+        ui.set("#SLDefLbl.Text", L(lang, "gui.admin.settings.default_after"));
+        ui.set("#SLDefVal.Text", String.valueOf(loan.getDefaultAfterDays()));
+        bind(events, "#SLDefDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_defdays_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLDefUp",
+        bind(events, "#SLDefUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_defdays_up"));
 
-        cmd.set("#SLColLbl.Text", L(lang, "gui.admin.settings.collateral"));
-        cmd.set("#SLColVal.Text", String.format("%.1f%%", loan.getCollateralRate() * 100));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLColDn",
+        ui.set("#SLColLbl.Text", L(lang, "gui.admin.settings.collateral"));
+        ui.set("#SLColVal.Text", String.format("%.1f%%", loan.getCollateralRate() * 100));
+        bind(events, "#SLColDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_coll_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLColUp",
+        bind(events, "#SLColUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_coll_up"));
 
-        cmd.set("#SLCrdLbl.Text", L(lang, "gui.admin.settings.min_credit"));
-        cmd.set("#SLCrdVal.Text", String.valueOf(loan.getMinCreditScoreForLoan()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLCrdDn",
+        ui.set("#SLCrdLbl.Text", L(lang, "gui.admin.settings.min_credit"));
+        ui.set("#SLCrdVal.Text", String.valueOf(loan.getMinCreditScoreForLoan()));
+        bind(events, "#SLCrdDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_mincr_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SLCrdUp",
+        bind(events, "#SLCrdUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "loan_mincr_up"));
 
         // ── Credit ──
-        cmd.set("#SCInitLbl.Text", L(lang, "gui.admin.settings.initial_score"));
-        cmd.set("#SCInitVal.Text", String.valueOf(cred.getInitialScore()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCInitDn",
+        ui.set("#SCInitLbl.Text", L(lang, "gui.admin.settings.initial_score"));
+        ui.set("#SCInitVal.Text", String.valueOf(cred.getInitialScore()));
+        bind(events, "#SCInitDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_init_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCInitUp",
+        bind(events, "#SCInitUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_init_up"));
 
-        cmd.set("#SCLBonLbl.Text", L(lang, "gui.admin.settings.loan_bonus"));
-        cmd.set("#SCLBonVal.Text", String.valueOf(cred.getLoanCompletedBonus()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCLBonDn",
+        ui.set("#SCLBonLbl.Text", L(lang, "gui.admin.settings.loan_bonus"));
+        ui.set("#SCLBonVal.Text", String.valueOf(cred.getLoanCompletedBonus()));
+        bind(events, "#SCLBonDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_lbonus_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCLBonUp",
+        bind(events, "#SCLBonUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_lbonus_up"));
 
-        cmd.set("#SCLPenLbl.Text", L(lang, "gui.admin.settings.loan_penalty"));
-        cmd.set("#SCLPenVal.Text", String.valueOf(cred.getLoanDefaultPenalty()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCLPenDn",
+        ui.set("#SCLPenLbl.Text", L(lang, "gui.admin.settings.loan_penalty"));
+        ui.set("#SCLPenVal.Text", String.valueOf(cred.getLoanDefaultPenalty()));
+        bind(events, "#SCLPenDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_lpen_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCLPenUp",
+        bind(events, "#SCLPenUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_lpen_up"));
 
-        cmd.set("#SCOTBLbl.Text", L(lang, "gui.admin.settings.ontime_bonus"));
-        cmd.set("#SCOTBVal.Text", String.valueOf(cred.getOnTimePaymentBonus()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCOTBDn",
+        ui.set("#SCOTBLbl.Text", L(lang, "gui.admin.settings.ontime_bonus"));
+        ui.set("#SCOTBVal.Text", String.valueOf(cred.getOnTimePaymentBonus()));
+        bind(events, "#SCOTBDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_obonus_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCOTBUp",
+        bind(events, "#SCOTBUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_obonus_up"));
 
-        cmd.set("#SCLatLbl.Text", L(lang, "gui.admin.settings.late_penalty"));
-        cmd.set("#SCLatVal.Text", String.valueOf(cred.getLatePaymentPenalty()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCLatDn",
+        ui.set("#SCLatLbl.Text", L(lang, "gui.admin.settings.late_penalty"));
+        ui.set("#SCLatVal.Text", String.valueOf(cred.getLatePaymentPenalty()));
+        bind(events, "#SCLatDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_latep_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCLatUp",
+        bind(events, "#SCLatUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_latep_up"));
 
-        cmd.set("#SCDBonLbl.Text", L(lang, "gui.admin.settings.deposit_bonus"));
-        cmd.set("#SCDBonVal.Text", String.valueOf(cred.getDepositCompletedBonus()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCDBonDn",
+        ui.set("#SCDBonLbl.Text", L(lang, "gui.admin.settings.deposit_bonus"));
+        ui.set("#SCDBonVal.Text", String.valueOf(cred.getDepositCompletedBonus()));
+        bind(events, "#SCDBonDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_dbonus_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SCDBonUp",
+        bind(events, "#SCDBonUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "cr_dbonus_up"));
 
         // ── Inflation ──
-        cmd.set("#SIEnabledLbl.Text", L(lang, "gui.admin.settings.enabled"));
-        cmd.set("#SIEnabledTgl.Text", infl.isEnabled() ? "ON" : "OFF");
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIEnabledTgl",
+        ui.set("#SIEnabledLbl.Text", L(lang, "gui.admin.settings.enabled"));
+        ui.set("#SIEnabledTgl.Text", infl.isEnabled() ? "ON" : "OFF");
+        bind(events, "#SIEnabledTgl",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_enabled"));
 
-        cmd.set("#SIBaseLbl.Text", L(lang, "gui.admin.settings.base_rate"));
-        cmd.set("#SIBaseVal.Text", String.format("%.1f%%", infl.getBaseInflationRate() * 100));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIBaseDn",
+        ui.set("#SIBaseLbl.Text", L(lang, "gui.admin.settings.base_rate"));
+        ui.set("#SIBaseVal.Text", String.format("%.1f%%", infl.getBaseInflationRate() * 100));
+        bind(events, "#SIBaseDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_base_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIBaseUp",
+        bind(events, "#SIBaseUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_base_up"));
 
-        cmd.set("#SIIntLbl.Text", L(lang, "gui.admin.settings.update_interval"));
-        cmd.set("#SIIntVal.Text", String.valueOf(infl.getUpdateIntervalHours()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIIntDn",
+        ui.set("#SIIntLbl.Text", L(lang, "gui.admin.settings.update_interval"));
+        ui.set("#SIIntVal.Text", String.valueOf(infl.getUpdateIntervalHours()));
+        bind(events, "#SIIntDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_hrs_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIIntUp",
+        bind(events, "#SIIntUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_hrs_up"));
 
-        cmd.set("#SIMaxLbl.Text", L(lang, "gui.admin.settings.max_rate"));
-        cmd.set("#SIMaxVal.Text", String.format("%.1f%%", infl.getMaxInflationRate() * 100));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIMaxDn",
+        ui.set("#SIMaxLbl.Text", L(lang, "gui.admin.settings.max_rate"));
+        ui.set("#SIMaxVal.Text", String.format("%.1f%%", infl.getMaxInflationRate() * 100));
+        bind(events, "#SIMaxDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_max_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIMaxUp",
+        bind(events, "#SIMaxUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_max_up"));
 
-        cmd.set("#SIMinLbl.Text", L(lang, "gui.admin.settings.min_rate"));
-        cmd.set("#SIMinVal.Text", String.format("%.1f%%", infl.getMinInflationRate() * 100));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIMinDn",
+        ui.set("#SIMinLbl.Text", L(lang, "gui.admin.settings.min_rate"));
+        ui.set("#SIMinVal.Text", String.format("%.1f%%", infl.getMinInflationRate() * 100));
+        bind(events, "#SIMinDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_min_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SIMinUp",
+        bind(events, "#SIMinUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "infl_min_up"));
 
         // ── Protection ──
-        cmd.set("#SPOpsLbl.Text", L(lang, "gui.admin.settings.max_ops"));
-        cmd.set("#SPOpsVal.Text", String.valueOf(prot.getMaxOperationsPerHour()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPOpsDn",
+        ui.set("#SPOpsLbl.Text", L(lang, "gui.admin.settings.max_ops"));
+        ui.set("#SPOpsVal.Text", String.valueOf(prot.getMaxOperationsPerHour()));
+        bind(events, "#SPOpsDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_ops_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPOpsUp",
+        bind(events, "#SPOpsUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_ops_up"));
 
-        cmd.set("#SPDCLbl.Text", L(lang, "gui.admin.settings.deposit_cooldown"));
-        cmd.set("#SPDCVal.Text", String.valueOf(prot.getDepositCooldownSeconds()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPDCDn",
+        ui.set("#SPDCLbl.Text", L(lang, "gui.admin.settings.deposit_cooldown"));
+        ui.set("#SPDCVal.Text", String.valueOf(prot.getDepositCooldownSeconds()));
+        bind(events, "#SPDCDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_dcool_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPDCUp",
+        bind(events, "#SPDCUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_dcool_up"));
 
-        cmd.set("#SPLCLbl.Text", L(lang, "gui.admin.settings.loan_cooldown"));
-        cmd.set("#SPLCVal.Text", String.valueOf(prot.getLoanCooldownSeconds()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPLCDn",
+        ui.set("#SPLCLbl.Text", L(lang, "gui.admin.settings.loan_cooldown"));
+        ui.set("#SPLCVal.Text", String.valueOf(prot.getLoanCooldownSeconds()));
+        bind(events, "#SPLCDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_lcool_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPLCUp",
+        bind(events, "#SPLCUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_lcool_up"));
 
-        cmd.set("#SPAgeLbl.Text", L(lang, "gui.admin.settings.min_account_age"));
-        cmd.set("#SPAgeVal.Text", String.valueOf(prot.getMinAccountAgeDaysForLoan()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPAgeDn",
+        ui.set("#SPAgeLbl.Text", L(lang, "gui.admin.settings.min_account_age"));
+        ui.set("#SPAgeVal.Text", String.valueOf(prot.getMinAccountAgeDaysForLoan()));
+        bind(events, "#SPAgeDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_age_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPAgeUp",
+        bind(events, "#SPAgeUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_age_up"));
 
-        cmd.set("#SPAudLbl.Text", L(lang, "gui.admin.settings.audit_log"));
-        cmd.set("#SPAudTgl.Text", prot.isAuditLogEnabled() ? "ON" : "OFF");
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPAudTgl",
+        ui.set("#SPAudLbl.Text", L(lang, "gui.admin.settings.audit_log"));
+        ui.set("#SPAudTgl.Text", prot.isAuditLogEnabled() ? "ON" : "OFF");
+        bind(events, "#SPAudTgl",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_audit"));
 
-        cmd.set("#SPMLLbl.Text", L(lang, "gui.admin.settings.max_audit"));
-        cmd.set("#SPMLVal.Text", String.valueOf(prot.getMaxAuditLogEntries()));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPMLDn",
+        ui.set("#SPMLLbl.Text", L(lang, "gui.admin.settings.max_audit"));
+        ui.set("#SPMLVal.Text", String.valueOf(prot.getMaxAuditLogEntries()));
+        bind(events, "#SPMLDn",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_maxlog_down"));
-        events.addEventBinding(CustomUIEventBindingType.Activating, "#SPMLUp",
+        bind(events, "#SPMLUp",
                 new EventData().append(KEY_ACTION, "set").append(KEY_ID, "prot_maxlog_up"));
     }
 
-    // ── Refresh all settings values via sendUpdate ────────────
-
-    private void refreshSettingsValues(UICommandBuilder cmd) {
-        BankingConfig config = plugin.getConfigManager().getConfig();
-        var gen  = config.getGeneral();
-        var dep  = config.getDeposits();
-        var loan = config.getLoans();
-        var cred = config.getCredit();
-        var infl = config.getInflation();
-        var prot = config.getProtection();
+    private void setSettingsSubTab(LangManager lang, String activeSubTab) {
+        ui.set("#SetGenContent.Visible",  "general".equals(activeSubTab));
+        ui.set("#SetDepContent.Visible",  "deposits".equals(activeSubTab));
+        ui.set("#SetLoanContent.Visible", "loans".equals(activeSubTab));
+        ui.set("#SetCredContent.Visible", "credit".equals(activeSubTab));
+        ui.set("#SetInflContent.Visible", "inflation".equals(activeSubTab));
+        ui.set("#SetProtContent.Visible", "protection".equals(activeSubTab));
 
-        // General
-        cmd.set("#SGDebugTgl.Text", gen.isDebugMode() ? "ON" : "OFF");
-        cmd.set("#SGAutoVal.Text", String.valueOf(gen.getAutoSaveMinutes()));
-        cmd.set("#SGDayVal.Text", String.valueOf(gen.getSecondsPerGameDay()));
-        cmd.set("#SGLangTgl.Text", gen.getLanguage().toUpperCase());
-
-        // Deposits
-        cmd.set("#SDEnabledTgl.Text", dep.isEnabled() ? "ON" : "OFF");
-        cmd.set("#SDMaxVal.Text", String.valueOf(dep.getMaxPerPlayer()));
-        cmd.set("#SDPenVal.Text", String.format("%.1f%%", dep.getEarlyWithdrawalPenaltyRate() * 100));
-
-        // Loans
-        cmd.set("#SLEnabledTgl.Text", loan.isEnabled() ? "ON" : "OFF");
-        cmd.set("#SLRateVal.Text", String.format("%.1f%%", loan.getBaseInterestRate() * 100));
-        cmd.set("#SLMinVal.Text", String.format("%.0f $", loan.getMinAmount()));
-        cmd.set("#SLMaxVal.Text", String.format("%.0f $", loan.getMaxAmount()));
-        cmd.set("#SLActVal.Text", String.valueOf(loan.getMaxActiveLoans()));
-        cmd.set("#SLTermVal.Text", String.valueOf(loan.getDefaultTermDays()));
-        cmd.set("#SLOvdVal.Text", String.format("%.1f%%", loan.getOverduePenaltyRate() * 100));
-        cmd.set("#SLDefVal.Text", String.valueOf(loan.getDefaultAfterDays()));
-        cmd.set("#SLColVal.Text", String.format("%.1f%%", loan.getCollateralRate() * 100));
-        cmd.set("#SLCrdVal.Text", String.valueOf(loan.getMinCreditScoreForLoan()));
-
-        // Credit
-        cmd.set("#SCInitVal.Text", String.valueOf(cred.getInitialScore()));
-        cmd.set("#SCLBonVal.Text", String.valueOf(cred.getLoanCompletedBonus()));
-        cmd.set("#SCLPenVal.Text", String.valueOf(cred.getLoanDefaultPenalty()));
-        cmd.set("#SCOTBVal.Text", String.valueOf(cred.getOnTimePaymentBonus()));
-        cmd.set("#SCLatVal.Text", String.valueOf(cred.getLatePaymentPenalty()));
-        cmd.set("#SCDBonVal.Text", String.valueOf(cred.getDepositCompletedBonus()));
-
-        // Inflation
-        cmd.set("#SIEnabledTgl.Text", infl.isEnabled() ? "ON" : "OFF");
-        cmd.set("#SIBaseVal.Text", String.format("%.1f%%", infl.getBaseInflationRate() * 100));
-        cmd.set("#SIIntVal.Text", String.valueOf(infl.getUpdateIntervalHours()));
-        cmd.set("#SIMaxVal.Text", String.format("%.1f%%", infl.getMaxInflationRate() * 100));
-        cmd.set("#SIMinVal.Text", String.format("%.1f%%", infl.getMinInflationRate() * 100));
-
-        // Protection
-        cmd.set("#SPOpsVal.Text", String.valueOf(prot.getMaxOperationsPerHour()));
-        cmd.set("#SPDCVal.Text", String.valueOf(prot.getDepositCooldownSeconds()));
-        cmd.set("#SPLCVal.Text", String.valueOf(prot.getLoanCooldownSeconds()));
-        cmd.set("#SPAgeVal.Text", String.valueOf(prot.getMinAccountAgeDaysForLoan()));
-        cmd.set("#SPAudTgl.Text", prot.isAuditLogEnabled() ? "ON" : "OFF");
-        cmd.set("#SPMLVal.Text", String.valueOf(prot.getMaxAuditLogEntries()));
+        ui.set("#SettingsSubTitle.Text", stripDecorators(L(lang, getSubTabKey(activeSubTab))));
     }
 
     // ── Apply settings change ───────────────────────────────
 
     private void applySettingsChange(String settingId) {
-        BankingConfig config = plugin.getConfigManager().getConfig();
-        var gen  = config.getGeneral();
-        var dep  = config.getDeposits();
-        var loan = config.getLoans();
-        var cred = config.getCredit();
-        var infl = config.getInflation();
-        var prot = config.getProtection();
-
-        switch (settingId) {
-            // General
-            case "debug_mode"       -> gen.setDebugMode(!gen.isDebugMode());
-            case "language"         -> {
-                java.util.List<String> langs = java.util.List.of("en", "ru", "pt_br", "fr", "de", "es");
-                int idx = langs.indexOf(gen.getLanguage());
-                gen.setLanguage(langs.get((idx + 1) % langs.size()));
+        // Copy-on-write: edit a private copy, then publish it atomically
+        plugin.getConfigManager().update(config -> {
+            var gen  = config.getGeneral();
+            var dep  = config.getDeposits();
+            var loan = config.getLoans();
+            var cred = config.getCredit();
+            var infl = config.getInflation();
+            var prot = config.getProtection();
+
+            switch (settingId) {
+                // General
+                case "debug_mode"       -> gen.setDebugMode(!gen.isDebugMode());
+                case "language"         -> {
+                    java.util.List<String> langs = java.util.List.of("en", "ru", "pt_br", "fr", "de", "es");
+                    int idx = langs.indexOf(gen.getLanguage());
+                    gen.setLanguage(langs.get((idx + 1) % langs.size()));
+                }
+                case "autosave_up"      -> gen.setAutoSaveMinutes(Math.min(60, gen.getAutoSaveMinutes() + 1));
+                case "autosave_down"    -> gen.setAutoSaveMinutes(Math.max(1, gen.getAutoSaveMinutes() - 1));
+                case "gameday_up"       -> gen.setSecondsPerGameDay(Math.min(86400, gen.getSecondsPerGameDay() + 60));
+                case "gameday_down"     -> gen.setSecondsPerGameDay(Math.max(60, gen.getSecondsPerGameDay() - 60));
+
+                // Deposits
+                case "dep_enabled"      -> dep.setEnabled(!dep.isEnabled());
+                case "dep_max_up"       -> dep.setMaxPerPlayer(Math.min(10, dep.getMaxPerPlayer() + 1));
+                case "dep_max_down"     -> dep.setMaxPerPlayer(Math.max(1, dep.getMaxPerPlayer() - 1));
+                case "dep_penalty_up"   -> dep.setEarlyWithdrawalPenaltyRate(Math.min(1.0, dep.getEarlyWithdrawalPenaltyRate() + 0.01));
+                case "dep_penalty_down" -> dep.setEarlyWithdrawalPenaltyRate(Math.max(0.0, dep.getEarlyWithdrawalPenaltyRate() - 0.01));
+
+                // Loans
+                case "loan_enabled"     -> loan.setEnabled(!loan.isEnabled());
+                case "loan_rate_up"     -> loan.setBaseInterestRate(Math.min(1.0, loan.getBaseInterestRate() + 0.01));
+                case "loan_rate_down"   -> loan.setBaseInterestRate(Math.max(0.01, loan.getBaseInterestRate() - 0.01));
+                case "loan_min_up"      -> loan.setMinAmount(Math.min(1000000, loan.getMinAmount() + 100));
+                case "loan_min_down"    -> loan.setMinAmount(Math.max(0, loan.getMinAmount() - 100));
+                case "loan_max_up"      -> loan.setMaxAmount(Math.min(10000000, loan.getMaxAmount() + 1000));
+                case "loan_max_down"    -> loan.setMaxAmount(Math.max(100, loan.getMaxAmount() - 1000));
+                case "loan_active_up"   -> loan.setMaxActiveLoans(Math.min(10, loan.getMaxActiveLoans() + 1));
+                case "loan_active_down" -> loan.setMaxActiveLoans(Math.max(1, loan.getMaxActiveLoans() - 1));
+                case "loan_term_up"     -> loan.setDefaultTermDays(Math.min(365, loan.getDefaultTermDays() + 1));
+                case "loan_term_down"   -> loan.setDefaultTermDays(Math.max(1, loan.getDefaultTermDays() - 1));
+                case "loan_overdue_up"  -> loan.setOverduePenaltyRate(Math.min(1.0, loan.getOverduePenaltyRate() + 0.01));
+                case "loan_overdue_down"-> loan.setOverduePenaltyRate(Math.max(0.0, loan.getOverduePenaltyRate() - 0.01));
+                case "loan_defdays_up"  -> loan.setDefaultAfterDays(Math.min(90, loan.getDefaultAfterDays() + 1));
+                case "loan_defdays_down"-> loan.setDefaultAfterDays(Math.max(1, loan.getDefaultAfterDays() - 1));
+                case "loan_coll_up"     -> loan.setCollateralRate(Math.min(1.0, loan.getCollateralRate() + 0.01));
+                case "loan_coll_down"   -> loan.setCollateralRate(Math.max(0.0, loan.getCollateralRate() - 0.01));
+                case "loan_mincr_up"    -> loan.setMinCreditScoreForLoan(Math.min(1000, loan.getMinCreditScoreForLoan() + 10));
+                case "loan_mincr_down"  -> loan.setMinCreditScoreForLoan(Math.max(0, loan.getMinCreditScoreForLoan() - 10));
+
+                // Credit
+                case "cr_init_up"       -> cred.setInitialScore(Math.min(1000, cred.getInitialScore() + 10));
+                case "cr_init_down"     -> cred.setInitialScore(Math.max(0, cred.getInitialScore() - 10));
+                case "cr_lbonus_up"     -> cred.setLoanCompletedBonus(Math.min(500, cred.getLoanCompletedBonus() + 5));
+                case "cr_lbonus_down"   -> cred.setLoanCompletedBonus(Math.max(0, cred.getLoanCompletedBonus() - 5));
+                case "cr_lpen_up"       -> cred.setLoanDefaultPenalty(Math.min(0, cred.getLoanDefaultPenalty() + 10));
+                case "cr_lpen_down"     -> cred.setLoanDefaultPenalty(Math.max(-1000, cred.getLoanDefaultPenalty() - 10));
+                case "cr_obonus_up"     -> cred.setOnTimePaymentBonus(Math.min(100, cred.getOnTimePaymentBonus() + 1));
+                case "cr_obonus_down"   -> cred.setOnTimePaymentBonus(Math.max(0, cred.getOnTimePaymentBonus() - 1));
+                case "cr_latep_up"      -> cred.setLatePaymentPenalty(Math.min(0, cred.getLatePaymentPenalty() + 5));
+                case "cr_latep_down"    -> cred.setLatePaymentPenalty(Math.max(-500, cred.getLatePaymentPenalty() - 5));
+                case "cr_dbonus_up"     -> cred.setDepositCompletedBonus(Math.min(100, cred.getDepositCompletedBonus() + 1));
+                case "cr_dbonus_down"   -> cred.setDepositCompletedBonus(Math.max(0, cred.getDepositCompletedBonus() - 1));
+
+                // Inflation
+                case "infl_enabled"     -> infl.setEnabled(!infl.isEnabled());
+                case "infl_base_up"     -> infl.setBaseInflationRate(Math.min(1.0, infl.getBaseInflationRate() + 0.01));
+                case "infl_base_down"   -> infl.setBaseInflationRate(Math.max(-1.0, infl.getBaseInflationRate() - 0.01));
+                case "infl_hrs_up"      -> infl.setUpdateIntervalHours(Math.min(168, infl.getUpdateIntervalHours() + 1));
+                case "infl_hrs_down"    -> infl.setUpdateIntervalHours(Math.max(1, infl.getUpdateIntervalHours() - 1));
+                case "infl_max_up"      -> infl.setMaxInflationRate(Math.min(1.0, infl.getMaxInflationRate() + 0.01));
+                case "infl_max_down"    -> infl.setMaxInflationRate(Math.max(0.0, infl.getMaxInflationRate() - 0.01));
+                case "infl_min_up"      -> infl.setMinInflationRate(Math.min(0.5, infl.getMinInflationRate() + 0.01));
+                case "infl_min_down"    -> infl.setMinInflationRate(Math.max(-1.0, infl.getMinInflationRate() - 0.01));
+
+                // Protection
+                case "prot_ops_up"      -> prot.setMaxOperationsPerHour(Math.min(1000, prot.getMaxOperationsPerHour() + 5));
+                case "prot_ops_down"    -> prot.setMaxOperationsPerHour(Math.max(1, prot.getMaxOperationsPerHour() - 5));
+                case "prot_dcool_up"    -> prot.setDepositCooldownSeconds(Math.min(3600, prot.getDepositCooldownSeconds() + 10));
+                case "prot_dcool_down"  -> prot.setDepositCooldownSeconds(Math.max(0, prot.getDepositCooldownSeconds() - 10));
+                case "prot_lcool_up"    -> prot.setLoanCooldownSeconds(Math.min(3600, prot.getLoanCooldownSeconds() + 30));
+                case "prot_lcool_down"  -> prot.setLoanCooldownSeconds(Math.max(0, prot.getLoanCooldownSeconds() - 30));
+                case "prot_age_up"      -> prot.setMinAccountAgeDaysForLoan(Math.min(30, prot.getMinAccountAgeDaysForLoan() + 1));
+                case "prot_age_down"    -> prot.setMinAccountAgeDaysForLoan(Math.max(0, prot.getMinAccountAgeDaysForLoan() - 1));
+                case "prot_audit"       -> prot.setAuditLogEnabled(!prot.isAuditLogEnabled());
+                case "prot_maxlog_up"   -> prot.setMaxAuditLogEntries(Math.min(100000, prot.getMaxAuditLogEntries() + 100));
+                case "prot_maxlog_down" -> prot.setMaxAuditLogEntries(Math.max(100, prot.getMaxAuditLogEntries() - 100));
             }
-            case "autosave_up"      -> gen.setAutoSaveMinutes(Math.min(60, gen.getAutoSaveMinutes() + 1));
-            case "autosave_down"    -> gen.setAutoSaveMinutes(Math.max(1, gen.getAutoSaveMinutes() - 1));
-            case "gameday_up"       -> gen.setSecondsPerGameDay(Math.min(86400, gen.getSecondsPerGameDay() + 60));
-            case "gameday_down"     -> gen.setSecondsPerGameDay(Math.max(60, gen.getSecondsPerGameDay() - 60));
-
-            // Deposits
-            case "dep_enabled"      -> dep.setEnabled(!dep.isEnabled());
-            case "dep_max_up"       -> dep.setMaxPerPlayer(Math.min(10, dep.getMaxPerPlayer() + 1));
-            case "dep_max_down"     -> dep.setMaxPerPlayer(Math.max(1, dep.getMaxPerPlayer() - 1));
-            case "dep_penalty_up"   -> dep.setEarlyWithdrawalPenaltyRate(Math.min(1.0, dep.getEarlyWithdrawalPenaltyRate() + 0.01));
-            case "dep_penalty_down" -> dep.setEarlyWithdrawalPenaltyRate(Math.max(0.0, dep.getEarlyWithdrawalPenaltyRate() - 0.01));
-
-            // Loans
-            case "loan_enabled"     -> loan.setEnabled(!loan.isEnabled());
-            case "loan_rate_up"     -> loan.setBaseInterestRate(Math.min(1.0, loan.getBaseInterestRate() + 0.01));
-            case "loan_rate_down"   -> loan.setBaseInterestRate(Math.max(0.01, loan.getBaseInterestRate() - 0.01));
-            case "loan_min_up"      -> loan.setMinAmount(Math.min(1000000, loan.getMinAmount() + 100));
-            case "loan_min_down"    -> loan.setMinAmount(Math.max(0, loan.getMinAmount() - 100));
-            case "loan_max_up"      -> loan.setMaxAmount(Math.min(10000000, loan.getMaxAmount() + 1000));
-            case "loan_max_down"    -> loan.setMaxAmount(Math.max(100, loan.getMaxAmount() - 1000));
-            case "loan_active_up"   -> loan.setMaxActiveLoans(Math.min(10, loan.getMaxActiveLoans() + 1));
-            case "loan_active_down" -> loan.setMaxActiveLoans(Math.max(1, loan.getMaxActiveLoans() - 1));
-            case "loan_term_up"     -> loan.setDefaultTermDays(Math.min(365, loan.getDefaultTermDays() + 1));
-            case "loan_term_down"   -> loan.setDefaultTermDays(Math.max(1, loan.getDefaultTermDays() - 1));
-            case "loan_overdue_up"  -> loan.setOverduePenaltyRate(Math.min(1.0, loan.getOverduePenaltyRate() + 0.01));
-            case "loan_overdue_down"-> loan.setOverduePenaltyRate(Math.max(0.0, loan.getOverduePenaltyRate() - 0.01));
-            case "loan_defdays_up"  -> loan.setDefaultAfterDays(Math.min(90, loan.getDefaultAfterDays() + 1));
-            case "loan_defdays_down"-> loan.setDefaultAfterDays(Math.max(1, loan.getDefaultAfterDays() - 1));
-            case "loan_coll_up"     -> loan.setCollateralRate(Math.min(1.0, loan.getCollateralRate() + 0.01));
-            case "loan_coll_down"   -> loan.setCollateralRate(Math.max(0.0, loan.getCollateralRate() - 0.01));
-            case "loan_mincr_up"    -> loan.setMinCreditScoreForLoan(Math.min(1000, loan.getMinCreditScoreForLoan() + 10));
-            case "loan_mincr_down"  -> loan.setMinCreditScoreForLoan(Math.max(0, loan.getMinCreditScoreForLoan() - 10));
-
-            // Credit
-            case "cr_init_up"       -> cred.setInitialScore(Math.min(1000, cred.getInitialScore() + 10));
-            case "cr_init_down"     -> cred.setInitialScore(Math.max(0, cred.getInitialScore() - 10));
-            case "cr_lbonus_up"     -> cred.setLoanCompletedBonus(Math.min(500, cred.getLoanCompletedBonus() + 5));
-            case "cr_lbonus_down"   -> cred.setLoanCompletedBonus(Math.max(0, cred.getLoanCompletedBonus() - 5));
-            case "cr_lpen_up"       -> cred.setLoanDefaultPenalty(Math.min(0, cred.getLoanDefaultPenalty() + 10));
-            case "cr_lpen_down"     -> cred.setLoanDefaultPenalty(Math.max(-1000, cred.getLoanDefaultPenalty() - 10));
-            case "cr_obonus_up"     -> cred.setOnTimePaymentBonus(Math.min(100, cred.getOnTimePaymentBonus() + 1));
-            case "cr_obonus_down"   -> cred.setOnTimePaymentBonus(Math.max(0, cred.getOnTimePaymentBonus() - 1));
-            case "cr_latep_up"      -> cred.setLatePaymentPenalty(Math.min(0, cred.getLatePaymentPenalty() + 5));
-            case "cr_latep_down"    -> cred.setLatePaymentPenalty(Math.max(-500, cred.getLatePaymentPenalty() - 5));
-            case "cr_dbonus_up"     -> cred.setDepositCompletedBonus(Math.min(100, cred.getDepositCompletedBonus() + 1));
-            case "cr_dbonus_down"   -> cred.setDepositCompletedBonus(Math.max(0, cred.getDepositCompletedBonus() - 1));
-
-            // Inflation
-            case "infl_enabled"     -> infl.setEnabled(!infl.isEnabled());
-            case "infl_base_up"     -> infl.setBaseInflationRate(Math.min(1.0, infl.getBaseInflationRate() + 0.01));
-            case "infl_base_down"   -> infl.setBaseInflationRate(Math.max(-1.0, infl.getBaseInflationRate() - 0.01));
-            case "infl_hrs_up"      -> infl.setUpdateIntervalHours(Math.min(168, infl.getUpdateIntervalHours() + 1));
-            case "infl_hrs_down"    -> infl.setUpdateIntervalHours(Math.max(1, infl.getUpdateIntervalHours() - 1));
-            case "infl_max_up"      -> infl.setMaxInflationRate(Math.min(1.0, infl.getMaxInflationRate() + 0.01));
-            case "infl_max_down"    -> infl.setMaxInflationRate(Math.max(0.0, infl.getMaxInflationRate() - 0.01));
-            case "infl_min_up"      -> infl.setMinInflationRate(Math.min(0.5, infl.getMinInflationRate() + 0.01));
-            case "infl_min_down"    -> infl.setMinInflationRate(Math.max(-1.0, infl.getMinInflationRate() - 0.01));
-
-            // Protection
-            case "prot_ops_up"      -> prot.setMaxOperationsPerHour(Math.min(1000, prot.getMaxOperationsPerHour() + 5));
-            case "prot_ops_down"    -> prot.setMaxOperationsPerHour(Math.max(1, prot.getMaxOperationsPerHour() - 5));
-            case "prot_dcool_up"    -> prot.setDepositCooldownSeconds(Math.min(3600, prot.getDepositCooldownSeconds() + 10));
-            case "prot_dcool_down"  -> prot.setDepositCooldownSeconds(Math.max(0, prot.getDepositCooldownSeconds() - 10));
-            case "prot_lcool_up"    -> prot.setLoanCooldownSeconds(Math.min(3600, prot.getLoanCooldownSeconds() + 30));
-            case "prot_lcool_down"  -> prot.setLoanCooldownSeconds(Math.max(0, prot.getLoanCooldownSeconds() - 30));
-            case "prot_age_up"      -> prot.setMinAccountAgeDaysForLoan(Math.min(30, prot.getMinAccountAgeDaysForLoan() + 1));
-            case "prot_age_down"    -> prot.setMinAccountAgeDaysForLoan(Math.max(0, prot.getMinAccountAgeDaysForLoan() - 1));
-            case "prot_audit"       -> prot.setAuditLogEnabled(!prot.isAuditLogEnabled());
-            case "prot_maxlog_up"   -> prot.setMaxAuditLogEntries(Math.min(100000, prot.getMaxAuditLogEntries() + 100));
-            case "prot_maxlog_down" -> prot.setMaxAuditLogEntries(Math.max(100, prot.getMaxAuditLogEntries() - 100));
-        }
+        });
     }
 
     // ════════════════════════════════════════════════════════
@@ -871,7 +963,9 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
 
     private void reopen(@Nonnull String tab) {
         close();
-        AdminBankGui newPage = new AdminBankGui(plugin, playerRef, adminUuid, tab);
+        AdminBankGui newPage = new AdminBankGui(plugin, playerRef, adminUuid, tab, accountQuery);
+        newPage.accountSort = accountSort;
+        newPage.accountPage = accountPage;
         PageOpenHelper.openPage(savedRef, savedStore, newPage);
     }
 
@@ -897,6 +991,19 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
         PageOpenHelper.openPage(ref, store, page);
     }
 
+    /**
+     * Opens the accounts tab filtered by a name or UUID prefix.
+     */
+    public static void openSearch(@Nonnull EcoTaleBankingPlugin plugin,
+                                  @Nonnull PlayerRef playerRef,
+                                  @Nonnull Ref<EntityStore> ref,
+                                  @Nonnull Store<EntityStore> store,
+                                  @Nonnull UUID adminUuid,
+                                  @Nonnull String query) {
+        AdminBankGui page = new AdminBankGui(plugin, playerRef, adminUuid, "accounts", query);
+        PageOpenHelper.openPage(ref, store, page);
+    }
+
     // ════════════════════════════════════════════════════════
     //  HELPERS
     // ════════════════════════════════════════════════════════
@@ -933,13 +1040,7 @@ public final class AdminBankGui extends InteractiveCustomUIPage<AdminBankGui.Adm
 
     private void sendMsg(String miniMessageText) {
         try {
-            String json = MiniMessageParser.toJson(miniMessageText);
-            Class<?> msgClass = Class.forName("com.hypixel.hytale.server.core.Message");
-            java.lang.reflect.Method parseMethod = msgClass.getMethod("parse", String.class);
-            Object message = parseMethod.invoke(null, json);
-            java.lang.reflect.Method sendMethod = playerRef.getClass()
-                    .getMethod("sendMessage", msgClass);
-            sendMethod.invoke(playerRef, message);
+            MessageUtil.sendMessage(playerRef, miniMessageText);
         } catch (Exception e) {
             LOGGER.warn("[sendMsg] reflection failed: {}", e.getMessage());
         }
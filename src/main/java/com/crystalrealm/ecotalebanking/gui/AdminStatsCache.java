@@ -0,0 +1,214 @@
+package com.crystalrealm.ecotalebanking.gui;
+
+import com.crystalrealm.ecotalebanking.model.AccountView;
+import com.crystalrealm.ecotalebanking.model.AuditLog;
+import com.crystalrealm.ecotalebanking.service.BankService;
+import com.crystalrealm.ecotalebanking.service.EconomyAggregates;
+import com.crystalrealm.ecotalebanking.service.TreasuryLedger;
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+/**
+ * Cached statistics for the admin GUI.
+ *
+ * <p>Listing every account and scanning the audit logs is too slow for
+ * the world thread, so {@link AdminBankGui} renders from the last
+ * {@link Snapshot} and asks for a {@link #refresh()} when it is missing or
+ * older than {@link #MAX_AGE_MILLIS}. Refreshes run on a single worker
+ * thread; concurrent requests share the one in flight.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class AdminStatsCache {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    /** Age after which a snapshot is refreshed on the next GUI open. */
+    public static final long MAX_AGE_MILLIS = 10_000;
+
+    /** Recent operations kept for the activity tab. */
+    public static final int ACTIVITY_LIMIT = 30;
+
+    /** Audit entries read per account for the activity tab. */
+    private static final int LOGS_PER_ACCOUNT = 5;
+
+    private final BankService bank;
+    private final ExecutorService worker;
+    private volatile Snapshot snapshot;
+    /** Guarded by {@code this}. */
+    private CompletableFuture<Snapshot> inFlight;
+
+    public AdminStatsCache(@Nonnull BankService bank) {
+        this.bank = bank;
+        this.worker = Executors.newSingleThreadExecutor(r -> {
+            Thread t = new Thread(r, "EcoTaleBanking-AdminStats");
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  API
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * @return last complete snapshot, or null before the first refresh finished
+     */
+    @Nullable
+    public Snapshot getSnapshot() {
+        return snapshot;
+    }
+
+    /**
+     * @return true if {@code snapshot} is missing or older than {@link #MAX_AGE_MILLIS}
+     */
+    public boolean isStale(@Nullable Snapshot snapshot) {
+        return snapshot == null
+                || snapshot.takenAt.plusMillis(MAX_AGE_MILLIS).isBefore(Instant.now());
+    }
+
+    /**
+     * Computes a new snapshot on the worker thread. Returns the refresh
+     * already in flight, if any.
+     */
+    @Nonnull
+    public synchronized CompletableFuture<Snapshot> refresh() {
+        if (inFlight != null && !inFlight.isDone()) return inFlight;
+        inFlight = CompletableFuture.supplyAsync(this::compute, worker)
+                .whenComplete((result, error) -> {
+                    if (error != null) {
+                        LOGGER.error("Admin statistics refresh failed: {}", error.getMessage());
+                    } else {
+                        snapshot = result;
+                    }
+                });
+        return inFlight;
+    }
+
+    /**
+     * Stops the worker. A refresh in flight is abandoned.
+     */
+    public void shutdown() {
+        worker.shutdownNow();
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  INTERNAL
+    // ═════════════════════════════════════════════════════════
+
+    private Snapshot compute() {
+        long start = System.nanoTime();
+        List<AccountView> accounts = bank.getAllViews();
+        Map<UUID, String> names = new HashMap<>();
+        List<AuditLog> logs = new ArrayList<>();
+        for (AccountView acc : accounts) {
+            if (acc.getLastKnownName() != null) {
+                names.put(acc.getPlayerUuid(), acc.getLastKnownName());
+            }
+            logs.addAll(bank.getAuditLogs(acc.getPlayerUuid(), LOGS_PER_ACCOUNT));
+        }
+        logs.sort(Comparator.comparing(AuditLog::getTimestamp).reversed());
+        if (logs.size() > ACTIVITY_LIMIT) logs = new ArrayList<>(logs.subList(0, ACTIVITY_LIMIT));
+
+        Snapshot result = new Snapshot(Economy.of(bank), logs, names);
+        LOGGER.debug("Admin statistics refreshed: {} accounts in {} ms.",
+                accounts.size(), (System.nanoTime() - start) / 1_000_000);
+        return result;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  SNAPSHOT
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Dashboard figures. Cheap to capture: aggregates and ledger totals
+     * are maintained incrementally.
+     */
+    public static final class Economy {
+        private final long accounts;
+        private final long frozenAccounts;
+        private final long activeDeposits;
+        private final long activeLoans;
+        private final long overdueLoans;
+        private final BigDecimal totalDeposited;
+        private final BigDecimal totalDebt;
+        private final double averageCreditScore;
+        private final boolean inflationEnabled;
+        private final BigDecimal inflationRate;
+        private final TreasuryLedger.Totals treasury;
+        private final BigDecimal treasuryWeekNet;
+
+        private Economy(BankService bank) {
+            EconomyAggregates economy = bank.getAggregates();
+            this.accounts = economy.getAccounts();
+            this.frozenAccounts = economy.getFrozenAccounts();
+            this.activeDeposits = economy.getActiveDeposits();
+            this.activeLoans = economy.getActiveLoans();
+            this.overdueLoans = economy.getOverdueLoans();
+            this.totalDeposited = economy.getTotalDeposited();
+            this.totalDebt = economy.getTotalDebt();
+            this.averageCreditScore = economy.getAverageCreditScore();
+            this.inflationEnabled = bank.getInflationService().isEnabled();
+            this.inflationRate = bank.getInflationService().getCurrentRate();
+            TreasuryLedger ledger = bank.getTaxService().getLedger();
+            this.treasury = ledger.getTotals();
+            this.treasuryWeekNet = ledger.getLastDays(7).getNet();
+        }
+
+        /**
+         * Captures the current figures.
+         */
+        @Nonnull
+        public static Economy of(@Nonnull BankService bank) {
+            return new Economy(bank);
+        }
+
+        public long getAccounts() { return accounts; }
+        public long getFrozenAccounts() { return frozenAccounts; }
+        public long getActiveDeposits() { return activeDeposits; }
+        public long getActiveLoans() { return activeLoans; }
+        public long getOverdueLoans() { return overdueLoans; }
+        @Nonnull public BigDecimal getTotalDeposited() { return totalDeposited; }
+        @Nonnull public BigDecimal getTotalDebt() { return totalDebt; }
+        public double getAverageCreditScore() { return averageCreditScore; }
+        public boolean isInflationEnabled() { return inflationEnabled; }
+        @Nonnull public BigDecimal getInflationRate() { return inflationRate; }
+        @Nonnull public TreasuryLedger.Totals getTreasury() { return treasury; }
+        @Nonnull public BigDecimal getTreasuryWeekNet() { return treasuryWeekNet; }
+    }
+
+    /**
+     * Immutable, timestamped admin statistics.
+     */
+    public static final class Snapshot {
+        private final Instant takenAt;
+        private final Economy economy;
+        private final List<AuditLog> activity;
+        private final Map<UUID, String> names;
+
+        private Snapshot(Economy economy, List<AuditLog> activity, Map<UUID, String> names) {
+            this.takenAt = Instant.now();
+            this.economy = economy;
+            this.activity = Collections.unmodifiableList(activity);
+            this.names = Collections.unmodifiableMap(names);
+        }
+
+        @Nonnull public Instant getTakenAt() { return takenAt; }
+        @Nonnull public Economy getEconomy() { return economy; }
+
+        /** @return most recent operations across all accounts, newest first */
+        @Nonnull public List<AuditLog> getActivity() { return activity; }
+
+        /** @return last known player names by UUID */
+        @Nonnull public Map<UUID, String> getNames() { return names; }
+    }
+}
@@ -1,13 +1,14 @@
 package com.crystalrealm.ecotalebanking.gui;
 
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
+import com.crystalrealm.ecotalebanking.util.ReflectionBridge;
 import com.hypixel.hytale.component.Ref;
 import com.hypixel.hytale.component.Store;
 import com.hypixel.hytale.server.core.entity.entities.player.pages.InteractiveCustomUIPage;
 import com.hypixel.hytale.server.core.universe.world.storage.EntityStore;
 
 import javax.annotation.Nonnull;
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 
 /**
  * Utility that opens/closes InteractiveCustomUIPage through 100 % reflection.
@@ -15,7 +16,8 @@ import java.lang.reflect.Method;
  * <p>Key point: {@code getPageManager()} lives on the ECS component
  * {@code Player}, <b>not</b> on {@code PlayerRef}.  We obtain the Player
  * component from the entity store and invoke everything reflectively so
- * that stub descriptor mismatches never cause {@code NoSuchMethodError}.</p>
+ * that stub descriptor mismatches never cause {@code NoSuchMethodError}.
+ * Targets are resolved once through {@link ReflectionBridge}.</p>
  *
  * @author CrystalRealm
  */
@@ -28,12 +30,18 @@ public final class PageOpenHelper {
     /** Cached Player.getComponentType() result. */
     private static Object PLAYER_COMP_TYPE;
 
+    private static final ReflectionBridge.Call GET_COMPONENT    = ReflectionBridge.method("getComponent", 2);
+    private static final ReflectionBridge.Call GET_PAGE_MANAGER = ReflectionBridge.method("getPageManager");
+    private static final ReflectionBridge.Call OPEN_CUSTOM_PAGE = ReflectionBridge.method("openCustomPage", 3);
+
     static {
         try {
-            PLAYER_CLASS = Class.forName(
+            PLAYER_CLASS = ReflectionBridge.findClass(
                     "com.hypixel.hytale.server.core.entity.entities.Player");
-            Method getCompType = PLAYER_CLASS.getMethod("getComponentType");
-            PLAYER_COMP_TYPE = getCompType.invoke(null);
+            if (PLAYER_CLASS == null) throw new ClassNotFoundException("Player");
+            MethodHandle getCompType = ReflectionBridge.findStatic(PLAYER_CLASS, "getComponentType");
+            if (getCompType == null) throw new NoSuchMethodException("Player.getComponentType()");
+            PLAYER_COMP_TYPE = ReflectionBridge.invoke(getCompType);
         } catch (Exception e) {
             LOGGER.error("[PageOpenHelper] Failed to resolve Player class: {}", e.getMessage());
         }
@@ -60,37 +68,22 @@ public final class PageOpenHelper {
             }
 
             // 1. store.getComponent(ref, Player.getComponentType())
-            Method getComp = findMethod(store.getClass(), "getComponent", 2);
-            Object player = getComp.invoke(store, ref, PLAYER_COMP_TYPE);
+            Object player = GET_COMPONENT.invoke(store, ref, PLAYER_COMP_TYPE);
             if (player == null) {
                 throw new IllegalStateException("Player component is null for ref " + ref);
             }
 
             // 2. player.getPageManager()
-            Method getPm = player.getClass().getMethod("getPageManager");
-            Object pm = getPm.invoke(player);
+            Object pm = GET_PAGE_MANAGER.invoke(player);
             if (pm == null) {
                 throw new IllegalStateException("PageManager is null");
             }
 
             // 3. pm.openCustomPage(ref, store, page)
-            Method openMethod = findMethod(pm.getClass(), "openCustomPage", 3);
-            openMethod.invoke(pm, ref, store, page);
+            OPEN_CUSTOM_PAGE.invoke(pm, ref, store, page);
 
         } catch (Exception e) {
             LOGGER.error("[PageOpenHelper] Failed to open page: {}", e.getMessage());
         }
     }
-
-    // ────────────────────────────────────────────────────────
-
-    private static Method findMethod(Class<?> clazz, String name, int paramCount) {
-        for (Method m : clazz.getMethods()) {
-            if (name.equals(m.getName()) && m.getParameterCount() == paramCount) {
-                return m;
-            }
-        }
-        throw new IllegalStateException("Method " + name + " with " + paramCount
-                + " params not found on " + clazz.getName());
-    }
 }
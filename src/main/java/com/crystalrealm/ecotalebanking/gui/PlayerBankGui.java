@@ -3,7 +3,10 @@ package com.crystalrealm.ecotalebanking.gui;
 import com.crystalrealm.ecotalebanking.EcoTaleBankingPlugin;
 import com.crystalrealm.ecotalebanking.lang.LangManager;
 import com.crystalrealm.ecotalebanking.model.*;
+import com.crystalrealm.ecotalebanking.protection.AbuseGuard;
+import com.crystalrealm.ecotalebanking.protection.OperationType;
 import com.crystalrealm.ecotalebanking.service.*;
+import com.crystalrealm.ecotalebanking.util.BankClock;
 import com.crystalrealm.ecotalebanking.util.MessageUtil;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 
@@ -24,6 +27,8 @@ import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.util.*;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * Native interactive bank GUI for the player.
@@ -36,6 +41,17 @@ import java.util.*;
  *   <li><b>History</b> — last audit log entries</li>
  * </ul>
  *
+ * <p>Only the visible tab is rendered. Overview and loans show the wallet,
+ * inflation and loan terms, none of which bump the account version, so
+ * they render on every activation. Deposits and history are rendered again
+ * only when the account view version, the config version or the game day
+ * differs from the one they were last rendered from (plans come from the
+ * config, days left from the clock).</p>
+ *
+ * <p>Bank operations are queued on the account's mailbox and refresh the
+ * page from the mailbox thread, so page state is only touched while
+ * holding {@code ui}.</p>
+ *
  * @author CrystalRealm
  * @version 2.0.0
  */
@@ -49,6 +65,9 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
     private static final int MAX_LOANS    = 2;
     private static final int MAX_HISTORY  = 15;
 
+    /** Tabs cached by {@link RenderStamp}. */
+    private static final Set<String> VERSIONED_TABS = Set.of("deposits", "history");
+
     // ── Event data codec ────────────────────────────────────
     private static final String KEY_ACTION = "Action";
     private static final String KEY_ID     = "Id";
@@ -70,6 +89,12 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
     @Nullable private final String errorMessage;
     @Nullable private final String successMessage;
 
+    /** Values the client currently shows; refreshes send only changes. */
+    private final UiState ui = new UiState();
+
+    /** What each tab was last rendered from; absent if never rendered. */
+    private final Map<String, RenderStamp> renderedVersions = new HashMap<>();
+
     // Store ref/store for re-open
     private Ref<EntityStore> savedRef;
     private Store<EntityStore> savedStore;
@@ -111,34 +136,31 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
 
         MessageUtil.cachePlayerRef(playerUuid, playerRef);
 
-        BankAccount account = bank.getAccount(playerUuid);
-        CreditScore credit  = bank.getCreditService().getScore(playerUuid);
-        double wallet       = bank.getWalletBalance(playerUuid);
+        AccountView view = bank.getView(playerUuid);
 
         try {
             String username = playerRef.getUsername();
             if (username != null && !username.isEmpty()) {
-                account.setLastKnownName(username);
+                bank.updateLastKnownName(playerUuid, username);
             }
         } catch (Exception ignored) {}
 
         // Load root template
         cmd.append(PAGE_PATH);
+        ui.invalidate();
+        renderedVersions.clear();
 
         // Set title
-        cmd.set("#TitleLabel.Text", L(lang, "gui.title"));
+        ui.set("#TitleLabel.Text", L(lang, "gui.title"));
 
         // Tab labels
-        cmd.set("#TabOverview.Text", L(lang, "gui.tab.overview"));
-        cmd.set("#TabDeposits.Text", L(lang, "gui.tab.deposits"));
-        cmd.set("#TabLoans.Text", L(lang, "gui.tab.loans"));
-        cmd.set("#TabHistory.Text", L(lang, "gui.tab.history"));
+        ui.set("#TabOverview.Text", L(lang, "gui.tab.overview"));
+        ui.set("#TabDeposits.Text", L(lang, "gui.tab.deposits"));
+        ui.set("#TabLoans.Text", L(lang, "gui.tab.loans"));
+        ui.set("#TabHistory.Text", L(lang, "gui.tab.history"));
 
         // Tab visibility
-        cmd.set("#OverviewContent.Visible",  "overview".equals(selectedTab));
-        cmd.set("#DepositsContent.Visible",  "deposits".equals(selectedTab));
-        cmd.set("#LoansContent.Visible",     "loans".equals(selectedTab));
-        cmd.set("#HistoryContent.Visible",   "history".equals(selectedTab));
+        setTabVisibility(selectedTab);
 
         // ── Bind ALL events (once, slot-based) ──────────────
 
@@ -215,20 +237,11 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
         }
 
         // ── Banners ─────────────────────────────────────────
-        if (errorMessage != null && !errorMessage.isEmpty()) {
-            cmd.set("#ErrorBanner.Visible", true);
-            cmd.set("#ErrorText.Text", stripForUI(errorMessage));
-        }
-        if (successMessage != null && !successMessage.isEmpty()) {
-            cmd.set("#SuccessBanner.Visible", true);
-            cmd.set("#SuccessText.Text", stripForUI(successMessage));
-        }
+        setBanners(errorMessage, successMessage);
 
-        // ── Build all tab data ──────────────────────────────
-        buildOverviewTab(cmd, lang, bank, account, credit, wallet);
-        updateDepositsData(cmd, lang, bank, account);
-        updateLoansData(cmd, lang, bank, account, credit);
-        updateHistoryData(cmd, lang, bank);
+        // ── Visible tab data; the rest on first activation ──
+        renderTab(selectedTab, lang, bank, view);
+        ui.flush(cmd);
 
         LOGGER.info("Player bank GUI built for {}", playerUuid);
     }
@@ -243,59 +256,77 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
                                 @Nonnull BankEventData data) {
         LangManager lang = plugin.getLangManager();
         BankService bank = plugin.getBankService();
+        AbuseGuard guard = plugin.getAbuseGuard();
+
+        if (!guard.checkRateLimit(playerUuid, OperationType.GUI_ACTION)) return;
+        guard.recordOperation(playerUuid, OperationType.GUI_ACTION);
 
         switch (data.action) {
             case "tab" -> {
-                try {
-                    UICommandBuilder tabCmd = new UICommandBuilder();
-                    tabCmd.set("#OverviewContent.Visible", "overview".equals(data.id));
-                    tabCmd.set("#DepositsContent.Visible", "deposits".equals(data.id));
-                    tabCmd.set("#LoansContent.Visible", "loans".equals(data.id));
-                    tabCmd.set("#HistoryContent.Visible", "history".equals(data.id));
-                    // Clear banners on tab switch
-                    tabCmd.set("#ErrorBanner.Visible", false);
-                    tabCmd.set("#SuccessBanner.Visible", false);
-                    sendUpdate(tabCmd);
-                } catch (Exception e) {
-                    LOGGER.warn("[tab] sendUpdate failed, falling back to reopen: {}", e.getMessage());
-                    reopenOnTab(data.id);
+                synchronized (ui) {
+                    try {
+                        setTabVisibility(data.id);
+                        // Clear banners on tab switch
+                        setBanners(null, null);
+                        renderTab(data.id, lang, bank, bank.getView(playerUuid));
+                        sendDelta();
+                    } catch (Exception e) {
+                        LOGGER.warn("[tab] sendUpdate failed, falling back to reopen: {}", e.getMessage());
+                        ui.invalidate();
+                        renderedVersions.clear();
+                        reopenOnTab(data.id);
+                    }
                 }
             }
 
             case "withdraw" -> {
+                if (!guard.checkRateLimit(playerUuid, OperationType.WITHDRAW)) {
+                    refreshPage(L(lang, "gui.error.rate_limit"), null, "deposits");
+                    return;
+                }
                 // Slot-based: data.id = "1", "2", or "3"
                 int slot = Integer.parseInt(data.id);
-                List<Deposit> deposits = bank.getAccount(playerUuid).getActiveDeposits();
+                List<DepositView> deposits = bank.getView(playerUuid).getActiveDeposits();
                 if (slot < 1 || slot > deposits.size()) return;
-                Deposit d = deposits.get(slot - 1);
-
-                BankService.BankResult result = bank.closeDeposit(playerUuid, d.getId());
-                if (result.isSuccess()) {
-                    plugin.getAbuseGuard().recordGenericOperation(playerUuid);
-                    String success = L(lang, "gui.withdraw_success_banner",
-                            "id", d.getId(), "amount", result.getDetail());
-                    refreshPage(null, success, "deposits");
-                } else {
-                    refreshPage(L(lang, "gui.error." + result.getMessageKey()), null, "deposits");
-                }
+                DepositView d = deposits.get(slot - 1);
+
+                whenDone(bank.closeDepositAsync(playerUuid, d.getId()), result -> {
+                    if (result.isSuccess()) {
+                        guard.recordOperation(playerUuid, OperationType.WITHDRAW);
+                        String success = L(lang, "gui.withdraw_success_banner",
+                                "id", d.getId(), "amount", result.getDetail());
+                        refreshPage(null, success, "deposits");
+                    } else {
+                        refreshPage(L(lang, "gui.error." + result.getMessageKey()), null, "deposits");
+                    }
+                });
             }
 
             case "deposit" -> {
+                if (!guard.checkRateLimit(playerUuid, OperationType.DEPOSIT)) {
+                    refreshPage(L(lang, "gui.error.rate_limit"), null, "deposits");
+                    return;
+                }
                 // Plan buttons use actual plan data (bound during build)
                 BigDecimal amount = new BigDecimal(data.amount);
-                BankService.BankResult result = bank.openDeposit(playerUuid, data.plan, amount);
-                if (result.isSuccess()) {
-                    plugin.getAbuseGuard().recordGenericOperation(playerUuid);
-                    String success = L(lang, "gui.deposit_success",
-                            "plan", L(lang, "plan." + data.plan),
-                            "amount", MessageUtil.formatCoins(amount));
-                    refreshPage(null, success, "deposits");
-                } else {
-                    refreshPage(L(lang, "gui.error." + result.getMessageKey()), null, "deposits");
-                }
+                whenDone(bank.openDepositAsync(playerUuid, data.plan, amount), result -> {
+                    if (result.isSuccess()) {
+                        guard.recordOperation(playerUuid, OperationType.DEPOSIT);
+                        String success = L(lang, "gui.deposit_success",
+                                "plan", L(lang, "plan." + data.plan),
+                                "amount", MessageUtil.formatCoins(amount));
+                        refreshPage(null, success, "deposits");
+                    } else {
+                        refreshPage(L(lang, "gui.error." + result.getMessageKey()), null, "deposits");
+                    }
+                });
             }
 
             case "loan" -> {
+                if (!guard.checkRateLimit(playerUuid, OperationType.LOAN)) {
+                    refreshPage(L(lang, "gui.error.rate_limit"), null, "loans");
+                    return;
+                }
                 // Percentage-based: data.amount = "10", "50", or "100"
                 int pct = Integer.parseInt(data.amount);
                 BigDecimal maxLoan = bank.getLoanService().getMaxLoanAmount(playerUuid);
@@ -310,35 +341,40 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
                     if (amount.compareTo(maxLoan) > 0) amount = maxLoan;
                 }
 
-                BankService.BankResult result = bank.takeLoan(playerUuid, amount);
-                if (result.isSuccess()) {
-                    plugin.getAbuseGuard().recordGenericOperation(playerUuid);
-                    String success = L(lang, "gui.loan_success",
-                            "amount", MessageUtil.formatCoins(amount));
-                    refreshPage(null, success, "loans");
-                } else {
-                    String errKey = result.getMessageKey();
-                    String errText;
-                    if ("insufficient_collateral".equals(errKey)) {
-                        BigDecimal collateral = amount.multiply(
-                                BigDecimal.valueOf(bank.getLoanService().getCollateralRate()))
-                                .setScale(2, RoundingMode.HALF_UP);
-                        errText = L(lang, "gui.error.insufficient_collateral",
-                                "amount", MessageUtil.formatCoins(collateral));
+                BigDecimal loanAmount = amount;
+                whenDone(bank.takeLoanAsync(playerUuid, loanAmount), result -> {
+                    if (result.isSuccess()) {
+                        guard.recordOperation(playerUuid, OperationType.LOAN);
+                        String success = L(lang, "gui.loan_success",
+                                "amount", MessageUtil.formatCoins(loanAmount));
+                        refreshPage(null, success, "loans");
                     } else {
-                        errText = L(lang, "gui.error." + errKey);
+                        String errKey = result.getMessageKey();
+                        String errText;
+                        if ("insufficient_collateral".equals(errKey)) {
+                            BigDecimal collateral = loanAmount.multiply(bank.getLoanService().getCollateralRateDecimal())
+                                    .setScale(2, RoundingMode.HALF_UP);
+                            errText = L(lang, "gui.error.insufficient_collateral",
+                                    "amount", MessageUtil.formatCoins(collateral));
+                        } else {
+                            errText = L(lang, "gui.error." + errKey);
+                        }
+                        refreshPage(errText, null, "loans");
                     }
-                    refreshPage(errText, null, "loans");
-                }
+                });
             }
 
             case "repay" -> {
+                if (!guard.checkRateLimit(playerUuid, OperationType.REPAY)) {
+                    refreshPage(L(lang, "gui.error.rate_limit"), null, "loans");
+                    return;
+                }
                 // Slot + percentage: data.id = "1" or "2", data.amount = "10"/"25"/"50"/"100"
                 int slot = Integer.parseInt(data.id);
                 int pct = Integer.parseInt(data.amount);
-                List<Loan> loans = bank.getAccount(playerUuid).getActiveLoans();
+                List<LoanView> loans = bank.getView(playerUuid).getActiveLoans();
                 if (slot < 1 || slot > loans.size()) return;
-                Loan l = loans.get(slot - 1);
+                LoanView l = loans.get(slot - 1);
 
                 BigDecimal remaining = l.getRemainingBalance();
                 BigDecimal amount;
@@ -349,117 +385,162 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
                             .setScale(0, RoundingMode.UP).max(BigDecimal.ONE);
                 }
 
-                BankService.BankResult result = bank.repayLoan(playerUuid, l.getId(), amount);
-                if (result.isSuccess()) {
-                    plugin.getAbuseGuard().recordGenericOperation(playerUuid);
-                    String success = L(lang, "gui.repay_success",
-                            "amount", MessageUtil.formatCoins(amount));
-                    refreshPage(null, success, "loans");
-                } else {
-                    refreshPage(L(lang, "gui.error." + result.getMessageKey()), null, "loans");
-                }
+                whenDone(bank.repayLoanAsync(playerUuid, l.getId(), amount), result -> {
+                    if (result.isSuccess()) {
+                        guard.recordOperation(playerUuid, OperationType.REPAY);
+                        String success = L(lang, "gui.repay_success",
+                                "amount", MessageUtil.formatCoins(amount));
+                        refreshPage(null, success, "loans");
+                    } else {
+                        refreshPage(L(lang, "gui.error." + result.getMessageKey()), null, "loans");
+                    }
+                });
             }
         }
     }
 
     // ════════════════════════════════════════════════════════
-    //  REFRESH PAGE (sendUpdate — no Loading!)
+    //  REFRESH PAGE (sendUpdate of changed values only)
     // ════════════════════════════════════════════════════════
 
+    /**
+     * Hands the result of a bank operation to {@code handler} once the
+     * account's mailbox has run it. The handler runs on the mailbox thread.
+     */
+    private void whenDone(@Nonnull CompletableFuture<BankService.BankResult> pending,
+                          @Nonnull Consumer<BankService.BankResult> handler) {
+        pending.thenAccept(handler).exceptionally(e -> {
+            LOGGER.error("Bank operation for {} failed: {}", playerUuid, e.getMessage());
+            return null;
+        });
+    }
+
     private void refreshPage(@Nullable String error, @Nullable String success, @Nonnull String tab) {
-        try {
-            LangManager lang = plugin.getLangManager();
-            BankService bank = plugin.getBankService();
-            BankAccount account = bank.getAccount(playerUuid);
-            CreditScore credit  = bank.getCreditService().getScore(playerUuid);
-            double wallet       = bank.getWalletBalance(playerUuid);
-
-            UICommandBuilder cmd = new UICommandBuilder();
-
-            // Banners
-            cmd.set("#ErrorBanner.Visible", error != null && !error.isEmpty());
-            if (error != null && !error.isEmpty()) cmd.set("#ErrorText.Text", stripForUI(error));
-            cmd.set("#SuccessBanner.Visible", success != null && !success.isEmpty());
-            if (success != null && !success.isEmpty()) cmd.set("#SuccessText.Text", stripForUI(success));
-
-            // Tab visibility
-            cmd.set("#OverviewContent.Visible", "overview".equals(tab));
-            cmd.set("#DepositsContent.Visible", "deposits".equals(tab));
-            cmd.set("#LoansContent.Visible", "loans".equals(tab));
-            cmd.set("#HistoryContent.Visible", "history".equals(tab));
-
-            // Refresh all data
-            buildOverviewTab(cmd, lang, bank, account, credit, wallet);
-            updateDepositsData(cmd, lang, bank, account);
-            updateLoansData(cmd, lang, bank, account, credit);
-            updateHistoryData(cmd, lang, bank);
-
-            sendUpdate(cmd);
-        } catch (Exception e) {
-            LOGGER.warn("[refreshPage] sendUpdate failed, falling back to reopen: {}", e.getMessage());
-            reopen(error, success, tab);
+        synchronized (ui) {
+            try {
+                LangManager lang = plugin.getLangManager();
+                BankService bank = plugin.getBankService();
+                AccountView view = bank.getView(playerUuid);
+
+                setBanners(error, success);
+                setTabVisibility(tab);
+
+                // Hidden tabs catch up with the new version when shown
+                renderTab(tab, lang, bank, view);
+
+                sendDelta();
+            } catch (Exception e) {
+                LOGGER.warn("[refreshPage] sendUpdate failed, falling back to reopen: {}", e.getMessage());
+                ui.invalidate();
+                renderedVersions.clear();
+                reopen(error, success, tab);
+            }
+        }
+    }
+
+    /**
+     * Renders {@code tab} into {@link #ui}. Tabs in {@link #VERSIONED_TABS}
+     * are skipped if they were last rendered from the same stamp.
+     */
+    private void renderTab(String tab, LangManager lang, BankService bank, AccountView view) {
+        RenderStamp stamp = new RenderStamp(view.getVersion(),
+                plugin.getConfigManager().getCompiled().getVersion(),
+                bank.getClock().currentGameDay());
+        if (VERSIONED_TABS.contains(tab) && stamp.equals(renderedVersions.get(tab))) return;
+        switch (tab) {
+            case "overview" -> buildOverviewTab(ui, lang, bank, view, bank.getWalletBalance(playerUuid));
+            case "deposits" -> updateDepositsData(ui, lang, bank, view);
+            case "loans"    -> updateLoansData(ui, lang, bank, view);
+            case "history"  -> updateHistoryData(ui, lang, bank);
+            default -> { return; }
         }
+        renderedVersions.put(tab, stamp);
+    }
+
+    /**
+     * Sends the properties that changed since the last update, if any.
+     */
+    private void sendDelta() {
+        UICommandBuilder cmd = new UICommandBuilder();
+        if (ui.flush(cmd) > 0) sendUpdate(cmd);
+    }
+
+    private void setTabVisibility(String tab) {
+        ui.set("#OverviewContent.Visible", "overview".equals(tab));
+        ui.set("#DepositsContent.Visible", "deposits".equals(tab));
+        ui.set("#LoansContent.Visible", "loans".equals(tab));
+        ui.set("#HistoryContent.Visible", "history".equals(tab));
+    }
+
+    private void setBanners(@Nullable String error, @Nullable String success) {
+        boolean hasError = error != null && !error.isEmpty();
+        boolean hasSuccess = success != null && !success.isEmpty();
+        ui.set("#ErrorBanner.Visible", hasError);
+        if (hasError) ui.set("#ErrorText.Text", stripForUI(error));
+        ui.set("#SuccessBanner.Visible", hasSuccess);
+        if (hasSuccess) ui.set("#SuccessText.Text", stripForUI(success));
     }
 
     // ════════════════════════════════════════════════════════
     //  TAB DATA (no events — events bound once in build)
     // ════════════════════════════════════════════════════════
 
-    private void buildOverviewTab(UICommandBuilder cmd, LangManager lang,
-                                  BankService bank, BankAccount account,
-                                  CreditScore credit, double wallet) {
+    private void buildOverviewTab(UiState ui, LangManager lang,
+                                  BankService bank, AccountView account,
+                                  double wallet) {
         // Frozen banner
         if (account.isFrozen()) {
-            cmd.set("#FrozenBanner.Visible", true);
-            cmd.set("#FrozenText.Text", L(lang, "gui.frozen") + ": " + account.getFrozenReason());
+            ui.set("#FrozenBanner.Visible", true);
+            ui.set("#FrozenText.Text", L(lang, "gui.frozen") + ": " + account.getFrozenReason());
         } else {
-            cmd.set("#FrozenBanner.Visible", false);
+            ui.set("#FrozenBanner.Visible", false);
         }
 
         // Wallet
-        cmd.set("#WalletLabel.Text", L(lang, "gui.wallet_label"));
-        cmd.set("#WalletAmount.Text", MessageUtil.formatCoins(wallet) + " $");
+        ui.set("#WalletLabel.Text", L(lang, "gui.wallet_label"));
+        ui.set("#WalletAmount.Text", MessageUtil.formatCoins(wallet) + " $");
 
         // Deposit stats
-        cmd.set("#DepositLabel.Text", L(lang, "gui.total_deposited"));
-        cmd.set("#DepositAmount.Text", MessageUtil.formatCoins(account.getTotalDeposited()) + " $");
-        cmd.set("#DepositCount.Text", L(lang, "gui.active_count") + " " + account.getActiveDeposits().size());
+        ui.set("#DepositLabel.Text", L(lang, "gui.total_deposited"));
+        ui.set("#DepositAmount.Text", MessageUtil.formatCoins(account.getTotalDeposited()) + " $");
+        ui.set("#DepositCount.Text", L(lang, "gui.active_count") + " " + account.getActiveDeposits().size());
 
         // Debt stats
-        cmd.set("#DebtLabel.Text", L(lang, "gui.total_debt"));
-        cmd.set("#DebtAmount.Text", MessageUtil.formatCoins(account.getTotalDebt()) + " $");
-        cmd.set("#DebtCount.Text", L(lang, "gui.active_count") + " " + account.getActiveLoans().size());
+        ui.set("#DebtLabel.Text", L(lang, "gui.total_debt"));
+        ui.set("#DebtAmount.Text", MessageUtil.formatCoins(account.getTotalDebt()) + " $");
+        ui.set("#DebtCount.Text", L(lang, "gui.active_count") + " " + account.getActiveLoans().size());
 
         // Credit score
-        int score = credit.getScore();
-        String rating = L(lang, "rating." + credit.getRating().toLowerCase());
-        cmd.set("#CreditLabel.Text", L(lang, "gui.credit_score"));
-        cmd.set("#CreditValue.Text", score + " / 1000 - " + rating);
+        int score = account.getCreditScore();
+        String rating = L(lang, "rating." + account.getCreditRating().toLowerCase());
+        ui.set("#CreditLabel.Text", L(lang, "gui.credit_score"));
+        ui.set("#CreditValue.Text", score + " / 1000 - " + rating);
 
         // Loan terms
         BigDecimal maxLoan = bank.getLoanService().getMaxLoanAmount(playerUuid);
         BigDecimal loanRate = bank.getLoanService().getEffectiveRate(playerUuid);
-        cmd.set("#MaxLoanLabel.Text", L(lang, "gui.max_loan"));
-        cmd.set("#MaxLoanValue.Text", MessageUtil.formatCoins(maxLoan) + " $");
-        cmd.set("#LoanRateLabel.Text", L(lang, "gui.your_loan_rate"));
-        cmd.set("#LoanRateValue.Text", MessageUtil.formatPercent(loanRate));
+        ui.set("#MaxLoanLabel.Text", L(lang, "gui.max_loan"));
+        ui.set("#MaxLoanValue.Text", MessageUtil.formatCoins(maxLoan) + " $");
+        ui.set("#LoanRateLabel.Text", L(lang, "gui.your_loan_rate"));
+        ui.set("#LoanRateValue.Text", MessageUtil.formatPercent(loanRate));
 
         // Inflation
         if (bank.getInflationService().isEnabled()) {
-            cmd.set("#InflationBox.Visible", true);
-            cmd.set("#InflationLabel.Text", L(lang, "gui.inflation"));
-            cmd.set("#InflationValue.Text", MessageUtil.formatPercent(
+            ui.set("#InflationBox.Visible", true);
+            ui.set("#InflationLabel.Text", L(lang, "gui.inflation"));
+            ui.set("#InflationValue.Text", MessageUtil.formatPercent(
                     bank.getInflationService().getCurrentRate()));
         } else {
-            cmd.set("#InflationBox.Visible", false);
+            ui.set("#InflationBox.Visible", false);
         }
     }
 
-    private void updateDepositsData(UICommandBuilder cmd, LangManager lang,
-                                    BankService bank, BankAccount account) {
-        cmd.set("#PlansHeader.Text", L(lang, "gui.available_plans"));
-        cmd.set("#DepositHint.Text", L(lang, "gui.deposit_hint"));
-        cmd.set("#ActiveDepositsHeader.Text", L(lang, "gui.your_deposits"));
+    private void updateDepositsData(UiState ui, LangManager lang,
+                                    BankService bank, AccountView account) {
+        BankClock clock = bank.getClock();
+        ui.set("#PlansHeader.Text", L(lang, "gui.available_plans"));
+        ui.set("#DepositHint.Text", L(lang, "gui.deposit_hint"));
+        ui.set("#ActiveDepositsHeader.Text", L(lang, "gui.your_deposits"));
 
         // Available plans
         List<DepositPlan> plans = bank.getDepositService().getAvailablePlans();
@@ -476,88 +557,89 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
                 if (midAmt.compareTo(maxAmt) >= 0) midAmt = maxAmt;
                 boolean showMid = midAmt.compareTo(minAmt) > 0 && midAmt.compareTo(maxAmt) < 0;
 
-                cmd.set("#Plan" + n + ".Visible", true);
-                cmd.set("#P" + n + "Name.Text", localizedPlan);
-                cmd.set("#P" + n + "Term.Text", p.getTermDays() + " " + L(lang, "gui.days"));
-                cmd.set("#P" + n + "Rate.Text", MessageUtil.formatPercent(p.getBaseRate()));
-                cmd.set("#P" + n + "Limits.Text", MessageUtil.formatCoins(minAmt) + " - "
+                ui.set("#Plan" + n + ".Visible", true);
+                ui.set("#P" + n + "Name.Text", localizedPlan);
+                ui.set("#P" + n + "Term.Text", p.getTermDays() + " " + L(lang, "gui.days"));
+                ui.set("#P" + n + "Rate.Text", MessageUtil.formatPercent(p.getBaseRate()));
+                ui.set("#P" + n + "Limits.Text", MessageUtil.formatCoins(minAmt) + " - "
                         + MessageUtil.formatCoins(maxAmt) + " $");
 
-                cmd.set("#P" + n + "Btn1.Visible", true);
-                cmd.set("#P" + n + "Btn1.Text", shortAmount(minAmt));
-                cmd.set("#P" + n + "Btn2.Visible", showMid);
-                if (showMid) cmd.set("#P" + n + "Btn2.Text", shortAmount(midAmt));
-                cmd.set("#P" + n + "Btn3.Visible", true);
-                cmd.set("#P" + n + "Btn3.Text", shortAmount(maxAmt));
+                ui.set("#P" + n + "Btn1.Visible", true);
+                ui.set("#P" + n + "Btn1.Text", shortAmount(minAmt));
+                ui.set("#P" + n + "Btn2.Visible", showMid);
+                if (showMid) ui.set("#P" + n + "Btn2.Text", shortAmount(midAmt));
+                ui.set("#P" + n + "Btn3.Visible", true);
+                ui.set("#P" + n + "Btn3.Text", shortAmount(maxAmt));
             } else {
-                cmd.set("#Plan" + n + ".Visible", false);
+                ui.set("#Plan" + n + ".Visible", false);
             }
         }
 
         // Active deposits
-        List<Deposit> deposits = account.getActiveDeposits();
+        List<DepositView> deposits = account.getActiveDeposits();
         boolean noDeposits = deposits.isEmpty();
-        cmd.set("#NoDepositsMsg.Visible", noDeposits);
-        if (noDeposits) cmd.set("#NoDepositsMsg.Text", L(lang, "gui.no_deposits"));
+        ui.set("#NoDepositsMsg.Visible", noDeposits);
+        if (noDeposits) ui.set("#NoDepositsMsg.Text", L(lang, "gui.no_deposits"));
 
         for (int i = 0; i < MAX_DEPOSITS; i++) {
             int n = i + 1;
             if (i < deposits.size()) {
-                Deposit d = deposits.get(i);
-                int daysLeft = (int) Math.max(0, d.getTermDays() - d.getElapsedDays());
-                boolean matured = d.isMatured();
+                DepositView d = deposits.get(i);
+                int daysLeft = (int) Math.max(0, d.getTermDays() - d.getElapsedDays(clock));
+                boolean matured = d.isMatured(clock);
                 String depPlanName = L(lang, "plan." + d.getPlanName());
 
-                cmd.set("#Dep" + n + ".Visible", true);
-                cmd.set("#D" + n + "PlanAmt.Text", depPlanName + " - "
+                ui.set("#Dep" + n + ".Visible", true);
+                ui.set("#D" + n + "PlanAmt.Text", depPlanName + " - "
                         + MessageUtil.formatCoins(d.getAmount()) + " $");
-                cmd.set("#D" + n + "Status.Text", matured
+                ui.set("#D" + n + "Status.Text", matured
                         ? L(lang, "gui.status.matured")
                         : L(lang, "gui.status.active"));
 
                 String info = L(lang, "gui.rate_label") + ": " + MessageUtil.formatPercent(d.getInterestRate())
                         + " | " + L(lang, "gui.accrued") + ": +" + MessageUtil.formatCoins(d.getAccruedInterest()) + " $"
                         + " | " + L(lang, "gui.remaining") + ": " + daysLeft + L(lang, "gui.days_short");
-                cmd.set("#D" + n + "Info.Text", info);
+                ui.set("#D" + n + "Info.Text", info);
 
                 String btnText = matured ? L(lang, "gui.btn.collect") : L(lang, "gui.btn.withdraw_early");
-                cmd.set("#D" + n + "Btn.Text", btnText);
+                ui.set("#D" + n + "Btn.Text", btnText);
             } else {
-                cmd.set("#Dep" + n + ".Visible", false);
+                ui.set("#Dep" + n + ".Visible", false);
             }
         }
     }
 
-    private void updateLoansData(UICommandBuilder cmd, LangManager lang,
-                                 BankService bank, BankAccount account, CreditScore credit) {
-        cmd.set("#CreditLimitsHeader.Text", L(lang, "gui.credit_limits"));
-        cmd.set("#LoanHint.Text", L(lang, "gui.loan_hint"));
-        cmd.set("#ActiveLoansHeader.Text", L(lang, "gui.your_loans"));
+    private void updateLoansData(UiState ui, LangManager lang,
+                                 BankService bank, AccountView account) {
+        BankClock clock = bank.getClock();
+        ui.set("#CreditLimitsHeader.Text", L(lang, "gui.credit_limits"));
+        ui.set("#LoanHint.Text", L(lang, "gui.loan_hint"));
+        ui.set("#ActiveLoansHeader.Text", L(lang, "gui.your_loans"));
 
         // Credit info
-        int score = credit.getScore();
-        String rating = L(lang, "rating." + credit.getRating().toLowerCase());
-        cmd.set("#LoanCreditLabel.Text", L(lang, "gui.credit_score"));
-        cmd.set("#LoanCreditValue.Text", score + " - " + rating);
+        int score = account.getCreditScore();
+        String rating = L(lang, "rating." + account.getCreditRating().toLowerCase());
+        ui.set("#LoanCreditLabel.Text", L(lang, "gui.credit_score"));
+        ui.set("#LoanCreditValue.Text", score + " - " + rating);
 
         BigDecimal maxLoan = bank.getLoanService().getMaxLoanAmount(playerUuid);
         BigDecimal effectiveRate = bank.getLoanService().getEffectiveRate(playerUuid);
 
-        cmd.set("#LoanMaxLabel.Text", L(lang, "gui.max_loan"));
-        cmd.set("#LoanMaxValue.Text", MessageUtil.formatCoins(maxLoan) + " $");
-        cmd.set("#LoanEffRateLabel.Text", L(lang, "gui.your_loan_rate"));
-        cmd.set("#LoanEffRateValue.Text", MessageUtil.formatPercent(effectiveRate));
-        cmd.set("#LoanActiveLabel.Text", L(lang, "gui.active_loans"));
-        cmd.set("#LoanActiveValue.Text", account.getActiveLoans().size() + " / "
+        ui.set("#LoanMaxLabel.Text", L(lang, "gui.max_loan"));
+        ui.set("#LoanMaxValue.Text", MessageUtil.formatCoins(maxLoan) + " $");
+        ui.set("#LoanEffRateLabel.Text", L(lang, "gui.your_loan_rate"));
+        ui.set("#LoanEffRateValue.Text", MessageUtil.formatPercent(effectiveRate));
+        ui.set("#LoanActiveLabel.Text", L(lang, "gui.active_loans"));
+        ui.set("#LoanActiveValue.Text", account.getActiveLoans().size() + " / "
                 + bank.getLoanService().getMaxActiveLoans());
 
         // Credit history stats
-        cmd.set("#CompletedLabel.Text", "[+] " + L(lang, "gui.loans_completed"));
-        cmd.set("#CompletedValue.Text", String.valueOf(credit.getTotalLoansCompleted()));
-        cmd.set("#DefaultedLabel.Text", "[x] " + L(lang, "gui.loans_defaulted"));
-        cmd.set("#DefaultedValue.Text", String.valueOf(credit.getTotalLoansDefaulted()));
-        cmd.set("#OnTimeLabel.Text", "[*] " + L(lang, "gui.on_time_payments"));
-        cmd.set("#OnTimeValue.Text", String.valueOf(credit.getOnTimePayments()));
+        ui.set("#CompletedLabel.Text", "[+] " + L(lang, "gui.loans_completed"));
+        ui.set("#CompletedValue.Text", String.valueOf(account.getTotalLoansCompleted()));
+        ui.set("#DefaultedLabel.Text", "[x] " + L(lang, "gui.loans_defaulted"));
+        ui.set("#DefaultedValue.Text", String.valueOf(account.getTotalLoansDefaulted()));
+        ui.set("#OnTimeLabel.Text", "[*] " + L(lang, "gui.on_time_payments"));
+        ui.set("#OnTimeValue.Text", String.valueOf(account.getOnTimePayments()));
 
         // Take loan buttons (text only — events bound with percentages in build)
         if (maxLoan.compareTo(BigDecimal.ZERO) > 0) {
@@ -570,38 +652,38 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
             if (amt1.compareTo(minLoanAmt) < 0) amt1 = minLoanAmt;
             if (amt2.compareTo(amt1) <= 0) amt2 = amt1;
 
-            cmd.set("#TakeBtn1.Visible", true);
-            cmd.set("#TakeBtn1.Text", shortAmount(amt1) + " $");
+            ui.set("#TakeBtn1.Visible", true);
+            ui.set("#TakeBtn1.Text", shortAmount(amt1) + " $");
 
             boolean showMid = amt2.compareTo(amt1) > 0 && amt2.compareTo(amt3) < 0;
-            cmd.set("#TakeBtn2.Visible", showMid);
-            if (showMid) cmd.set("#TakeBtn2.Text", shortAmount(amt2) + " $");
+            ui.set("#TakeBtn2.Visible", showMid);
+            if (showMid) ui.set("#TakeBtn2.Text", shortAmount(amt2) + " $");
 
-            cmd.set("#TakeBtn3.Visible", true);
-            cmd.set("#TakeBtn3.Text", "MAX " + shortAmount(amt3) + " $");
+            ui.set("#TakeBtn3.Visible", true);
+            ui.set("#TakeBtn3.Text", "MAX " + shortAmount(amt3) + " $");
         } else {
-            cmd.set("#TakeBtn1.Visible", false);
-            cmd.set("#TakeBtn2.Visible", false);
-            cmd.set("#TakeBtn3.Visible", false);
+            ui.set("#TakeBtn1.Visible", false);
+            ui.set("#TakeBtn2.Visible", false);
+            ui.set("#TakeBtn3.Visible", false);
         }
 
         // Active loans
-        List<Loan> loans = account.getActiveLoans();
+        List<LoanView> loans = account.getActiveLoans();
         boolean noLoans = loans.isEmpty();
-        cmd.set("#NoLoansMsg.Visible", noLoans);
-        if (noLoans) cmd.set("#NoLoansMsg.Text", L(lang, "gui.no_loans"));
+        ui.set("#NoLoansMsg.Visible", noLoans);
+        if (noLoans) ui.set("#NoLoansMsg.Text", L(lang, "gui.no_loans"));
 
-        cmd.set("#RepayHint.Visible", !noLoans);
-        if (!noLoans) cmd.set("#RepayHint.Text", L(lang, "gui.repay_hint"));
+        ui.set("#RepayHint.Visible", !noLoans);
+        if (!noLoans) ui.set("#RepayHint.Text", L(lang, "gui.repay_hint"));
 
         for (int i = 0; i < MAX_LOANS; i++) {
             int n = i + 1;
             if (i < loans.size()) {
-                Loan l = loans.get(i);
+                LoanView l = loans.get(i);
                 String pre = "#L" + n;
 
-                int daysLeft = (int) l.getDaysUntilDue();
-                boolean overdue = l.isOverdue();
+                int daysLeft = (int) l.getDaysUntilDue(clock);
+                boolean overdue = l.isOverdue(clock);
                 BigDecimal remaining = l.getRemainingBalance();
                 BigDecimal daily = l.getDailyPayment() != null ? l.getDailyPayment() : BigDecimal.ZERO;
 
@@ -612,20 +694,20 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
                             .intValue()
                         : 0;
 
-                cmd.set("#Loan" + n + ".Visible", true);
-                cmd.set(pre + "Amount.Text", MessageUtil.formatCoins(l.getPrincipalAmount()) + " $");
-                cmd.set(pre + "Status.Text", overdue
+                ui.set("#Loan" + n + ".Visible", true);
+                ui.set(pre + "Amount.Text", MessageUtil.formatCoins(l.getPrincipalAmount()) + " $");
+                ui.set(pre + "Status.Text", overdue
                         ? L(lang, "gui.status.overdue")
                         : L(lang, "gui.status.active"));
 
                 String details = L(lang, "gui.remaining_debt") + ": " + MessageUtil.formatCoins(remaining) + " $"
                         + " | " + L(lang, "gui.rate_label") + ": " + MessageUtil.formatPercent(l.getInterestRate())
                         + " | " + L(lang, "gui.due_in") + ": " + Math.max(0, daysLeft) + L(lang, "gui.days_short");
-                cmd.set(pre + "Details.Text", details);
+                ui.set(pre + "Details.Text", details);
 
-                cmd.set(pre + "DailyInfo.Text", L(lang, "gui.daily_payment") + ": "
+                ui.set(pre + "DailyInfo.Text", L(lang, "gui.daily_payment") + ": "
                         + MessageUtil.formatCoins(daily) + " $/" + L(lang, "gui.days_short"));
-                cmd.set(pre + "RepaidPct.Text", L(lang, "gui.repaid") + ": " + Math.min(100, repayPct) + "%");
+                ui.set(pre + "RepaidPct.Text", L(lang, "gui.repaid") + ": " + Math.min(100, repayPct) + "%");
 
                 // Repay button texts (events bound with slot+percentage in build)
                 BigDecimal r10 = remaining.multiply(BigDecimal.valueOf(0.10))
@@ -635,33 +717,33 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
                 BigDecimal r50 = remaining.multiply(BigDecimal.valueOf(0.50))
                         .setScale(0, RoundingMode.UP);
 
-                cmd.set(pre + "Repay10.Text", "10% (" + shortAmount(r10) + ")");
-                cmd.set(pre + "Repay25.Text", "25% (" + shortAmount(r25) + ")");
-                cmd.set(pre + "Repay50.Text", "50% (" + shortAmount(r50) + ")");
-                cmd.set(pre + "RepayAll.Text", L(lang, "gui.btn.repay_all") + " (" + shortAmount(remaining) + ")");
+                ui.set(pre + "Repay10.Text", "10% (" + shortAmount(r10) + ")");
+                ui.set(pre + "Repay25.Text", "25% (" + shortAmount(r25) + ")");
+                ui.set(pre + "Repay50.Text", "50% (" + shortAmount(r50) + ")");
+                ui.set(pre + "RepayAll.Text", L(lang, "gui.btn.repay_all") + " (" + shortAmount(remaining) + ")");
             } else {
-                cmd.set("#Loan" + n + ".Visible", false);
+                ui.set("#Loan" + n + ".Visible", false);
             }
         }
     }
 
-    private void updateHistoryData(UICommandBuilder cmd, LangManager lang, BankService bank) {
+    private void updateHistoryData(UiState ui, LangManager lang, BankService bank) {
         List<AuditLog> logs = bank.getAuditLogs(playerUuid, MAX_HISTORY);
 
         boolean noHistory = logs.isEmpty();
-        cmd.set("#NoHistoryMsg.Visible", noHistory);
-        if (noHistory) cmd.set("#NoHistoryMsg.Text", L(lang, "gui.no_history"));
+        ui.set("#NoHistoryMsg.Visible", noHistory);
+        if (noHistory) ui.set("#NoHistoryMsg.Text", L(lang, "gui.no_history"));
 
         for (int i = 0; i < MAX_HISTORY; i++) {
             int n = i + 1;
             if (i < logs.size()) {
                 AuditLog log = logs.get(i);
-                cmd.set("#H" + n + ".Visible", true);
-                cmd.set("#H" + n + "T.Text", L(lang, "txtype." + log.getType().name()));
-                cmd.set("#H" + n + "A.Text", MessageUtil.formatCoins(log.getAmount()) + " $");
-                cmd.set("#H" + n + "D.Text", formatAuditDescription(lang, log));
+                ui.set("#H" + n + ".Visible", true);
+                ui.set("#H" + n + "T.Text", L(lang, "txtype." + log.getType().name()));
+                ui.set("#H" + n + "A.Text", MessageUtil.formatCoins(log.getAmount()) + " $");
+                ui.set("#H" + n + "D.Text", formatAuditDescription(lang, log));
             } else {
-                cmd.set("#H" + n + ".Visible", false);
+                ui.set("#H" + n + ".Visible", false);
             }
         }
     }
@@ -767,6 +849,32 @@ public final class PlayerBankGui extends InteractiveCustomUIPage<PlayerBankGui.B
     //  EVENT DATA CLASS
     // ════════════════════════════════════════════════════════
 
+    /**
+     * Inputs a cached tab depends on besides the account view.
+     */
+    private static final class RenderStamp {
+        final long viewVersion;
+        final long configVersion;
+        final long gameDay;
+
+        RenderStamp(long viewVersion, long configVersion, long gameDay) {
+            this.viewVersion = viewVersion;
+            this.configVersion = configVersion;
+            this.gameDay = gameDay;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            return o instanceof RenderStamp s && s.viewVersion == viewVersion
+                    && s.configVersion == configVersion && s.gameDay == gameDay;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(viewVersion, configVersion, gameDay);
+        }
+    }
+
     public static class BankEventData {
         public String action = "";
         public String id = "";
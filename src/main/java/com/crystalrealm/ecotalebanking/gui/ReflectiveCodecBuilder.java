@@ -1,7 +1,9 @@
 package com.crystalrealm.ecotalebanking.gui;
 
+import com.crystalrealm.ecotalebanking.util.ReflectionBridge;
+
+import java.lang.invoke.MethodHandle;
 import java.lang.reflect.Field;
-import java.lang.reflect.Method;
 import java.util.function.BiConsumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
@@ -26,6 +28,9 @@ final class ReflectiveCodecBuilder<T> {
     private static final Class<?> BUILDER_CODEC_CLASS;
     private static final Object   CODEC_STRING;
 
+    private static final ReflectionBridge.Call ADD_FIELD = ReflectionBridge.method("addField", 3);
+    private static final ReflectionBridge.Call BUILD     = ReflectionBridge.method("build");
+
     static {
         try {
             CODEC_CLASS = Class.forName("com.hypixel.hytale.codec.Codec");
@@ -51,8 +56,10 @@ final class ReflectiveCodecBuilder<T> {
      */
     static <T> ReflectiveCodecBuilder<T> create(Class<T> dataClass, Supplier<T> constructor) {
         try {
-            Method builderMethod = BUILDER_CODEC_CLASS.getMethod("builder", Class.class, Supplier.class);
-            Object b = builderMethod.invoke(null, dataClass, constructor);
+            MethodHandle builderMethod = ReflectionBridge.findStatic(
+                    BUILDER_CODEC_CLASS, "builder", Class.class, Supplier.class);
+            if (builderMethod == null) throw new NoSuchMethodException("BuilderCodec.builder(Class, Supplier)");
+            Object b = ReflectionBridge.invoke(builderMethod, dataClass, constructor);
             return new ReflectiveCodecBuilder<>(b);
         } catch (Exception e) {
             throw new RuntimeException("Cannot create BuilderCodec.builder()", e);
@@ -80,9 +87,8 @@ final class ReflectiveCodecBuilder<T> {
                                               Function<T, String> getter) {
         try {
             Object keyedCodec = newKeyedCodec(key);
-            // Find addField method — try all methods since we don't know exact param types
-            Method addFieldMethod = findMethod(builder.getClass(), "addField", 3);
-            builder = addFieldMethod.invoke(builder, keyedCodec, setter, getter);
+            // addField is matched by arity since we don't know exact param types
+            builder = ADD_FIELD.invoke(builder, keyedCodec, setter, getter);
             return this;
         } catch (Exception e) {
             throw new RuntimeException("Cannot call addField(\"" + key + "\")", e);
@@ -94,22 +100,9 @@ final class ReflectiveCodecBuilder<T> {
      */
     <R> R build() {
         try {
-            Method buildMethod = builder.getClass().getMethod("build");
-            return (R) buildMethod.invoke(builder);
+            return (R) BUILD.invoke(builder);
         } catch (Exception e) {
             throw new RuntimeException("Cannot call build()", e);
         }
     }
-
-    /**
-     * Find a method by name and parameter count (handles unknown descriptor types).
-     */
-    private static Method findMethod(Class<?> clazz, String name, int paramCount) {
-        for (Method m : clazz.getMethods()) {
-            if (m.getName().equals(name) && m.getParameterCount() == paramCount) {
-                return m;
-            }
-        }
-        throw new RuntimeException("Method " + name + " with " + paramCount + " params not found on " + clazz.getName());
-    }
 }
@@ -0,0 +1,71 @@
+package com.crystalrealm.ecotalebanking.gui;
+
+import com.hypixel.hytale.server.core.ui.builder.UICommandBuilder;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Last value sent to an open page, per {@code "#Element.Property"}.
+ *
+ * <p>A page renders its complete state into this object on every refresh;
+ * {@link #flush(UICommandBuilder)} then writes only the properties whose
+ * value differs from what the client already shows. A click that changes
+ * one balance sends that label, not the whole page.</p>
+ *
+ * <p>Only unique element ids belong here — rows appended from a template
+ * reuse their ids and are written to the builder directly. Not
+ * thread-safe; pages updated from more than one thread synchronize on
+ * the instance.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+final class UiState {
+
+    private final Map<String, Object> sent = new HashMap<>();
+    private final Map<String, Object> pending = new LinkedHashMap<>();
+
+    UiState set(@Nonnull String selectorDotProperty, @Nonnull String value) {
+        pending.put(selectorDotProperty, value);
+        return this;
+    }
+
+    UiState set(@Nonnull String selectorDotProperty, boolean value) {
+        pending.put(selectorDotProperty, value);
+        return this;
+    }
+
+    /**
+     * Writes the pending values that changed since they were last sent.
+     *
+     * @return number of properties written
+     */
+    int flush(@Nonnull UICommandBuilder cmd) {
+        int written = 0;
+        for (Map.Entry<String, Object> e : pending.entrySet()) {
+            Object value = e.getValue();
+            if (Objects.equals(sent.put(e.getKey(), value), value)) continue;
+            if (value instanceof Boolean b) {
+                cmd.set(e.getKey(), b);
+            } else {
+                cmd.set(e.getKey(), (String) value);
+            }
+            written++;
+        }
+        pending.clear();
+        return written;
+    }
+
+    /**
+     * Forgets everything sent, e.g. when the page template is appended
+     * again or an update may not have reached the client.
+     */
+    void invalidate() {
+        sent.clear();
+        pending.clear();
+    }
+}
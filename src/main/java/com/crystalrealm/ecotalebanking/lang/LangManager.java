@@ -16,6 +16,12 @@ import java.util.concurrent.ConcurrentHashMap;
 /**
  * Localization manager with RU/EN support.
  *
+ * <p>Locale files are compiled at load time: every message key gets an
+ * interned integer id (stable across reloads), and every message becomes a
+ * {@link MessageTemplate}. Each locale's templates are indexed by key id
+ * with the English fallback already filled in, so a lookup is one array
+ * read and rendering is one pass.</p>
+ *
  * @author CrystalRealm
  * @version 1.0.0
  */
@@ -28,9 +34,14 @@ public class LangManager {
     public static final List<String> SUPPORTED_LANGS = List.of("en", "ru", "pt_br", "fr", "de", "es");
     public static final String DEFAULT_LANG = "ru";
 
-    private final Map<String, Map<String, String>> translations = new HashMap<>();
+    /** Current compiled table; replaced as a whole on reload, never modified. */
+    private volatile Compiled compiled = Compiled.EMPTY;
+    /** Interned message keys; append-only, guarded by {@code this} for writes. */
+    private final Map<String, Integer> keyIds = new ConcurrentHashMap<>();
+    /** Bundled locale files — part of the jar, parsed once. */
+    private Map<String, Map<String, String>> bundled;
     private final Map<UUID, String> playerLangs = new ConcurrentHashMap<>();
-    private String serverLang;
+    private volatile String serverLang;
     private final Path dataDirectory;
 
     public LangManager(@Nonnull Path dataDirectory) {
@@ -43,24 +54,89 @@ public class LangManager {
     // ═════════════════════════════════════════════════════════
 
     public void load(@Nonnull String defaultLang) {
+        Map<String, Map<String, String>> table = buildTable(false);
         this.serverLang = SUPPORTED_LANGS.contains(defaultLang) ? defaultLang : DEFAULT_LANG;
+        this.compiled = compile(table);
+        LOGGER.info("LangManager initialized. Server language: '{}'. Loaded locales: {}",
+                serverLang, table.keySet());
+    }
 
-        for (String lang : SUPPORTED_LANGS) {
-            Map<String, String> messages = loadLangFile(lang);
-            if (messages != null && !messages.isEmpty()) {
-                translations.put(lang, messages);
-                LOGGER.info("Loaded {} messages for locale '{}'.", messages.size(), lang);
+    /**
+     * Re-reads the custom override files and swaps the whole table at once.
+     * A broken override file rejects the reload; the current table stays.
+     *
+     * @return true if the new table was published
+     */
+    public synchronized boolean reload(@Nonnull String defaultLang) {
+        Map<String, Map<String, String>> table = buildTable(true);
+        if (table == null) {
+            LOGGER.warn("Language reload rejected, keeping current messages.");
+            return false;
+        }
+        this.serverLang = SUPPORTED_LANGS.contains(defaultLang) ? defaultLang : DEFAULT_LANG;
+        this.compiled = compile(table);
+        LOGGER.info("Languages reloaded. Server language: '{}'.", serverLang);
+        return true;
+    }
+
+    /**
+     * @return directory scanned for custom override files
+     */
+    @Nonnull
+    public Path getOverrideDirectory() {
+        return dataDirectory.resolve("lang");
+    }
+
+    /**
+     * Builds a complete locale table off to the side.
+     *
+     * @param strict fail (return null) on unreadable override files
+     */
+    private synchronized Map<String, Map<String, String>> buildTable(boolean strict) {
+        if (bundled == null) {
+            Map<String, Map<String, String>> parsed = new HashMap<>();
+            for (String lang : SUPPORTED_LANGS) {
+                Map<String, String> messages = loadLangFile(lang);
+                if (messages != null && !messages.isEmpty()) {
+                    parsed.put(lang, Map.copyOf(messages));
+                    LOGGER.info("Loaded {} messages for locale '{}'.", messages.size(), lang);
+                }
             }
+            bundled = parsed;
         }
 
-        loadCustomOverrides();
-        LOGGER.info("LangManager initialized. Server language: '{}'. Loaded locales: {}",
-                serverLang, translations.keySet());
+        Map<String, Map<String, String>> table = new HashMap<>(bundled);
+        if (!loadCustomOverrides(table) && strict) return null;
+
+        Map<String, Map<String, String>> frozen = new HashMap<>();
+        table.forEach((lang, messages) -> frozen.put(lang, Map.copyOf(messages)));
+        return Map.copyOf(frozen);
     }
 
-    public void reload(@Nonnull String defaultLang) {
-        translations.clear();
-        load(defaultLang);
+    /**
+     * Interns the keys of {@code table} and compiles every message.
+     * Locales share the English templates wherever they lack a key.
+     */
+    private synchronized Compiled compile(Map<String, Map<String, String>> table) {
+        for (Map<String, String> messages : table.values()) {
+            for (String key : messages.keySet()) keyIds.putIfAbsent(key, keyIds.size());
+        }
+        String[] keys = new String[keyIds.size()];
+        keyIds.forEach((key, id) -> keys[id] = key);
+
+        MessageTemplate[] english = new MessageTemplate[keys.length];
+        table.getOrDefault("en", Map.of())
+                .forEach((key, text) -> english[keyIds.get(key)] = MessageTemplate.compile(text));
+
+        Map<String, MessageTemplate[]> rows = new HashMap<>();
+        rows.put("en", english);
+        table.forEach((lang, messages) -> {
+            if ("en".equals(lang)) return;
+            MessageTemplate[] row = english.clone();
+            messages.forEach((key, text) -> row[keyIds.get(key)] = MessageTemplate.compile(text));
+            rows.put(lang, row);
+        });
+        return new Compiled(Map.copyOf(rows), english, keys);
     }
 
     private Map<String, String> loadLangFile(String langCode) {
@@ -79,25 +155,35 @@ public class LangManager {
         }
     }
 
-    private void loadCustomOverrides() {
-        Path langDir = dataDirectory.resolve("lang");
-        if (!Files.isDirectory(langDir)) return;
+    /**
+     * @return false if any override file could not be read
+     */
+    private boolean loadCustomOverrides(Map<String, Map<String, String>> table) {
+        Path langDir = getOverrideDirectory();
+        if (!Files.isDirectory(langDir)) return true;
 
+        boolean ok = true;
         for (String lang : SUPPORTED_LANGS) {
             Path customFile = langDir.resolve(lang + ".json");
             if (Files.exists(customFile)) {
                 try (Reader reader = Files.newBufferedReader(customFile, StandardCharsets.UTF_8)) {
                     Map<String, String> overrides = GSON.fromJson(reader, MAP_TYPE);
                     if (overrides != null) {
-                        translations.computeIfAbsent(lang, k -> new HashMap<>()).putAll(overrides);
+                        Map<String, String> merged = new HashMap<>(table.getOrDefault(lang, Map.of()));
+                        overrides.forEach((key, value) -> {
+                            if (key != null && value != null) merged.put(key, value);
+                        });
+                        table.put(lang, merged);
                         LOGGER.info("Applied {} custom overrides for locale '{}'.",
                                 overrides.size(), lang);
                     }
                 } catch (Exception e) {
                     LOGGER.error("Failed to load custom language file: " + customFile, e);
+                    ok = false;
                 }
             }
         }
+        return ok;
     }
 
     // ═════════════════════════════════════════════════════════
@@ -109,17 +195,25 @@ public class LangManager {
         return getForLang(serverLang, key, args);
     }
 
+    /**
+     * @param args alternating placeholder names and values
+     * @return the message in {@code langCode}, else English, else the key itself
+     */
     @Nonnull
     public String getForLang(@Nonnull String langCode, @Nonnull String key, @Nonnull String... args) {
-        String message = getRaw(langCode, key);
-
-        if (args.length >= 2) {
-            for (int i = 0; i < args.length - 1; i += 2) {
-                message = message.replace("{" + args[i] + "}", args[i + 1]);
-            }
-        }
+        Integer id = keyIds.get(key);
+        return id != null ? render(compiled, langCode, id, key, args) : key;
+    }
 
-        return message;
+    /**
+     * Same as {@link #getForLang(String, String, String...)} for a key id
+     * from {@link #keyId(String)}.
+     */
+    @Nonnull
+    public String getForLang(@Nonnull String langCode, int keyId, @Nonnull String... args) {
+        Compiled table = compiled;
+        String key = keyId >= 0 && keyId < table.keys.length ? table.keys[keyId] : "";
+        return render(table, langCode, keyId, key, args);
     }
 
     @Nonnull
@@ -128,6 +222,20 @@ public class LangManager {
         return getForLang(lang, key, args);
     }
 
+    @Nonnull
+    public String getForPlayer(@Nonnull UUID playerUuid, int keyId, @Nonnull String... args) {
+        String lang = playerLangs.getOrDefault(playerUuid, serverLang);
+        return getForLang(lang, keyId, args);
+    }
+
+    /**
+     * @return id of a message key, stable until shutdown; -1 if no locale defines it
+     */
+    public int keyId(@Nonnull String key) {
+        Integer id = keyIds.get(key);
+        return id != null ? id : -1;
+    }
+
     public String getPlayerLang(@Nonnull UUID playerUuid) {
         return playerLangs.getOrDefault(playerUuid, serverLang);
     }
@@ -137,22 +245,13 @@ public class LangManager {
     }
 
     /**
-     * Raw message lookup — tries requested lang, falls back to "en".
+     * Template lookup — the locale row already falls back to "en".
      */
     @Nonnull
-    private String getRaw(@Nonnull String langCode, @Nonnull String key) {
-        Map<String, String> msgs = translations.get(langCode);
-        if (msgs != null && msgs.containsKey(key)) {
-            return msgs.get(key);
-        }
-        // Fallback to English
-        if (!"en".equals(langCode)) {
-            msgs = translations.get("en");
-            if (msgs != null && msgs.containsKey(key)) {
-                return msgs.get(key);
-            }
-        }
-        return key; // key itself as last resort
+    private static String render(Compiled table, String langCode, int keyId, String key, String[] args) {
+        MessageTemplate[] row = table.rows.getOrDefault(langCode, table.english);
+        MessageTemplate template = keyId >= 0 && keyId < row.length ? row[keyId] : null;
+        return template != null ? template.render(args) : key; // key itself as last resort
     }
 
     // ═════════════════════════════════════════════════════════
@@ -168,4 +267,25 @@ public class LangManager {
     public void clearPlayerData() {
         playerLangs.clear();
     }
+
+    // ═════════════════════════════════════════════════════════
+    //  COMPILED TABLE
+    // ═════════════════════════════════════════════════════════
+
+    /** Templates per locale, indexed by key id. */
+    private static final class Compiled {
+        static final Compiled EMPTY = new Compiled(Map.of(), new MessageTemplate[0], new String[0]);
+
+        final Map<String, MessageTemplate[]> rows;
+        /** Row used for locales without a file of their own. */
+        final MessageTemplate[] english;
+        /** Key names by id, as of compilation. */
+        final String[] keys;
+
+        Compiled(Map<String, MessageTemplate[]> rows, MessageTemplate[] english, String[] keys) {
+            this.rows = rows;
+            this.english = english;
+            this.keys = keys;
+        }
+    }
 }
@@ -0,0 +1,100 @@
+package com.crystalrealm.ecotalebanking.lang;
+
+import javax.annotation.Nonnull;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A message split at load time into literal segments and {@code {name}}
+ * placeholder slots.
+ *
+ * <p>{@link #render(String...)} fills the slots from {@code name, value}
+ * pairs in one pass over one {@link StringBuilder}. Placeholders without a
+ * matching pair are kept as written, and messages without placeholders
+ * are returned as is.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+final class MessageTemplate {
+
+    private final String source;
+    /** {@code slots.length + 1} literal segments around the slots. */
+    private final String[] literals;
+    private final String[] slots;
+
+    private MessageTemplate(String source, String[] literals, String[] slots) {
+        this.source = source;
+        this.literals = literals;
+        this.slots = slots;
+    }
+
+    /**
+     * Splits {@code text} at its placeholders. A placeholder name consists
+     * of letters, digits, {@code _}, {@code .} and {@code -}; other braces
+     * are literal text.
+     */
+    @Nonnull
+    static MessageTemplate compile(@Nonnull String text) {
+        List<String> literals = new ArrayList<>();
+        List<String> slots = new ArrayList<>();
+        int segmentStart = 0;
+        int open = text.indexOf('{');
+        while (open >= 0) {
+            int close = text.indexOf('}', open + 1);
+            if (close < 0) break;
+            if (isName(text, open + 1, close)) {
+                literals.add(text.substring(segmentStart, open));
+                slots.add(text.substring(open + 1, close));
+                segmentStart = close + 1;
+                open = text.indexOf('{', segmentStart);
+            } else {
+                open = text.indexOf('{', open + 1);
+            }
+        }
+        literals.add(text.substring(segmentStart));
+        return new MessageTemplate(text, literals.toArray(new String[0]), slots.toArray(new String[0]));
+    }
+
+    private static boolean isName(String text, int from, int to) {
+        if (from == to) return false;
+        for (int i = from; i < to; i++) {
+            char c = text.charAt(i);
+            if (!Character.isLetterOrDigit(c) && c != '_' && c != '.' && c != '-') return false;
+        }
+        return true;
+    }
+
+    /**
+     * @param args alternating placeholder names and values; the first pair
+     *             for a name wins, a trailing unpaired name is ignored
+     */
+    @Nonnull
+    String render(@Nonnull String... args) {
+        if (slots.length == 0 || args.length < 2) return source;
+        StringBuilder sb = new StringBuilder(source.length() + 16 * slots.length);
+        sb.append(literals[0]);
+        for (int i = 0; i < slots.length; i++) {
+            String value = lookup(slots[i], args);
+            if (value != null) {
+                sb.append(value);
+            } else {
+                sb.append('{').append(slots[i]).append('}');
+            }
+            sb.append(literals[i + 1]);
+        }
+        return sb.toString();
+    }
+
+    private static String lookup(String name, String[] args) {
+        for (int i = 0; i < args.length - 1; i += 2) {
+            if (name.equals(args[i])) return args[i + 1];
+        }
+        return null;
+    }
+
+    @Override
+    public String toString() {
+        return source;
+    }
+}
@@ -0,0 +1,107 @@
+package com.crystalrealm.ecotalebanking.model;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * Immutable, versioned read view of one account and its credit score.
+ *
+ * <p>Views are published by the bank after every committed mutation of
+ * the account. A view never changes after publication, so GUIs and info
+ * commands can read it from any thread without locks and always see
+ * totals, instrument lists and credit data of the same version.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class AccountView {
+
+    private final UUID playerUuid;
+    private final long version;
+    private final boolean frozen;
+    private final String frozenReason;
+    private final Instant createdAt;
+    private final Instant lastActivity;
+    private final String lastKnownName;
+
+    private final List<DepositView> activeDeposits;
+    private final List<LoanView> activeLoans;
+    private final BigDecimal totalDeposited;
+    private final BigDecimal totalDebt;
+
+    private final int creditScore;
+    private final String creditRating;
+    private final int loansCompleted;
+    private final int loansDefaulted;
+    private final int depositsCompleted;
+    private final int onTimePayments;
+
+    private AccountView(BankAccount account, CreditScore credit, long version) {
+        this.playerUuid = account.getPlayerUuid();
+        this.version = version;
+        this.frozen = account.isFrozen();
+        this.frozenReason = account.getFrozenReason();
+        this.createdAt = account.getCreatedAt();
+        this.lastActivity = account.getLastActivity();
+        this.lastKnownName = account.getLastKnownName();
+
+        List<DepositView> deposits = new ArrayList<>();
+        for (Deposit d : account.getActiveDeposits()) deposits.add(DepositView.of(d));
+        List<LoanView> loans = new ArrayList<>();
+        for (Loan l : account.getActiveLoans()) loans.add(LoanView.of(l));
+        this.activeDeposits = Collections.unmodifiableList(deposits);
+        this.activeLoans = Collections.unmodifiableList(loans);
+        this.totalDeposited = account.getTotalDeposited();
+        this.totalDebt = account.getTotalDebt();
+
+        this.creditScore = credit.getScore();
+        this.creditRating = credit.getRating();
+        this.loansCompleted = credit.getTotalLoansCompleted();
+        this.loansDefaulted = credit.getTotalLoansDefaulted();
+        this.depositsCompleted = credit.getTotalDepositsCompleted();
+        this.onTimePayments = credit.getOnTimePayments();
+    }
+
+    /**
+     * Captures a view. Must run where the account is not being mutated
+     * concurrently (i.e. inside its mailbox).
+     */
+    @Nonnull
+    public static AccountView of(@Nonnull BankAccount account, @Nonnull CreditScore credit, long version) {
+        return new AccountView(account, credit, version);
+    }
+
+    // ── Getters ─────────────────────────────────────────────
+
+    public UUID getPlayerUuid() { return playerUuid; }
+    public long getVersion() { return version; }
+    public boolean isFrozen() { return frozen; }
+    @Nullable public String getFrozenReason() { return frozenReason; }
+    public Instant getCreatedAt() { return createdAt; }
+    public Instant getLastActivity() { return lastActivity; }
+    @Nullable public String getLastKnownName() { return lastKnownName; }
+
+    public List<DepositView> getActiveDeposits() { return activeDeposits; }
+    public List<LoanView> getActiveLoans() { return activeLoans; }
+    public BigDecimal getTotalDeposited() { return totalDeposited; }
+    public BigDecimal getTotalDebt() { return totalDebt; }
+
+    public int getCreditScore() { return creditScore; }
+    public String getCreditRating() { return creditRating; }
+    public int getTotalLoansCompleted() { return loansCompleted; }
+    public int getTotalLoansDefaulted() { return loansDefaulted; }
+    public int getTotalDepositsCompleted() { return depositsCompleted; }
+    public int getOnTimePayments() { return onTimePayments; }
+
+    @Override
+    public String toString() {
+        return "AccountView{uuid=" + playerUuid + ", version=" + version +
+                ", deposits=" + activeDeposits.size() + ", loans=" + activeLoans.size() + "}";
+    }
+}
@@ -20,16 +20,6 @@ public final class AuditLog {
     private final String description;
     private final Instant timestamp;
 
-    public AuditLog(String id, UUID playerUuid, TransactionType type,
-                    BigDecimal amount, String description) {
-        this.id = id;
-        this.playerUuid = playerUuid;
-        this.type = type;
-        this.amount = amount;
-        this.description = description;
-        this.timestamp = Instant.now();
-    }
-
     public AuditLog(String id, UUID playerUuid, TransactionType type,
                     BigDecimal amount, String description, Instant timestamp) {
         this.id = id;
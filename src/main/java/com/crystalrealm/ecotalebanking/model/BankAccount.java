@@ -1,15 +1,29 @@
 package com.crystalrealm.ecotalebanking.model;
 
+
 import java.math.BigDecimal;
 import java.time.Instant;
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Player's bank account.
  * Contains deposits, loans, and metadata (frozen, created, activity).
  *
+ * <p>Active instruments, id lookups and totals are kept up to date on
+ * every add, status change and loan balance change, so all of them are
+ * constant-time reads. Instruments report their changes through a
+ * transient back-reference; the instrument lists themselves are only
+ * changed through {@link #addDeposit}, {@link #addLoan} and
+ * {@link #removeClosedInstruments}.</p>
+ *
+ * <p>Closed instruments only stay here until the bank archives them to
+ * the player's {@link InstrumentHistory}.</p>
+ *
  * @author CrystalRealm
  * @version 1.0.0
  */
@@ -24,12 +38,15 @@ public final class BankAccount {
     private final List<Deposit> deposits;
     private final List<Loan> loans;
 
-    public BankAccount(UUID playerUuid) {
+    /** Derived lookups and totals, built lazily (not persisted). */
+    private transient volatile Index index;
+
+    public BankAccount(UUID playerUuid, Instant createdAt) {
         this.playerUuid = playerUuid;
         this.frozen = false;
         this.frozenReason = null;
-        this.createdAt = Instant.now();
-        this.lastActivity = Instant.now();
+        this.createdAt = createdAt;
+        this.lastActivity = createdAt;
         this.lastKnownName = null;
         this.deposits = new ArrayList<>();
         this.loans = new ArrayList<>();
@@ -42,8 +59,8 @@ public final class BankAccount {
     public String getFrozenReason() { return frozenReason; }
     public Instant getCreatedAt() { return createdAt; }
     public Instant getLastActivity() { return lastActivity; }
-    public List<Deposit> getDeposits() { return deposits; }
-    public List<Loan> getLoans() { return loans; }
+    public List<Deposit> getDeposits() { return Collections.unmodifiableList(deposits); }
+    public List<Loan> getLoans() { return Collections.unmodifiableList(loans); }
     public String getLastKnownName() { return lastKnownName; }
     public void setLastKnownName(String name) { this.lastKnownName = name; }
 
@@ -58,71 +75,211 @@ public final class BankAccount {
         this.createdAt = createdAt;
     }
 
-    public void touchActivity() {
-        this.lastActivity = Instant.now();
+    public void touchActivity(Instant at) {
+        this.lastActivity = at;
     }
 
     // ── Deposit management ──────────────────────────────────
 
     public void addDeposit(Deposit deposit) {
         deposits.add(deposit);
-        touchActivity();
+        Index idx = index();
+        deposit.setOwner(this);
+        idx.depositsById.put(deposit.getId(), deposit);
+        if (deposit.getStatus() == DepositStatus.ACTIVE) idx.rebuildDeposits(deposits);
+        touchActivity(deposit.getStartDate());
     }
 
     public Deposit getDepositById(String depositId) {
-        return deposits.stream()
-                .filter(d -> d.getId().equals(depositId))
-                .findFirst().orElse(null);
+        return index().depositsById.get(depositId);
     }
 
     /**
      * @return active deposits
      */
     public List<Deposit> getActiveDeposits() {
-        return deposits.stream()
-                .filter(d -> d.getStatus() == DepositStatus.ACTIVE)
-                .toList();
+        return index().activeDeposits;
     }
 
     /**
      * Total amount of active deposits.
      */
     public BigDecimal getTotalDeposited() {
-        return getActiveDeposits().stream()
-                .map(Deposit::getAmount)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return index().totalDeposited;
     }
 
     // ── Loan management ─────────────────────────────────────
 
     public void addLoan(Loan loan) {
         loans.add(loan);
-        touchActivity();
+        Index idx = index();
+        loan.setOwner(this);
+        idx.loansById.put(loan.getId(), loan);
+        if (Index.isActive(loan)) idx.rebuildLoans(loans);
+        touchActivity(loan.getStartDate());
     }
 
     public Loan getLoanById(String loanId) {
-        return loans.stream()
-                .filter(l -> l.getId().equals(loanId))
-                .findFirst().orElse(null);
+        return index().loansById.get(loanId);
     }
 
     /**
      * @return active loans (ACTIVE and OVERDUE)
      */
     public List<Loan> getActiveLoans() {
-        return loans.stream()
-                .filter(l -> l.getStatus() == LoanStatus.ACTIVE ||
-                             l.getStatus() == LoanStatus.OVERDUE)
-                .toList();
+        return index().activeLoans;
     }
 
     /**
      * Total remaining balance of active loans.
      */
     public BigDecimal getTotalDebt() {
-        return getActiveLoans().stream()
-                .map(Loan::getRemainingBalance)
-                .reduce(BigDecimal.ZERO, BigDecimal::add);
+        return index().totalDebt;
+    }
+
+    // ── Archiving ───────────────────────────────────────────
+
+    /**
+     * @return true if the account still holds closed deposits or loans
+     */
+    public boolean hasClosedInstruments() {
+        Index idx = index();
+        return idx.activeDeposits.size() < deposits.size()
+                || idx.activeLoans.size() < loans.size();
+    }
+
+    /**
+     * @return closed (non-active) deposits, in account order
+     */
+    public List<Deposit> getClosedDeposits() {
+        List<Deposit> closed = new ArrayList<>();
+        for (Deposit d : deposits) {
+            if (d.getStatus() != DepositStatus.ACTIVE) closed.add(d);
+        }
+        return closed;
+    }
+
+    /**
+     * @return closed (PAID / DEFAULTED) loans, in account order
+     */
+    public List<Loan> getClosedLoans() {
+        List<Loan> closed = new ArrayList<>();
+        for (Loan l : loans) {
+            if (!Index.isActive(l)) closed.add(l);
+        }
+        return closed;
+    }
+
+    /**
+     * Removes all closed deposits and loans from the account.
+     */
+    public void removeClosedInstruments() {
+        Index idx = index();
+        for (Deposit d : getClosedDeposits()) {
+            idx.depositsById.remove(d.getId());
+            d.setOwner(null);
+        }
+        for (Loan l : getClosedLoans()) {
+            idx.loansById.remove(l.getId());
+            l.setOwner(null);
+        }
+        deposits.removeIf(d -> d.getStatus() != DepositStatus.ACTIVE);
+        loans.removeIf(l -> !Index.isActive(l));
+    }
+
+    // ── Index ───────────────────────────────────────────────
+
+    /**
+     * Called by a deposit of this account after its status changed.
+     */
+    void onDepositStatusChanged() {
+        Index idx = index;
+        if (idx != null) idx.rebuildDeposits(deposits);
+    }
+
+    /**
+     * Called by a loan of this account after its status changed.
+     */
+    void onLoanStatusChanged() {
+        Index idx = index;
+        if (idx != null) idx.rebuildLoans(loans);
+    }
+
+    /**
+     * Called by a loan of this account after its remaining balance changed.
+     */
+    void onLoanBalanceChanged(Loan loan, BigDecimal previous) {
+        Index idx = index;
+        if (idx != null && Index.isActive(loan)) {
+            idx.totalDebt = idx.totalDebt.subtract(previous).add(loan.getRemainingBalance());
+        }
+    }
+
+    /**
+     * Returns the index, building it on first use. Accounts read by Gson
+     * skip the constructor, so the index can only be built lazily.
+     */
+    private Index index() {
+        Index idx = index;
+        if (idx == null) {
+            idx = new Index();
+            for (Deposit d : deposits) {
+                d.setOwner(this);
+                idx.depositsById.put(d.getId(), d);
+            }
+            for (Loan l : loans) {
+                l.setOwner(this);
+                idx.loansById.put(l.getId(), l);
+            }
+            idx.rebuildDeposits(deposits);
+            idx.rebuildLoans(loans);
+            index = idx;
+        }
+        return idx;
+    }
+
+    /**
+     * Derived lookups kept in step with every instrument change. Active
+     * lists are immutable copies replaced on status changes (rare), so
+     * callers may keep iterating a list while instruments change state.
+     */
+    private static final class Index {
+        final Map<String, Deposit> depositsById = new ConcurrentHashMap<>();
+        final Map<String, Loan> loansById = new ConcurrentHashMap<>();
+        volatile List<Deposit> activeDeposits = List.of();
+        volatile List<Loan> activeLoans = List.of();
+        volatile BigDecimal totalDeposited = BigDecimal.ZERO;
+        volatile BigDecimal totalDebt = BigDecimal.ZERO;
+
+        static boolean isActive(Loan loan) {
+            return loan.getStatus() == LoanStatus.ACTIVE || loan.getStatus() == LoanStatus.OVERDUE;
+        }
+
+        void rebuildDeposits(List<Deposit> deposits) {
+            List<Deposit> active = new ArrayList<>();
+            BigDecimal total = BigDecimal.ZERO;
+            for (Deposit d : deposits) {
+                if (d.getStatus() == DepositStatus.ACTIVE) {
+                    active.add(d);
+                    total = total.add(d.getAmount());
+                }
+            }
+            activeDeposits = Collections.unmodifiableList(active);
+            totalDeposited = total;
+        }
+
+        void rebuildLoans(List<Loan> loans) {
+            List<Loan> active = new ArrayList<>();
+            BigDecimal total = BigDecimal.ZERO;
+            for (Loan l : loans) {
+                if (isActive(l)) {
+                    active.add(l);
+                    total = total.add(l.getRemainingBalance());
+                }
+            }
+            activeLoans = Collections.unmodifiableList(active);
+            totalDebt = total;
+        }
     }
 
     @Override
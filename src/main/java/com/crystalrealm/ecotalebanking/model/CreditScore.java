@@ -10,6 +10,9 @@ import java.util.UUID;
  *
  * <p>Initial score: 500 (neutral).</p>
  *
+ * <p>Modifiers only change the counters; the caller stamps the event
+ * once with {@link #markUpdated(Instant)}.</p>
+ *
  * @author CrystalRealm
  * @version 1.0.0
  */
@@ -28,7 +31,7 @@ public final class CreditScore {
     private int latePayments;
     private Instant lastUpdated;
 
-    public CreditScore(UUID playerUuid) {
+    public CreditScore(UUID playerUuid, Instant createdAt) {
         this.playerUuid = playerUuid;
         this.score = INITIAL_SCORE;
         this.totalLoansCompleted = 0;
@@ -36,7 +39,7 @@ public final class CreditScore {
         this.totalDepositsCompleted = 0;
         this.onTimePayments = 0;
         this.latePayments = 0;
-        this.lastUpdated = Instant.now();
+        this.lastUpdated = createdAt;
     }
 
     // ── Getters ─────────────────────────────────────────────
@@ -58,37 +61,34 @@ public final class CreditScore {
      */
     public void adjustScore(int delta) {
         this.score = Math.max(MIN_SCORE, Math.min(MAX_SCORE, score + delta));
-        this.lastUpdated = Instant.now();
     }
 
     public void setScore(int score) {
         this.score = Math.max(MIN_SCORE, Math.min(MAX_SCORE, score));
-        this.lastUpdated = Instant.now();
     }
 
     public void incrementLoansCompleted() {
         totalLoansCompleted++;
-        lastUpdated = Instant.now();
     }
 
     public void incrementLoansDefaulted() {
         totalLoansDefaulted++;
-        lastUpdated = Instant.now();
     }
 
     public void incrementDepositsCompleted() {
         totalDepositsCompleted++;
-        lastUpdated = Instant.now();
     }
 
     public void incrementOnTimePayments() {
         onTimePayments++;
-        lastUpdated = Instant.now();
     }
 
     public void incrementLatePayments() {
         latePayments++;
-        lastUpdated = Instant.now();
+    }
+
+    public void markUpdated(Instant at) {
+        this.lastUpdated = at;
     }
 
     // ── Computed ─────────────────────────────────────────────
@@ -1,6 +1,6 @@
 package com.crystalrealm.ecotalebanking.model;
 
-import com.crystalrealm.ecotalebanking.util.GameTime;
+import com.crystalrealm.ecotalebanking.util.BankClock;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -28,12 +28,18 @@ public final class Deposit {
     private BigDecimal earlyWithdrawalPenalty;
     private DepositStatus status;
 
+    /** Version of the rate table the current rate was taken from (not persisted). */
+    private transient long rateVersion;
+
+    /** Account whose indexes track this deposit (not persisted). */
+    private transient BankAccount owner;
+
     /**
-     * Creates a new deposit.
+     * Creates a new deposit whose term is measured in game days of {@code clock}.
      */
     public Deposit(String id, UUID playerUuid, String planName,
                    BigDecimal amount, BigDecimal interestRate,
-                   int termDays, Instant startDate) {
+                   int termDays, Instant startDate, BankClock clock) {
         this.id = id;
         this.playerUuid = playerUuid;
         this.planName = planName;
@@ -41,7 +47,7 @@ public final class Deposit {
         this.interestRate = interestRate;
         this.termDays = termDays;
         this.startDate = startDate;
-        this.maturityDate = startDate.plusSeconds((long) termDays * GameTime.getSecondsPerDay());
+        this.maturityDate = startDate.plusSeconds((long) termDays * clock.getSecondsPerDay());
         this.accruedInterest = BigDecimal.ZERO;
         this.earlyWithdrawalPenalty = BigDecimal.ZERO;
         this.status = DepositStatus.ACTIVE;
@@ -60,6 +66,7 @@ public final class Deposit {
     public BigDecimal getAccruedInterest() { return accruedInterest; }
     public BigDecimal getEarlyWithdrawalPenalty() { return earlyWithdrawalPenalty; }
     public DepositStatus getStatus() { return status; }
+    public long getRateVersion() { return rateVersion; }
 
     // ── Setters ─────────────────────────────────────────────
 
@@ -72,20 +79,34 @@ public final class Deposit {
     }
 
     public void setStatus(DepositStatus status) {
+        DepositStatus previous = this.status;
         this.status = status;
+        if (owner != null && previous != status) owner.onDepositStatusChanged();
     }
 
     public void setInterestRate(BigDecimal interestRate) {
         this.interestRate = interestRate;
     }
 
+    public void setRateVersion(long rateVersion) {
+        this.rateVersion = rateVersion;
+    }
+
+    void setOwner(BankAccount owner) {
+        this.owner = owner;
+    }
+
     // ── Computed ─────────────────────────────────────────────
 
     /**
      * Checks whether the maturity date has been reached.
      */
     public boolean isMatured() {
-        return Instant.now().isAfter(maturityDate) || Instant.now().equals(maturityDate);
+        return isMatured(BankClock.system());
+    }
+
+    public boolean isMatured(BankClock clock) {
+        return clock.millis() >= maturityDate.toEpochMilli();
     }
 
     /**
@@ -107,8 +128,11 @@ public final class Deposit {
      * Number of elapsed days since the opening date.
      */
     public long getElapsedDays() {
-        long seconds = Instant.now().getEpochSecond() - startDate.getEpochSecond();
-        return Math.max(0, seconds / GameTime.getSecondsPerDay());
+        return getElapsedDays(BankClock.system());
+    }
+
+    public long getElapsedDays(BankClock clock) {
+        return Math.max(0, clock.gameDaysSince(startDate));
     }
 
     @Override
@@ -0,0 +1,87 @@
+package com.crystalrealm.ecotalebanking.model;
+
+import com.crystalrealm.ecotalebanking.util.BankClock;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Immutable snapshot of a {@link Deposit}, part of an {@link AccountView}.
+ * Time-dependent values are computed at read time exactly like the model does.
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class DepositView {
+
+    private final String id;
+    private final String planName;
+    private final BigDecimal amount;
+    private final BigDecimal interestRate;
+    private final int termDays;
+    private final Instant startDate;
+    private final Instant maturityDate;
+    private final BigDecimal accruedInterest;
+    private final DepositStatus status;
+
+    private DepositView(Deposit deposit) {
+        this.id = deposit.getId();
+        this.planName = deposit.getPlanName();
+        this.amount = deposit.getAmount();
+        this.interestRate = deposit.getInterestRate();
+        this.termDays = deposit.getTermDays();
+        this.startDate = deposit.getStartDate();
+        this.maturityDate = deposit.getMaturityDate();
+        this.accruedInterest = deposit.getAccruedInterest();
+        this.status = deposit.getStatus();
+    }
+
+    @Nonnull
+    public static DepositView of(@Nonnull Deposit deposit) {
+        return new DepositView(deposit);
+    }
+
+    // ── Getters ─────────────────────────────────────────────
+
+    public String getId() { return id; }
+    public String getPlanName() { return planName; }
+    public BigDecimal getAmount() { return amount; }
+    public BigDecimal getInterestRate() { return interestRate; }
+    public int getTermDays() { return termDays; }
+    public Instant getStartDate() { return startDate; }
+    public Instant getMaturityDate() { return maturityDate; }
+    public BigDecimal getAccruedInterest() { return accruedInterest; }
+    public DepositStatus getStatus() { return status; }
+
+    // ── Computed ─────────────────────────────────────────────
+
+    /**
+     * @see Deposit#isMatured()
+     */
+    public boolean isMatured() {
+        return isMatured(BankClock.system());
+    }
+
+    public boolean isMatured(BankClock clock) {
+        return clock.millis() >= maturityDate.toEpochMilli();
+    }
+
+    /**
+     * @see Deposit#getTotalPayout()
+     */
+    public BigDecimal getTotalPayout() {
+        return amount.add(accruedInterest);
+    }
+
+    /**
+     * @see Deposit#getElapsedDays()
+     */
+    public long getElapsedDays() {
+        return getElapsedDays(BankClock.system());
+    }
+
+    public long getElapsedDays(BankClock clock) {
+        return Math.max(0, clock.gameDaysSince(startDate));
+    }
+}
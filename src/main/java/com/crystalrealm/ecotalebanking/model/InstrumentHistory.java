@@ -0,0 +1,80 @@
+package com.crystalrealm.ecotalebanking.model;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Closed deposits and loans of one player, moved out of the account.
+ *
+ * <p>Loaded on demand from the append-only history store. If an
+ * instrument was appended more than once (crash between archiving and
+ * saving the account), the last copy wins.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class InstrumentHistory {
+
+    private final UUID playerUuid;
+    private final Map<String, Deposit> deposits;
+    private final Map<String, Loan> loans;
+
+    public InstrumentHistory(@Nonnull UUID playerUuid,
+                             @Nonnull List<Deposit> deposits,
+                             @Nonnull List<Loan> loans) {
+        this.playerUuid = playerUuid;
+        this.deposits = new LinkedHashMap<>();
+        for (Deposit d : deposits) this.deposits.put(d.getId(), d);
+        this.loans = new LinkedHashMap<>();
+        for (Loan l : loans) this.loans.put(l.getId(), l);
+    }
+
+    @Nonnull
+    public static InstrumentHistory empty(@Nonnull UUID playerUuid) {
+        return new InstrumentHistory(playerUuid, List.of(), List.of());
+    }
+
+    public UUID getPlayerUuid() { return playerUuid; }
+
+    /**
+     * @return closed deposits, oldest archived first
+     */
+    @Nonnull
+    public List<Deposit> getDeposits() {
+        return Collections.unmodifiableList(new ArrayList<>(deposits.values()));
+    }
+
+    /**
+     * @return closed loans, oldest archived first
+     */
+    @Nonnull
+    public List<Loan> getLoans() {
+        return Collections.unmodifiableList(new ArrayList<>(loans.values()));
+    }
+
+    @Nullable
+    public Deposit getDepositById(@Nonnull String depositId) {
+        return deposits.get(depositId);
+    }
+
+    @Nullable
+    public Loan getLoanById(@Nonnull String loanId) {
+        return loans.get(loanId);
+    }
+
+    public boolean isEmpty() {
+        return deposits.isEmpty() && loans.isEmpty();
+    }
+
+    @Override
+    public String toString() {
+        return "InstrumentHistory{uuid=" + playerUuid + ", deposits=" + deposits.size() +
+                ", loans=" + loans.size() + "}";
+    }
+}
@@ -1,6 +1,6 @@
 package com.crystalrealm.ecotalebanking.model;
 
-import com.crystalrealm.ecotalebanking.util.GameTime;
+import com.crystalrealm.ecotalebanking.util.BankClock;
 
 import java.math.BigDecimal;
 import java.time.Instant;
@@ -30,19 +30,22 @@ public final class Loan {
     private int missedPayments;
     private Instant lastPaymentDate;
 
+    /** Account whose indexes track this loan (not persisted). */
+    private transient BankAccount owner;
+
     /**
-     * Creates a new loan.
+     * Creates a new loan whose term is measured in game days of {@code clock}.
      */
     public Loan(String id, UUID playerUuid, BigDecimal principalAmount,
                 BigDecimal interestRate, int termDays, Instant startDate,
-                BigDecimal collateralAmount) {
+                BigDecimal collateralAmount, BankClock clock) {
         this.id = id;
         this.playerUuid = playerUuid;
         this.principalAmount = principalAmount;
         this.interestRate = interestRate;
         this.termDays = termDays;
         this.startDate = startDate;
-        this.dueDate = startDate.plusSeconds((long) termDays * GameTime.getSecondsPerDay());
+        this.dueDate = startDate.plusSeconds((long) termDays * clock.getSecondsPerDay());
         this.remainingBalance = principalAmount;
         this.totalPaid = BigDecimal.ZERO;
         this.collateralAmount = collateralAmount;
@@ -50,7 +53,7 @@ public final class Loan {
         this.status = LoanStatus.ACTIVE;
         this.missedPayments = 0;
         this.lastPaymentDate = null;
-        recalculateDailyPayment();
+        recalculateDailyPayment(clock);
     }
 
     // ── Getters ─────────────────────────────────────────────
@@ -73,7 +76,9 @@ public final class Loan {
     // ── Setters ─────────────────────────────────────────────
 
     public void setRemainingBalance(BigDecimal remainingBalance) {
+        BigDecimal previous = this.remainingBalance;
         this.remainingBalance = remainingBalance;
+        if (owner != null) owner.onLoanBalanceChanged(this, previous);
     }
 
     public void setTotalPaid(BigDecimal totalPaid) {
@@ -81,7 +86,9 @@ public final class Loan {
     }
 
     public void setStatus(LoanStatus status) {
+        LoanStatus previous = this.status;
         this.status = status;
+        if (owner != null && previous != status) owner.onLoanStatusChanged();
     }
 
     public void setMissedPayments(int missedPayments) {
@@ -96,6 +103,10 @@ public final class Loan {
         this.dailyPayment = dailyPayment;
     }
 
+    void setOwner(BankAccount owner) {
+        this.owner = owner;
+    }
+
     public void setInterestRate(BigDecimal interestRate) {
         this.interestRate = interestRate;
     }
@@ -106,7 +117,11 @@ public final class Loan {
      * Whether the loan is overdue.
      */
     public boolean isOverdue() {
-        return status == LoanStatus.ACTIVE && Instant.now().isAfter(dueDate);
+        return isOverdue(BankClock.system());
+    }
+
+    public boolean isOverdue(BankClock clock) {
+        return status == LoanStatus.ACTIVE && clock.millis() > dueDate.toEpochMilli();
     }
 
     /**
@@ -122,7 +137,11 @@ public final class Loan {
      * Total accrued debt: principal * (1 + rate * daysElapsed / 365).
      */
     public BigDecimal getTotalOwed() {
-        long days = getElapsedDays();
+        return getTotalOwed(BankClock.system());
+    }
+
+    public BigDecimal getTotalOwed(BankClock clock) {
+        long days = getElapsedDays(clock);
         BigDecimal interest = principalAmount.multiply(interestRate)
                 .multiply(BigDecimal.valueOf(days))
                 .divide(BigDecimal.valueOf(365), 6, java.math.RoundingMode.HALF_UP);
@@ -133,16 +152,22 @@ public final class Loan {
      * Number of elapsed days since the issue date.
      */
     public long getElapsedDays() {
-        long seconds = Instant.now().getEpochSecond() - startDate.getEpochSecond();
-        return Math.max(0, seconds / GameTime.getSecondsPerDay());
+        return getElapsedDays(BankClock.system());
+    }
+
+    public long getElapsedDays(BankClock clock) {
+        return Math.max(0, clock.gameDaysSince(startDate));
     }
 
     /**
      * Number of days until the deadline. Negative = overdue.
      */
     public long getDaysUntilDue() {
-        long seconds = dueDate.getEpochSecond() - Instant.now().getEpochSecond();
-        return seconds / GameTime.getSecondsPerDay();
+        return getDaysUntilDue(BankClock.system());
+    }
+
+    public long getDaysUntilDue(BankClock clock) {
+        return clock.gameDaysUntil(dueDate);
     }
 
     /**
@@ -150,7 +175,11 @@ public final class Loan {
      * Called when issuing a loan and after early repayment.
      */
     public void recalculateDailyPayment() {
-        long daysLeft = Math.max(1, getDaysUntilDue());
+        recalculateDailyPayment(BankClock.system());
+    }
+
+    public void recalculateDailyPayment(BankClock clock) {
+        long daysLeft = Math.max(1, getDaysUntilDue(clock));
         this.dailyPayment = remainingBalance
                 .divide(BigDecimal.valueOf(daysLeft), 2, java.math.RoundingMode.CEILING);
     }
@@ -0,0 +1,100 @@
+package com.crystalrealm.ecotalebanking.model;
+
+import com.crystalrealm.ecotalebanking.util.BankClock;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.time.Instant;
+
+/**
+ * Immutable snapshot of a {@link Loan}, part of an {@link AccountView}.
+ * Time-dependent values are computed at read time exactly like the model does.
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class LoanView {
+
+    private final String id;
+    private final BigDecimal principalAmount;
+    private final BigDecimal interestRate;
+    private final BigDecimal remainingBalance;
+    private final int termDays;
+    private final Instant startDate;
+    private final Instant dueDate;
+    private final BigDecimal totalPaid;
+    private final BigDecimal collateralAmount;
+    private final BigDecimal dailyPayment;
+    private final LoanStatus status;
+    private final int missedPayments;
+
+    private LoanView(Loan loan) {
+        this.id = loan.getId();
+        this.principalAmount = loan.getPrincipalAmount();
+        this.interestRate = loan.getInterestRate();
+        this.remainingBalance = loan.getRemainingBalance();
+        this.termDays = loan.getTermDays();
+        this.startDate = loan.getStartDate();
+        this.dueDate = loan.getDueDate();
+        this.totalPaid = loan.getTotalPaid();
+        this.collateralAmount = loan.getCollateralAmount();
+        this.dailyPayment = loan.getDailyPayment();
+        this.status = loan.getStatus();
+        this.missedPayments = loan.getMissedPayments();
+    }
+
+    @Nonnull
+    public static LoanView of(@Nonnull Loan loan) {
+        return new LoanView(loan);
+    }
+
+    // ── Getters ─────────────────────────────────────────────
+
+    public String getId() { return id; }
+    public BigDecimal getPrincipalAmount() { return principalAmount; }
+    public BigDecimal getInterestRate() { return interestRate; }
+    public BigDecimal getRemainingBalance() { return remainingBalance; }
+    public int getTermDays() { return termDays; }
+    public Instant getStartDate() { return startDate; }
+    public Instant getDueDate() { return dueDate; }
+    public BigDecimal getTotalPaid() { return totalPaid; }
+    public BigDecimal getCollateralAmount() { return collateralAmount; }
+    public BigDecimal getDailyPayment() { return dailyPayment; }
+    public LoanStatus getStatus() { return status; }
+    public int getMissedPayments() { return missedPayments; }
+
+    // ── Computed ─────────────────────────────────────────────
+
+    /**
+     * @see Loan#isOverdue()
+     */
+    public boolean isOverdue() {
+        return isOverdue(BankClock.system());
+    }
+
+    public boolean isOverdue(BankClock clock) {
+        return status == LoanStatus.ACTIVE && clock.millis() > dueDate.toEpochMilli();
+    }
+
+    /**
+     * @see Loan#getElapsedDays()
+     */
+    public long getElapsedDays() {
+        return getElapsedDays(BankClock.system());
+    }
+
+    public long getElapsedDays(BankClock clock) {
+        return Math.max(0, clock.gameDaysSince(startDate));
+    }
+
+    /**
+     * @see Loan#getDaysUntilDue()
+     */
+    public long getDaysUntilDue() {
+        return getDaysUntilDue(BankClock.system());
+    }
+
+    public long getDaysUntilDue(BankClock clock) {
+        return clock.gameDaysUntil(dueDate);
+    }
+}
@@ -1,26 +1,31 @@
 package com.crystalrealm.ecotalebanking.protection;
 
-import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.CompiledConfig;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 
 import javax.annotation.Nonnull;
-import java.time.Instant;
 import java.util.Map;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Protection against banking system abuse.
  *
  * <p>Implements:</p>
  * <ul>
- *   <li>Rate limiting — max operations per hour</li>
+ *   <li>Rate limiting — sliding-window hourly limits, shared and per operation type</li>
  *   <li>Cooldown — minimum interval between operations</li>
  *   <li>Deposit/loan spam protection</li>
  *   <li>Suspicious activity logging</li>
  * </ul>
  *
+ * <p>All per-player state lives in one {@link PlayerGuardState}. A state
+ * expires once neither its rate window nor its cooldowns can affect a
+ * decision any more; expiry is driven by a timing wheel that the
+ * scheduler advances through {@link #expire()}.</p>
+ *
  * @author CrystalRealm
  * @version 1.0.0
  */
@@ -28,44 +33,74 @@ public class AbuseGuard {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
-    private final BankingConfig.ProtectionConfig config;
+    private static final long WINDOW_MILLIS = 3_600_000L;
+
+    /** Expiry wheel resolution and size (one turn ≈ one rate window). */
+    private static final long WHEEL_TICK_MILLIS = 60_000L;
+    private static final int WHEEL_SLOTS = 64;
+
+    private final Supplier<CompiledConfig> config;
 
-    /** Hourly operations counter: uuid → count */
-    private final Map<UUID, AtomicInteger> hourlyOps = new ConcurrentHashMap<>();
+    private final SlidingWindowLimiter limiter = new SlidingWindowLimiter(WINDOW_MILLIS);
 
-    /** Last deposit operation: uuid → timestamp */
-    private final Map<UUID, Instant> lastDeposit = new ConcurrentHashMap<>();
+    /** Per-player guard state: uuid → state */
+    private final Map<UUID, PlayerGuardState> states = new ConcurrentHashMap<>();
 
-    /** Last loan operation: uuid → timestamp */
-    private final Map<UUID, Instant> lastLoan = new ConcurrentHashMap<>();
+    private final TimingWheel<UUID> expiryWheel =
+            new TimingWheel<>(WHEEL_SLOTS, WHEEL_TICK_MILLIS, System.currentTimeMillis());
 
-    /** Time of the last hourlyOps reset */
-    private Instant lastHourlyReset = Instant.now();
+    private final AtomicLong expiredTotal = new AtomicLong();
 
-    public AbuseGuard(@Nonnull BankingConfig.ProtectionConfig config) {
+    public AbuseGuard(@Nonnull Supplier<CompiledConfig> config) {
         this.config = config;
     }
 
+    private CompiledConfig.Protection protection() {
+        return config.get().getProtection();
+    }
+
     // ═════════════════════════════════════════════════════════
     //  RATE LIMITING
     // ═════════════════════════════════════════════════════════
 
     /**
-     * Checks whether the hourly operations limit has been exceeded.
+     * Checks the shared hourly limit and, if configured, the limit of
+     * the given operation type.
      *
      * @return true if the operation is allowed
      */
-    public boolean checkRateLimit(@Nonnull UUID playerUuid) {
-        resetHourlyIfNeeded();
-        AtomicInteger ops = hourlyOps.computeIfAbsent(playerUuid, k -> new AtomicInteger(0));
-        return ops.get() < config.getMaxOperationsPerHour();
+    public boolean checkRateLimit(@Nonnull UUID playerUuid, @Nonnull OperationType type) {
+        PlayerGuardState state = states.get(playerUuid);
+        if (state == null) return true;
+
+        long now = System.currentTimeMillis();
+        CompiledConfig.Protection cfg = protection();
+        if (type.isBanking() && limiter.countShared(state.cells, now) >= cfg.getMaxOperationsPerHour()) {
+            return false;
+        }
+        int typeLimit = getTypeLimit(cfg, type);
+        return typeLimit <= 0 || limiter.count(state.cells, type, now) < typeLimit;
     }
 
     /**
      * Records an operation for rate limiting.
      */
-    public void recordOperation(@Nonnull UUID playerUuid) {
-        hourlyOps.computeIfAbsent(playerUuid, k -> new AtomicInteger(0)).incrementAndGet();
+    public void recordOperation(@Nonnull UUID playerUuid, @Nonnull OperationType type) {
+        long now = System.currentTimeMillis();
+        limiter.record(touch(playerUuid, now).cells, type, now);
+    }
+
+    /**
+     * @return hourly limit of the operation type, or 0 if only the shared limit applies
+     */
+    private static int getTypeLimit(@Nonnull CompiledConfig.Protection cfg, @Nonnull OperationType type) {
+        return switch (type) {
+            case DEPOSIT -> cfg.getDepositOpsPerHour();
+            case LOAN -> cfg.getLoanOpsPerHour();
+            case REPAY -> cfg.getRepayOpsPerHour();
+            case GUI_ACTION -> cfg.getGuiActionsPerHour();
+            case WITHDRAW -> 0;
+        };
     }
 
     // ═════════════════════════════════════════════════════════
@@ -78,66 +113,53 @@ public class AbuseGuard {
      * @return true if the cooldown has expired (operation allowed)
      */
     public boolean checkDepositCooldown(@Nonnull UUID playerUuid) {
-        Instant last = lastDeposit.get(playerUuid);
-        if (last == null) return true;
-
-        long elapsed = Instant.now().getEpochSecond() - last.getEpochSecond();
-        return elapsed >= config.getDepositCooldownSeconds();
+        return getDepositCooldownRemaining(playerUuid) == 0;
     }
 
     /**
      * @return remaining cooldown time in seconds, or 0
      */
     public long getDepositCooldownRemaining(@Nonnull UUID playerUuid) {
-        Instant last = lastDeposit.get(playerUuid);
-        if (last == null) return 0;
-
-        long elapsed = Instant.now().getEpochSecond() - last.getEpochSecond();
-        long remaining = config.getDepositCooldownSeconds() - elapsed;
-        return Math.max(0, remaining);
+        PlayerGuardState state = states.get(playerUuid);
+        return state == null ? 0 : remainingSeconds(state.lastDepositMillis, protection().getDepositCooldownSeconds());
     }
 
     /**
      * Checks the cooldown for a loan operation.
      */
     public boolean checkLoanCooldown(@Nonnull UUID playerUuid) {
-        Instant last = lastLoan.get(playerUuid);
-        if (last == null) return true;
-
-        long elapsed = Instant.now().getEpochSecond() - last.getEpochSecond();
-        return elapsed >= config.getLoanCooldownSeconds();
+        return getLoanCooldownRemaining(playerUuid) == 0;
     }
 
     public long getLoanCooldownRemaining(@Nonnull UUID playerUuid) {
-        Instant last = lastLoan.get(playerUuid);
-        if (last == null) return 0;
-
-        long elapsed = Instant.now().getEpochSecond() - last.getEpochSecond();
-        long remaining = config.getLoanCooldownSeconds() - elapsed;
-        return Math.max(0, remaining);
+        PlayerGuardState state = states.get(playerUuid);
+        return state == null ? 0 : remainingSeconds(state.lastLoanMillis, protection().getLoanCooldownSeconds());
     }
 
     /**
      * Records a deposit operation.
      */
     public void recordDeposit(@Nonnull UUID playerUuid) {
-        lastDeposit.put(playerUuid, Instant.now());
-        recordOperation(playerUuid);
+        long now = System.currentTimeMillis();
+        PlayerGuardState state = touch(playerUuid, now);
+        state.lastDepositMillis = now;
+        limiter.record(state.cells, OperationType.DEPOSIT, now);
     }
 
     /**
      * Records a loan operation.
      */
     public void recordLoan(@Nonnull UUID playerUuid) {
-        lastLoan.put(playerUuid, Instant.now());
-        recordOperation(playerUuid);
+        long now = System.currentTimeMillis();
+        PlayerGuardState state = touch(playerUuid, now);
+        state.lastLoanMillis = now;
+        limiter.record(state.cells, OperationType.LOAN, now);
     }
 
-    /**
-     * Records a generic operation.
-     */
-    public void recordGenericOperation(@Nonnull UUID playerUuid) {
-        recordOperation(playerUuid);
+    private static long remainingSeconds(long lastMillis, long cooldownSeconds) {
+        if (lastMillis == 0) return 0;
+        long elapsed = System.currentTimeMillis() / 1000 - lastMillis / 1000;
+        return Math.max(0, cooldownSeconds - elapsed);
     }
 
     // ═════════════════════════════════════════════════════════
@@ -152,26 +174,101 @@ public class AbuseGuard {
     }
 
     // ═════════════════════════════════════════════════════════
-    //  CLEANUP
+    //  EXPIRY
     // ═════════════════════════════════════════════════════════
 
     /**
-     * Resets the hourly counter if an hour has passed.
+     * Returns the player's live state with its deadline pushed past
+     * everything recorded at {@code now}.
      */
-    private void resetHourlyIfNeeded() {
-        long elapsed = Instant.now().getEpochSecond() - lastHourlyReset.getEpochSecond();
-        if (elapsed >= 3600) {
-            hourlyOps.clear();
-            lastHourlyReset = Instant.now();
+    @Nonnull
+    private PlayerGuardState touch(@Nonnull UUID playerUuid, long now) {
+        long deadline = now + getRetentionMillis();
+        while (true) {
+            PlayerGuardState state = states.computeIfAbsent(playerUuid, k -> new PlayerGuardState());
+            if (state.extendTo(deadline)) {
+                if (state.markScheduled()) expiryWheel.schedule(playerUuid, deadline);
+                return state;
+            }
+            // Retired by a concurrent expiry — replace it
+            states.remove(playerUuid, state);
         }
     }
 
+    /**
+     * How long a recorded operation can still affect a decision.
+     */
+    private long getRetentionMillis() {
+        CompiledConfig.Protection cfg = protection();
+        long cooldownMillis = 1000L * Math.max(cfg.getDepositCooldownSeconds(),
+                cfg.getLoanCooldownSeconds());
+        return Math.max(limiter.getWindowMillis(), cooldownMillis) + 1000L;
+    }
+
+    /**
+     * Drops expired player state. Called periodically by the scheduler.
+     *
+     * @return number of players dropped
+     */
+    public int expire() {
+        long now = System.currentTimeMillis();
+        int dropped = expiryWheel.advance(now, uuid -> {
+            PlayerGuardState state = states.get(uuid);
+            if (state == null) return 0;
+            long deadline = state.retireIfDue(now);
+            if (deadline == 0) states.remove(uuid, state);
+            return deadline;
+        });
+        if (dropped > 0) {
+            expiredTotal.addAndGet(dropped);
+            GuardMetrics metrics = getMetrics();
+            LOGGER.debug("Expired {} guard entries; tracking {} players (~{} KB)",
+                    dropped, metrics.getTrackedPlayers(), metrics.getEstimatedBytes() / 1024);
+        }
+        return dropped;
+    }
+
+    /**
+     * @return current memory metrics of the guard
+     */
+    @Nonnull
+    public GuardMetrics getMetrics() {
+        int tracked = states.size();
+        return new GuardMetrics(tracked, expiryWheel.size(), expiredTotal.get(),
+                tracked * PlayerGuardState.ESTIMATED_BYTES);
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  CLEANUP
+    // ═════════════════════════════════════════════════════════
+
     /**
      * Full cleanup (on shutdown).
      */
     public void clearAll() {
-        hourlyOps.clear();
-        lastDeposit.clear();
-        lastLoan.clear();
+        states.clear();
+        expiryWheel.clear();
+    }
+
+    /**
+     * Memory metrics of the guard.
+     */
+    public static final class GuardMetrics {
+        private final int trackedPlayers;
+        private final int scheduledExpiries;
+        private final long expiredTotal;
+        private final long estimatedBytes;
+
+        GuardMetrics(int trackedPlayers, int scheduledExpiries, long expiredTotal, long estimatedBytes) {
+            this.trackedPlayers = trackedPlayers;
+            this.scheduledExpiries = scheduledExpiries;
+            this.expiredTotal = expiredTotal;
+            this.estimatedBytes = estimatedBytes;
+        }
+
+        public int getTrackedPlayers() { return trackedPlayers; }
+        public int getScheduledExpiries() { return scheduledExpiries; }
+        public long getExpiredTotal() { return expiredTotal; }
+        public long getEstimatedBytes() { return estimatedBytes; }
     }
 }
@@ -0,0 +1,38 @@
+package com.crystalrealm.ecotalebanking.protection;
+
+/**
+ * Operation categories with their own hourly limits.
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public enum OperationType {
+
+    /** Opening a deposit. */
+    DEPOSIT(true),
+
+    /** Closing / withdrawing a deposit (only the shared limit applies). */
+    WITHDRAW(true),
+
+    /** Taking a loan. */
+    LOAN(true),
+
+    /** Repaying a loan. */
+    REPAY(true),
+
+    /** Any handled bank GUI event. Does not count towards the shared limit. */
+    GUI_ACTION(false);
+
+    private final boolean banking;
+
+    OperationType(boolean banking) {
+        this.banking = banking;
+    }
+
+    /**
+     * @return true if the operation counts towards {@code maxOperationsPerHour}
+     */
+    public boolean isBanking() {
+        return banking;
+    }
+}
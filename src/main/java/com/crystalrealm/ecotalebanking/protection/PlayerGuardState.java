@@ -0,0 +1,71 @@
+package com.crystalrealm.ecotalebanking.protection;
+
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Everything {@link AbuseGuard} tracks for one player: sliding-window
+ * cells, cooldown timestamps and the expiry deadline.
+ *
+ * <p>The deadline is the moment the state stops affecting any decision.
+ * Once retired by the expiry sweep it can no longer be touched; writers
+ * that lose that race replace the state instead.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+final class PlayerGuardState {
+
+    private static final long RETIRED = Long.MIN_VALUE;
+
+    /** Approximate heap footprint of one tracked player, including its map entry. */
+    static final long ESTIMATED_BYTES = 16 + 8L * SlidingWindowLimiter.CELLS  // cell array
+            + 48                                                            // this object
+            + 3 * 24                                                        // atomics
+            + 64                                                            // UUID key
+            + 48;                                                           // map + wheel nodes
+
+    final AtomicLongArray cells = SlidingWindowLimiter.newCells();
+
+    /** Last deposit, epoch millis (0 = never). */
+    volatile long lastDepositMillis;
+
+    /** Last loan, epoch millis (0 = never). */
+    volatile long lastLoanMillis;
+
+    private final AtomicLong deadline = new AtomicLong();
+    private final AtomicBoolean scheduled = new AtomicBoolean();
+
+    /**
+     * Pushes the deadline to at least {@code millis}.
+     *
+     * @return false if the state was already retired
+     */
+    boolean extendTo(long millis) {
+        while (true) {
+            long current = deadline.get();
+            if (current == RETIRED) return false;
+            if (current >= millis || deadline.compareAndSet(current, millis)) return true;
+        }
+    }
+
+    /**
+     * Retires the state if its deadline has passed.
+     *
+     * @return the live deadline, or {@code 0} if the state is now retired
+     */
+    long retireIfDue(long nowMillis) {
+        long current = deadline.get();
+        if (current == RETIRED) return 0;
+        if (current > nowMillis) return current;
+        return deadline.compareAndSet(current, RETIRED) ? 0 : deadline.get();
+    }
+
+    /**
+     * @return true exactly once, for the caller that must put the state on the wheel
+     */
+    boolean markScheduled() {
+        return !scheduled.get() && scheduled.compareAndSet(false, true);
+    }
+}
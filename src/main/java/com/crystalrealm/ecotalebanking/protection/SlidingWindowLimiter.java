@@ -0,0 +1,104 @@
+package com.crystalrealm.ecotalebanking.protection;
+
+import javax.annotation.Nonnull;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Lock-free sliding-window counting over a player's cell array.
+ *
+ * <p>The window is split into {@value #BUCKETS} buckets. A player's
+ * {@link AtomicLongArray} has a row of buckets per {@link OperationType}
+ * plus a shared row for all banking operations. A cell packs the bucket
+ * epoch and its count ({@code epoch << 20 | count}), so a stale bucket is
+ * recycled by the same CAS that increments it — no clearing, no locks and
+ * no allocation.</p>
+ *
+ * <p>Counting sums the buckets of the last full window, so a player can
+ * not burst twice the limit across a reset boundary.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+final class SlidingWindowLimiter {
+
+    /** Buckets per window. */
+    static final int BUCKETS = 12;
+
+    private static final int COUNT_BITS = 20;
+    private static final long COUNT_MASK = (1L << COUNT_BITS) - 1;
+
+    private static final int SHARED_ROW = OperationType.values().length;
+
+    /** Cells per player. */
+    static final int CELLS = (SHARED_ROW + 1) * BUCKETS;
+
+    private final long windowMillis;
+    private final long bucketMillis;
+
+    /**
+     * @param windowMillis length of the sliding window
+     */
+    SlidingWindowLimiter(long windowMillis) {
+        this.windowMillis = windowMillis;
+        this.bucketMillis = Math.max(1, windowMillis / BUCKETS);
+    }
+
+    @Nonnull
+    static AtomicLongArray newCells() {
+        return new AtomicLongArray(CELLS);
+    }
+
+    long getWindowMillis() {
+        return windowMillis;
+    }
+
+    /**
+     * @return operations of this type within the window
+     */
+    int count(@Nonnull AtomicLongArray cells, @Nonnull OperationType type, long nowMillis) {
+        return count(cells, type.ordinal(), nowMillis);
+    }
+
+    /**
+     * @return banking operations of all types within the window
+     */
+    int countShared(@Nonnull AtomicLongArray cells, long nowMillis) {
+        return count(cells, SHARED_ROW, nowMillis);
+    }
+
+    /**
+     * Records one operation (and, for banking types, one shared operation).
+     */
+    void record(@Nonnull AtomicLongArray cells, @Nonnull OperationType type, long nowMillis) {
+        long epoch = nowMillis / bucketMillis;
+        increment(cells, type.ordinal(), epoch);
+        if (type.isBanking()) increment(cells, SHARED_ROW, epoch);
+    }
+
+    private int count(AtomicLongArray cells, int row, long nowMillis) {
+        long oldest = nowMillis / bucketMillis - BUCKETS + 1;
+        int base = row * BUCKETS;
+        int total = 0;
+        for (int b = 0; b < BUCKETS; b++) {
+            long cell = cells.get(base + b);
+            if ((cell >>> COUNT_BITS) >= oldest) total += (int) (cell & COUNT_MASK);
+        }
+        return total;
+    }
+
+    private static void increment(AtomicLongArray cells, int row, long epoch) {
+        int index = row * BUCKETS + (int) (epoch % BUCKETS);
+        long fresh = (epoch << COUNT_BITS) | 1;
+        while (true) {
+            long cell = cells.get(index);
+            long next;
+            if ((cell >>> COUNT_BITS) == epoch) {
+                if ((cell & COUNT_MASK) == COUNT_MASK) return; // saturated
+                next = cell + 1;
+            } else {
+                next = fresh;
+            }
+            if (cells.compareAndSet(index, cell, next)) return;
+        }
+    }
+}
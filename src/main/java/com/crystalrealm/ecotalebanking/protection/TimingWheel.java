@@ -0,0 +1,90 @@
+package com.crystalrealm.ecotalebanking.protection;
+
+import javax.annotation.Nonnull;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.function.ToLongFunction;
+
+/**
+ * Hashed timing wheel for coarse key expiry.
+ *
+ * <p>Keys are dropped into the slot of their deadline tick. Advancing the
+ * wheel visits only the slots whose ticks have passed and asks the
+ * handler for each key's current deadline: keys that are due are dropped,
+ * keys whose deadline moved on (or lies beyond one wheel turn) are
+ * re-slotted. Scheduling is lock-free; {@link #advance} is meant to be
+ * driven by a single thread.</p>
+ *
+ * @param <K> key type
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+final class TimingWheel<K> {
+
+    private final Queue<K>[] slots;
+    private final long tickMillis;
+
+    /** Last tick whose slot has been processed. */
+    private volatile long processedTick;
+
+    TimingWheel(int slotCount, long tickMillis, long nowMillis) {
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        Queue<K>[] slots = (Queue<K>[]) new Queue[slotCount];
+        for (int i = 0; i < slotCount; i++) slots[i] = new ConcurrentLinkedQueue<>();
+        this.slots = slots;
+        this.tickMillis = tickMillis;
+        this.processedTick = nowMillis / tickMillis;
+    }
+
+    /**
+     * Schedules a key to be checked at (or shortly after) the deadline.
+     */
+    void schedule(@Nonnull K key, long deadlineMillis) {
+        long tick = Math.max(deadlineMillis / tickMillis, processedTick + 1);
+        slots[(int) (tick % slots.length)].add(key);
+    }
+
+    /**
+     * Processes every slot up to {@code nowMillis}.
+     *
+     * @param handler returns the key's current deadline, or a value
+     *                {@code <= nowMillis} once the key has been dropped
+     * @return number of keys dropped
+     */
+    int advance(long nowMillis, @Nonnull ToLongFunction<K> handler) {
+        long target = nowMillis / tickMillis;
+        long from = processedTick + 1;
+        // Nothing can be due beyond one full turn; visit each slot at most once
+        if (target - from >= slots.length) from = target - slots.length + 1;
+
+        int dropped = 0;
+        for (long tick = from; tick <= target; tick++) {
+            Queue<K> slot = slots[(int) (tick % slots.length)];
+            processedTick = tick;
+            for (int n = slot.size(); n > 0; n--) {
+                K key = slot.poll();
+                if (key == null) break;
+                long deadline = handler.applyAsLong(key);
+                if (deadline > nowMillis) {
+                    schedule(key, deadline);
+                } else {
+                    dropped++;
+                }
+            }
+        }
+        return dropped;
+    }
+
+    /**
+     * @return keys currently scheduled (O(slots))
+     */
+    int size() {
+        int size = 0;
+        for (Queue<K> slot : slots) size += slot.size();
+        return size;
+    }
+
+    void clear() {
+        for (Queue<K> slot : slots) slot.clear();
+    }
+}
@@ -3,11 +3,14 @@ package com.crystalrealm.ecotalebanking.scheduler;
 import com.crystalrealm.ecotalebanking.model.BankAccount;
 import com.crystalrealm.ecotalebanking.model.Deposit;
 import com.crystalrealm.ecotalebanking.model.Loan;
+import com.crystalrealm.ecotalebanking.protection.AbuseGuard;
 import com.crystalrealm.ecotalebanking.service.BankService;
 import com.crystalrealm.ecotalebanking.service.InflationService;
 import com.crystalrealm.ecotalebanking.service.TaxService;
+import com.crystalrealm.ecotalebanking.service.WealthTaxEngine;
 import com.crystalrealm.ecotalebanking.storage.BankStorage;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
+import com.crystalrealm.ecotalebanking.util.SystemBankClock;
 import com.hypixel.hytale.server.core.HytaleServer;
 
 import javax.annotation.Nonnull;
@@ -19,10 +22,13 @@ import java.util.concurrent.TimeUnit;
  *
  * <p>Tasks:</p>
  * <ul>
- *   <li>Auto-save (every N minutes)</li>
+ *   <li>Auto-save and treasury checkpoint (every N minutes)</li>
  *   <li>Interest accrual (daily)</li>
  *   <li>Overdue processing (daily)</li>
+ *   <li>Balance tax assessment (checked daily, runs every N game days)</li>
  *   <li>Inflation updates (every N hours)</li>
+ *   <li>Abuse guard expiry (every minute)</li>
+ *   <li>Economy aggregates reconciliation (shortly after start, then hourly)</li>
  * </ul>
  *
  * @author CrystalRealm
@@ -32,24 +38,36 @@ public class BankScheduler {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
+    /** Minutes between full-scan reconciliations of the economy aggregates. */
+    private static final long RECONCILE_MINUTES = 60;
+
     private final BankService bankService;
     private final BankStorage storage;
     private final InflationService inflationService;
+    private final AbuseGuard abuseGuard;
+    private final WealthTaxEngine wealthTax;
     private final int autoSaveMinutes;
     private final int inflationUpdateHours;
 
     private ScheduledFuture<?> autoSaveTask;
     private ScheduledFuture<?> dailyProcessTask;
     private ScheduledFuture<?> inflationTask;
+    private ScheduledFuture<?> guardExpiryTask;
+    private ScheduledFuture<?> clockTask;
+    private ScheduledFuture<?> reconcileTask;
 
     public BankScheduler(@Nonnull BankService bankService,
                          @Nonnull BankStorage storage,
                          @Nonnull InflationService inflationService,
+                         @Nonnull AbuseGuard abuseGuard,
+                         @Nonnull WealthTaxEngine wealthTax,
                          int autoSaveMinutes,
                          int inflationUpdateHours) {
         this.bankService = bankService;
         this.storage = storage;
         this.inflationService = inflationService;
+        this.abuseGuard = abuseGuard;
+        this.wealthTax = wealthTax;
         this.autoSaveMinutes = autoSaveMinutes;
         this.inflationUpdateHours = inflationUpdateHours;
     }
@@ -58,6 +76,14 @@ public class BankScheduler {
      * Starts all periodic tasks.
      */
     public void start() {
+        // Bank clock: refresh the cached "now" once per tick
+        SystemBankClock clock = SystemBankClock.getInstance();
+        clock.tick();
+        clockTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                clock::tick,
+                SystemBankClock.TICK_MILLIS, SystemBankClock.TICK_MILLIS, TimeUnit.MILLISECONDS
+        );
+
         // Auto-save
         autoSaveTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
                 this::autoSave,
@@ -82,6 +108,18 @@ public class BankScheduler {
             );
             LOGGER.info("Inflation updates scheduled every {} hours.", inflationUpdateHours);
         }
+
+        // Abuse guard expiry
+        guardExpiryTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                this::expireGuardState,
+                1, 1, TimeUnit.MINUTES
+        );
+
+        // Economy aggregates: the first run also covers accounts without a view yet
+        reconcileTask = HytaleServer.SCHEDULED_EXECUTOR.scheduleAtFixedRate(
+                this::reconcileAggregates,
+                5, RECONCILE_MINUTES * 60, TimeUnit.SECONDS
+        );
     }
 
     /**
@@ -91,6 +129,10 @@ public class BankScheduler {
         if (autoSaveTask != null) autoSaveTask.cancel(false);
         if (dailyProcessTask != null) dailyProcessTask.cancel(false);
         if (inflationTask != null) inflationTask.cancel(false);
+        if (guardExpiryTask != null) guardExpiryTask.cancel(false);
+        if (clockTask != null) clockTask.cancel(false);
+        if (reconcileTask != null) reconcileTask.cancel(false);
+        SystemBankClock.getInstance().stopTicking();
 
         // Final save
         storage.saveAll();
@@ -102,6 +144,7 @@ public class BankScheduler {
     private void autoSave() {
         try {
             storage.saveAll();
+            bankService.getTaxService().getLedger().checkpoint();
             LOGGER.debug("Auto-save completed.");
         } catch (Exception e) {
             LOGGER.error("Auto-save failed: {}", e.getMessage(), e);
@@ -115,13 +158,34 @@ public class BankScheduler {
         } catch (Exception e) {
             LOGGER.error("Daily processing failed: {}", e.getMessage(), e);
         }
+        try {
+            if (wealthTax.isDue()) wealthTax.run();
+        } catch (Exception e) {
+            LOGGER.error("Balance tax run failed: {}", e.getMessage(), e);
+        }
     }
 
     private void updateInflation() {
         try {
-            inflationService.updateRate();
+            bankService.updateInflation();
         } catch (Exception e) {
             LOGGER.error("Inflation update failed: {}", e.getMessage(), e);
         }
     }
+
+    private void reconcileAggregates() {
+        try {
+            bankService.reconcileAggregates();
+        } catch (Exception e) {
+            LOGGER.error("Economy aggregates reconciliation failed: {}", e.getMessage(), e);
+        }
+    }
+
+    private void expireGuardState() {
+        try {
+            abuseGuard.expire();
+        } catch (Exception e) {
+            LOGGER.error("Abuse guard expiry failed: {}", e.getMessage(), e);
+        }
+    }
 }
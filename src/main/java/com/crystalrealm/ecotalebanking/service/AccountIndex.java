@@ -0,0 +1,244 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.model.AccountView;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+
+/**
+ * Sorted and searchable indexes over all published account views, for
+ * paging through accounts without sorting them on every request.
+ *
+ * <p>One {@link ConcurrentSkipListSet} per {@link Sort} holds every
+ * account ordered by that key; two more are ordered by lower-cased name
+ * and by UUID string and answer prefix searches as range scans. Each
+ * publication moves the account's entry in O(log n), with sort keys
+ * captured once (amounts as fixed-point hundredths), so comparisons never
+ * touch a {@code BigDecimal}.</p>
+ *
+ * <p>A page costs O(offset + page size) without a query. With a query, at
+ * most {@link #MAX_MATCHES} matches are collected and sorted.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class AccountIndex {
+
+    /** Upper bound on matches collected for a search. */
+    public static final int MAX_MATCHES = 1000;
+
+    /**
+     * Account orders.
+     */
+    public enum Sort {
+        /** Frozen first, then by debt. */
+        STATUS(Comparator.<Entry>comparingInt(e -> e.frozen ? 0 : 1)
+                .thenComparing(Comparator.comparingLong((Entry e) -> e.debt).reversed())),
+        DEBT(Comparator.comparingLong((Entry e) -> e.debt).reversed()),
+        DEPOSITS(Comparator.comparingLong((Entry e) -> e.deposited).reversed()),
+        CREDIT(Comparator.comparingInt((Entry e) -> e.credit).reversed());
+
+        private final Comparator<Entry> order;
+
+        Sort(Comparator<Entry> keys) {
+            this.order = keys.thenComparing(e -> e.uuid);
+        }
+    }
+
+    private static final Comparator<Entry> BY_NAME =
+            Comparator.<Entry, String>comparing(e -> e.nameKey).thenComparing(e -> e.uuid);
+    private static final Comparator<Entry> BY_ID =
+            Comparator.comparing(e -> e.idKey);
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private final Map<Sort, ConcurrentSkipListSet<Entry>> sorted = new EnumMap<>(Sort.class);
+    private final ConcurrentSkipListSet<Entry> byName = new ConcurrentSkipListSet<>(BY_NAME);
+    private final ConcurrentSkipListSet<Entry> byId = new ConcurrentSkipListSet<>(BY_ID);
+
+    AccountIndex() {
+        for (Sort sort : Sort.values()) sorted.put(sort, new ConcurrentSkipListSet<>(sort.order));
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  QUERY
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * @return number of indexed accounts
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * One page of accounts.
+     *
+     * @param query     name or UUID prefix, case-insensitive; null or blank for all accounts
+     * @param pageIndex zero-based; clamped to the last page
+     */
+    @Nonnull
+    public Page page(@Nonnull Sort sort, @Nullable String query, int pageIndex, int pageSize) {
+        if (pageSize <= 0) throw new IllegalArgumentException("pageSize must be positive");
+        Collection<Entry> source;
+        int total;
+        if (query == null || query.isBlank()) {
+            source = sorted.get(sort);
+            total = entries.size();
+        } else {
+            List<Entry> matches = search(query.trim().toLowerCase(Locale.ROOT));
+            matches.sort(sort.order);
+            source = matches;
+            total = matches.size();
+        }
+
+        int lastPage = Math.max(0, (total - 1) / pageSize);
+        int index = Math.max(0, Math.min(pageIndex, lastPage));
+        long skip = (long) index * pageSize;
+
+        List<AccountView> accounts = new ArrayList<>(pageSize);
+        Iterator<Entry> it = source.iterator();
+        for (long i = 0; i < skip && it.hasNext(); i++) it.next();
+        while (accounts.size() < pageSize && it.hasNext()) accounts.add(it.next().view);
+        return new Page(accounts, index, it.hasNext(), total);
+    }
+
+    /**
+     * @return accounts whose name or UUID starts with {@code prefix}, unordered
+     */
+    private List<Entry> search(String prefix) {
+        Map<UUID, Entry> found = new LinkedHashMap<>();
+        for (Entry e : byName.tailSet(Entry.probe(prefix, null), true)) {
+            if (!e.nameKey.startsWith(prefix) || found.size() >= MAX_MATCHES) break;
+            found.put(e.uuid, e);
+        }
+        if (isUuidPrefix(prefix)) {
+            for (Entry e : byId.tailSet(Entry.probe(null, prefix), true)) {
+                if (!e.idKey.startsWith(prefix) || found.size() >= MAX_MATCHES) break;
+                found.put(e.uuid, e);
+            }
+        }
+        return new ArrayList<>(found.values());
+    }
+
+    private static boolean isUuidPrefix(String s) {
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (!(c >= '0' && c <= '9') && !(c >= 'a' && c <= 'f') && c != '-') return false;
+        }
+        return true;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  UPDATE
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Moves the account's entry to the keys of {@code view}.
+     * Calls for one account must be serial (its mailbox).
+     */
+    void apply(@Nonnull AccountView view) {
+        Entry next = new Entry(view);
+        Entry previous = entries.put(view.getPlayerUuid(), next);
+        if (previous != null) {
+            for (ConcurrentSkipListSet<Entry> set : sorted.values()) set.remove(previous);
+            byName.remove(previous);
+            byId.remove(previous);
+        }
+        for (ConcurrentSkipListSet<Entry> set : sorted.values()) set.add(next);
+        if (!next.nameKey.isEmpty()) byName.add(next);
+        byId.add(next);
+    }
+
+    /**
+     * Re-indexes {@code views} and drops accounts that are no longer
+     * among them. Writers must be excluded while this runs.
+     */
+    void rebuild(@Nonnull Collection<AccountView> views) {
+        Set<UUID> present = new HashSet<>(views.size() * 2);
+        for (AccountView view : views) {
+            present.add(view.getPlayerUuid());
+            apply(view);
+        }
+        Iterator<Map.Entry<UUID, Entry>> it = entries.entrySet().iterator();
+        while (it.hasNext()) {
+            Entry stale = it.next().getValue();
+            if (present.contains(stale.uuid)) continue;
+            it.remove();
+            for (ConcurrentSkipListSet<Entry> set : sorted.values()) set.remove(stale);
+            byName.remove(stale);
+            byId.remove(stale);
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  TYPES
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * One page of accounts.
+     */
+    public static final class Page {
+        private final List<AccountView> accounts;
+        private final int pageIndex;
+        private final boolean hasNext;
+        private final int total;
+
+        private Page(List<AccountView> accounts, int pageIndex, boolean hasNext, int total) {
+            this.accounts = Collections.unmodifiableList(accounts);
+            this.pageIndex = pageIndex;
+            this.hasNext = hasNext;
+            this.total = total;
+        }
+
+        @Nonnull public List<AccountView> getAccounts() { return accounts; }
+        /** Zero-based index of this page (after clamping). */
+        public int getPageIndex() { return pageIndex; }
+        public boolean hasPrevious() { return pageIndex > 0; }
+        public boolean hasNext() { return hasNext; }
+        /** Accounts matching the request (all accounts without a query). */
+        public int getTotal() { return total; }
+    }
+
+    /** Sort keys of one account, captured at publication. */
+    private static final class Entry {
+        final UUID uuid;
+        final String idKey;
+        final String nameKey;
+        final boolean frozen;
+        final long debt;
+        final long deposited;
+        final int credit;
+        final AccountView view;
+
+        Entry(AccountView view) {
+            this.uuid = view.getPlayerUuid();
+            this.idKey = uuid.toString();
+            String name = view.getLastKnownName();
+            this.nameKey = name != null ? name.toLowerCase(Locale.ROOT) : "";
+            this.frozen = view.isFrozen();
+            this.debt = EconomyAggregates.toUnits(view.getTotalDebt());
+            this.deposited = EconomyAggregates.toUnits(view.getTotalDeposited());
+            this.credit = view.getCreditScore();
+            this.view = view;
+        }
+
+        /** Search bound: sorts before every entry with the given name or id prefix. */
+        private Entry(String nameKey, String idKey) {
+            this.uuid = new UUID(Long.MIN_VALUE, Long.MIN_VALUE);
+            this.idKey = idKey;
+            this.nameKey = nameKey;
+            this.frozen = false;
+            this.debt = 0;
+            this.deposited = 0;
+            this.credit = 0;
+            this.view = null;
+        }
+
+        static Entry probe(@Nullable String namePrefix, @Nullable String idPrefix) {
+            return new Entry(namePrefix != null ? namePrefix : "", idPrefix != null ? idPrefix : "");
+        }
+    }
+}
@@ -0,0 +1,250 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+
+import javax.annotation.Nonnull;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Per-account serial executor ("mailbox").
+ *
+ * <p>Every account gets its own task queue. Tasks of one account run one
+ * at a time in submission order, tasks of different accounts run in
+ * parallel on a small shared pool. Account state touched only from its
+ * mailbox therefore needs no locks.</p>
+ *
+ * <p>A task that calls back into the same account runs inline, so
+ * facade methods can nest. A mailbox task must not block on another
+ * account's mailbox — with a small pool that can deadlock.</p>
+ *
+ * <p>A mailbox is removed once it has drained and sits idle, and created
+ * again on the account's next task.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class AccountMailboxes {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    /** Tasks run per mailbox turn before the worker yields to other accounts. */
+    private static final int BATCH_SIZE = 32;
+
+    /** Account whose mailbox the current thread is draining. */
+    private static final ThreadLocal<UUID> CURRENT = new ThreadLocal<>();
+
+    private final ExecutorService pool;
+    private final Map<UUID, Mailbox> mailboxes = new ConcurrentHashMap<>();
+
+    private AccountMailboxes(ExecutorService pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Creates mailboxes drained by {@code threads} daemon workers.
+     */
+    @Nonnull
+    public static AccountMailboxes create(int threads) {
+        AtomicInteger counter = new AtomicInteger();
+        ExecutorService pool = Executors.newFixedThreadPool(Math.max(1, threads), r -> {
+            Thread t = new Thread(r, "EcoTaleBanking-Mailbox-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+        return new AccountMailboxes(pool);
+    }
+
+    /**
+     * Creates mailboxes that run every task directly on the calling thread.
+     * For single-threaded use (projections).
+     */
+    @Nonnull
+    public static AccountMailboxes direct() {
+        return new AccountMailboxes(null);
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  SUBMIT
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Queues a task on the account's mailbox.
+     */
+    @Nonnull
+    public <T> CompletableFuture<T> submit(@Nonnull UUID playerUuid, @Nonnull Supplier<T> task) {
+        if (pool == null || playerUuid.equals(CURRENT.get())) {
+            return runInline(playerUuid, task);
+        }
+        CompletableFuture<T> future = new CompletableFuture<>();
+        Runnable job = () -> {
+            try {
+                future.complete(task.get());
+            } catch (Throwable t) {
+                future.completeExceptionally(t);
+            }
+        };
+        // A retired mailbox is already out of the map; the retry gets a fresh one
+        while (!mailboxes.computeIfAbsent(playerUuid, Mailbox::new).enqueue(job)) {
+            Thread.onSpinWait();
+        }
+        return future;
+    }
+
+    /**
+     * Runs a task on the account's mailbox and waits for its result.
+     * Exceptions thrown by the task are rethrown unwrapped.
+     */
+    public <T> T call(@Nonnull UUID playerUuid, @Nonnull Supplier<T> task) {
+        if (pool == null || playerUuid.equals(CURRENT.get())) {
+            return withCurrent(playerUuid, task);
+        }
+        try {
+            return submit(playerUuid, task).join();
+        } catch (CompletionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException re) throw re;
+            if (cause instanceof Error err) throw err;
+            throw e;
+        }
+    }
+
+    /**
+     * @return true if the current thread is running a task of this account
+     */
+    public static boolean isInMailbox(@Nonnull UUID playerUuid) {
+        return playerUuid.equals(CURRENT.get());
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  LIFECYCLE
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Stops accepting work and waits for queued tasks to finish.
+     */
+    public void shutdown(long timeoutSeconds) {
+        if (pool == null) return;
+        pool.shutdown();
+        try {
+            if (!pool.awaitTermination(timeoutSeconds, TimeUnit.SECONDS)) {
+                LOGGER.warn("Account mailboxes did not drain within {}s", timeoutSeconds);
+                pool.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            pool.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * @return number of tasks currently queued over all accounts
+     */
+    public int getPendingTasks() {
+        int pending = 0;
+        for (Mailbox mailbox : mailboxes.values()) pending += mailbox.queue.size();
+        return pending;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  INTERNAL
+    // ═════════════════════════════════════════════════════════
+
+    private static <T> CompletableFuture<T> runInline(UUID playerUuid, Supplier<T> task) {
+        try {
+            return CompletableFuture.completedFuture(withCurrent(playerUuid, task));
+        } catch (Throwable t) {
+            return CompletableFuture.failedFuture(t);
+        }
+    }
+
+    private static <T> T withCurrent(UUID playerUuid, Supplier<T> task) {
+        UUID previous = CURRENT.get();
+        CURRENT.set(playerUuid);
+        try {
+            return task.get();
+        } finally {
+            if (previous == null) CURRENT.remove();
+            else CURRENT.set(previous);
+        }
+    }
+
+    /**
+     * Task queue of one account. {@code scheduled} is true while a drain
+     * is queued or running on the pool, so at most one worker drains it.
+     * {@code retired} is set, under the mailbox lock, when an idle mailbox
+     * leaves the map; it then accepts no more tasks.
+     */
+    private final class Mailbox {
+        final UUID playerUuid;
+        final Queue<Runnable> queue = new ConcurrentLinkedQueue<>();
+        final AtomicBoolean scheduled = new AtomicBoolean();
+        /** Guarded by {@code this}. */
+        private boolean retired;
+
+        Mailbox(UUID playerUuid) {
+            this.playerUuid = playerUuid;
+        }
+
+        /**
+         * @return false if the mailbox was retired and the task not queued
+         */
+        boolean enqueue(Runnable task) {
+            synchronized (this) {
+                if (retired) return false;
+                queue.add(task);
+            }
+            schedule();
+            return true;
+        }
+
+        /**
+         * Removes the mailbox if nothing is queued or running. Tasks are
+         * added under the same lock, so none can slip in between the check
+         * and the removal.
+         */
+        private void retireIfIdle() {
+            synchronized (this) {
+                if (retired || scheduled.get() || !queue.isEmpty()) return;
+                retired = true;
+                mailboxes.remove(playerUuid, this);
+            }
+        }
+
+        private void schedule() {
+            if (scheduled.compareAndSet(false, true)) {
+                try {
+                    pool.execute(this::drain);
+                } catch (RejectedExecutionException e) {
+                    // Shutting down: finish on the caller so nobody waits forever
+                    drain();
+                }
+            }
+        }
+
+        private void drain() {
+            UUID previous = CURRENT.get();
+            CURRENT.set(playerUuid);
+            try {
+                Runnable task;
+                int ran = 0;
+                while (ran < BATCH_SIZE && (task = queue.poll()) != null) {
+                    task.run();
+                    ran++;
+                }
+            } finally {
+                if (previous == null) CURRENT.remove();
+                else CURRENT.set(previous);
+                scheduled.set(false);
+            }
+            // Re-check: a task may have been queued after the last poll
+            if (!queue.isEmpty()) schedule();
+            else retireIfIdle();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.model.AccountView;
+import com.crystalrealm.ecotalebanking.model.BankAccount;
+import com.crystalrealm.ecotalebanking.model.CreditScore;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.util.Collection;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Registry of the latest published {@link AccountView} per account.
+ *
+ * <p>Writers publish from the account's mailbox, so publications of one
+ * account are already serial; readers just fetch the current reference
+ * and never wait for a writer.</p>
+ *
+ * <p>Every publication also updates the {@link EconomyAggregates} and the
+ * {@link AccountIndex}. Writers share a read lock among themselves; only
+ * {@link #reconcile()} takes the write lock, briefly, so its full scan
+ * sees views, counters and indexes agree.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+final class AccountViews {
+
+    private final Map<UUID, AccountView> views = new ConcurrentHashMap<>();
+    private final EconomyAggregates aggregates;
+    private final AccountIndex index = new AccountIndex();
+    private final ReadWriteLock reconcileLock = new ReentrantReadWriteLock();
+
+    /**
+     * @param clock clock overdue loans are counted against
+     */
+    AccountViews(@Nonnull BankClock clock) {
+        this.aggregates = new EconomyAggregates(clock);
+    }
+
+    /**
+     * @return latest published view, or null if none was published yet
+     */
+    @Nullable
+    AccountView get(@Nonnull UUID playerUuid) {
+        return views.get(playerUuid);
+    }
+
+    /**
+     * Captures and publishes a new version of the account's view.
+     * Must be called from the account's mailbox.
+     */
+    @Nonnull
+    AccountView publish(@Nonnull BankAccount account, @Nonnull CreditScore credit) {
+        AccountView previous = views.get(account.getPlayerUuid());
+        long version = previous == null ? 1 : previous.getVersion() + 1;
+        AccountView view = AccountView.of(account, credit, version);
+        reconcileLock.readLock().lock();
+        try {
+            views.put(account.getPlayerUuid(), view);
+            aggregates.apply(view);
+            index.apply(view);
+        } finally {
+            reconcileLock.readLock().unlock();
+        }
+        return view;
+    }
+
+    /**
+     * Recounts the aggregates and re-indexes every published view.
+     *
+     * @return true if the counters had drifted
+     */
+    boolean reconcile() {
+        reconcileLock.writeLock().lock();
+        try {
+            index.rebuild(views.values());
+            return aggregates.reconcile(views.values());
+        } finally {
+            reconcileLock.writeLock().unlock();
+        }
+    }
+
+    @Nonnull
+    EconomyAggregates aggregates() {
+        return aggregates;
+    }
+
+    @Nonnull
+    AccountIndex index() {
+        return index;
+    }
+
+    @Nonnull
+    Collection<AccountView> all() {
+        return views.values();
+    }
+
+    int size() {
+        return views.size();
+    }
+}
@@ -0,0 +1,334 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.model.*;
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.stream.IntStream;
+
+/**
+ * Columnar (struct-of-arrays) daily accrual engine.
+ *
+ * <p>Mirrors every active deposit and loan into primitive columns
+ * (fixed-point amount, rate, term, accrued delta, status) and runs the
+ * daily interest math as tight loops over those columns instead of walking
+ * {@code BankAccount → Deposit} object graphs. Large batches are split
+ * across cores.</p>
+ *
+ * <p>Instruments are loaded grouped by account ("slot"), and results are
+ * written back one slot at a time so each account can be written from its
+ * own mailbox. Instruments closed or changed between load and write-back
+ * are skipped or re-accrued through the services.</p>
+ *
+ * <p>The arithmetic reproduces {@link DepositService#accrueDailyInterest}
+ * and {@link LoanService#accrueDailyInterest} exactly (same scales, same
+ * HALF_UP rounding). Instruments whose amounts or rates do not fit the
+ * fixed-point columns (more than 2 decimals, more than 8 rate decimals,
+ * or overflow) are accrued through the services instead.</p>
+ *
+ * <p>One run at a time: {@link #load}, {@link #compute}, then
+ * {@link #writeBack} once per slot (slots may be written concurrently),
+ * then {@link #release}.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class AccrualEngine {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    /** Minimum column size before loops are split across cores. */
+    private static final int PARALLEL_THRESHOLD = 16_384;
+
+    /** Instruments per parallel chunk. */
+    private static final int CHUNK_SIZE = 4_096;
+
+    private static final long RATE_SCALE = 100_000_000L;     // rates: 8 decimals
+    private static final long LOAN_DAY_DIVISOR = 3_650_000L;  // 365 days × 10^4 (1e-10 → 1e-6)
+    private static final long SCALE6_TO_CENTS = 10_000L;       // 1e-6 → 1e-2
+
+    private static final byte STATUS_PENDING = 0;
+    private static final byte STATUS_DONE = 1;
+    private static final byte STATUS_OVERFLOW = 2;
+
+    private final DepositService depositService;
+    private final LoanService loanService;
+
+    // ── Deposit columns ─────────────────────────────────────
+    private Deposit[] deposits = new Deposit[0];
+    private BigDecimal[] depRateRef = new BigDecimal[0];   // rate as loaded
+    private long[] depAmount = new long[0];   // cents
+    private long[] depRate = new long[0];     // rate × 10^8
+    private int[] depTerm = new int[0];
+    private long[] depAccrued = new long[0];  // daily delta, cents
+    private byte[] depStatus = new byte[0];
+    private int depositCount;
+
+    // ── Loan columns ────────────────────────────────────────
+    private Loan[] loans = new Loan[0];
+    private BigDecimal[] loanBalanceRef = new BigDecimal[0]; // balance as loaded
+    private BigDecimal[] loanRateRef = new BigDecimal[0];    // rate as loaded
+    private long[] loanBalance = new long[0]; // cents
+    private long[] loanRate = new long[0];    // rate × 10^8
+    private long[] loanAccrued = new long[0]; // daily delta, cents
+    private byte[] loanStatus = new byte[0];
+    private int loanCount;
+
+    // ── Slot ranges: slot s owns [from[s], from[s + 1]) ────
+    private int[] depFrom = new int[1];
+    private int[] loanFrom = new int[1];
+    private int slotCount;
+
+    public AccrualEngine(@Nonnull DepositService depositService,
+                         @Nonnull LoanService loanService) {
+        this.depositService = depositService;
+        this.loanService = loanService;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  PIPELINE
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Mirrors instruments into the primitive columns. Slot {@code s}
+     * holds the instruments of {@code deposits.get(s)} and {@code loans.get(s)};
+     * both lists must have the same size (one entry per account).
+     */
+    public void load(@Nonnull List<List<Deposit>> depositsBySlot,
+                     @Nonnull List<List<Loan>> loansBySlot) {
+        slotCount = depositsBySlot.size();
+        depositCount = 0;
+        loanCount = 0;
+        if (depFrom.length < slotCount + 1) {
+            depFrom = new int[slotCount + 1];
+            loanFrom = new int[slotCount + 1];
+        }
+
+        for (int slot = 0; slot < slotCount; slot++) {
+            depFrom[slot] = depositCount;
+            for (Deposit deposit : depositsBySlot.get(slot)) {
+                ensureDepositCapacity(depositCount + 1);
+                int i = depositCount++;
+                BigDecimal rateRef = deposit.getInterestRate();
+                long amount = toFixed(deposit.getAmount(), 2);
+                long rate = toFixed(rateRef, 8);
+                deposits[i] = deposit;
+                depRateRef[i] = rateRef;
+                depAmount[i] = amount;
+                depRate[i] = rate;
+                depTerm[i] = Math.max(1, deposit.getTermDays());
+                depAccrued[i] = 0;
+                depStatus[i] = amount == Long.MIN_VALUE || rate == Long.MIN_VALUE
+                        ? STATUS_OVERFLOW : STATUS_PENDING;
+            }
+
+            loanFrom[slot] = loanCount;
+            for (Loan loan : loansBySlot.get(slot)) {
+                ensureLoanCapacity(loanCount + 1);
+                int i = loanCount++;
+                BigDecimal balanceRef = loan.getRemainingBalance();
+                BigDecimal rateRef = loan.getInterestRate();
+                long balance = toFixed(balanceRef, 2);
+                long rate = toFixed(rateRef, 8);
+                loans[i] = loan;
+                loanBalanceRef[i] = balanceRef;
+                loanRateRef[i] = rateRef;
+                loanBalance[i] = balance;
+                loanRate[i] = rate;
+                loanAccrued[i] = 0;
+                loanStatus[i] = balance == Long.MIN_VALUE || rate == Long.MIN_VALUE
+                        ? STATUS_OVERFLOW : STATUS_PENDING;
+            }
+        }
+        depFrom[slotCount] = depositCount;
+        loanFrom[slotCount] = loanCount;
+    }
+
+    /**
+     * Runs the interest kernels over all loaded instruments.
+     */
+    public void compute() {
+        long started = System.nanoTime();
+        forEachChunk(depositCount, this::accrueDepositRange);
+        forEachChunk(loanCount, this::accrueLoanRange);
+        LOGGER.debug("Computed accrual for {} deposits and {} loans over {} accounts in {} µs",
+                depositCount, loanCount, slotCount, (System.nanoTime() - started) / 1_000);
+    }
+
+    /**
+     * @return number of loaded slots (accounts)
+     */
+    public int getSlotCount() {
+        return slotCount;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  KERNELS
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * daily = round2(amount × round8(rate / term))
+     */
+    private void accrueDepositRange(int from, int to) {
+        long[] amount = depAmount, rate = depRate, accrued = depAccrued;
+        int[] term = depTerm;
+        byte[] status = depStatus;
+
+        for (int i = from; i < to; i++) {
+            if (status[i] != STATUS_PENDING) continue;
+            long dailyRate = divideHalfUp(rate[i], term[i]);
+            long product = amount[i] * dailyRate;
+            if (Math.multiplyHigh(amount[i], dailyRate) != (product >> 63)) {
+                status[i] = STATUS_OVERFLOW;
+                continue;
+            }
+            accrued[i] = divideHalfUp(product, RATE_SCALE);
+            status[i] = STATUS_DONE;
+        }
+    }
+
+    /**
+     * daily = round2(round6(balance × rate / 365))
+     */
+    private void accrueLoanRange(int from, int to) {
+        long[] balance = loanBalance, rate = loanRate, accrued = loanAccrued;
+        byte[] status = loanStatus;
+
+        for (int i = from; i < to; i++) {
+            if (status[i] != STATUS_PENDING) continue;
+            long product = balance[i] * rate[i];
+            if (Math.multiplyHigh(balance[i], rate[i]) != (product >> 63)) {
+                status[i] = STATUS_OVERFLOW;
+                continue;
+            }
+            long scaled6 = divideHalfUp(product, LOAN_DAY_DIVISOR);
+            accrued[i] = divideHalfUp(scaled6, SCALE6_TO_CENTS);
+            status[i] = STATUS_DONE;
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  WRITE-BACK
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Writes one slot's results back to its deposits and loans.
+     * Must run where the account may be mutated (its mailbox).
+     *
+     * @param depositAccrual receives every deposit with its accrued daily amount
+     */
+    public void writeBack(int slot, @Nonnull BiConsumer<Deposit, BigDecimal> depositAccrual) {
+        for (int i = depFrom[slot]; i < depFrom[slot + 1]; i++) {
+            Deposit deposit = deposits[i];
+            if (deposit.getStatus() != DepositStatus.ACTIVE) continue; // closed meanwhile
+
+            BigDecimal daily;
+            if (depStatus[i] == STATUS_DONE && deposit.getInterestRate() == depRateRef[i]) {
+                daily = BigDecimal.valueOf(depAccrued[i], 2);
+                deposit.setAccruedInterest(deposit.getAccruedInterest().add(daily));
+            } else {
+                daily = depositService.accrueDailyInterest(deposit);
+            }
+            depositAccrual.accept(deposit, daily);
+        }
+
+        for (int i = loanFrom[slot]; i < loanFrom[slot + 1]; i++) {
+            Loan loan = loans[i];
+            if (loan.getStatus() != LoanStatus.ACTIVE && loan.getStatus() != LoanStatus.OVERDUE) continue;
+
+            if (loanStatus[i] == STATUS_DONE
+                    && loan.getRemainingBalance() == loanBalanceRef[i]
+                    && loan.getInterestRate() == loanRateRef[i]) {
+                loan.setRemainingBalance(loan.getRemainingBalance()
+                        .add(BigDecimal.valueOf(loanAccrued[i], 2)));
+            } else {
+                loanService.accrueDailyInterest(loan);
+            }
+        }
+    }
+
+    /**
+     * Drops model references so processed instruments can be collected;
+     * primitive columns are kept for the next run.
+     */
+    public void release() {
+        Arrays.fill(deposits, 0, depositCount, null);
+        Arrays.fill(depRateRef, 0, depositCount, null);
+        Arrays.fill(loans, 0, loanCount, null);
+        Arrays.fill(loanBalanceRef, 0, loanCount, null);
+        Arrays.fill(loanRateRef, 0, loanCount, null);
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  HELPERS
+    // ═════════════════════════════════════════════════════════
+
+    @FunctionalInterface
+    private interface RangeKernel {
+        void run(int from, int to);
+    }
+
+    private static void forEachChunk(int size, @Nonnull RangeKernel kernel) {
+        if (size < PARALLEL_THRESHOLD) {
+            kernel.run(0, size);
+            return;
+        }
+        int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+        IntStream.range(0, chunks).parallel().forEach(c -> {
+            int from = c * CHUNK_SIZE;
+            kernel.run(from, Math.min(size, from + CHUNK_SIZE));
+        });
+    }
+
+    /**
+     * Converts a decimal to a fixed-point long with the given scale.
+     *
+     * @return the unscaled value, or {@code Long.MIN_VALUE} if it does not fit exactly
+     */
+    private static long toFixed(BigDecimal value, int scale) {
+        if (value == null || value.scale() > scale) return Long.MIN_VALUE;
+        try {
+            return value.setScale(scale).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return Long.MIN_VALUE;
+        }
+    }
+
+    /**
+     * Integer division rounding half away from zero (BigDecimal HALF_UP).
+     */
+    private static long divideHalfUp(long dividend, long divisor) {
+        long half = divisor / 2;
+        return dividend >= 0
+                ? (dividend + half) / divisor
+                : -((-dividend + half) / divisor);
+    }
+
+    private void ensureDepositCapacity(int needed) {
+        if (needed <= deposits.length) return;
+        int capacity = Math.max(needed, Math.max(64, deposits.length * 2));
+        deposits = Arrays.copyOf(deposits, capacity);
+        depRateRef = Arrays.copyOf(depRateRef, capacity);
+        depAmount = Arrays.copyOf(depAmount, capacity);
+        depRate = Arrays.copyOf(depRate, capacity);
+        depTerm = Arrays.copyOf(depTerm, capacity);
+        depAccrued = Arrays.copyOf(depAccrued, capacity);
+        depStatus = Arrays.copyOf(depStatus, capacity);
+    }
+
+    private void ensureLoanCapacity(int needed) {
+        if (needed <= loans.length) return;
+        int capacity = Math.max(needed, Math.max(64, loans.length * 2));
+        loans = Arrays.copyOf(loans, capacity);
+        loanBalanceRef = Arrays.copyOf(loanBalanceRef, capacity);
+        loanRateRef = Arrays.copyOf(loanRateRef, capacity);
+        loanBalance = Arrays.copyOf(loanBalance, capacity);
+        loanRate = Arrays.copyOf(loanRate, capacity);
+        loanAccrued = Arrays.copyOf(loanAccrued, capacity);
+        loanStatus = Arrays.copyOf(loanStatus, capacity);
+    }
+}
@@ -0,0 +1,466 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.model.*;
+import com.crystalrealm.ecotalebanking.storage.BankStorage;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.*;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Replays the audit journal to rebuild account, deposit and loan state
+ * and to verify it against what is stored.
+ *
+ * <p>Each player's journal is streamed entry by entry (no full list is
+ * materialized) and players are replayed in parallel. The replay only
+ * understands what the services write:</p>
+ * <ul>
+ *   <li>{@code DEPOSIT_OPEN} — "Opened deposit id (plan, Nd, rate=r)"</li>
+ *   <li>{@code DEPOSIT_CLOSE / DEPOSIT_EARLY_WITHDRAWAL} — "Closed deposit id — ..."</li>
+ *   <li>{@code LOAN_TAKE} — {@code id|amount|term|rate|collateral|daily}</li>
+ *   <li>{@code LOAN_REPAY / LOAN_DAILY_PAYMENT} — {@code id|paid|remaining}</li>
+ *   <li>{@code LOAN_OVERDUE} — {@code id|remaining}</li>
+ *   <li>{@code LOAN_DEFAULT} — {@code id|remaining|overdueDays}</li>
+ *   <li>{@code FREEZE / UNFREEZE}</li>
+ * </ul>
+ *
+ * <p>Interest accrual is not journaled, so balances of still-active
+ * loans are not compared. Journals that reached the configured size
+ * limit may have lost their oldest entries; for those, instruments
+ * missing from the journal are not reported.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class AuditReplayEngine {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    private static final Pattern DEPOSIT_OPENED =
+            Pattern.compile("^Opened deposit (\\S+) \\((.+), (\\d+)d, rate=([^)]+)\\)$");
+    private static final Pattern DEPOSIT_CLOSED =
+            Pattern.compile("^Closed deposit (\\S+) ");
+
+    private final BankStorage storage;
+    private final int maxAuditEntries;
+    private final BankClock clock;
+
+    /**
+     * @param maxAuditEntries journal size limit; journals of this size are treated as truncated
+     * @param clock           clock the journaled instruments were opened on
+     */
+    public AuditReplayEngine(@Nonnull BankStorage storage, int maxAuditEntries, @Nonnull BankClock clock) {
+        this.storage = storage;
+        this.maxAuditEntries = maxAuditEntries;
+        this.clock = clock;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  VERIFY
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Replays every journal and compares it with stored state.
+     */
+    @Nonnull
+    public Report verifyAll() {
+        long started = System.nanoTime();
+        Collection<UUID> players = storage.getAuditedPlayers();
+
+        List<PlayerReplay> replays = players.parallelStream()
+                .map(this::replay)
+                .toList();
+
+        List<Divergence> divergences = new ArrayList<>();
+        long entries = 0;
+        for (PlayerReplay replay : replays) {
+            entries += replay.entries;
+            divergences.addAll(compare(replay, storage.loadAccount(replay.playerUuid),
+                    storage.loadHistory(replay.playerUuid)));
+        }
+
+        long elapsedNanos = System.nanoTime() - started;
+        Report report = new Report(players.size(), entries, divergences, elapsedNanos);
+        LOGGER.info("Audit replay: {} players, {} entries in {} ms ({} entries/s), {} divergences",
+                report.getPlayers(), report.getEntries(), report.getElapsedMillis(),
+                report.getEntriesPerSecond(), divergences.size());
+        return report;
+    }
+
+    /**
+     * Replays one player's journal and compares it with stored state.
+     */
+    @Nonnull
+    public List<Divergence> verify(@Nonnull UUID playerUuid) {
+        return compare(replay(playerUuid), storage.loadAccount(playerUuid),
+                storage.loadHistory(playerUuid));
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  REBUILD
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Reconstructs an account purely from its journal (corruption recovery).
+     * Accrued deposit interest and post-journal loan interest cannot be
+     * recovered. The result is not saved.
+     *
+     * @return rebuilt account, or null if the player has no journal
+     */
+    @Nullable
+    public BankAccount rebuild(@Nonnull UUID playerUuid) {
+        PlayerReplay replay = replay(playerUuid);
+        if (replay.entries == 0) return null;
+
+        BankAccount account = new BankAccount(playerUuid, replay.firstSeen);
+        account.setFrozen(replay.frozen, replay.frozen ? replay.frozenReason : null);
+
+        for (ReplayedDeposit d : replay.deposits.values()) {
+            Deposit deposit = new Deposit(d.id, playerUuid, d.plan, d.amount, d.rate, d.termDays,
+                    d.opened, clock);
+            deposit.setStatus(d.status);
+            account.addDeposit(deposit);
+        }
+        for (ReplayedLoan l : replay.loans.values()) {
+            Loan loan = new Loan(l.id, playerUuid, l.principal, l.rate, l.termDays, l.opened,
+                    l.collateral, clock);
+            loan.setRemainingBalance(l.remaining);
+            loan.setTotalPaid(l.totalPaid);
+            loan.setStatus(l.status);
+            if (l.status == LoanStatus.PAID) loan.setDailyPayment(BigDecimal.ZERO);
+            account.addLoan(loan);
+        }
+        return account;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  REPLAY
+    // ═════════════════════════════════════════════════════════
+
+    @Nonnull
+    private PlayerReplay replay(@Nonnull UUID playerUuid) {
+        PlayerReplay replay = new PlayerReplay(playerUuid);
+        storage.forEachAuditLog(playerUuid, replay::apply);
+        replay.truncated = replay.entries >= maxAuditEntries;
+        return replay;
+    }
+
+    /**
+     * Mutable replay state of one player. Confined to one thread.
+     */
+    private static final class PlayerReplay {
+        final UUID playerUuid;
+        final Map<String, ReplayedDeposit> deposits = new LinkedHashMap<>();
+        final Map<String, ReplayedLoan> loans = new LinkedHashMap<>();
+        final List<Divergence> malformed = new ArrayList<>();
+        long entries;
+        boolean truncated;
+        boolean frozen;
+        String frozenReason;
+        boolean freezeJournaled;
+        Instant firstSeen;
+
+        PlayerReplay(UUID playerUuid) {
+            this.playerUuid = playerUuid;
+        }
+
+        void apply(@Nullable AuditLog log) {
+            if (log == null || log.getType() == null) return;
+            entries++;
+            if (firstSeen == null) firstSeen = log.getTimestamp();
+
+            String desc = log.getDescription() != null ? log.getDescription() : "";
+            try {
+                switch (log.getType()) {
+                    case DEPOSIT_OPEN -> {
+                        Matcher m = DEPOSIT_OPENED.matcher(desc);
+                        if (!m.matches() || log.getAmount() == null) { malformed(log); return; }
+                        deposits.put(m.group(1), new ReplayedDeposit(m.group(1), m.group(2),
+                                log.getAmount(), new BigDecimal(m.group(4)),
+                                Integer.parseInt(m.group(3)), log.getTimestamp()));
+                    }
+                    case DEPOSIT_CLOSE, DEPOSIT_EARLY_WITHDRAWAL -> {
+                        Matcher m = DEPOSIT_CLOSED.matcher(desc);
+                        if (!m.find()) { malformed(log); return; }
+                        ReplayedDeposit d = deposits.get(m.group(1));
+                        if (d != null) {
+                            d.status = log.getType() == TransactionType.DEPOSIT_CLOSE
+                                    ? DepositStatus.MATURED : DepositStatus.WITHDRAWN;
+                        }
+                    }
+                    case LOAN_TAKE -> {
+                        String[] p = desc.split("\\|");
+                        if (p.length < 5) { malformed(log); return; }
+                        loans.put(p[0], new ReplayedLoan(p[0], new BigDecimal(p[1]),
+                                Integer.parseInt(p[2]), new BigDecimal(p[3]),
+                                new BigDecimal(p[4]), log.getTimestamp()));
+                    }
+                    case LOAN_REPAY, LOAN_DAILY_PAYMENT -> {
+                        String[] p = desc.split("\\|");
+                        if (p.length < 3) { malformed(log); return; }
+                        ReplayedLoan l = loans.get(p[0]);
+                        if (l != null) {
+                            l.totalPaid = l.totalPaid.add(new BigDecimal(p[1]));
+                            l.remaining = new BigDecimal(p[2]);
+                            if (l.remaining.signum() <= 0) l.status = LoanStatus.PAID;
+                        }
+                    }
+                    case LOAN_OVERDUE -> {
+                        String[] p = desc.split("\\|");
+                        if (p.length < 2) { malformed(log); return; }
+                        ReplayedLoan l = loans.get(p[0]);
+                        if (l != null) {
+                            l.remaining = new BigDecimal(p[1]);
+                            l.status = LoanStatus.OVERDUE;
+                        }
+                    }
+                    case LOAN_DEFAULT -> {
+                        String[] p = desc.split("\\|");
+                        if (p.length < 2) { malformed(log); return; }
+                        ReplayedLoan l = loans.get(p[0]);
+                        if (l != null) {
+                            l.remaining = new BigDecimal(p[1]);
+                            l.status = LoanStatus.DEFAULTED;
+                        }
+                    }
+                    case FREEZE -> {
+                        frozen = true;
+                        frozenReason = desc.startsWith("Account frozen: ")
+                                ? desc.substring("Account frozen: ".length()) : desc;
+                        freezeJournaled = true;
+                    }
+                    case UNFREEZE -> {
+                        frozen = false;
+                        frozenReason = null;
+                        freezeJournaled = true;
+                    }
+                    default -> { /* taxes, penalties, wallet moves: no instrument state */ }
+                }
+            } catch (RuntimeException e) {
+                malformed(log);
+            }
+        }
+
+        private void malformed(AuditLog log) {
+            malformed.add(new Divergence(playerUuid, log.getId(), Divergence.Kind.MALFORMED_ENTRY,
+                    log.getType() + ": " + log.getDescription()));
+        }
+    }
+
+    private static final class ReplayedDeposit {
+        final String id;
+        final String plan;
+        final BigDecimal amount;
+        final BigDecimal rate;
+        final int termDays;
+        final Instant opened;
+        DepositStatus status = DepositStatus.ACTIVE;
+
+        ReplayedDeposit(String id, String plan, BigDecimal amount, BigDecimal rate,
+                        int termDays, Instant opened) {
+            this.id = id;
+            this.plan = plan;
+            this.amount = amount;
+            this.rate = rate;
+            this.termDays = termDays;
+            this.opened = opened;
+        }
+    }
+
+    private static final class ReplayedLoan {
+        final String id;
+        final BigDecimal principal;
+        final int termDays;
+        final BigDecimal rate;
+        final BigDecimal collateral;
+        final Instant opened;
+        BigDecimal remaining;
+        BigDecimal totalPaid = BigDecimal.ZERO;
+        LoanStatus status = LoanStatus.ACTIVE;
+
+        ReplayedLoan(String id, BigDecimal principal, int termDays, BigDecimal rate,
+                     BigDecimal collateral, Instant opened) {
+            this.id = id;
+            this.principal = principal;
+            this.termDays = termDays;
+            this.rate = rate;
+            this.collateral = collateral;
+            this.opened = opened;
+            this.remaining = principal;
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  COMPARE
+    // ═════════════════════════════════════════════════════════
+
+    @Nonnull
+    private static List<Divergence> compare(@Nonnull PlayerReplay replay,
+                                            @Nullable BankAccount account,
+                                            @Nonnull InstrumentHistory history) {
+        List<Divergence> out = new ArrayList<>(replay.malformed);
+        UUID uuid = replay.playerUuid;
+
+        if (account == null) {
+            if (!replay.deposits.isEmpty() || !replay.loans.isEmpty()) {
+                out.add(new Divergence(uuid, null, Divergence.Kind.MISSING_ACCOUNT,
+                        replay.deposits.size() + " deposits, " + replay.loans.size() + " loans in journal"));
+            }
+            return out;
+        }
+
+        if (replay.freezeJournaled && replay.frozen != account.isFrozen()) {
+            out.add(new Divergence(uuid, null, Divergence.Kind.FROZEN_MISMATCH,
+                    "journal=" + replay.frozen + ", stored=" + account.isFrozen()));
+        }
+
+        // ── Deposits ──
+        Set<String> seen = new HashSet<>();
+        for (ReplayedDeposit d : replay.deposits.values()) {
+            seen.add(d.id);
+            Deposit stored = account.getDepositById(d.id);
+            if (stored == null) stored = history.getDepositById(d.id);
+            if (stored == null) {
+                out.add(new Divergence(uuid, d.id, Divergence.Kind.MISSING_IN_STORE, "deposit " + d.plan));
+                continue;
+            }
+            if (stored.getStatus() != d.status) {
+                out.add(new Divergence(uuid, d.id, Divergence.Kind.STATUS_MISMATCH,
+                        "journal=" + d.status + ", stored=" + stored.getStatus()));
+            }
+            if (stored.getAmount().compareTo(d.amount) != 0) {
+                out.add(new Divergence(uuid, d.id, Divergence.Kind.AMOUNT_MISMATCH,
+                        "journal=" + d.amount + ", stored=" + stored.getAmount()));
+            }
+        }
+        if (!replay.truncated) {
+            List<Deposit> allDeposits = new ArrayList<>(account.getDeposits());
+            allDeposits.addAll(history.getDeposits());
+            for (Deposit stored : allDeposits) {
+                if (!seen.contains(stored.getId())) {
+                    out.add(new Divergence(uuid, stored.getId(), Divergence.Kind.MISSING_IN_JOURNAL,
+                            "deposit " + stored.getPlanName() + " (" + stored.getStatus() + ")"));
+                }
+            }
+        }
+
+        // ── Loans ──
+        seen.clear();
+        for (ReplayedLoan l : replay.loans.values()) {
+            seen.add(l.id);
+            Loan stored = account.getLoanById(l.id);
+            if (stored == null) stored = history.getLoanById(l.id);
+            if (stored == null) {
+                out.add(new Divergence(uuid, l.id, Divergence.Kind.MISSING_IN_STORE, "loan " + l.principal));
+                continue;
+            }
+            if (stored.getStatus() != l.status) {
+                out.add(new Divergence(uuid, l.id, Divergence.Kind.STATUS_MISMATCH,
+                        "journal=" + l.status + ", stored=" + stored.getStatus()));
+            }
+            if (stored.getPrincipalAmount().compareTo(l.principal) != 0) {
+                out.add(new Divergence(uuid, l.id, Divergence.Kind.AMOUNT_MISMATCH,
+                        "journal=" + l.principal + ", stored=" + stored.getPrincipalAmount()));
+            }
+            // Closed loans no longer accrue, so their balance must match the last checkpoint
+            if ((l.status == LoanStatus.PAID || l.status == LoanStatus.DEFAULTED)
+                    && l.status == stored.getStatus()
+                    && stored.getRemainingBalance().compareTo(l.remaining) != 0) {
+                out.add(new Divergence(uuid, l.id, Divergence.Kind.BALANCE_MISMATCH,
+                        "journal=" + l.remaining + ", stored=" + stored.getRemainingBalance()));
+            }
+            if (!replay.truncated && stored.getTotalPaid().compareTo(l.totalPaid) != 0) {
+                out.add(new Divergence(uuid, l.id, Divergence.Kind.BALANCE_MISMATCH,
+                        "paid journal=" + l.totalPaid + ", stored=" + stored.getTotalPaid()));
+            }
+        }
+        if (!replay.truncated) {
+            List<Loan> allLoans = new ArrayList<>(account.getLoans());
+            allLoans.addAll(history.getLoans());
+            for (Loan stored : allLoans) {
+                if (!seen.contains(stored.getId())) {
+                    out.add(new Divergence(uuid, stored.getId(), Divergence.Kind.MISSING_IN_JOURNAL,
+                            "loan " + stored.getPrincipalAmount() + " (" + stored.getStatus() + ")"));
+                }
+            }
+        }
+
+        return out;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  RESULTS
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * A difference between the replayed journal and stored state.
+     */
+    public static final class Divergence {
+
+        public enum Kind {
+            MALFORMED_ENTRY,
+            MISSING_ACCOUNT,
+            MISSING_IN_STORE,
+            MISSING_IN_JOURNAL,
+            STATUS_MISMATCH,
+            AMOUNT_MISMATCH,
+            BALANCE_MISMATCH,
+            FROZEN_MISMATCH
+        }
+
+        private final UUID playerUuid;
+        private final String instrumentId;
+        private final Kind kind;
+        private final String detail;
+
+        Divergence(UUID playerUuid, @Nullable String instrumentId, Kind kind, String detail) {
+            this.playerUuid = playerUuid;
+            this.instrumentId = instrumentId;
+            this.kind = kind;
+            this.detail = detail;
+        }
+
+        @Nonnull public UUID getPlayerUuid() { return playerUuid; }
+        @Nullable public String getInstrumentId() { return instrumentId; }
+        @Nonnull public Kind getKind() { return kind; }
+        @Nonnull public String getDetail() { return detail; }
+
+        @Override
+        public String toString() {
+            return playerUuid + (instrumentId != null ? "/" + instrumentId : "")
+                    + " " + kind + ": " + detail;
+        }
+    }
+
+    /**
+     * Outcome of a full replay.
+     */
+    public static final class Report {
+        private final int players;
+        private final long entries;
+        private final List<Divergence> divergences;
+        private final long elapsedNanos;
+
+        Report(int players, long entries, List<Divergence> divergences, long elapsedNanos) {
+            this.players = players;
+            this.entries = entries;
+            this.divergences = List.copyOf(divergences);
+            this.elapsedNanos = elapsedNanos;
+        }
+
+        public int getPlayers() { return players; }
+        public long getEntries() { return entries; }
+        @Nonnull public List<Divergence> getDivergences() { return divergences; }
+        public long getElapsedMillis() { return elapsedNanos / 1_000_000; }
+
+        public long getEntriesPerSecond() {
+            return elapsedNanos > 0 ? entries * 1_000_000_000L / elapsedNanos : entries;
+        }
+    }
+}
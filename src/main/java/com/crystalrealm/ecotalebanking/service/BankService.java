@@ -2,16 +2,21 @@ package com.crystalrealm.ecotalebanking.service;
 
 import com.crystalrealm.ecotalebanking.model.*;
 import com.crystalrealm.ecotalebanking.storage.BankStorage;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.IdGenerator;
 import com.crystalrealm.ecotalebanking.util.MessageUtil;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
-import com.ecotale.api.EcotaleAPI;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
 
 /**
  * Central facade of the banking system.
@@ -19,6 +24,20 @@ import java.util.UUID;
  * <p>Coordinates all services and the Ecotale API.
  * All commands operate through this facade.</p>
  *
+ * <p>Every account mutation runs on that account's mailbox
+ * ({@link AccountMailboxes}): operations on one account are applied one
+ * at a time, operations on different accounts run in parallel. The
+ * blocking methods wait for the result; the {@code *Async} variants
+ * return immediately.</p>
+ *
+ * <p>After each committed mutation the account's {@link AccountView} is
+ * republished from inside its mailbox. GUIs and info commands read these
+ * views and never wait for, or block, a writer.</p>
+ *
+ * <p>Closed deposits and loans are moved to the player's append-only
+ * instrument history once the mutation that closed them has finished,
+ * so the account itself only carries live instruments.</p>
+ *
  * @author CrystalRealm
  * @version 1.0.0
  */
@@ -26,12 +45,25 @@ public class BankService {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
+    /** Mailbox worker threads of a live (non-offline) instance. */
+    private static final int MAILBOX_THREADS =
+            Math.max(2, Math.min(4, Runtime.getRuntime().availableProcessors()));
+
+    /** Seconds to wait for queued account operations on shutdown. */
+    private static final long SHUTDOWN_TIMEOUT_SECONDS = 10;
+
     private final BankStorage storage;
     private final DepositService depositService;
     private final LoanService loanService;
     private final CreditRatingService creditService;
     private final TaxService taxService;
     private final InflationService inflationService;
+    private final AccrualEngine accrualEngine;
+    private final Wallet wallet;
+    private final boolean offline;
+    private final AccountMailboxes mailboxes;
+    private final AccountViews views;
+    private final BankClock clock;
 
     public BankService(@Nonnull BankStorage storage,
                        @Nonnull DepositService depositService,
@@ -39,12 +71,42 @@ public class BankService {
                        @Nonnull CreditRatingService creditService,
                        @Nonnull TaxService taxService,
                        @Nonnull InflationService inflationService) {
+        this(storage, depositService, loanService, creditService, taxService,
+                inflationService, EcotaleWallet.INSTANCE, false);
+    }
+
+    /**
+     * @param wallet  wallet money is moved in and out of
+     * @param offline offline instances (projections) never notify players
+     *                and run account operations on the calling thread
+     */
+    public BankService(@Nonnull BankStorage storage,
+                       @Nonnull DepositService depositService,
+                       @Nonnull LoanService loanService,
+                       @Nonnull CreditRatingService creditService,
+                       @Nonnull TaxService taxService,
+                       @Nonnull InflationService inflationService,
+                       @Nonnull Wallet wallet,
+                       boolean offline) {
         this.storage = storage;
         this.depositService = depositService;
         this.loanService = loanService;
         this.creditService = creditService;
         this.taxService = taxService;
         this.inflationService = inflationService;
+        this.accrualEngine = new AccrualEngine(depositService, loanService);
+        this.wallet = wallet;
+        this.offline = offline;
+        this.mailboxes = offline ? AccountMailboxes.direct() : AccountMailboxes.create(MAILBOX_THREADS);
+        this.clock = loanService.getClock();
+        this.views = new AccountViews(clock);
+    }
+
+    /**
+     * Finishes queued account operations and stops the mailbox workers.
+     */
+    public void shutdown() {
+        mailboxes.shutdown(SHUTDOWN_TIMEOUT_SECONDS);
     }
 
     // ═════════════════════════════════════════════════════════
@@ -56,7 +118,62 @@ public class BankService {
      */
     @Nonnull
     public BankAccount getAccount(@Nonnull UUID playerUuid) {
-        return storage.loadOrCreateAccount(playerUuid);
+        return storage.loadOrCreateAccount(playerUuid, clock.now());
+    }
+
+    /**
+     * Latest published read view of the account. The first call for an
+     * account captures it on the account's mailbox; later calls never block.
+     */
+    @Nonnull
+    public AccountView getView(@Nonnull UUID playerUuid) {
+        AccountView view = views.get(playerUuid);
+        if (view != null) return view;
+        return mailboxes.call(playerUuid, () -> ensureViewInternal(playerUuid));
+    }
+
+    /**
+     * Read views of all stored accounts. Missing views are captured in
+     * parallel on their mailboxes.
+     */
+    @Nonnull
+    public List<AccountView> getAllViews() {
+        Collection<BankAccount> accounts = storage.getAllAccounts();
+        List<AccountView> result = new ArrayList<>(accounts.size());
+        List<CompletableFuture<AccountView>> pending = new ArrayList<>();
+        for (BankAccount account : accounts) {
+            UUID uuid = account.getPlayerUuid();
+            AccountView view = views.get(uuid);
+            if (view != null) {
+                result.add(view);
+            } else {
+                pending.add(mailboxes.submit(uuid, () -> ensureViewInternal(uuid)));
+            }
+        }
+        for (CompletableFuture<AccountView> future : pending) {
+            result.add(future.join());
+        }
+        return result;
+    }
+
+    /**
+     * Closed deposits and loans of the player, read from the history store.
+     */
+    @Nonnull
+    public InstrumentHistory getHistory(@Nonnull UUID playerUuid) {
+        return storage.loadHistory(playerUuid);
+    }
+
+    /**
+     * Remembers the player's display name (queued, does not wait).
+     */
+    public void updateLastKnownName(@Nonnull UUID playerUuid, @Nonnull String name) {
+        AccountView view = views.get(playerUuid);
+        if (view != null && name.equals(view.getLastKnownName())) return;
+        mailboxes.submit(playerUuid, committing(playerUuid, () -> {
+            getAccount(playerUuid).setLastKnownName(name);
+            return null;
+        }));
     }
 
     /**
@@ -64,9 +181,9 @@ public class BankService {
      */
     public double getWalletBalance(@Nonnull UUID playerUuid) {
         try {
-            return EcotaleAPI.getBalance(playerUuid);
+            return wallet.getBalance(playerUuid);
         } catch (Exception e) {
-            LOGGER.error("Failed to get Ecotale balance for {}: {}", playerUuid, e.getMessage());
+            LOGGER.error("Failed to get wallet balance for {}: {}", playerUuid, e.getMessage());
             return 0;
         }
     }
@@ -75,14 +192,22 @@ public class BankService {
      * Freezes the account (admin / anti-abuse).
      */
     public void freezeAccount(@Nonnull UUID playerUuid, @Nonnull String reason) {
+        mailboxes.call(playerUuid, committing(playerUuid, () -> {
+            freezeAccountInternal(playerUuid, reason);
+            return null;
+        }));
+    }
+
+    private void freezeAccountInternal(@Nonnull UUID playerUuid, @Nonnull String reason) {
         BankAccount account = getAccount(playerUuid);
         account.setFrozen(true, reason);
         storage.saveAccount(account);
 
         storage.addAuditLog(new AuditLog(
-                UUID.randomUUID().toString().substring(0, 8),
+                IdGenerator.next(),
                 playerUuid, TransactionType.FREEZE, BigDecimal.ZERO,
-                "Account frozen: " + reason
+                "Account frozen: " + reason,
+                clock.now()
         ));
 
         LOGGER.warn("Account {} frozen: {}", playerUuid, reason);
@@ -92,14 +217,22 @@ public class BankService {
      * Unfreezes the account.
      */
     public void unfreezeAccount(@Nonnull UUID playerUuid) {
+        mailboxes.call(playerUuid, committing(playerUuid, () -> {
+            unfreezeAccountInternal(playerUuid);
+            return null;
+        }));
+    }
+
+    private void unfreezeAccountInternal(@Nonnull UUID playerUuid) {
         BankAccount account = getAccount(playerUuid);
         account.setFrozen(false, null);
         storage.saveAccount(account);
 
         storage.addAuditLog(new AuditLog(
-                UUID.randomUUID().toString().substring(0, 8),
+                IdGenerator.next(),
                 playerUuid, TransactionType.UNFREEZE, BigDecimal.ZERO,
-                "Account unfrozen"
+                "Account unfrozen",
+                clock.now()
         ));
 
         LOGGER.info("Account {} unfrozen", playerUuid);
@@ -118,13 +251,32 @@ public class BankService {
     public BankResult openDeposit(@Nonnull UUID playerUuid,
                                   @Nonnull String planName,
                                   @Nonnull BigDecimal amount) {
+        return mailboxes.call(playerUuid,
+                committing(playerUuid, () -> openDepositInternal(playerUuid, planName, amount)));
+    }
+
+    /**
+     * Queues {@link #openDeposit} on the account's mailbox.
+     */
+    @Nonnull
+    public CompletableFuture<BankResult> openDepositAsync(@Nonnull UUID playerUuid,
+                                                          @Nonnull String planName,
+                                                          @Nonnull BigDecimal amount) {
+        return mailboxes.submit(playerUuid,
+                committing(playerUuid, () -> openDepositInternal(playerUuid, planName, amount)));
+    }
+
+    @Nonnull
+    private BankResult openDepositInternal(@Nonnull UUID playerUuid,
+                                           @Nonnull String planName,
+                                           @Nonnull BigDecimal amount) {
         BankAccount account = getAccount(playerUuid);
         if (account.isFrozen()) {
             return BankResult.error("account_frozen");
         }
 
         // Check Ecotale balance
-        if (!EcotaleAPI.hasBalance(playerUuid, amount.doubleValue())) {
+        if (!wallet.hasBalance(playerUuid, amount.doubleValue())) {
             return BankResult.error("insufficient_funds");
         }
 
@@ -132,7 +284,7 @@ public class BankService {
         BigDecimal txTax = taxService.calculateTransactionTax(amount);
         BigDecimal totalCost = amount.add(txTax);
 
-        if (!EcotaleAPI.hasBalance(playerUuid, totalCost.doubleValue())) {
+        if (!wallet.hasBalance(playerUuid, totalCost.doubleValue())) {
             return BankResult.error("insufficient_funds_with_tax");
         }
 
@@ -142,7 +294,8 @@ public class BankService {
         }
 
         // Withdraw from Ecotale
-        EcotaleAPI.withdraw(playerUuid, totalCost.doubleValue(), "Bank deposit: " + deposit.getId());
+        wallet.withdraw(playerUuid, totalCost.doubleValue(), "Bank deposit: " + deposit.getId());
+        taxService.record(TreasuryLedger.Category.TRANSACTION_FEE, txTax);
 
         return BankResult.success("deposit_opened", deposit.getId());
     }
@@ -153,6 +306,23 @@ public class BankService {
     @Nonnull
     public BankResult closeDeposit(@Nonnull UUID playerUuid,
                                    @Nonnull String depositId) {
+        return mailboxes.call(playerUuid,
+                committing(playerUuid, () -> closeDepositInternal(playerUuid, depositId)));
+    }
+
+    /**
+     * Queues {@link #closeDeposit} on the account's mailbox.
+     */
+    @Nonnull
+    public CompletableFuture<BankResult> closeDepositAsync(@Nonnull UUID playerUuid,
+                                                           @Nonnull String depositId) {
+        return mailboxes.submit(playerUuid,
+                committing(playerUuid, () -> closeDepositInternal(playerUuid, depositId)));
+    }
+
+    @Nonnull
+    private BankResult closeDepositInternal(@Nonnull UUID playerUuid,
+                                            @Nonnull String depositId) {
         BankAccount account = getAccount(playerUuid);
         if (account.isFrozen()) {
             return BankResult.error("account_frozen");
@@ -164,7 +334,7 @@ public class BankService {
         }
 
         // Credit to Ecotale
-        EcotaleAPI.deposit(playerUuid, payout.doubleValue(), "Deposit closed: " + depositId);
+        wallet.deposit(playerUuid, payout.doubleValue(), "Deposit closed: " + depositId);
 
         return BankResult.success("deposit_closed", payout.toPlainString());
     }
@@ -179,6 +349,23 @@ public class BankService {
     @Nonnull
     public BankResult takeLoan(@Nonnull UUID playerUuid,
                                @Nonnull BigDecimal amount) {
+        return mailboxes.call(playerUuid,
+                committing(playerUuid, () -> takeLoanInternal(playerUuid, amount)));
+    }
+
+    /**
+     * Queues {@link #takeLoan} on the account's mailbox.
+     */
+    @Nonnull
+    public CompletableFuture<BankResult> takeLoanAsync(@Nonnull UUID playerUuid,
+                                                       @Nonnull BigDecimal amount) {
+        return mailboxes.submit(playerUuid,
+                committing(playerUuid, () -> takeLoanInternal(playerUuid, amount)));
+    }
+
+    @Nonnull
+    private BankResult takeLoanInternal(@Nonnull UUID playerUuid,
+                                        @Nonnull BigDecimal amount) {
         BankAccount account = getAccount(playerUuid);
         if (account.isFrozen()) {
             return BankResult.error("account_frozen");
@@ -191,10 +378,10 @@ public class BankService {
         }
 
         // Collateral
-        BigDecimal collateral = amount.multiply(BigDecimal.valueOf(loanService.getCollateralRate()))
+        BigDecimal collateral = amount.multiply(loanService.getCollateralRateDecimal())
                 .setScale(2, java.math.RoundingMode.HALF_UP);
 
-        if (!EcotaleAPI.hasBalance(playerUuid, collateral.doubleValue())) {
+        if (!wallet.hasBalance(playerUuid, collateral.doubleValue())) {
             return BankResult.error("insufficient_collateral");
         }
 
@@ -204,10 +391,10 @@ public class BankService {
         }
 
         // Deduct collateral
-        EcotaleAPI.withdraw(playerUuid, collateral.doubleValue(), "Loan collateral: " + loan.getId());
+        wallet.withdraw(playerUuid, collateral.doubleValue(), "Loan collateral: " + loan.getId());
 
         // Credit loan amount
-        EcotaleAPI.deposit(playerUuid, amount.doubleValue(), "Loan issued: " + loan.getId());
+        wallet.deposit(playerUuid, amount.doubleValue(), "Loan issued: " + loan.getId());
 
         return BankResult.success("loan_issued", loan.getId());
     }
@@ -219,12 +406,31 @@ public class BankService {
     public BankResult repayLoan(@Nonnull UUID playerUuid,
                                 @Nonnull String loanId,
                                 @Nonnull BigDecimal amount) {
+        return mailboxes.call(playerUuid,
+                committing(playerUuid, () -> repayLoanInternal(playerUuid, loanId, amount)));
+    }
+
+    /**
+     * Queues {@link #repayLoan} on the account's mailbox.
+     */
+    @Nonnull
+    public CompletableFuture<BankResult> repayLoanAsync(@Nonnull UUID playerUuid,
+                                                        @Nonnull String loanId,
+                                                        @Nonnull BigDecimal amount) {
+        return mailboxes.submit(playerUuid,
+                committing(playerUuid, () -> repayLoanInternal(playerUuid, loanId, amount)));
+    }
+
+    @Nonnull
+    private BankResult repayLoanInternal(@Nonnull UUID playerUuid,
+                                         @Nonnull String loanId,
+                                         @Nonnull BigDecimal amount) {
         BankAccount account = getAccount(playerUuid);
         if (account.isFrozen()) {
             return BankResult.error("account_frozen");
         }
 
-        if (!EcotaleAPI.hasBalance(playerUuid, amount.doubleValue())) {
+        if (!wallet.hasBalance(playerUuid, amount.doubleValue())) {
             return BankResult.error("insufficient_funds");
         }
 
@@ -234,13 +440,13 @@ public class BankService {
         }
 
         // Withdraw from Ecotale
-        EcotaleAPI.withdraw(playerUuid, actual.doubleValue(), "Loan repayment: " + loanId);
+        wallet.withdraw(playerUuid, actual.doubleValue(), "Loan repayment: " + loanId);
 
         // Check whether to return collateral
         Loan loan = account.getLoanById(loanId);
         if (loan != null && loan.getStatus() == LoanStatus.PAID) {
             BigDecimal collateralReturn = loan.getCollateralAmount();
-            EcotaleAPI.deposit(playerUuid, collateralReturn.doubleValue(),
+            wallet.deposit(playerUuid, collateralReturn.doubleValue(),
                     "Collateral returned: " + loanId);
             return BankResult.success("loan_fully_repaid", actual.toPlainString());
         }
@@ -255,49 +461,91 @@ public class BankService {
     /**
      * Daily processing: interest, overdue checks, taxes.
      * Called by the scheduler once per game day.
+     *
+     * <p>Active instruments are captured from each account's mailbox,
+     * accrued in one columnar pass, then every account is written back,
+     * re-rated and has its loans processed inside its own mailbox.</p>
      */
-    public void dailyProcessing() {
+    public synchronized void dailyProcessing() {
         LOGGER.info("Running daily bank processing...");
 
-        Collection<BankAccount> accounts = storage.getAllAccounts();
-        int depositCount = 0;
-        int loanCount = 0;
+        List<BankAccount> accounts = new ArrayList<>(storage.getAllAccounts());
+        AtomicInteger depositCount = new AtomicInteger();
+        AtomicInteger loanCount = new AtomicInteger();
 
+        // --- Capture active instruments per account ---
+        List<CompletableFuture<List<Deposit>>> depositCaptures = new ArrayList<>(accounts.size());
+        List<CompletableFuture<List<Loan>>> loanCaptures = new ArrayList<>(accounts.size());
         for (BankAccount account : accounts) {
-            UUID playerUuid = account.getPlayerUuid();
-
-            // --- Deposit interest accrual ---
-            for (Deposit deposit : account.getActiveDeposits()) {
-                BigDecimal accrued = depositService.accrueDailyInterest(deposit);
-                if (accrued.compareTo(BigDecimal.ZERO) > 0) {
-                    depositCount++;
-                    // Notify player
-                    String msg = "<green>[Банк] <gray>Начисление процентов по вкладу <white>"
-                            + deposit.getId() + "<gray>: <green>+"
-                            + MessageUtil.formatCoins(accrued) + " $";
-                    MessageUtil.sendNotification(playerUuid, msg);
-                }
-            }
-            depositService.updateDynamicRates(account);
+            UUID uuid = account.getPlayerUuid();
+            depositCaptures.add(mailboxes.submit(uuid, account::getActiveDeposits));
+            loanCaptures.add(mailboxes.submit(uuid, account::getActiveLoans));
+        }
+        List<List<Deposit>> deposits = new ArrayList<>(accounts.size());
+        List<List<Loan>> loans = new ArrayList<>(accounts.size());
+        for (int i = 0; i < accounts.size(); i++) {
+            deposits.add(depositCaptures.get(i).join());
+            loans.add(loanCaptures.get(i).join());
+        }
 
-            // --- Loan processing ---
-            loanCount += processAccountLoansInternal(account);
+        // --- Interest accrual (deposits + loans, columnar) ---
+        accrualEngine.load(deposits, loans);
+        accrualEngine.compute();
 
-            storage.saveAccount(account);
+        // --- Per-account write-back and loan processing ---
+        List<CompletableFuture<Void>> tasks = new ArrayList<>(accounts.size());
+        try {
+            for (int i = 0; i < accounts.size(); i++) {
+                BankAccount account = accounts.get(i);
+                int slot = i;
+                tasks.add(mailboxes.submit(account.getPlayerUuid(), () -> {
+                    try {
+                        accrualEngine.writeBack(slot, (deposit, accrued) -> {
+                            if (accrued.compareTo(BigDecimal.ZERO) > 0) {
+                                depositCount.incrementAndGet();
+                                // Notify player
+                                String msg = "<green>[Банк] <gray>Начисление процентов по вкладу <white>"
+                                        + deposit.getId() + "<gray>: <green>+"
+                                        + MessageUtil.formatCoins(accrued) + " $";
+                                notifyPlayer(deposit.getPlayerUuid(), msg);
+                            }
+                        });
+                        depositService.updateDynamicRates(account);
+
+                        // --- Loan processing (interest already accrued above) ---
+                        loanCount.addAndGet(processAccountLoansInternal(account, false));
+
+                        archiveClosedInternal(account);
+                        storage.saveAccount(account);
+                        publishViewInternal(account.getPlayerUuid());
+                    } catch (Exception e) {
+                        LOGGER.error("Daily processing failed for {}: {}",
+                                account.getPlayerUuid(), e.getMessage());
+                    }
+                    return null;
+                }));
+            }
+            CompletableFuture.allOf(tasks.toArray(new CompletableFuture<?>[0])).join();
+        } finally {
+            accrualEngine.release();
         }
 
         LOGGER.info("Daily processing complete. Deposits interest: {}, Loan payments: {}",
-                depositCount, loanCount);
+                depositCount.get(), loanCount.get());
+        views.reconcile();
     }
 
     /**
      * Accrues interest on deposits of a specific account.
      */
     public void processAccountDeposits(@Nonnull BankAccount account) {
-        for (Deposit deposit : account.getActiveDeposits()) {
-            depositService.accrueDailyInterest(deposit);
-        }
-        depositService.updateDynamicRates(account);
+        mailboxes.call(account.getPlayerUuid(), committing(account.getPlayerUuid(), () -> {
+            for (Deposit deposit : account.getActiveDeposits()) {
+                depositService.accrueDailyInterest(deposit);
+            }
+            depositService.updateDynamicRates(account);
+            return null;
+        }));
     }
 
     /**
@@ -305,35 +553,43 @@ public class BankService {
      * Includes interest accrual, auto-payments, and overdue checks.
      */
     public void processAccountLoans(@Nonnull BankAccount account) {
-        processAccountLoansInternal(account);
-        storage.saveAccount(account);
+        mailboxes.call(account.getPlayerUuid(), committing(account.getPlayerUuid(), () -> {
+            processAccountLoansInternal(account, true);
+            storage.saveAccount(account);
+            return null;
+        }));
     }
 
     /**
      * Internal loan processing with notifications.
      *
+     * @param accrueInterest whether to accrue daily interest here
+     *                       ({@code false} when the accrual engine already did)
      * @return number of payments processed
      */
-    private int processAccountLoansInternal(@Nonnull BankAccount account) {
+    private int processAccountLoansInternal(@Nonnull BankAccount account, boolean accrueInterest) {
         UUID playerUuid = account.getPlayerUuid();
         int paymentCount = 0;
 
         for (Loan loan : account.getActiveLoans()) {
-            loanService.accrueDailyInterest(loan);
+            if (accrueInterest) {
+                loanService.accrueDailyInterest(loan);
+            }
 
             // Auto-deduct daily payment from wallet
             BigDecimal daily = loan.getDailyPayment();
             if (daily != null && daily.compareTo(BigDecimal.ZERO) > 0) {
-                if (EcotaleAPI.hasBalance(playerUuid, daily.doubleValue())) {
-                    EcotaleAPI.withdraw(playerUuid, daily.doubleValue(),
+                if (wallet.hasBalance(playerUuid, daily.doubleValue())) {
+                    wallet.withdraw(playerUuid, daily.doubleValue(),
                             "Auto daily payment: " + loan.getId());
                     BigDecimal paid = loanService.applyDailyPayment(loan);
                     if (paid.compareTo(BigDecimal.ZERO) > 0) {
                         paymentCount++;
                         storage.addAuditLog(new AuditLog(
-                                UUID.randomUUID().toString().substring(0, 8),
+                                IdGenerator.next(),
                                 playerUuid, TransactionType.LOAN_DAILY_PAYMENT, paid,
-                                loan.getId() + "|" + paid + "|" + loan.getRemainingBalance()
+                                loan.getId() + "|" + paid + "|" + loan.getRemainingBalance(),
+                                clock.now()
                         ));
                         // Notify player about auto-payment
                         String msg = "<yellow>[Банк] <gray>Автоплатёж по займу <white>"
@@ -341,7 +597,7 @@ public class BankService {
                                 + MessageUtil.formatCoins(paid) + " $"
                                 + " <dark_gray>(остаток: "
                                 + MessageUtil.formatCoins(loan.getRemainingBalance()) + " $)";
-                        MessageUtil.sendNotification(playerUuid, msg);
+                        notifyPlayer(playerUuid, msg);
                     }
                 } else {
                     // Missed daily payment
@@ -354,7 +610,7 @@ public class BankService {
                             + loan.getId() + "<gray>: <red>"
                             + MessageUtil.formatCoins(daily) + " $"
                             + " <dark_gray>(недостаточно средств)";
-                    MessageUtil.sendNotification(playerUuid, msg);
+                    notifyPlayer(playerUuid, msg);
                 }
             }
 
@@ -364,6 +620,142 @@ public class BankService {
         return paymentCount;
     }
 
+    // ═════════════════════════════════════════════════════════
+    //  BALANCE TAX
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Queues withdrawal of an assessed balance (wealth) tax on the
+     * account's mailbox. The wallet is re-checked at withdrawal time; if
+     * the player no longer has the amount, nothing is taken. The view is
+     * republished afterwards, so views cached by version see the audit entry.
+     */
+    @Nonnull
+    public CompletableFuture<BankResult> collectBalanceTaxAsync(@Nonnull UUID playerUuid,
+                                                                @Nonnull BigDecimal amount) {
+        return mailboxes.submit(playerUuid,
+                committing(playerUuid, () -> collectBalanceTaxInternal(playerUuid, amount)));
+    }
+
+    @Nonnull
+    private BankResult collectBalanceTaxInternal(@Nonnull UUID playerUuid,
+                                                 @Nonnull BigDecimal amount) {
+        if (!wallet.hasBalance(playerUuid, amount.doubleValue())) {
+            return BankResult.error("insufficient_funds");
+        }
+        if (!wallet.withdraw(playerUuid, amount.doubleValue(), "Bank balance tax")) {
+            return BankResult.error("insufficient_funds");
+        }
+        taxService.record(TreasuryLedger.Category.BALANCE_TAX, amount);
+
+        storage.addAuditLog(new AuditLog(
+                IdGenerator.next(),
+                playerUuid, TransactionType.TAX_BALANCE, amount,
+                "Balance tax",
+                clock.now()
+        ));
+
+        String msg = "<yellow>[Банк] <gray>Налог на капитал: <red>-"
+                + MessageUtil.formatCoins(amount) + " $";
+        notifyPlayer(playerUuid, msg);
+        return BankResult.success("balance_tax_collected", amount.toPlainString());
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  READ VIEWS
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Wraps a mailbox mutation so closed instruments are archived and the
+     * account's view is republished once it has run, whether it succeeded,
+     * was refused or failed halfway.
+     */
+    @Nonnull
+    private <T> Supplier<T> committing(@Nonnull UUID playerUuid, @Nonnull Supplier<T> mutation) {
+        return () -> {
+            try {
+                return mutation.get();
+            } finally {
+                BankAccount account = getAccount(playerUuid);
+                if (archiveClosedInternal(account)) {
+                    storage.saveAccount(account);
+                }
+                publishViewInternal(playerUuid);
+            }
+        };
+    }
+
+    /**
+     * Moves closed instruments from the account to its history. The
+     * history is appended before the caller saves the account, so a crash
+     * in between leaves a duplicate history entry rather than losing one.
+     *
+     * @return true if anything was archived (the account must be saved)
+     */
+    private boolean archiveClosedInternal(@Nonnull BankAccount account) {
+        if (!account.hasClosedInstruments()) return false;
+        List<Deposit> deposits = account.getClosedDeposits();
+        List<Loan> loans = account.getClosedLoans();
+        if (!storage.appendHistory(account.getPlayerUuid(), deposits, loans)) {
+            return false; // keep them on the account, retry next time
+        }
+        account.removeClosedInstruments();
+        LOGGER.debug("Archived {} deposits and {} loans of {}",
+                deposits.size(), loans.size(), account.getPlayerUuid());
+        return true;
+    }
+
+    /**
+     * Economy-wide totals over all published views, read in O(1).
+     */
+    @Nonnull
+    public EconomyAggregates getAggregates() {
+        return views.aggregates();
+    }
+
+    /**
+     * Sorted and searchable index of all published views, for paging.
+     */
+    @Nonnull
+    public AccountIndex getAccountIndex() {
+        return views.index();
+    }
+
+    /**
+     * Updates the inflation rate from the economy aggregates and tax intake.
+     */
+    public void updateInflation() {
+        inflationService.updateRate(views.aggregates(), taxService.getTaxIntake());
+    }
+
+    /**
+     * Publishes views of accounts that have none yet, then recounts the
+     * aggregates from a full scan and corrects any drift.
+     *
+     * @return true if the counters had drifted
+     */
+    public boolean reconcileAggregates() {
+        getAllViews();
+        return views.reconcile();
+    }
+
+    @Nonnull
+    private AccountView publishViewInternal(@Nonnull UUID playerUuid) {
+        return views.publish(getAccount(playerUuid), creditService.getScore(playerUuid));
+    }
+
+    @Nonnull
+    private AccountView ensureViewInternal(@Nonnull UUID playerUuid) {
+        AccountView view = views.get(playerUuid);
+        return view != null ? view : publishViewInternal(playerUuid);
+    }
+
+    private void notifyPlayer(@Nonnull UUID playerUuid, @Nonnull String message) {
+        if (!offline) {
+            MessageUtil.sendNotification(playerUuid, message);
+        }
+    }
+
     // ═════════════════════════════════════════════════════════
     //  INFO
     // ═════════════════════════════════════════════════════════
@@ -378,6 +770,11 @@ public class BankService {
     @Nonnull public CreditRatingService getCreditService() { return creditService; }
     @Nonnull public TaxService getTaxService() { return taxService; }
     @Nonnull public InflationService getInflationService() { return inflationService; }
+    @Nonnull public Wallet getWallet() { return wallet; }
+    @Nonnull public AccountMailboxes getMailboxes() { return mailboxes; }
+
+    /** @return clock the deposit and loan services run on */
+    @Nonnull public BankClock getClock() { return clock; }
 
     // ═════════════════════════════════════════════════════════
     //  RESULT
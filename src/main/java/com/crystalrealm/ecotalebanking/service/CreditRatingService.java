@@ -1,13 +1,15 @@
 package com.crystalrealm.ecotalebanking.service;
 
-import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.CompiledConfig;
 import com.crystalrealm.ecotalebanking.model.CreditScore;
 import com.crystalrealm.ecotalebanking.storage.BankStorage;
+import com.crystalrealm.ecotalebanking.util.BankClock;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 
 import javax.annotation.Nonnull;
 import java.math.BigDecimal;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Credit rating service.
@@ -36,12 +38,24 @@ public class CreditRatingService {
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
     private final BankStorage storage;
-    private final BankingConfig.CreditConfig config;
+    private final Supplier<CompiledConfig> config;
+    private final BankClock clock;
 
     public CreditRatingService(@Nonnull BankStorage storage,
-                               @Nonnull BankingConfig.CreditConfig config) {
+                               @Nonnull Supplier<CompiledConfig> config) {
+        this(storage, config, BankClock.system());
+    }
+
+    public CreditRatingService(@Nonnull BankStorage storage,
+                               @Nonnull Supplier<CompiledConfig> config,
+                               @Nonnull BankClock clock) {
         this.storage = storage;
         this.config = config;
+        this.clock = clock;
+    }
+
+    private CompiledConfig.Credit credit() {
+        return config.get().getCredit();
     }
 
     /**
@@ -49,7 +63,7 @@ public class CreditRatingService {
      */
     @Nonnull
     public CreditScore getScore(@Nonnull UUID playerUuid) {
-        return storage.loadOrCreateCreditScore(playerUuid);
+        return storage.loadOrCreateCreditScore(playerUuid, clock.now());
     }
 
     /**
@@ -57,11 +71,13 @@ public class CreditRatingService {
      */
     public void onLoanCompleted(@Nonnull UUID playerUuid) {
         CreditScore score = getScore(playerUuid);
-        score.adjustScore(config.getLoanCompletedBonus());
+        int bonus = credit().getLoanCompletedBonus();
+        score.adjustScore(bonus);
         score.incrementLoansCompleted();
+        score.markUpdated(clock.now());
         storage.saveCreditScore(score);
         LOGGER.debug("Credit score for {} adjusted +{} (loan completed). Now: {}",
-                playerUuid, config.getLoanCompletedBonus(), score.getScore());
+                playerUuid, bonus, score.getScore());
     }
 
     /**
@@ -69,11 +85,13 @@ public class CreditRatingService {
      */
     public void onLoanDefaulted(@Nonnull UUID playerUuid) {
         CreditScore score = getScore(playerUuid);
-        score.adjustScore(config.getLoanDefaultPenalty());
+        int penalty = credit().getLoanDefaultPenalty();
+        score.adjustScore(penalty);
         score.incrementLoansDefaulted();
+        score.markUpdated(clock.now());
         storage.saveCreditScore(score);
         LOGGER.debug("Credit score for {} adjusted {} (default). Now: {}",
-                playerUuid, config.getLoanDefaultPenalty(), score.getScore());
+                playerUuid, penalty, score.getScore());
     }
 
     /**
@@ -81,8 +99,9 @@ public class CreditRatingService {
      */
     public void onTimelyPayment(@Nonnull UUID playerUuid) {
         CreditScore score = getScore(playerUuid);
-        score.adjustScore(config.getOnTimePaymentBonus());
+        score.adjustScore(credit().getOnTimePaymentBonus());
         score.incrementOnTimePayments();
+        score.markUpdated(clock.now());
         storage.saveCreditScore(score);
     }
 
@@ -91,8 +110,9 @@ public class CreditRatingService {
      */
     public void onLatePayment(@Nonnull UUID playerUuid) {
         CreditScore score = getScore(playerUuid);
-        score.adjustScore(config.getLatePaymentPenalty());
+        score.adjustScore(credit().getLatePaymentPenalty());
         score.incrementLatePayments();
+        score.markUpdated(clock.now());
         storage.saveCreditScore(score);
     }
 
@@ -101,8 +121,9 @@ public class CreditRatingService {
      */
     public void onDepositCompleted(@Nonnull UUID playerUuid) {
         CreditScore score = getScore(playerUuid);
-        score.adjustScore(config.getDepositCompletedBonus());
+        score.adjustScore(credit().getDepositCompletedBonus());
         score.incrementDepositsCompleted();
+        score.markUpdated(clock.now());
         storage.saveCreditScore(score);
     }
 
@@ -121,11 +142,12 @@ public class CreditRatingService {
         CreditScore score = getScore(playerUuid);
         int s = score.getScore();
 
-        if (s >= 800) return BigDecimal.valueOf(-config.getExcellentRateDiscount());
-        if (s >= 600) return BigDecimal.valueOf(-config.getExcellentRateDiscount() / 2.0);
+        CompiledConfig.Credit cfg = credit();
+        if (s >= 800) return cfg.getExcellentRateModifier();
+        if (s >= 600) return cfg.getGoodRateModifier();
         if (s >= 400) return BigDecimal.ZERO;
-        if (s >= 200) return BigDecimal.valueOf(config.getPoorRatePenalty() / 2.0);
-        return BigDecimal.valueOf(config.getPoorRatePenalty());
+        if (s >= 200) return cfg.getPoorRateModifier();
+        return cfg.getBadRateModifier();
     }
 
     /**
@@ -0,0 +1,118 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.model.DepositPlan;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Immutable, versioned table of deposit plans and their
+ * inflation-adjusted rates, keyed by plan name (case-insensitive).
+ *
+ * <p>Built once per combination of plan configuration and inflation
+ * state; {@link DepositService} rebuilds it only when either changes.
+ * Deposits remember the version their rate was taken from, so
+ * unchanged deposits are skipped on the daily rate refresh.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class DepositRateTable {
+
+    private final long version;
+    private final List<BankingConfig.DepositPlanConfig> source;
+    private final boolean inflationEnabled;
+    private final BigDecimal inflationRate;
+    private final List<DepositPlan> plans;
+    private final Map<String, Entry> byName;
+
+    private DepositRateTable(long version,
+                             List<BankingConfig.DepositPlanConfig> source,
+                             boolean inflationEnabled,
+                             BigDecimal inflationRate,
+                             List<DepositPlan> plans,
+                             Map<String, Entry> byName) {
+        this.version = version;
+        this.source = source;
+        this.inflationEnabled = inflationEnabled;
+        this.inflationRate = inflationRate;
+        this.plans = plans;
+        this.byName = byName;
+    }
+
+    /**
+     * Builds a table from the plan configuration and the current inflation state.
+     */
+    @Nonnull
+    static DepositRateTable build(long version,
+                                  @Nonnull List<BankingConfig.DepositPlanConfig> source,
+                                  @Nonnull InflationService inflation) {
+        boolean enabled = inflation.isEnabled();
+        BigDecimal rate = inflation.getCurrentRate();
+
+        List<DepositPlan> plans = new ArrayList<>(source.size());
+        Map<String, Entry> byName = new HashMap<>();
+        for (BankingConfig.DepositPlanConfig p : source) {
+            DepositPlan plan = new DepositPlan(
+                    p.getName(),
+                    p.getTermDays(),
+                    BigDecimal.valueOf(p.getBaseRate()),
+                    BigDecimal.valueOf(p.getMinAmount()),
+                    BigDecimal.valueOf(p.getMaxAmount()));
+            plans.add(plan);
+            // first plan wins on duplicate names, like the former stream lookup
+            byName.putIfAbsent(key(p.getName()),
+                    new Entry(plan, inflation.adjustDepositRate(plan.getBaseRate())));
+        }
+
+        return new DepositRateTable(version, source, enabled, rate,
+                List.copyOf(plans), Map.copyOf(byName));
+    }
+
+    /**
+     * @return true if the table was built from different plans or inflation state
+     */
+    boolean isStale(@Nonnull List<BankingConfig.DepositPlanConfig> currentSource,
+                    @Nonnull InflationService inflation) {
+        return source != currentSource
+                || inflationEnabled != inflation.isEnabled()
+                || inflationRate.compareTo(inflation.getCurrentRate()) != 0;
+    }
+
+    public long getVersion() { return version; }
+
+    @Nonnull
+    public List<DepositPlan> getPlans() { return plans; }
+
+    @Nullable
+    public Entry find(@Nonnull String planName) {
+        return byName.get(key(planName));
+    }
+
+    private static String key(String planName) {
+        return planName.toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * A plan together with its inflation-adjusted rate.
+     */
+    public static final class Entry {
+        private final DepositPlan plan;
+        private final BigDecimal effectiveRate;
+
+        private Entry(DepositPlan plan, BigDecimal effectiveRate) {
+            this.plan = plan;
+            this.effectiveRate = effectiveRate;
+        }
+
+        @Nonnull public DepositPlan getPlan() { return plan; }
+        @Nonnull public BigDecimal getEffectiveRate() { return effectiveRate; }
+    }
+}
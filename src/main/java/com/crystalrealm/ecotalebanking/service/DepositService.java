@@ -1,17 +1,21 @@
 package com.crystalrealm.ecotalebanking.service;
 
 import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.CompiledConfig;
 import com.crystalrealm.ecotalebanking.model.*;
 import com.crystalrealm.ecotalebanking.storage.BankStorage;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.IdGenerator;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.Instant;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 
 /**
  * Deposit management service.
@@ -34,21 +38,61 @@ public class DepositService {
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
     private final BankStorage storage;
-    private final BankingConfig.DepositsConfig config;
+    private final Supplier<CompiledConfig> config;
     private final InflationService inflationService;
     private final TaxService taxService;
     private final CreditRatingService creditService;
+    private final BankClock clock;
+
+    private final AtomicLong rateTableVersions = new AtomicLong();
+    private volatile DepositRateTable rateTable;
 
     public DepositService(@Nonnull BankStorage storage,
-                          @Nonnull BankingConfig.DepositsConfig config,
+                          @Nonnull Supplier<CompiledConfig> config,
                           @Nonnull InflationService inflationService,
                           @Nonnull TaxService taxService,
                           @Nonnull CreditRatingService creditService) {
+        this(storage, config, inflationService, taxService, creditService, BankClock.system());
+    }
+
+    public DepositService(@Nonnull BankStorage storage,
+                          @Nonnull Supplier<CompiledConfig> config,
+                          @Nonnull InflationService inflationService,
+                          @Nonnull TaxService taxService,
+                          @Nonnull CreditRatingService creditService,
+                          @Nonnull BankClock clock) {
         this.storage = storage;
         this.config = config;
         this.inflationService = inflationService;
         this.taxService = taxService;
         this.creditService = creditService;
+        this.clock = clock;
+    }
+
+    private CompiledConfig.Deposits deposits() {
+        return config.get().getDeposits();
+    }
+
+    /**
+     * Returns the current plan/rate table, rebuilding it if the plan
+     * configuration or the inflation state changed since it was built.
+     */
+    @Nonnull
+    public DepositRateTable getRateTable() {
+        List<BankingConfig.DepositPlanConfig> plans = deposits().getPlans();
+        DepositRateTable table = rateTable;
+        if (table == null || table.isStale(plans, inflationService)) {
+            synchronized (rateTableVersions) {
+                table = rateTable;
+                if (table == null || table.isStale(plans, inflationService)) {
+                    table = DepositRateTable.build(rateTableVersions.incrementAndGet(),
+                            plans, inflationService);
+                    rateTable = table;
+                    LOGGER.debug("Deposit rate table rebuilt (version {})", table.getVersion());
+                }
+            }
+        }
+        return table;
     }
 
     /**
@@ -56,15 +100,8 @@ public class DepositService {
      */
     @Nullable
     public DepositPlan findPlan(@Nonnull String planName) {
-        return config.getPlans().stream()
-                .filter(p -> p.getName().equalsIgnoreCase(planName))
-                .map(p -> new DepositPlan(
-                        p.getName(),
-                        p.getTermDays(),
-                        BigDecimal.valueOf(p.getBaseRate()),
-                        BigDecimal.valueOf(p.getMinAmount()),
-                        BigDecimal.valueOf(p.getMaxAmount())))
-                .findFirst().orElse(null);
+        DepositRateTable.Entry entry = getRateTable().find(planName);
+        return entry != null ? entry.getPlan() : null;
     }
 
     /**
@@ -72,14 +109,7 @@ public class DepositService {
      */
     @Nonnull
     public List<DepositPlan> getAvailablePlans() {
-        return config.getPlans().stream()
-                .map(p -> new DepositPlan(
-                        p.getName(),
-                        p.getTermDays(),
-                        BigDecimal.valueOf(p.getBaseRate()),
-                        BigDecimal.valueOf(p.getMinAmount()),
-                        BigDecimal.valueOf(p.getMaxAmount())))
-                .toList();
+        return getRateTable().getPlans();
     }
 
     /**
@@ -91,8 +121,10 @@ public class DepositService {
     public Deposit openDeposit(@Nonnull UUID playerUuid,
                                @Nonnull String planName,
                                @Nonnull BigDecimal amount) {
-        DepositPlan plan = findPlan(planName);
-        if (plan == null) return null;
+        DepositRateTable table = getRateTable();
+        DepositRateTable.Entry entry = table.find(planName);
+        if (entry == null) return null;
+        DepositPlan plan = entry.getPlan();
 
         // Amount validation
         if (amount.compareTo(plan.getMinAmount()) < 0 ||
@@ -100,30 +132,32 @@ public class DepositService {
             return null;
         }
 
-        BankAccount account = storage.loadOrCreateAccount(playerUuid);
+        BankAccount account = storage.loadOrCreateAccount(playerUuid, clock.now());
 
         // Check active deposits limit
-        if (account.getActiveDeposits().size() >= config.getMaxPerPlayer()) {
+        if (account.getActiveDeposits().size() >= deposits().getMaxPerPlayer()) {
             return null;
         }
 
-        // Calculate rate adjusted for inflation
-        BigDecimal effectiveRate = inflationService.adjustDepositRate(plan.getBaseRate());
+        // Rate adjusted for inflation
+        BigDecimal effectiveRate = entry.getEffectiveRate();
 
         // Create deposit
-        String depositId = UUID.randomUUID().toString().substring(0, 8);
+        String depositId = IdGenerator.next();
         Deposit deposit = new Deposit(depositId, playerUuid, planName,
-                amount, effectiveRate, plan.getTermDays(), Instant.now());
+                amount, effectiveRate, plan.getTermDays(), clock.now(), clock);
+        deposit.setRateVersion(table.getVersion());
 
         account.addDeposit(deposit);
         storage.saveAccount(account);
 
         // Audit
         storage.addAuditLog(new AuditLog(
-                UUID.randomUUID().toString().substring(0, 8),
+                IdGenerator.next(),
                 playerUuid, TransactionType.DEPOSIT_OPEN, amount,
                 "Opened deposit " + depositId + " (" + planName + ", " +
-                        plan.getTermDays() + "d, rate=" + effectiveRate + ")"
+                        plan.getTermDays() + "d, rate=" + effectiveRate + ")",
+                deposit.getStartDate()
         ));
 
         LOGGER.info("Deposit opened: {} by {} — {} coins, plan={}, rate={}",
@@ -140,7 +174,7 @@ public class DepositService {
     @Nullable
     public BigDecimal closeDeposit(@Nonnull UUID playerUuid,
                                    @Nonnull String depositId) {
-        BankAccount account = storage.loadOrCreateAccount(playerUuid);
+        BankAccount account = storage.loadOrCreateAccount(playerUuid, clock.now());
         Deposit deposit = account.getDepositById(depositId);
         if (deposit == null || deposit.getStatus() != DepositStatus.ACTIVE) {
             return null;
@@ -149,7 +183,7 @@ public class DepositService {
         BigDecimal payout;
         TransactionType txType;
 
-        if (deposit.isMatured()) {
+        if (deposit.isMatured(clock)) {
             // Term expired — full payout
             payout = deposit.getTotalPayout();
             deposit.setStatus(DepositStatus.MATURED);
@@ -160,7 +194,7 @@ public class DepositService {
         } else {
             // Early withdrawal — penalty
             BigDecimal penalty = deposit.getAmount()
-                    .multiply(BigDecimal.valueOf(config.getEarlyWithdrawalPenaltyRate()))
+                    .multiply(deposits().getEarlyWithdrawalPenaltyRate())
                     .setScale(2, RoundingMode.HALF_UP);
             deposit.setEarlyWithdrawalPenalty(penalty);
             deposit.setStatus(DepositStatus.WITHDRAWN);
@@ -171,18 +205,23 @@ public class DepositService {
         // Interest tax
         BigDecimal interestTax = taxService.calculateInterestTax(deposit.getAccruedInterest());
         payout = payout.subtract(interestTax).max(BigDecimal.ZERO);
+        taxService.record(TreasuryLedger.Category.INTEREST_TAX, interestTax);
+        taxService.record(TreasuryLedger.Category.INTEREST_PAID, deposit.getAccruedInterest());
+        taxService.record(TreasuryLedger.Category.EARLY_WITHDRAWAL_PENALTY,
+                deposit.getEarlyWithdrawalPenalty());
 
         storage.saveAccount(account);
 
         // Audit
         storage.addAuditLog(new AuditLog(
-                UUID.randomUUID().toString().substring(0, 8),
+                IdGenerator.next(),
                 playerUuid, txType, payout,
                 "Closed deposit " + depositId + " — payout=" + payout +
                         ", tax=" + interestTax +
                         (deposit.getStatus() == DepositStatus.WITHDRAWN
                                 ? ", penalty=" + deposit.getEarlyWithdrawalPenalty()
-                                : "")
+                                : ""),
+                clock.now()
         ));
 
         LOGGER.info("Deposit closed: {} by {} — payout={}, tax={}",
@@ -236,24 +275,28 @@ public class DepositService {
 
     /**
      * Updates the rate of dynamic deposits (when inflation changes).
+     * Deposits already priced from the current rate table are skipped.
      */
     public void updateDynamicRates(@Nonnull BankAccount account) {
         if (!inflationService.isEnabled()) return;
 
+        DepositRateTable table = getRateTable();
         for (Deposit deposit : account.getActiveDeposits()) {
-            DepositPlan plan = findPlan(deposit.getPlanName());
-            if (plan != null) {
-                BigDecimal newRate = inflationService.adjustDepositRate(plan.getBaseRate());
-                deposit.setInterestRate(newRate);
+            if (deposit.getRateVersion() == table.getVersion()) continue;
+
+            DepositRateTable.Entry entry = table.find(deposit.getPlanName());
+            if (entry != null) {
+                deposit.setInterestRate(entry.getEffectiveRate());
             }
+            deposit.setRateVersion(table.getVersion());
         }
     }
 
     public boolean isEnabled() {
-        return config.isEnabled();
+        return deposits().isEnabled();
     }
 
     public int getMaxPerPlayer() {
-        return config.getMaxPerPlayer();
+        return deposits().getMaxPerPlayer();
     }
 }
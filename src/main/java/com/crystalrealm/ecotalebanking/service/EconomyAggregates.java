@@ -0,0 +1,235 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.model.AccountView;
+import com.crystalrealm.ecotalebanking.model.LoanView;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Economy-wide totals over all published account views, maintained
+ * incrementally.
+ *
+ * <p>Each publication of an {@link AccountView} adds the difference
+ * between the new and the previous contribution of that account to striped
+ * {@link LongAdder} counters, so writers on different mailboxes never
+ * contend and readers get the totals in O(1). Amounts are kept in
+ * fixed-point hundredths ({@link #SCALE} decimals).</p>
+ *
+ * <p>Overdue loans are counted as of each view's publication, so the last
+ * contribution of every account is remembered rather than recomputed.
+ * Daily processing republishes every account, and
+ * {@link AccountViews#reconcile()} periodically recounts everything from
+ * scratch and corrects any drift.</p>
+ *
+ * <p>Individual getters are exact; values read by separate getters may
+ * belong to slightly different moments while accounts are being updated.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class EconomyAggregates {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    /** Decimal places of the fixed-point amounts. */
+    public static final int SCALE = 2;
+
+    private final LongAdder accounts = new LongAdder();
+    private final LongAdder frozenAccounts = new LongAdder();
+    private final LongAdder activeDeposits = new LongAdder();
+    private final LongAdder activeLoans = new LongAdder();
+    private final LongAdder overdueLoans = new LongAdder();
+    private final LongAdder depositedUnits = new LongAdder();
+    private final LongAdder debtUnits = new LongAdder();
+    private final LongAdder creditScoreSum = new LongAdder();
+    private final Map<UUID, Totals> contributions = new ConcurrentHashMap<>();
+    private final BankClock clock;
+
+    /**
+     * @param clock clock overdue loans are counted against
+     */
+    EconomyAggregates(@Nonnull BankClock clock) {
+        this.clock = clock;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  READ
+    // ═════════════════════════════════════════════════════════
+
+    public long getAccounts() { return accounts.sum(); }
+    public long getFrozenAccounts() { return frozenAccounts.sum(); }
+    public long getActiveDeposits() { return activeDeposits.sum(); }
+    public long getActiveLoans() { return activeLoans.sum(); }
+    public long getOverdueLoans() { return overdueLoans.sum(); }
+
+    @Nonnull
+    public BigDecimal getTotalDeposited() {
+        return BigDecimal.valueOf(depositedUnits.sum(), SCALE);
+    }
+
+    @Nonnull
+    public BigDecimal getTotalDebt() {
+        return BigDecimal.valueOf(debtUnits.sum(), SCALE);
+    }
+
+    /**
+     * @return average credit score, or 0 if there are no accounts
+     */
+    public double getAverageCreditScore() {
+        long count = accounts.sum();
+        return count == 0 ? 0 : (double) creditScoreSum.sum() / count;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  UPDATE
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Replaces the account's contribution with that of {@code next}.
+     * Calls for one account must be serial (its mailbox).
+     */
+    void apply(@Nonnull AccountView next) {
+        Totals contribution = Totals.of(next, clock);
+        Totals previous = contributions.put(next.getPlayerUuid(), contribution);
+        Totals delta = contribution.copy();
+        if (previous == null) {
+            accounts.increment();
+        } else {
+            delta.subtract(previous);
+        }
+        add(delta);
+    }
+
+    /**
+     * Recounts all contributions from {@code views} (refreshing overdue
+     * counts) and resets the counters to the result. Writers must be
+     * excluded while this runs.
+     *
+     * @return true if the counters had drifted from the recorded contributions
+     */
+    boolean reconcile(@Nonnull Collection<AccountView> views) {
+        // Drift: counters that no longer match what was applied
+        Totals recorded = new Totals();
+        for (Totals contribution : contributions.values()) recorded.add(contribution);
+        Totals drift = recorded.copy();
+        drift.subtract(current());
+        long countDrift = contributions.size() - accounts.sum();
+        boolean drifted = !drift.isZero() || countDrift != 0;
+        if (drifted) {
+            LOGGER.warn("Economy aggregates drifted (accounts {}, deposits {}, loans {}, "
+                            + "deposited {}, debt {}) — corrected from a full scan.",
+                    countDrift, drift.deposits, drift.loans,
+                    BigDecimal.valueOf(drift.deposited, SCALE), BigDecimal.valueOf(drift.debt, SCALE));
+        }
+
+        Map<UUID, Totals> fresh = new HashMap<>(views.size() * 2);
+        Totals actual = new Totals();
+        for (AccountView view : views) {
+            Totals contribution = Totals.of(view, clock);
+            fresh.put(view.getPlayerUuid(), contribution);
+            actual.add(contribution);
+        }
+        contributions.keySet().retainAll(fresh.keySet());
+        contributions.putAll(fresh);
+
+        Totals correction = actual;
+        correction.subtract(current());
+        accounts.add(fresh.size() - accounts.sum());
+        add(correction);
+        return drifted;
+    }
+
+    // ── Internal ────────────────────────────────────────────
+
+    private void add(Totals delta) {
+        if (delta.frozen != 0) frozenAccounts.add(delta.frozen);
+        if (delta.deposits != 0) activeDeposits.add(delta.deposits);
+        if (delta.loans != 0) activeLoans.add(delta.loans);
+        if (delta.overdue != 0) overdueLoans.add(delta.overdue);
+        if (delta.deposited != 0) depositedUnits.add(delta.deposited);
+        if (delta.debt != 0) debtUnits.add(delta.debt);
+        if (delta.creditScore != 0) creditScoreSum.add(delta.creditScore);
+    }
+
+    private Totals current() {
+        Totals t = new Totals();
+        t.frozen = frozenAccounts.sum();
+        t.deposits = activeDeposits.sum();
+        t.loans = activeLoans.sum();
+        t.overdue = overdueLoans.sum();
+        t.deposited = depositedUnits.sum();
+        t.debt = debtUnits.sum();
+        t.creditScore = creditScoreSum.sum();
+        return t;
+    }
+
+    static long toUnits(@Nonnull BigDecimal amount) {
+        return amount.setScale(SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /** Contribution of one view, or a difference of contributions. */
+    private static final class Totals {
+        long frozen;
+        long deposits;
+        long loans;
+        long overdue;
+        long deposited;
+        long debt;
+        long creditScore;
+
+        static Totals of(AccountView view, BankClock clock) {
+            Totals t = new Totals();
+            t.frozen = view.isFrozen() ? 1 : 0;
+            t.deposits = view.getActiveDeposits().size();
+            t.loans = view.getActiveLoans().size();
+            for (LoanView loan : view.getActiveLoans()) {
+                if (loan.isOverdue(clock)) t.overdue++;
+            }
+            t.deposited = toUnits(view.getTotalDeposited());
+            t.debt = toUnits(view.getTotalDebt());
+            t.creditScore = view.getCreditScore();
+            return t;
+        }
+
+        void add(Totals o) {
+            frozen += o.frozen;
+            deposits += o.deposits;
+            loans += o.loans;
+            overdue += o.overdue;
+            deposited += o.deposited;
+            debt += o.debt;
+            creditScore += o.creditScore;
+        }
+
+        void subtract(Totals o) {
+            frozen -= o.frozen;
+            deposits -= o.deposits;
+            loans -= o.loans;
+            overdue -= o.overdue;
+            deposited -= o.deposited;
+            debt -= o.debt;
+            creditScore -= o.creditScore;
+        }
+
+        Totals copy() {
+            Totals t = new Totals();
+            t.add(this);
+            return t;
+        }
+
+        boolean isZero() {
+            return frozen == 0 && deposits == 0 && loans == 0 && overdue == 0
+                    && deposited == 0 && debt == 0 && creditScore == 0;
+        }
+    }
+}
@@ -0,0 +1,39 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.ecotale.api.EcotaleAPI;
+
+import javax.annotation.Nonnull;
+import java.util.UUID;
+
+/**
+ * {@link Wallet} backed by the Ecotale economy API.
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class EcotaleWallet implements Wallet {
+
+    public static final EcotaleWallet INSTANCE = new EcotaleWallet();
+
+    private EcotaleWallet() {}
+
+    @Override
+    public double getBalance(@Nonnull UUID playerUuid) {
+        return EcotaleAPI.getBalance(playerUuid);
+    }
+
+    @Override
+    public boolean hasBalance(@Nonnull UUID playerUuid, double amount) {
+        return EcotaleAPI.hasBalance(playerUuid, amount);
+    }
+
+    @Override
+    public boolean deposit(@Nonnull UUID playerUuid, double amount, @Nonnull String reason) {
+        return EcotaleAPI.deposit(playerUuid, amount, reason);
+    }
+
+    @Override
+    public boolean withdraw(@Nonnull UUID playerUuid, double amount, @Nonnull String reason) {
+        return EcotaleAPI.withdraw(playerUuid, amount, reason);
+    }
+}
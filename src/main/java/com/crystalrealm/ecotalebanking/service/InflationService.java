@@ -1,20 +1,33 @@
 package com.crystalrealm.ecotalebanking.service;
 
-import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.CompiledConfig;
+import com.crystalrealm.ecotalebanking.storage.InflationSeries;
+import com.crystalrealm.ecotalebanking.util.BankClock;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 
 import javax.annotation.Nonnull;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
 import java.time.Instant;
+import java.util.Random;
+import java.util.function.Supplier;
 
 /**
  * Inflation service.
  *
- * <p>Models inflation based on a configurable base rate.
+ * <p>Models inflation around a configurable base rate, driven by the
+ * bank's money supply (deposits plus outstanding debt). Each update
+ * reads the incrementally maintained {@link EconomyAggregates} and the
+ * tax intake — never the accounts — and moves the rate towards a target
+ * that rises with money-supply growth and net lending and falls with
+ * tax drained from circulation. A small seeded fluctuation is added on top.
  * The current inflation rate affects interest rates
  * of deposits and loans.</p>
  *
+ * <p>Every update is appended to an {@link InflationSeries}; the live
+ * server persists it, so the rate and the last measurement survive a
+ * restart.</p>
+ *
  * <p>When inflation is enabled:</p>
  * <ul>
  *   <li>Deposit rates are adjusted upward (inflation compensation)</li>
@@ -29,21 +42,64 @@ public class InflationService {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
-    private final BankingConfig.InflationConfig config;
-    private BigDecimal currentRate;
-    private Instant lastUpdated;
+    /** Target rate added per unit of money-supply growth since the last update. */
+    private static final double GROWTH_WEIGHT = 0.5;
+    /** Target rate added per unit of net lending ((debt − deposits) / supply). */
+    private static final double LENDING_WEIGHT = 0.02;
+    /** Target rate removed per unit of tax intake relative to the supply. */
+    private static final double TAX_WEIGHT = 1.0;
+    /** Share of the gap to the target closed by one update. */
+    private static final double ADJUSTMENT = 0.25;
+    /** Fluctuation amplitude as a share of the base rate (±). */
+    private static final double NOISE = 0.05;
+
+    private final Supplier<CompiledConfig> config;
+    private final Random random;
+    private final BankClock clock;
+    private final InflationSeries series;
+    private volatile BigDecimal currentRate;
+    private volatile Instant lastUpdated;
+    /** Tax intake at the previous update. */
+    private BigDecimal lastTaxIntake = BigDecimal.ZERO;
+
+    public InflationService(@Nonnull Supplier<CompiledConfig> config) {
+        this(config, new Random(), BankClock.system(), InflationSeries.inMemory());
+    }
 
-    public InflationService(@Nonnull BankingConfig.InflationConfig config) {
+    /**
+     * @param random source of the rate fluctuation (seeded for reproducible projections)
+     * @param clock  clock that stamps rate updates
+     * @param series time series the rate is restored from and recorded to
+     */
+    public InflationService(@Nonnull Supplier<CompiledConfig> config,
+                            @Nonnull Random random,
+                            @Nonnull BankClock clock,
+                            @Nonnull InflationSeries series) {
         this.config = config;
-        this.currentRate = BigDecimal.valueOf(config.getBaseInflationRate());
-        this.lastUpdated = Instant.now();
+        this.random = random;
+        this.clock = clock;
+        this.series = series;
+
+        InflationSeries.Sample last = series.latest();
+        if (last != null) {
+            this.currentRate = clamp(BigDecimal.valueOf(last.getRateMicros(), 6));
+            this.lastUpdated = Instant.ofEpochSecond(last.getEpochSecond());
+            LOGGER.info("Inflation rate restored: {}", currentRate.toPlainString());
+        } else {
+            this.currentRate = inflation().getBaseInflationRate();
+            this.lastUpdated = clock.now();
+        }
+    }
+
+    private CompiledConfig.Inflation inflation() {
+        return config.get().getInflation();
     }
 
     /**
      * @return true if the inflation system is enabled
      */
     public boolean isEnabled() {
-        return config.isEnabled();
+        return inflation().isEnabled();
     }
 
     /**
@@ -63,39 +119,75 @@ public class InflationService {
     }
 
     /**
-     * Updates the inflation rate.
+     * @return recorded rate and money-supply samples
+     */
+    @Nonnull
+    public InflationSeries getSeries() {
+        return series;
+    }
+
+    /**
+     * Updates the inflation rate from the current economy totals.
      * Called by the periodic scheduler.
      *
-     * <p>Simple model: random fluctuation ±20% of the base rate,
-     * bounded by min/max limits.</p>
+     * @param economy   incrementally maintained economy totals
+     * @param taxIntake tax collected since start ({@link TaxService#getTaxIntake()})
      */
-    public void updateRate() {
-        if (!config.isEnabled()) return;
-
-        BigDecimal base = BigDecimal.valueOf(config.getBaseInflationRate());
-
-        // Small random fluctuation ±20% of the base rate
-        double fluctuation = (Math.random() - 0.5) * 0.4; // -20% to +20%
-        BigDecimal delta = base.multiply(BigDecimal.valueOf(fluctuation))
-                .setScale(6, RoundingMode.HALF_UP);
-        BigDecimal newRate = currentRate.add(delta).setScale(6, RoundingMode.HALF_UP);
-
-        // Clamp to limits
-        BigDecimal min = BigDecimal.valueOf(config.getMinInflationRate());
-        BigDecimal max = BigDecimal.valueOf(config.getMaxInflationRate());
-        newRate = newRate.max(min).min(max);
-
-        // Smooth mean-reversion to the base rate
-        BigDecimal diff = base.subtract(newRate);
-        newRate = newRate.add(diff.multiply(BigDecimal.valueOf(0.1)))
+    public synchronized void updateRate(@Nonnull EconomyAggregates economy,
+                                        @Nonnull BigDecimal taxIntake) {
+        CompiledConfig.Inflation cfg = inflation();
+        if (!cfg.isEnabled()) return;
+
+        long deposited = EconomyAggregates.toUnits(economy.getTotalDeposited());
+        long debt = EconomyAggregates.toUnits(economy.getTotalDebt());
+        long supply = deposited + debt;
+        long intake = EconomyAggregates.toUnits(taxIntake.subtract(lastTaxIntake).max(BigDecimal.ZERO));
+        lastTaxIntake = taxIntake;
+
+        // Pressure from the measured aggregates
+        InflationSeries.Sample previous = series.latest();
+        double growth = previous != null && previous.getMoneySupply() > 0
+                ? (double) (supply - previous.getMoneySupply()) / previous.getMoneySupply()
+                : 0;
+        double lending = supply > 0 ? (double) (debt - deposited) / supply : 0;
+        double drain = supply > 0 ? (double) intake / supply : 0;
+        double pressure = GROWTH_WEIGHT * growth + LENDING_WEIGHT * lending - TAX_WEIGHT * drain;
+
+        BigDecimal base = cfg.getBaseInflationRate();
+        BigDecimal target = clamp(base.add(BigDecimal.valueOf(pressure)));
+
+        // Move part of the way to the target, plus a small fluctuation
+        double fluctuation = (random.nextDouble() - 0.5) * 2 * NOISE;
+        BigDecimal newRate = currentRate
+                .add(target.subtract(currentRate).multiply(BigDecimal.valueOf(ADJUSTMENT)))
+                .add(base.multiply(BigDecimal.valueOf(fluctuation)))
                 .setScale(6, RoundingMode.HALF_UP);
+        newRate = clamp(newRate);
 
         BigDecimal oldRate = this.currentRate;
         this.currentRate = newRate;
-        this.lastUpdated = Instant.now();
+        this.lastUpdated = clock.now();
+        series.append(new InflationSeries.Sample(lastUpdated.getEpochSecond(),
+                newRate.movePointRight(6).longValue(), supply, deposited, debt, intake));
+
+        LOGGER.info("Inflation rate updated: {} → {} (base: {}, target: {}, supply growth: {})",
+                oldRate.toPlainString(), newRate.toPlainString(), base.toPlainString(),
+                target.setScale(6, RoundingMode.HALF_UP).toPlainString(),
+                String.format("%.4f", growth));
+    }
+
+    /**
+     * Overrides the current rate, clamped to the configured limits.
+     * Used to start projections from a given inflation level.
+     */
+    public synchronized void setCurrentRate(@Nonnull BigDecimal rate) {
+        this.currentRate = clamp(rate);
+        this.lastUpdated = clock.now();
+    }
 
-        LOGGER.info("Inflation rate updated: {} → {} (base: {})",
-                oldRate.toPlainString(), newRate.toPlainString(), base.toPlainString());
+    private BigDecimal clamp(BigDecimal rate) {
+        CompiledConfig.Inflation cfg = inflation();
+        return rate.max(cfg.getMinInflationRate()).min(cfg.getMaxInflationRate());
     }
 
     /**
@@ -107,7 +199,7 @@ public class InflationService {
      */
     @Nonnull
     public BigDecimal adjustDepositRate(@Nonnull BigDecimal baseRate) {
-        if (!config.isEnabled()) return baseRate;
+        if (!inflation().isEnabled()) return baseRate;
         // adjustedRate = baseRate + inflationRate * 0.5
         BigDecimal adjustment = currentRate.multiply(BigDecimal.valueOf(0.5))
                 .setScale(6, RoundingMode.HALF_UP);
@@ -123,7 +215,7 @@ public class InflationService {
      */
     @Nonnull
     public BigDecimal adjustLoanRate(@Nonnull BigDecimal baseRate) {
-        if (!config.isEnabled()) return baseRate;
+        if (!inflation().isEnabled()) return baseRate;
         return baseRate.add(currentRate).max(BigDecimal.ZERO);
     }
 }
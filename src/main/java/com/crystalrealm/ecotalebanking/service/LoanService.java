@@ -1,17 +1,18 @@
 package com.crystalrealm.ecotalebanking.service;
 
-import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.CompiledConfig;
 import com.crystalrealm.ecotalebanking.model.*;
 import com.crystalrealm.ecotalebanking.storage.BankStorage;
-import com.crystalrealm.ecotalebanking.util.GameTime;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.IdGenerator;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.time.Instant;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Loan (credit) management service.
@@ -33,19 +34,35 @@ public class LoanService {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
+    private static final BigDecimal MIN_RATE = BigDecimal.valueOf(0.01);
+
     private final BankStorage storage;
-    private final BankingConfig.LoansConfig config;
+    private final Supplier<CompiledConfig> config;
     private final InflationService inflationService;
     private final CreditRatingService creditService;
+    private final BankClock clock;
 
     public LoanService(@Nonnull BankStorage storage,
-                       @Nonnull BankingConfig.LoansConfig config,
+                       @Nonnull Supplier<CompiledConfig> config,
                        @Nonnull InflationService inflationService,
                        @Nonnull CreditRatingService creditService) {
+        this(storage, config, inflationService, creditService, BankClock.system());
+    }
+
+    public LoanService(@Nonnull BankStorage storage,
+                       @Nonnull Supplier<CompiledConfig> config,
+                       @Nonnull InflationService inflationService,
+                       @Nonnull CreditRatingService creditService,
+                       @Nonnull BankClock clock) {
         this.storage = storage;
         this.config = config;
         this.inflationService = inflationService;
         this.creditService = creditService;
+        this.clock = clock;
+    }
+
+    private CompiledConfig.Loans loans() {
+        return config.get().getLoans();
     }
 
     /**
@@ -55,25 +72,26 @@ public class LoanService {
      */
     @Nullable
     public String validateLoan(@Nonnull UUID playerUuid, @Nonnull BigDecimal amount) {
-        BankAccount account = storage.loadOrCreateAccount(playerUuid);
+        BankAccount account = storage.loadOrCreateAccount(playerUuid, clock.now());
         CreditScore score = creditService.getScore(playerUuid);
+        CompiledConfig.Loans cfg = loans();
 
         // Min. credit score
-        if (score.getScore() < config.getMinCreditScoreForLoan()) {
+        if (score.getScore() < cfg.getMinCreditScoreForLoan()) {
             return "credit_too_low";
         }
 
         // Max. active loans
-        if (account.getActiveLoans().size() >= config.getMaxActiveLoans()) {
+        if (account.getActiveLoans().size() >= cfg.getMaxActiveLoans()) {
             return "too_many_loans";
         }
 
         // Min/max amounts adjusted for credit score
-        BigDecimal maxAllowed = BigDecimal.valueOf(config.getMaxAmount())
+        BigDecimal maxAllowed = cfg.getMaxAmount()
                 .multiply(creditService.getLoanAmountMultiplier(playerUuid))
                 .setScale(2, RoundingMode.HALF_UP);
 
-        if (amount.compareTo(BigDecimal.valueOf(config.getMinAmount())) < 0) {
+        if (amount.compareTo(cfg.getMinAmount()) < 0) {
             return "amount_too_low";
         }
         if (amount.compareTo(maxAllowed) > 0) {
@@ -81,7 +99,7 @@ public class LoanService {
         }
 
         // Account age
-        long accountAgeDays = (Instant.now().getEpochSecond() - account.getCreatedAt().getEpochSecond()) / GameTime.getSecondsPerDay();
+        long accountAgeDays = clock.gameDaysSince(account.getCreatedAt());
         // Not enforced here to avoid first-play issues, but can be checked
 
         return null; // OK
@@ -97,22 +115,23 @@ public class LoanService {
         String validation = validateLoan(playerUuid, amount);
         if (validation != null) return null;
 
-        BankAccount account = storage.loadOrCreateAccount(playerUuid);
+        BankAccount account = storage.loadOrCreateAccount(playerUuid, clock.now());
+        CompiledConfig.Loans cfg = loans();
 
         // Ставка: base + credit modifier + inflation
-        BigDecimal baseRate = BigDecimal.valueOf(config.getBaseInterestRate());
+        BigDecimal baseRate = cfg.getBaseInterestRate();
         BigDecimal creditMod = creditService.getRateModifier(playerUuid);
         BigDecimal effectiveRate = inflationService.adjustLoanRate(baseRate.add(creditMod));
-        effectiveRate = effectiveRate.max(BigDecimal.valueOf(0.01)); // minimum 1%
+        effectiveRate = effectiveRate.max(MIN_RATE); // minimum 1%
 
         // Collateral
-        BigDecimal collateral = amount.multiply(BigDecimal.valueOf(config.getCollateralRate()))
+        BigDecimal collateral = amount.multiply(cfg.getCollateralRateDecimal())
                 .setScale(2, RoundingMode.HALF_UP);
 
         // Create loan
-        String loanId = UUID.randomUUID().toString().substring(0, 8);
+        String loanId = IdGenerator.next();
         Loan loan = new Loan(loanId, playerUuid, amount, effectiveRate,
-                config.getDefaultTermDays(), Instant.now(), collateral);
+                cfg.getDefaultTermDays(), clock.now(), collateral, clock);
         // dailyPayment is auto-calculated in Loan constructor via recalculateDailyPayment()
 
         account.addLoan(loan);
@@ -120,10 +139,11 @@ public class LoanService {
 
         // Audit
         storage.addAuditLog(new AuditLog(
-                UUID.randomUUID().toString().substring(0, 8),
+                IdGenerator.next(),
                 playerUuid, TransactionType.LOAN_TAKE, amount,
-                loanId + "|" + amount + "|" + config.getDefaultTermDays() + "|" +
-                        effectiveRate + "|" + collateral + "|" + loan.getDailyPayment()
+                loanId + "|" + amount + "|" + cfg.getDefaultTermDays() + "|" +
+                        effectiveRate + "|" + collateral + "|" + loan.getDailyPayment(),
+                loan.getStartDate()
         ));
 
         LOGGER.info("Loan issued: {} to {} — {} coins, rate={}, collateral={}",
@@ -141,20 +161,22 @@ public class LoanService {
     public BigDecimal repayLoan(@Nonnull UUID playerUuid,
                                 @Nonnull String loanId,
                                 @Nonnull BigDecimal amount) {
-        BankAccount account = storage.loadOrCreateAccount(playerUuid);
+        BankAccount account = storage.loadOrCreateAccount(playerUuid, clock.now());
         Loan loan = account.getLoanById(loanId);
         if (loan == null) return null;
         if (loan.getStatus() != LoanStatus.ACTIVE && loan.getStatus() != LoanStatus.OVERDUE) {
             return null;
         }
 
+        int minDaysForBonus = loans().getMinLoanDaysForCreditBonus();
+
         // Cap payment to remaining balance
         BigDecimal remaining = loan.getRemainingBalance();
         BigDecimal actual = amount.min(remaining);
 
         loan.setRemainingBalance(remaining.subtract(actual));
         loan.setTotalPaid(loan.getTotalPaid().add(actual));
-        loan.setLastPaymentDate(Instant.now());
+        loan.setLastPaymentDate(clock.now());
 
         // Check full repayment
         if (loan.getRemainingBalance().compareTo(BigDecimal.ZERO) <= 0) {
@@ -162,19 +184,19 @@ public class LoanService {
             loan.setRemainingBalance(BigDecimal.ZERO);
             loan.setDailyPayment(BigDecimal.ZERO);
             // Anti-abuse: only award credit bonus if loan was held for minimum days
-            if (loan.getElapsedDays() >= config.getMinLoanDaysForCreditBonus()) {
+            if (loan.getElapsedDays(clock) >= minDaysForBonus) {
                 creditService.onLoanCompleted(playerUuid);
             } else {
                 LOGGER.info("Loan {} repaid too quickly ({}d < {}d), no credit bonus",
-                        loanId, loan.getElapsedDays(), config.getMinLoanDaysForCreditBonus());
+                        loanId, loan.getElapsedDays(clock), minDaysForBonus);
             }
             LOGGER.info("Loan {} fully repaid by {}", loanId, playerUuid);
         } else {
             // Recalculate daily payment for remaining term (takes effect next day)
-            loan.recalculateDailyPayment();
+            loan.recalculateDailyPayment(clock);
             // On-time payment bonus — only if loan held for minimum days
             if (loan.getStatus() == LoanStatus.ACTIVE &&
-                loan.getElapsedDays() >= config.getMinLoanDaysForCreditBonus()) {
+                loan.getElapsedDays(clock) >= minDaysForBonus) {
                 creditService.onTimelyPayment(playerUuid);
             }
         }
@@ -183,9 +205,10 @@ public class LoanService {
 
         // Audit
         storage.addAuditLog(new AuditLog(
-                UUID.randomUUID().toString().substring(0, 8),
+                IdGenerator.next(),
                 playerUuid, TransactionType.LOAN_REPAY, actual,
-                loanId + "|" + actual + "|" + loan.getRemainingBalance()
+                loanId + "|" + actual + "|" + loan.getRemainingBalance(),
+                clock.now()
         ));
 
         return actual;
@@ -210,14 +233,14 @@ public class LoanService {
 
         loan.setRemainingBalance(remaining.subtract(actual));
         loan.setTotalPaid(loan.getTotalPaid().add(actual));
-        loan.setLastPaymentDate(Instant.now());
+        loan.setLastPaymentDate(clock.now());
 
         if (loan.getRemainingBalance().compareTo(BigDecimal.ZERO) <= 0) {
             loan.setStatus(LoanStatus.PAID);
             loan.setRemainingBalance(BigDecimal.ZERO);
             loan.setDailyPayment(BigDecimal.ZERO);
             // Anti-abuse: only award credit bonus if loan was held for minimum days
-            if (loan.getElapsedDays() >= config.getMinLoanDaysForCreditBonus()) {
+            if (loan.getElapsedDays(clock) >= loans().getMinLoanDaysForCreditBonus()) {
                 creditService.onLoanCompleted(loan.getPlayerUuid());
             }
             LOGGER.info("Loan {} fully repaid via daily payments", loan.getId());
@@ -238,17 +261,18 @@ public class LoanService {
 
         UUID playerUuid = loan.getPlayerUuid();
 
-        if (loan.isOverdue() && loan.getStatus() == LoanStatus.ACTIVE) {
+        if (loan.isOverdue(clock) && loan.getStatus() == LoanStatus.ACTIVE) {
             // Transition to OVERDUE
             loan.setStatus(LoanStatus.OVERDUE);
             loan.setMissedPayments(loan.getMissedPayments() + 1);
             creditService.onLatePayment(playerUuid);
 
             storage.addAuditLog(new AuditLog(
-                    UUID.randomUUID().toString().substring(0, 8),
+                    IdGenerator.next(),
                     playerUuid, TransactionType.LOAN_OVERDUE,
                     loan.getRemainingBalance(),
-                    loan.getId() + "|" + loan.getRemainingBalance()
+                    loan.getId() + "|" + loan.getRemainingBalance(),
+                    clock.now()
             ));
 
             LOGGER.warn("Loan {} for {} is now OVERDUE", loan.getId(), playerUuid);
@@ -256,22 +280,24 @@ public class LoanService {
 
         // Overdue penalty
         if (loan.getStatus() == LoanStatus.OVERDUE) {
+            CompiledConfig.Loans cfg = loans();
             BigDecimal penalty = loan.getRemainingBalance()
-                    .multiply(BigDecimal.valueOf(config.getOverduePenaltyRate()))
+                    .multiply(cfg.getOverduePenaltyRate())
                     .setScale(2, RoundingMode.HALF_UP);
             loan.setRemainingBalance(loan.getRemainingBalance().add(penalty));
 
             // Check for default (if overdue > defaultAfterDays)
-            long overdueDays = -loan.getDaysUntilDue();
-            if (overdueDays > config.getDefaultAfterDays()) {
+            long overdueDays = -loan.getDaysUntilDue(clock);
+            if (overdueDays > cfg.getDefaultAfterDays()) {
                 loan.setStatus(LoanStatus.DEFAULTED);
                 creditService.onLoanDefaulted(playerUuid);
 
                 storage.addAuditLog(new AuditLog(
-                        UUID.randomUUID().toString().substring(0, 8),
+                        IdGenerator.next(),
                         playerUuid, TransactionType.LOAN_DEFAULT,
                         loan.getRemainingBalance(),
-                        loan.getId() + "|" + loan.getRemainingBalance() + "|" + overdueDays
+                        loan.getId() + "|" + loan.getRemainingBalance() + "|" + overdueDays,
+                        clock.now()
                 ));
 
                 LOGGER.warn("Loan {} for {} has DEFAULTED", loan.getId(), playerUuid);
@@ -300,7 +326,7 @@ public class LoanService {
      */
     @Nonnull
     public BigDecimal getMaxLoanAmount(@Nonnull UUID playerUuid) {
-        return BigDecimal.valueOf(config.getMaxAmount())
+        return loans().getMaxAmount()
                 .multiply(creditService.getLoanAmountMultiplier(playerUuid))
                 .setScale(2, RoundingMode.HALF_UP);
     }
@@ -310,14 +336,16 @@ public class LoanService {
      */
     @Nonnull
     public BigDecimal getEffectiveRate(@Nonnull UUID playerUuid) {
-        BigDecimal baseRate = BigDecimal.valueOf(config.getBaseInterestRate());
+        BigDecimal baseRate = loans().getBaseInterestRate();
         BigDecimal creditMod = creditService.getRateModifier(playerUuid);
         BigDecimal rate = inflationService.adjustLoanRate(baseRate.add(creditMod));
-        return rate.max(BigDecimal.valueOf(0.01));
+        return rate.max(MIN_RATE);
     }
 
-    public boolean isEnabled() { return config.isEnabled(); }
-    public double getCollateralRate() { return config.getCollateralRate(); }
-    public int getDefaultTermDays() { return config.getDefaultTermDays(); }
-    public int getMaxActiveLoans() { return config.getMaxActiveLoans(); }
+    public boolean isEnabled() { return loans().isEnabled(); }
+    public double getCollateralRate() { return loans().getCollateralRate(); }
+    @Nonnull public BigDecimal getCollateralRateDecimal() { return loans().getCollateralRateDecimal(); }
+    public int getDefaultTermDays() { return loans().getDefaultTermDays(); }
+    public int getMaxActiveLoans() { return loans().getMaxActiveLoans(); }
+    @Nonnull public BankClock getClock() { return clock; }
 }
@@ -1,12 +1,13 @@
 package com.crystalrealm.ecotalebanking.service;
 
-import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.CompiledConfig;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 
 import javax.annotation.Nonnull;
 import java.math.BigDecimal;
 import java.math.RoundingMode;
-import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
 
 /**
  * Tax service.
@@ -20,6 +21,11 @@ import java.util.List;
  *
  * <p>Supports progressive scales (tax brackets).</p>
  *
+ * <p>Callers report money actually taken or paid with
+ * {@link #record(TreasuryLedger.Category, BigDecimal)}. Everything goes to
+ * the {@link TreasuryLedger}; taxes also feed the running intake used by
+ * the inflation model.</p>
+ *
  * @author CrystalRealm
  * @version 1.0.0
  */
@@ -27,10 +33,27 @@ public class TaxService {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
-    private final BankingConfig.TaxConfig config;
+    private final Supplier<CompiledConfig> config;
+    private final TreasuryLedger ledger;
+
+    /** Tax collected since start, in hundredths. */
+    private final LongAdder intakeUnits = new LongAdder();
 
-    public TaxService(@Nonnull BankingConfig.TaxConfig config) {
+    public TaxService(@Nonnull Supplier<CompiledConfig> config) {
+        this(config, TreasuryLedger.inMemory());
+    }
+
+    /**
+     * @param ledger treasury ledger collected and paid amounts are recorded in
+     */
+    public TaxService(@Nonnull Supplier<CompiledConfig> config,
+                      @Nonnull TreasuryLedger ledger) {
         this.config = config;
+        this.ledger = ledger;
+    }
+
+    private CompiledConfig.Taxes taxes() {
+        return config.get().getTaxes();
     }
 
     // ═════════════════════════════════════════════════════════
@@ -46,50 +69,25 @@ public class TaxService {
      */
     @Nonnull
     public BigDecimal calculateBalanceTax(@Nonnull BigDecimal totalBalance) {
-        if (!config.isBalanceTaxEnabled()) return BigDecimal.ZERO;
+        CompiledConfig.Taxes cfg = taxes();
+        if (!cfg.isBalanceTaxEnabled()) return BigDecimal.ZERO;
 
-        BigDecimal threshold = BigDecimal.valueOf(config.getTaxFreeThreshold());
+        BigDecimal threshold = cfg.getTaxFreeThreshold();
         if (totalBalance.compareTo(threshold) <= 0) {
             return BigDecimal.ZERO;
         }
 
         BigDecimal taxableAmount = totalBalance.subtract(threshold);
-        List<BankingConfig.TaxBracket> brackets = config.getProgressiveBrackets();
+        CompiledConfig.BracketTable brackets = cfg.getBracketTable();
 
-        if (brackets == null || brackets.isEmpty()) {
+        if (brackets.isEmpty()) {
             // Flat rate
-            return taxableAmount.multiply(BigDecimal.valueOf(config.getBalanceTaxRate()))
+            return taxableAmount.multiply(cfg.getBalanceTaxRate())
                     .setScale(2, RoundingMode.HALF_UP);
         }
 
-        return calculateProgressiveTax(taxableAmount, brackets);
-    }
-
-    /**
-     * Calculates progressive tax using a bracket scale.
-     */
-    @Nonnull
-    private BigDecimal calculateProgressiveTax(@Nonnull BigDecimal amount,
-                                                @Nonnull List<BankingConfig.TaxBracket> brackets) {
-        BigDecimal totalTax = BigDecimal.ZERO;
-        BigDecimal remaining = amount;
-
-        for (BankingConfig.TaxBracket bracket : brackets) {
-            if (remaining.compareTo(BigDecimal.ZERO) <= 0) break;
-
-            BigDecimal from = BigDecimal.valueOf(bracket.getFrom());
-            BigDecimal to = BigDecimal.valueOf(bracket.getTo());
-            BigDecimal rate = BigDecimal.valueOf(bracket.getRate());
-
-            BigDecimal bracketSize = to.subtract(from);
-            BigDecimal taxable = remaining.min(bracketSize);
-
-            BigDecimal tax = taxable.multiply(rate).setScale(2, RoundingMode.HALF_UP);
-            totalTax = totalTax.add(tax);
-            remaining = remaining.subtract(taxable);
-        }
-
-        return totalTax;
+        // Progressive scale: binary search in the cumulative bracket table
+        return brackets.taxOn(taxableAmount);
     }
 
     // ═════════════════════════════════════════════════════════
@@ -104,9 +102,10 @@ public class TaxService {
      */
     @Nonnull
     public BigDecimal calculateInterestTax(@Nonnull BigDecimal interestEarned) {
-        if (!config.isInterestTaxEnabled()) return BigDecimal.ZERO;
+        CompiledConfig.Taxes cfg = taxes();
+        if (!cfg.isInterestTaxEnabled()) return BigDecimal.ZERO;
 
-        return interestEarned.multiply(BigDecimal.valueOf(config.getInterestTaxRate()))
+        return interestEarned.multiply(cfg.getInterestTaxRateDecimal())
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
@@ -122,19 +121,50 @@ public class TaxService {
      */
     @Nonnull
     public BigDecimal calculateTransactionTax(@Nonnull BigDecimal transactionAmount) {
-        if (!config.isTransactionTaxEnabled()) return BigDecimal.ZERO;
+        CompiledConfig.Taxes cfg = taxes();
+        if (!cfg.isTransactionTaxEnabled()) return BigDecimal.ZERO;
 
-        return transactionAmount.multiply(BigDecimal.valueOf(config.getTransactionTaxRate()))
+        return transactionAmount.multiply(cfg.getTransactionTaxRateDecimal())
                 .setScale(2, RoundingMode.HALF_UP);
     }
 
+    // ═════════════════════════════════════════════════════════
+    //  TREASURY
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Records money actually taken from (or paid to) a player.
+     */
+    public void record(@Nonnull TreasuryLedger.Category category, @Nonnull BigDecimal amount) {
+        if (amount.signum() <= 0) return;
+        ledger.record(category, amount);
+        if (category != TreasuryLedger.Category.INTEREST_PAID
+                && category != TreasuryLedger.Category.EARLY_WITHDRAWAL_PENALTY) {
+            intakeUnits.add(EconomyAggregates.toUnits(amount));
+        }
+    }
+
+    @Nonnull
+    public TreasuryLedger getLedger() {
+        return ledger;
+    }
+
+    /**
+     * @return tax collected since the server (or projection) started
+     */
+    @Nonnull
+    public BigDecimal getTaxIntake() {
+        return BigDecimal.valueOf(intakeUnits.sum(), EconomyAggregates.SCALE);
+    }
+
     // ═════════════════════════════════════════════════════════
     //  QUERIES
     // ═════════════════════════════════════════════════════════
 
-    public boolean isBalanceTaxEnabled() { return config.isBalanceTaxEnabled(); }
-    public boolean isInterestTaxEnabled() { return config.isInterestTaxEnabled(); }
-    public boolean isTransactionTaxEnabled() { return config.isTransactionTaxEnabled(); }
-    public double getInterestTaxRate() { return config.getInterestTaxRate(); }
-    public double getTransactionTaxRate() { return config.getTransactionTaxRate(); }
+    public boolean isBalanceTaxEnabled() { return taxes().isBalanceTaxEnabled(); }
+    public int getBalanceTaxIntervalDays() { return taxes().getBalanceTaxIntervalDays(); }
+    public boolean isInterestTaxEnabled() { return taxes().isInterestTaxEnabled(); }
+    public boolean isTransactionTaxEnabled() { return taxes().isTransactionTaxEnabled(); }
+    public double getInterestTaxRate() { return taxes().getInterestTaxRate(); }
+    public double getTransactionTaxRate() { return taxes().getTransactionTaxRate(); }
 }
@@ -0,0 +1,295 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+import com.google.gson.Gson;
+import com.google.gson.GsonBuilder;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * The bank's own books: money it took in (taxes, fees, penalties) and
+ * interest it paid out.
+ *
+ * <p>Recording is a single {@link LongAdder} add per category, so the
+ * hot path never contends or allocates. {@link #checkpoint()} folds the
+ * adders into running totals and appends a checkpoint; the checkpoints
+ * are persisted to {@code treasury.json} and answer per-period queries
+ * ({@link #getPeriod(Instant, Instant)}) without scanning audit logs.
+ * Totals since the last checkpoint are live.</p>
+ *
+ * <p>Amounts are fixed-point hundredths. At most {@link #MAX_CHECKPOINTS}
+ * checkpoints are kept; older ones are dropped, the totals stay. Period
+ * bounds older than the retained checkpoints resolve to the oldest one.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class TreasuryLedger {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+    private static final Gson GSON = new GsonBuilder().setPrettyPrinting().create();
+
+    /** Checkpoints kept for period queries. */
+    public static final int MAX_CHECKPOINTS = 720;
+
+    /**
+     * Ledger categories.
+     */
+    public enum Category {
+        BALANCE_TAX(true),
+        INTEREST_TAX(true),
+        TRANSACTION_FEE(true),
+        EARLY_WITHDRAWAL_PENALTY(true),
+        INTEREST_PAID(false);
+
+        private final boolean income;
+
+        Category(boolean income) {
+            this.income = income;
+        }
+
+        /** @return true for money the bank takes in, false for money it pays out */
+        public boolean isIncome() { return income; }
+    }
+
+    private static final Category[] CATEGORIES = Category.values();
+
+    private final Path file;
+    private final BankClock clock;
+    private final LongAdder[] pending = new LongAdder[CATEGORIES.length];
+    /** Totals up to the last checkpoint. Guarded by {@code this}. */
+    private final long[] base = new long[CATEGORIES.length];
+    /** Guarded by {@code this}. */
+    private final Deque<Checkpoint> checkpoints = new ArrayDeque<>();
+    /** Whether checkpoints were dropped. Guarded by {@code this}. */
+    private boolean truncated;
+
+    private TreasuryLedger(@Nullable Path file, @Nonnull BankClock clock) {
+        this.file = file;
+        this.clock = clock;
+        for (int i = 0; i < pending.length; i++) pending[i] = new LongAdder();
+    }
+
+    /**
+     * Ledger that is never persisted (projections).
+     */
+    @Nonnull
+    public static TreasuryLedger inMemory() {
+        return new TreasuryLedger(null, BankClock.system());
+    }
+
+    /**
+     * Loads the ledger from {@code file}; starts empty if it is missing or unreadable.
+     */
+    @Nonnull
+    public static TreasuryLedger load(@Nonnull Path file, @Nonnull BankClock clock) {
+        TreasuryLedger ledger = new TreasuryLedger(file, clock);
+        if (!Files.exists(file)) return ledger;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            State state = GSON.fromJson(reader, State.class);
+            if (state != null && state.checkpoints != null) {
+                for (Checkpoint c : state.checkpoints) {
+                    if (c != null && c.totals != null) ledger.checkpoints.addLast(c);
+                }
+                ledger.truncated = state.truncated || ledger.checkpoints.size() >= MAX_CHECKPOINTS;
+                Checkpoint last = ledger.checkpoints.peekLast();
+                if (last != null) {
+                    for (Category category : CATEGORIES) {
+                        ledger.base[category.ordinal()] = last.totals.getOrDefault(category.name(), 0L);
+                    }
+                }
+            }
+            LOGGER.info("Treasury ledger loaded: {} checkpoints.", ledger.checkpoints.size());
+        } catch (Exception e) {
+            LOGGER.error("Failed to read {}: {}", file, e.getMessage());
+        }
+        return ledger;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  RECORD
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Adds an amount to a category. Non-positive amounts are ignored.
+     */
+    public void record(@Nonnull Category category, @Nonnull BigDecimal amount) {
+        if (amount.signum() > 0) pending[category.ordinal()].add(EconomyAggregates.toUnits(amount));
+    }
+
+    /**
+     * Folds the pending counters into the totals, appends a checkpoint
+     * and persists the ledger.
+     */
+    public synchronized void checkpoint() {
+        Map<String, Long> totals = new LinkedHashMap<>();
+        for (Category category : CATEGORIES) {
+            int i = category.ordinal();
+            // Adds racing with this land either here or in the next checkpoint
+            base[i] += pending[i].sumThenReset();
+            totals.put(category.name(), base[i]);
+        }
+        checkpoints.addLast(new Checkpoint(clock.epochSecond(), totals));
+        while (checkpoints.size() > MAX_CHECKPOINTS) {
+            checkpoints.removeFirst();
+            truncated = true;
+        }
+        save();
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  QUERY
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * @return totals since the ledger was created
+     */
+    @Nonnull
+    public synchronized Totals getTotals() {
+        long[] units = new long[CATEGORIES.length];
+        for (int i = 0; i < units.length; i++) units[i] = base[i] + pending[i].sum();
+        return new Totals(units);
+    }
+
+    /**
+     * Movements between two moments, resolved to the nearest checkpoint at
+     * or before each bound (a bound of now or later uses the live totals).
+     * A bound older than the retained checkpoints resolves to the oldest
+     * one, or to zero if none were ever dropped.
+     */
+    @Nonnull
+    public synchronized Totals getPeriod(@Nonnull Instant from, @Nonnull Instant to) {
+        long[] end = totalsAt(to.getEpochSecond());
+        long[] start = totalsAt(from.getEpochSecond());
+        long[] units = new long[CATEGORIES.length];
+        for (int i = 0; i < units.length; i++) units[i] = end[i] - start[i];
+        return new Totals(units);
+    }
+
+    /**
+     * Movements of the last {@code days} game days.
+     */
+    @Nonnull
+    public Totals getLastDays(int days) {
+        Instant now = clock.now();
+        return getPeriod(now.minusSeconds((long) days * clock.getSecondsPerDay()), now);
+    }
+
+    private long[] totalsAt(long epochSecond) {
+        Checkpoint last = checkpoints.peekLast();
+        if (last == null || epochSecond >= last.time) {
+            return epochSecond >= clock.epochSecond() ? getTotals().units : unitsOf(last);
+        }
+        Checkpoint found = null;
+        Iterator<Checkpoint> it = checkpoints.descendingIterator();
+        while (it.hasNext()) {
+            Checkpoint c = it.next();
+            if (c.time <= epochSecond) {
+                found = c;
+                break;
+            }
+        }
+        // Before retention: the dropped checkpoints are unknown, not zero
+        if (found == null && truncated) found = checkpoints.peekFirst();
+        return unitsOf(found);
+    }
+
+    private static long[] unitsOf(@Nullable Checkpoint checkpoint) {
+        long[] units = new long[CATEGORIES.length];
+        if (checkpoint == null) return units;
+        for (Category category : CATEGORIES) {
+            units[category.ordinal()] = checkpoint.totals.getOrDefault(category.name(), 0L);
+        }
+        return units;
+    }
+
+    // ── Persistence ─────────────────────────────────────────
+
+    private void save() {
+        if (file == null) return;
+        State state = new State();
+        state.checkpoints = new ArrayList<>(checkpoints);
+        state.truncated = truncated;
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                GSON.toJson(state, writer);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Failed to write {}: {}", file, e.getMessage());
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  TOTALS
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Immutable amounts per category.
+     */
+    public static final class Totals {
+        private final long[] units;
+
+        private Totals(long[] units) {
+            this.units = units;
+        }
+
+        @Nonnull
+        public BigDecimal get(@Nonnull Category category) {
+            return BigDecimal.valueOf(units[category.ordinal()], EconomyAggregates.SCALE);
+        }
+
+        /** @return sum of all income categories */
+        @Nonnull
+        public BigDecimal getIncome() {
+            long sum = 0;
+            for (Category category : CATEGORIES) {
+                if (category.isIncome()) sum += units[category.ordinal()];
+            }
+            return BigDecimal.valueOf(sum, EconomyAggregates.SCALE);
+        }
+
+        /** @return income minus money paid out */
+        @Nonnull
+        public BigDecimal getNet() {
+            long sum = 0;
+            for (Category category : CATEGORIES) {
+                long v = units[category.ordinal()];
+                sum += category.isIncome() ? v : -v;
+            }
+            return BigDecimal.valueOf(sum, EconomyAggregates.SCALE);
+        }
+    }
+
+    /** One persisted checkpoint: time and running totals per category name. */
+    private static final class Checkpoint {
+        long time;
+        Map<String, Long> totals;
+
+        Checkpoint(long time, Map<String, Long> totals) {
+            this.time = time;
+            this.totals = totals;
+        }
+    }
+
+    /** Persisted ledger. */
+    private static final class State {
+        List<Checkpoint> checkpoints;
+        boolean truncated;
+    }
+}
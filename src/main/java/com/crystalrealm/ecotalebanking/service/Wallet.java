@@ -0,0 +1,38 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import javax.annotation.Nonnull;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Player wallet the bank moves money in and out of.
+ *
+ * <p>The live implementation is {@link EcotaleWallet}; offline
+ * projections plug in an in-memory stand-in.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public interface Wallet {
+
+    double getBalance(@Nonnull UUID playerUuid);
+
+    /**
+     * Balances of several players in one call. Implementations with a
+     * bulk lookup should override this; the default asks one by one.
+     */
+    @Nonnull
+    default Map<UUID, Double> getBalances(@Nonnull Collection<UUID> playerUuids) {
+        Map<UUID, Double> balances = new HashMap<>(playerUuids.size() * 2);
+        for (UUID uuid : playerUuids) balances.put(uuid, getBalance(uuid));
+        return balances;
+    }
+
+    boolean hasBalance(@Nonnull UUID playerUuid, double amount);
+
+    boolean deposit(@Nonnull UUID playerUuid, double amount, @Nonnull String reason);
+
+    boolean withdraw(@Nonnull UUID playerUuid, double amount, @Nonnull String reason);
+}
@@ -0,0 +1,307 @@
+package com.crystalrealm.ecotalebanking.service;
+
+import com.crystalrealm.ecotalebanking.model.AccountView;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+import com.google.gson.Gson;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.UUID;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+/**
+ * Periodic progressive balance (wealth) tax.
+ *
+ * <p>A run assesses every non-frozen account: its taxable balance is the
+ * Ecotale wallet plus the bank deposits, and the tax comes from
+ * {@link TaxService#calculateBalanceTax(BigDecimal)}. Ecotale has no bulk
+ * balance lookup, so wallet balances are still asked one player at a time;
+ * the players are split into chunks of {@link #BALANCE_CHUNK} that run on
+ * {@link #LOOKUP_THREADS} dedicated threads, keeping blocking economy calls
+ * off the common pool. The assessment runs in parallel. Withdrawals are not made during the run; they are queued and
+ * drained at most {@link #WITHDRAWALS_PER_SECOND} per second on each
+ * account's mailbox, so a large run never floods the economy API.</p>
+ *
+ * <p>Runs are due every {@code taxes.balanceTaxIntervalDays} game days.
+ * The time of the last run is kept in {@code wealth_tax.json} so the
+ * interval survives restarts; withdrawals still queued at shutdown are
+ * saved there too and resume draining on the next start.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class WealthTaxEngine {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+    private static final Gson GSON = new Gson();
+
+    /** Players whose wallet balances one lookup task fetches. */
+    public static final int BALANCE_CHUNK = 256;
+
+    /** Threads that fetch wallet balances during a run. */
+    public static final int LOOKUP_THREADS = 4;
+
+    /** Upper bound on queued tax withdrawals per second. */
+    public static final int WITHDRAWALS_PER_SECOND = 20;
+
+    private final BankService bank;
+    private final BankClock clock;
+    private final Path stateFile;
+    private final Queue<Charge> queue = new ConcurrentLinkedQueue<>();
+    private final ScheduledExecutorService drainer;
+    private final ExecutorService lookups;
+    private volatile long lastRunEpochSecond;
+
+    /** One assessed tax waiting to be withdrawn. */
+    private static final class Charge {
+        final UUID playerUuid;
+        final BigDecimal amount;
+
+        Charge(UUID playerUuid, BigDecimal amount) {
+            this.playerUuid = playerUuid;
+            this.amount = amount;
+        }
+    }
+
+    /**
+     * @param stateFile file the time of the last run is kept in
+     */
+    public WealthTaxEngine(@Nonnull BankService bank,
+                           @Nonnull BankClock clock,
+                           @Nonnull Path stateFile) {
+        this.bank = bank;
+        this.clock = clock;
+        this.stateFile = stateFile;
+        State state = read(stateFile);
+        this.lastRunEpochSecond = state != null ? state.lastRun : clock.epochSecond();
+        if (state != null && state.pending != null) {
+            for (Charge charge : state.pending) {
+                if (charge != null && charge.playerUuid != null && charge.amount != null) queue.add(charge);
+            }
+            if (!queue.isEmpty()) {
+                LOGGER.info("Resuming {} balance tax withdrawals queued before the restart.", queue.size());
+                save(List.of());
+            }
+        }
+        this.drainer = Executors.newSingleThreadScheduledExecutor(r -> {
+            Thread t = new Thread(r, "EcoTaleBanking-WealthTax");
+            t.setDaemon(true);
+            return t;
+        });
+        AtomicInteger counter = new AtomicInteger();
+        this.lookups = Executors.newFixedThreadPool(LOOKUP_THREADS, r -> {
+            Thread t = new Thread(r, "EcoTaleBanking-WealthTax-Lookup-" + counter.incrementAndGet());
+            t.setDaemon(true);
+            return t;
+        });
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  LIFECYCLE
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Starts draining the withdrawal queue.
+     */
+    public void start() {
+        drainer.scheduleAtFixedRate(this::drain, 1, 1, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Stops draining and saves the charges still queued, so the next start
+     * collects them.
+     */
+    public void shutdown() {
+        lookups.shutdownNow();
+        drainer.shutdownNow();
+        try {
+            drainer.awaitTermination(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        if (!queue.isEmpty()) {
+            LOGGER.info("Saving {} queued balance tax withdrawals for the next start.", queue.size());
+            save(new ArrayList<>(queue));
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  RUN
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * @return true if the balance tax is enabled and its interval has passed
+     */
+    public boolean isDue() {
+        TaxService taxes = bank.getTaxService();
+        if (!taxes.isBalanceTaxEnabled()) return false;
+        long intervalSeconds = (long) taxes.getBalanceTaxIntervalDays() * clock.getSecondsPerDay();
+        return clock.epochSecond() - lastRunEpochSecond >= intervalSeconds;
+    }
+
+    /**
+     * Assesses all accounts and queues the resulting withdrawals.
+     *
+     * @return number of queued withdrawals
+     */
+    public synchronized int run() {
+        TaxService taxes = bank.getTaxService();
+        if (!taxes.isBalanceTaxEnabled()) return 0;
+        if (!queue.isEmpty()) {
+            LOGGER.warn("Balance tax run skipped — {} withdrawals of the previous run are still queued.",
+                    queue.size());
+            return 0;
+        }
+
+        List<AccountView> accounts = new ArrayList<>();
+        for (AccountView view : bank.getAllViews()) {
+            if (!view.isFrozen()) accounts.add(view);
+        }
+        int n = accounts.size();
+        UUID[] uuids = new UUID[n];
+        for (int i = 0; i < n; i++) uuids[i] = accounts.get(i).getPlayerUuid();
+
+        double[] balances = fetchBalances(uuids);
+
+        // Assess in parallel; each slot is written by exactly one task
+        BigDecimal[] assessed = new BigDecimal[n];
+        IntStream.range(0, n).parallel().forEach(i -> {
+            BigDecimal wallet = BigDecimal.valueOf(balances[i]).setScale(2, RoundingMode.HALF_UP);
+            BigDecimal total = wallet.add(accounts.get(i).getTotalDeposited());
+            BigDecimal tax = taxes.calculateBalanceTax(total);
+            // Only the wallet can be charged; deposits stay untouched
+            assessed[i] = tax.min(wallet);
+        });
+
+        int queued = 0;
+        BigDecimal total = BigDecimal.ZERO;
+        for (int i = 0; i < n; i++) {
+            if (assessed[i].signum() <= 0) continue;
+            queue.add(new Charge(uuids[i], assessed[i]));
+            total = total.add(assessed[i]);
+            queued++;
+        }
+
+        lastRunEpochSecond = clock.epochSecond();
+        save(List.of());
+
+        LOGGER.info("Balance tax assessed: {} of {} accounts, {} total.",
+                queued, n, total.toPlainString());
+        return queued;
+    }
+
+    /**
+     * @return withdrawals waiting in the queue
+     */
+    public int getPending() {
+        return queue.size();
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  INTERNAL
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Looks balances up chunk by chunk on {@link #lookups}. Each chunk goes
+     * through {@link Wallet#getBalances}, which asks per player unless the
+     * wallet has a bulk lookup.
+     */
+    private double[] fetchBalances(UUID[] uuids) {
+        double[] balances = new double[uuids.length];
+        List<CompletableFuture<Void>> chunks = new ArrayList<>();
+        for (int from = 0; from < uuids.length; from += BALANCE_CHUNK) {
+            int start = from;
+            int end = Math.min(uuids.length, from + BALANCE_CHUNK);
+            chunks.add(CompletableFuture.runAsync(() -> {
+                List<UUID> chunk = Arrays.asList(uuids).subList(start, end);
+                Map<UUID, Double> found = bank.getWallet().getBalances(chunk);
+                for (int i = start; i < end; i++) {
+                    Double balance = found.get(uuids[i]);
+                    balances[i] = balance != null ? balance : 0;
+                }
+            }, lookups));
+        }
+        CompletableFuture.allOf(chunks.toArray(new CompletableFuture<?>[0])).join();
+        return balances;
+    }
+
+    private void drain() {
+        try {
+            for (int i = 0; i < WITHDRAWALS_PER_SECOND; i++) {
+                Charge charge = queue.poll();
+                if (charge == null) return;
+                bank.collectBalanceTaxAsync(charge.playerUuid, charge.amount)
+                        .whenComplete((result, error) -> {
+                            if (error != null) {
+                                LOGGER.error("Balance tax withdrawal failed for {}: {}",
+                                        charge.playerUuid, error.getMessage());
+                            } else if (!result.isSuccess()) {
+                                LOGGER.debug("Balance tax of {} not collected: {}",
+                                        charge.playerUuid, result.getMessageKey());
+                            }
+                        });
+            }
+        } catch (Exception e) {
+            LOGGER.error("Balance tax queue drain failed: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the last run time and {@code pending}. Charges are saved only
+     * at shutdown and cleared once restored: after a crash they are lost
+     * rather than collected twice.
+     */
+    private void save(List<Charge> pending) {
+        State state = new State();
+        state.lastRun = lastRunEpochSecond;
+        state.pending = pending;
+        write(stateFile, state);
+    }
+
+    @Nullable
+    private static State read(Path file) {
+        if (!Files.exists(file)) return null;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, State.class);
+        } catch (Exception e) {
+            LOGGER.error("Failed to read {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void write(Path file, State state) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                GSON.toJson(state, writer);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Failed to write {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** Persisted engine state. */
+    private static final class State {
+        long lastRun;
+        List<Charge> pending;
+    }
+}
@@ -0,0 +1,212 @@
+package com.crystalrealm.ecotalebanking.simulation;
+
+import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.CompiledConfig;
+import com.crystalrealm.ecotalebanking.model.*;
+import com.crystalrealm.ecotalebanking.service.*;
+import com.crystalrealm.ecotalebanking.storage.BankStorage;
+import com.crystalrealm.ecotalebanking.storage.InflationSeries;
+import com.crystalrealm.ecotalebanking.storage.MemoryBankStorage;
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+import com.crystalrealm.ecotalebanking.util.BankClock;
+import com.crystalrealm.ecotalebanking.util.SimulatedClock;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.*;
+import java.util.function.Supplier;
+
+/**
+ * Offline economy projection / stress-test engine.
+ *
+ * <p>Takes a snapshot of the live storage and wallet balances, then replays
+ * the real {@link DepositService}, {@link LoanService} and
+ * {@link InflationService} logic forward day by day on private copies —
+ * one independent copy per scenario, scenarios running in parallel.
+ * Money moves through an in-memory wallet instead of EcotaleAPI, no
+ * player is ever notified and service logging is muted.</p>
+ *
+ * <p>Each scenario runs on its own {@link SimulatedClock}. A simulated day
+ * runs the regular daily processing, then advances the clock by one game
+ * day so maturity, overdue and default transitions happen exactly as they
+ * would live.</p>
+ *
+ * <p>Default counts and exposure cover only loans that default inside the
+ * projection; loans already defaulted in the snapshot are left out.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class EconomySimulator {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    /** Audit entries kept per player inside a projection. */
+    private static final int SIMULATION_AUDIT_ENTRIES = 20;
+
+    private final MemoryBankStorage snapshot;
+    private final Map<UUID, Double> walletSnapshot;
+    /** Loans already defaulted when the snapshot was taken. */
+    private final Set<String> priorDefaults;
+
+    /**
+     * Captures the current state of {@code storage} and the wallet
+     * balances of all account holders.
+     */
+    public EconomySimulator(@Nonnull BankStorage storage, @Nonnull Wallet wallet) {
+        this.snapshot = MemoryBankStorage.snapshotOf(storage, SIMULATION_AUDIT_ENTRIES);
+        this.walletSnapshot = new HashMap<>();
+        for (BankAccount account : snapshot.getAllAccounts()) {
+            UUID uuid = account.getPlayerUuid();
+            try {
+                walletSnapshot.put(uuid, wallet.getBalance(uuid));
+            } catch (Exception e) {
+                walletSnapshot.put(uuid, 0.0);
+            }
+        }
+        this.priorDefaults = new HashSet<>();
+        for (BankAccount account : snapshot.getAllAccounts()) {
+            for (Loan loan : closedLoans(snapshot, account)) {
+                if (loan.getStatus() == LoanStatus.DEFAULTED) priorDefaults.add(loan.getId());
+            }
+        }
+    }
+
+    /**
+     * @return number of accounts in the snapshot
+     */
+    public int getAccountCount() {
+        return walletSnapshot.size();
+    }
+
+    /**
+     * Runs all scenarios in parallel.
+     *
+     * @param days game days to project
+     * @return one result per scenario, in input order
+     */
+    @Nonnull
+    public List<SimulationResult> run(@Nonnull List<SimulationScenario> scenarios, int days) {
+        long started = System.currentTimeMillis();
+        List<SimulationResult> results = scenarios.parallelStream()
+                .map(s -> PluginLogger.muted(() -> runScenario(s, days)))
+                .toList();
+        LOGGER.info("Projected {} scenario(s) × {} days over {} accounts in {} ms",
+                scenarios.size(), days, getAccountCount(), System.currentTimeMillis() - started);
+        return results;
+    }
+
+    /**
+     * Runs a single scenario on the calling thread.
+     */
+    @Nonnull
+    public SimulationResult runScenario(@Nonnull SimulationScenario scenario, int days) {
+        BankingConfig cfg = scenario.getConfig();
+        CompiledConfig compiled = CompiledConfig.compile(cfg);
+        Supplier<CompiledConfig> config = () -> compiled;
+        MemoryBankStorage storage = snapshot.copy();
+        InMemoryWallet wallet = new InMemoryWallet(walletSnapshot, scenario.getWalletFactor());
+
+        SimulatedClock clock = new SimulatedClock();
+        CreditRatingService credit = new CreditRatingService(storage, config, clock);
+        InflationService inflation = new InflationService(config,
+                new Random(scenario.getSeed()), clock, InflationSeries.inMemory());
+        if (scenario.getStartInflationRate() != null) {
+            inflation.setCurrentRate(scenario.getStartInflationRate());
+        }
+        TaxService tax = new TaxService(config);
+        DepositService deposits = new DepositService(storage, config, inflation, tax, credit, clock);
+        LoanService loans = new LoanService(storage, config, inflation, credit, clock);
+        BankService bank = new BankService(storage, deposits, loans, credit, tax, inflation, wallet, true);
+        bank.reconcileAggregates();
+
+        long secondsPerDay = clock.getSecondsPerDay();
+        int inflationUpdatesPerDay = (int) Math.max(1,
+                secondsPerDay / Math.max(1L, cfg.getInflation().getUpdateIntervalHours() * 3600L));
+
+        List<SimulationResult.DayPoint> timeline = new ArrayList<>(days + 1);
+        timeline.add(measure(0, storage, wallet, inflation, tax, priorDefaults));
+
+        for (int day = 1; day <= days; day++) {
+            if (scenario.getDailyIncome() > 0) {
+                wallet.creditAll(scenario.getDailyIncome());
+            }
+            if (inflation.isEnabled()) {
+                for (int i = 0; i < inflationUpdatesPerDay; i++) bank.updateInflation();
+            }
+
+            bank.dailyProcessing();
+            clock.advanceDays(1);
+
+            if (scenario.isAutoCloseMatured()) {
+                closeMatured(storage, bank, clock);
+            }
+
+            timeline.add(measure(day, storage, wallet, inflation, tax, priorDefaults));
+        }
+
+        return new SimulationResult(scenario.getName(), timeline);
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  STEPS
+    // ═════════════════════════════════════════════════════════
+
+    private static void closeMatured(@Nonnull BankStorage storage, @Nonnull BankService bank,
+                                     @Nonnull BankClock clock) {
+        for (BankAccount account : storage.getAllAccounts()) {
+            for (Deposit deposit : account.getActiveDeposits()) {
+                if (deposit.isMatured(clock)) {
+                    bank.closeDeposit(account.getPlayerUuid(), deposit.getId());
+                }
+            }
+        }
+    }
+
+    @Nonnull
+    private static SimulationResult.DayPoint measure(int day,
+                                                     @Nonnull BankStorage storage,
+                                                     @Nonnull InMemoryWallet wallet,
+                                                     @Nonnull InflationService inflation,
+                                                     @Nonnull TaxService tax,
+                                                     @Nonnull Set<String> priorDefaults) {
+        BigDecimal principal = BigDecimal.ZERO;
+        BigDecimal accrued = BigDecimal.ZERO;
+        BigDecimal debt = BigDecimal.ZERO;
+        BigDecimal exposure = BigDecimal.ZERO;
+        int defaults = 0;
+
+        for (BankAccount account : storage.getAllAccounts()) {
+            for (Deposit deposit : account.getActiveDeposits()) {
+                principal = principal.add(deposit.getAmount());
+                accrued = accrued.add(deposit.getAccruedInterest());
+            }
+            debt = debt.add(account.getTotalDebt());
+
+            for (Loan loan : closedLoans(storage, account)) {
+                if (loan.getStatus() == LoanStatus.DEFAULTED && !priorDefaults.contains(loan.getId())) {
+                    defaults++;
+                    exposure = exposure.add(loan.getRemainingBalance());
+                }
+            }
+        }
+
+        return new SimulationResult.DayPoint(day,
+                inflation.getCurrentRate(),
+                BigDecimal.valueOf(wallet.total()).setScale(2, RoundingMode.HALF_UP),
+                principal, accrued, debt, defaults, exposure,
+                tax.getTaxIntake());
+    }
+
+    /**
+     * Closed loans of the account, archived or not. Defaulted loans are
+     * archived to the history once their day is processed.
+     */
+    @Nonnull
+    private static List<Loan> closedLoans(@Nonnull BankStorage storage, @Nonnull BankAccount account) {
+        List<Loan> closed = new ArrayList<>(account.getClosedLoans());
+        closed.addAll(storage.loadHistory(account.getPlayerUuid()).getLoans());
+        return closed;
+    }
+}
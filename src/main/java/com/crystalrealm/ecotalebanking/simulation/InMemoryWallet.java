@@ -0,0 +1,62 @@
+package com.crystalrealm.ecotalebanking.simulation;
+
+import com.crystalrealm.ecotalebanking.service.Wallet;
+
+import javax.annotation.Nonnull;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * In-memory stand-in for the Ecotale wallet used by projections.
+ * Not thread-safe: each scenario owns its own instance.
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+final class InMemoryWallet implements Wallet {
+
+    private final Map<UUID, Double> balances;
+
+    InMemoryWallet(@Nonnull Map<UUID, Double> initial, double factor) {
+        this.balances = new HashMap<>(initial.size() * 2);
+        initial.forEach((uuid, balance) -> balances.put(uuid, balance * factor));
+    }
+
+    @Override
+    public double getBalance(@Nonnull UUID playerUuid) {
+        return balances.getOrDefault(playerUuid, 0.0);
+    }
+
+    @Override
+    public boolean hasBalance(@Nonnull UUID playerUuid, double amount) {
+        return getBalance(playerUuid) >= amount;
+    }
+
+    @Override
+    public boolean deposit(@Nonnull UUID playerUuid, double amount, @Nonnull String reason) {
+        balances.merge(playerUuid, amount, Double::sum);
+        return true;
+    }
+
+    @Override
+    public boolean withdraw(@Nonnull UUID playerUuid, double amount, @Nonnull String reason) {
+        double balance = getBalance(playerUuid);
+        if (balance < amount) return false;
+        balances.put(playerUuid, balance - amount);
+        return true;
+    }
+
+    /**
+     * Credits the same income to every known wallet.
+     */
+    void creditAll(double amount) {
+        balances.replaceAll((uuid, balance) -> balance + amount);
+    }
+
+    double total() {
+        double sum = 0;
+        for (double balance : balances.values()) sum += balance;
+        return sum;
+    }
+}
@@ -0,0 +1,86 @@
+package com.crystalrealm.ecotalebanking.simulation;
+
+import javax.annotation.Nonnull;
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Day-by-day projection produced by {@link EconomySimulator} for one scenario.
+ * Day 0 is the snapshot itself.
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class SimulationResult {
+
+    private final String scenario;
+    private final List<DayPoint> timeline;
+
+    SimulationResult(@Nonnull String scenario, @Nonnull List<DayPoint> timeline) {
+        this.scenario = scenario;
+        this.timeline = List.copyOf(timeline);
+    }
+
+    @Nonnull public String getScenario() { return scenario; }
+    @Nonnull public List<DayPoint> getTimeline() { return timeline; }
+    @Nonnull public DayPoint getStart() { return timeline.get(0); }
+    @Nonnull public DayPoint getEnd() { return timeline.get(timeline.size() - 1); }
+
+    /** Loans that defaulted during the projection. */
+    public int getNewDefaults() {
+        return getEnd().getDefaults();
+    }
+
+    /**
+     * Aggregate state of the projected economy at the end of one game day.
+     */
+    public static final class DayPoint {
+        private final int day;
+        private final BigDecimal inflationRate;
+        private final BigDecimal walletSupply;
+        private final BigDecimal depositPrincipal;
+        private final BigDecimal interestLiability;
+        private final BigDecimal outstandingDebt;
+        private final int defaults;
+        private final BigDecimal defaultExposure;
+        private final BigDecimal taxRevenue;
+
+        DayPoint(int day, BigDecimal inflationRate, BigDecimal walletSupply,
+                 BigDecimal depositPrincipal, BigDecimal interestLiability,
+                 BigDecimal outstandingDebt, int defaults,
+                 BigDecimal defaultExposure, BigDecimal taxRevenue) {
+            this.day = day;
+            this.inflationRate = inflationRate;
+            this.walletSupply = walletSupply;
+            this.depositPrincipal = depositPrincipal;
+            this.interestLiability = interestLiability;
+            this.outstandingDebt = outstandingDebt;
+            this.defaults = defaults;
+            this.defaultExposure = defaultExposure;
+            this.taxRevenue = taxRevenue;
+        }
+
+        public int getDay() { return day; }
+        public BigDecimal getInflationRate() { return inflationRate; }
+        /** Coins held in wallets. */
+        public BigDecimal getWalletSupply() { return walletSupply; }
+        /** Principal held in active deposits. */
+        public BigDecimal getDepositPrincipal() { return depositPrincipal; }
+        /** Interest accrued on active deposits and not yet paid out. */
+        public BigDecimal getInterestLiability() { return interestLiability; }
+        /** Remaining balance of active and overdue loans. */
+        public BigDecimal getOutstandingDebt() { return outstandingDebt; }
+        /** Number of loans defaulted since the start of the projection. */
+        public int getDefaults() { return defaults; }
+        /** Remaining balance of loans defaulted since the start of the projection. */
+        public BigDecimal getDefaultExposure() { return defaultExposure; }
+        /** Tax collected since the start of the projection. */
+        public BigDecimal getTaxRevenue() { return taxRevenue; }
+
+        /** Wallets + deposit principal + accrued interest. */
+        @Nonnull
+        public BigDecimal getMoneySupply() {
+            return walletSupply.add(depositPrincipal).add(interestLiability);
+        }
+    }
+}
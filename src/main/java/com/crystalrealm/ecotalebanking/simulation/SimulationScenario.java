@@ -0,0 +1,61 @@
+package com.crystalrealm.ecotalebanking.simulation;
+
+import com.crystalrealm.ecotalebanking.config.BankingConfig;
+import com.crystalrealm.ecotalebanking.config.ConfigManager;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.math.BigDecimal;
+
+/**
+ * One what-if scenario for {@link EconomySimulator}.
+ *
+ * <p>Holds its own copy of the configuration, so settings can be
+ * changed on it without touching the live config.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class SimulationScenario {
+
+    private final String name;
+    private final BankingConfig config;
+    private long seed = 42L;
+    private BigDecimal startInflationRate;
+    private double walletFactor = 1.0;
+    private double dailyIncome = 0.0;
+    private boolean autoCloseMatured = true;
+
+    /**
+     * @param name   scenario label
+     * @param config configuration to project with (copied)
+     */
+    public SimulationScenario(@Nonnull String name, @Nonnull BankingConfig config) {
+        this.name = name;
+        this.config = ConfigManager.copyOf(config);
+    }
+
+    @Nonnull public String getName() { return name; }
+
+    /** Scenario's private configuration copy; may be modified before running. */
+    @Nonnull public BankingConfig getConfig() { return config; }
+
+    public long getSeed() { return seed; }
+    public SimulationScenario setSeed(long seed) { this.seed = seed; return this; }
+
+    /** Inflation level to start from (null = configured base rate). */
+    @Nullable public BigDecimal getStartInflationRate() { return startInflationRate; }
+    public SimulationScenario setStartInflationRate(@Nullable BigDecimal rate) { this.startInflationRate = rate; return this; }
+
+    /** Multiplier applied to every wallet balance at the start (0.5 = wealth shock). */
+    public double getWalletFactor() { return walletFactor; }
+    public SimulationScenario setWalletFactor(double factor) { this.walletFactor = factor; return this; }
+
+    /** Coins credited to every wallet at the start of each game day. */
+    public double getDailyIncome() { return dailyIncome; }
+    public SimulationScenario setDailyIncome(double income) { this.dailyIncome = income; return this; }
+
+    /** Whether players are assumed to collect deposits as soon as they mature. */
+    public boolean isAutoCloseMatured() { return autoCloseMatured; }
+    public SimulationScenario setAutoCloseMatured(boolean autoClose) { this.autoCloseMatured = autoClose; return this; }
+}
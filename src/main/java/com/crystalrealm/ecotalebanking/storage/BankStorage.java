@@ -3,11 +3,19 @@ package com.crystalrealm.ecotalebanking.storage;
 import com.crystalrealm.ecotalebanking.model.AuditLog;
 import com.crystalrealm.ecotalebanking.model.BankAccount;
 import com.crystalrealm.ecotalebanking.model.CreditScore;
+import com.crystalrealm.ecotalebanking.model.Deposit;
+import com.crystalrealm.ecotalebanking.model.InstrumentHistory;
+import com.crystalrealm.ecotalebanking.model.Loan;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
+import java.time.Instant;
+import java.util.Collection;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 /**
  * Banking system data storage interface.
@@ -22,9 +30,11 @@ public interface BankStorage {
 
     /**
      * Loads an account by UUID or creates a new one.
+     *
+     * @param now creation time of a new account, from the caller's clock
      */
     @Nonnull
-    BankAccount loadOrCreateAccount(@Nonnull UUID playerUuid);
+    BankAccount loadOrCreateAccount(@Nonnull UUID playerUuid, @Nonnull Instant now);
 
     /**
      * Loads an account (may be null if it does not exist).
@@ -41,15 +51,36 @@ public interface BankStorage {
 
     /**
      * Loads the credit score or creates a default one.
+     *
+     * @param now creation time of a new score, from the caller's clock
      */
     @Nonnull
-    CreditScore loadOrCreateCreditScore(@Nonnull UUID playerUuid);
+    CreditScore loadOrCreateCreditScore(@Nonnull UUID playerUuid, @Nonnull Instant now);
 
     /**
      * Saves the credit score.
      */
     void saveCreditScore(@Nonnull CreditScore score);
 
+    // ── Instrument History ─────────────────────────────────────
+
+    /**
+     * Appends closed instruments to the player's history. Existing
+     * history is never rewritten.
+     *
+     * @return false if the history could not be written
+     */
+    boolean appendHistory(@Nonnull UUID playerUuid,
+                       @Nonnull List<Deposit> deposits,
+                       @Nonnull List<Loan> loans);
+
+    /**
+     * Loads the player's closed instruments. Not cached — the history is
+     * only read when someone asks for it.
+     */
+    @Nonnull
+    InstrumentHistory loadHistory(@Nonnull UUID playerUuid);
+
     // ── Audit Log ──────────────────────────────────────────────
 
     /**
@@ -63,6 +94,24 @@ public interface BankStorage {
     @Nonnull
     List<AuditLog> getAuditLogs(@Nonnull UUID playerUuid, int limit);
 
+    /**
+     * Streams every stored audit entry of a player, oldest first.
+     * Implementations may read straight from disk without caching.
+     */
+    default void forEachAuditLog(@Nonnull UUID playerUuid, @Nonnull Consumer<AuditLog> action) {
+        getAuditLogs(playerUuid, Integer.MAX_VALUE).forEach(action);
+    }
+
+    /**
+     * Returns every player that has an account or an audit journal.
+     */
+    @Nonnull
+    default Collection<UUID> getAuditedPlayers() {
+        Set<UUID> players = new LinkedHashSet<>();
+        for (BankAccount account : getAllAccounts()) players.add(account.getPlayerUuid());
+        return players;
+    }
+
     // ── Collections (for admin panel) ─────────────────────────
 
     /**
@@ -0,0 +1,269 @@
+package com.crystalrealm.ecotalebanking.storage;
+
+import com.crystalrealm.ecotalebanking.util.PluginLogger;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.io.*;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Compact ring time series of inflation and money-supply samples.
+ *
+ * <p>Samples are kept in {@link #TIERS} fixed-size rings of
+ * {@link #CAPACITY} entries. Tier 0 holds every sample; each further
+ * tier holds one entry per {@link #FACTOR} entries of the tier below
+ * (averaged levels, summed tax intake), so the series covers a long
+ * history in a constant amount of memory and disk.</p>
+ *
+ * <p>Persisted as a small binary file ({@code inflation.bin}) that is
+ * rewritten atomically after every append. {@link #inMemory()} series
+ * (simulations) never touch the disk.</p>
+ *
+ * <p>Not thread-safe; callers synchronize.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class InflationSeries {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+
+    private static final int MAGIC = 0x45544953; // "ETIS"
+    private static final int FORMAT_VERSION = 1;
+
+    /** Number of downsampling tiers. */
+    public static final int TIERS = 3;
+
+    /** Entries per tier. */
+    public static final int CAPACITY = 256;
+
+    /** Entries of one tier folded into one entry of the next. */
+    public static final int FACTOR = 16;
+
+    private final Path file;
+    private final Ring[] tiers = new Ring[TIERS];
+
+    private InflationSeries(@Nullable Path file) {
+        this.file = file;
+        for (int i = 0; i < TIERS; i++) tiers[i] = new Ring();
+    }
+
+    /**
+     * Series that is never persisted.
+     */
+    @Nonnull
+    public static InflationSeries inMemory() {
+        return new InflationSeries(null);
+    }
+
+    /**
+     * Loads the series from {@code file}; starts empty if the file is
+     * missing or unreadable.
+     */
+    @Nonnull
+    public static InflationSeries load(@Nonnull Path file) {
+        InflationSeries series = new InflationSeries(file);
+        if (!Files.exists(file)) return series;
+        try (DataInputStream in = new DataInputStream(
+                new BufferedInputStream(Files.newInputStream(file)))) {
+            if (in.readInt() != MAGIC || in.readInt() != FORMAT_VERSION
+                    || in.readInt() != TIERS || in.readInt() != CAPACITY) {
+                LOGGER.warn("{} has an unknown format — starting a new inflation series.", file);
+                return new InflationSeries(file);
+            }
+            for (Ring ring : series.tiers) ring.read(in);
+            LOGGER.info("Inflation series loaded: {} samples.", series.tiers[0].size);
+        } catch (IOException e) {
+            LOGGER.error("Failed to read {}: {}", file, e.getMessage());
+            return new InflationSeries(file);
+        }
+        return series;
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  API
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Appends a sample, folds full buckets into the coarser tiers and
+     * persists the series.
+     */
+    public void append(@Nonnull Sample sample) {
+        Sample carry = sample;
+        for (int tier = 0; tier < TIERS && carry != null; tier++) {
+            carry = tiers[tier].add(carry);
+        }
+        save();
+    }
+
+    /**
+     * @return most recent sample, or null if the series is empty
+     */
+    @Nullable
+    public Sample latest() {
+        return tiers[0].get(tiers[0].size - 1);
+    }
+
+    /**
+     * @return samples of a tier (0 = finest), oldest first
+     */
+    @Nonnull
+    public List<Sample> tier(int tier) {
+        Ring ring = tiers[tier];
+        List<Sample> result = new ArrayList<>(ring.size);
+        for (int i = 0; i < ring.size; i++) result.add(ring.get(i));
+        return Collections.unmodifiableList(result);
+    }
+
+    // ── Persistence ─────────────────────────────────────────
+
+    private void save() {
+        if (file == null) return;
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (DataOutputStream out = new DataOutputStream(
+                    new BufferedOutputStream(Files.newOutputStream(tmp)))) {
+                out.writeInt(MAGIC);
+                out.writeInt(FORMAT_VERSION);
+                out.writeInt(TIERS);
+                out.writeInt(CAPACITY);
+                for (Ring ring : tiers) ring.write(out);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Failed to write {}: {}", file, e.getMessage());
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  SAMPLE
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * One point of the series. Rates are in millionths, amounts in
+     * hundredths of a coin.
+     */
+    public static final class Sample {
+        static final int FIELDS = 6;
+
+        private final long epochSecond;
+        private final long rateMicros;
+        private final long moneySupply;
+        private final long deposited;
+        private final long debt;
+        private final long taxIntake;
+
+        public Sample(long epochSecond, long rateMicros, long moneySupply,
+                      long deposited, long debt, long taxIntake) {
+            this.epochSecond = epochSecond;
+            this.rateMicros = rateMicros;
+            this.moneySupply = moneySupply;
+            this.deposited = deposited;
+            this.debt = debt;
+            this.taxIntake = taxIntake;
+        }
+
+        public long getEpochSecond() { return epochSecond; }
+        public long getRateMicros() { return rateMicros; }
+        /** Deposits plus outstanding debt. */
+        public long getMoneySupply() { return moneySupply; }
+        public long getDeposited() { return deposited; }
+        public long getDebt() { return debt; }
+        /** Tax collected during the sample's interval. */
+        public long getTaxIntake() { return taxIntake; }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  INTERNAL
+    // ═════════════════════════════════════════════════════════
+
+    /** Fixed-capacity ring of samples plus the bucket being folded for the next tier. */
+    private static final class Ring {
+        final long[] data = new long[CAPACITY * Sample.FIELDS];
+        int head;   // index of the oldest entry
+        int size;
+
+        // Running bucket: sums of levels, sum of intake, last time
+        int bucketCount;
+        long bucketTime, bucketRate, bucketSupply, bucketDeposited, bucketDebt, bucketTax;
+
+        /**
+         * Stores a sample and returns the folded entry for the next tier
+         * once a bucket is complete, null otherwise.
+         */
+        Sample add(Sample s) {
+            int slot = (head + size) % CAPACITY;
+            if (size == CAPACITY) {
+                head = (head + 1) % CAPACITY;
+            } else {
+                size++;
+            }
+            int o = slot * Sample.FIELDS;
+            data[o] = s.epochSecond;
+            data[o + 1] = s.rateMicros;
+            data[o + 2] = s.moneySupply;
+            data[o + 3] = s.deposited;
+            data[o + 4] = s.debt;
+            data[o + 5] = s.taxIntake;
+
+            bucketCount++;
+            bucketTime = s.epochSecond;
+            bucketRate += s.rateMicros;
+            bucketSupply += s.moneySupply;
+            bucketDeposited += s.deposited;
+            bucketDebt += s.debt;
+            bucketTax += s.taxIntake;
+            if (bucketCount < FACTOR) return null;
+
+            Sample folded = new Sample(bucketTime, bucketRate / FACTOR, bucketSupply / FACTOR,
+                    bucketDeposited / FACTOR, bucketDebt / FACTOR, bucketTax);
+            bucketCount = 0;
+            bucketRate = bucketSupply = bucketDeposited = bucketDebt = bucketTax = 0;
+            return folded;
+        }
+
+        /** i = 0 is the oldest entry. */
+        Sample get(int i) {
+            if (i < 0 || i >= size) return null;
+            int o = ((head + i) % CAPACITY) * Sample.FIELDS;
+            return new Sample(data[o], data[o + 1], data[o + 2], data[o + 3], data[o + 4], data[o + 5]);
+        }
+
+        /** Entries are written oldest first, so a loaded ring starts at index 0. */
+        void write(DataOutputStream out) throws IOException {
+            out.writeInt(size);
+            out.writeInt(bucketCount);
+            out.writeLong(bucketTime);
+            out.writeLong(bucketRate);
+            out.writeLong(bucketSupply);
+            out.writeLong(bucketDeposited);
+            out.writeLong(bucketDebt);
+            out.writeLong(bucketTax);
+            for (int i = 0; i < size * Sample.FIELDS; i++) {
+                out.writeLong(data[((head * Sample.FIELDS) + i) % data.length]);
+            }
+        }
+
+        void read(DataInputStream in) throws IOException {
+            int n = in.readInt();
+            if (n < 0 || n > CAPACITY) throw new IOException("corrupt ring size " + n);
+            bucketCount = in.readInt();
+            bucketTime = in.readLong();
+            bucketRate = in.readLong();
+            bucketSupply = in.readLong();
+            bucketDeposited = in.readLong();
+            bucketDebt = in.readLong();
+            bucketTax = in.readLong();
+            for (int i = 0; i < n * Sample.FIELDS; i++) data[i] = in.readLong();
+            head = 0;
+            size = n;
+        }
+    }
+}
@@ -4,6 +4,8 @@ import com.crystalrealm.ecotalebanking.model.*;
 import com.crystalrealm.ecotalebanking.util.PluginLogger;
 import com.google.gson.*;
 import com.google.gson.reflect.TypeToken;
+import com.google.gson.stream.JsonReader;
+import com.google.gson.stream.JsonToken;
 
 import javax.annotation.Nonnull;
 import javax.annotation.Nullable;
@@ -13,9 +15,11 @@ import java.math.BigDecimal;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.time.Instant;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 /**
@@ -30,6 +34,8 @@ import java.util.stream.Collectors;
  *       {uuid}.json        — CreditScore
  *     audit/
  *       {uuid}.json        — List&lt;AuditLog&gt;
+ *     history/
+ *       {uuid}.jsonl       — closed deposits/loans, one per line, append-only
  * </pre>
  *
  * <p>Uses ConcurrentHashMap for thread-safe in-memory
@@ -42,23 +48,29 @@ public class JsonBankStorage implements BankStorage {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
-    private static final Gson GSON = new GsonBuilder()
-            .setPrettyPrinting()
-            .disableHtmlEscaping()
-            .registerTypeAdapter(Instant.class, (JsonSerializer<Instant>)
-                    (src, type, ctx) -> new JsonPrimitive(src.toEpochMilli()))
-            .registerTypeAdapter(Instant.class, (JsonDeserializer<Instant>)
-                    (json, type, ctx) -> Instant.ofEpochMilli(json.getAsLong()))
-            .registerTypeAdapter(BigDecimal.class, (JsonSerializer<BigDecimal>)
-                    (src, type, ctx) -> new JsonPrimitive(src.toPlainString()))
-            .registerTypeAdapter(BigDecimal.class, (JsonDeserializer<BigDecimal>)
-                    (json, type, ctx) -> new BigDecimal(json.getAsString()))
-            .create();
+    static final Gson GSON = baseGson().setPrettyPrinting().create();
+
+    /** Single-line variant for the append-only history files. */
+    private static final Gson LINE_GSON = baseGson().create();
+
+    private static GsonBuilder baseGson() {
+        return new GsonBuilder()
+                .disableHtmlEscaping()
+                .registerTypeAdapter(Instant.class, (JsonSerializer<Instant>)
+                        (src, type, ctx) -> new JsonPrimitive(src.toEpochMilli()))
+                .registerTypeAdapter(Instant.class, (JsonDeserializer<Instant>)
+                        (json, type, ctx) -> Instant.ofEpochMilli(json.getAsLong()))
+                .registerTypeAdapter(BigDecimal.class, (JsonSerializer<BigDecimal>)
+                        (src, type, ctx) -> new JsonPrimitive(src.toPlainString()))
+                .registerTypeAdapter(BigDecimal.class, (JsonDeserializer<BigDecimal>)
+                        (json, type, ctx) -> new BigDecimal(json.getAsString()));
+    }
 
     private final Path dataDirectory;
     private final Path accountsDir;
     private final Path creditDir;
     private final Path auditDir;
+    private final Path historyDir;
 
     private final Map<UUID, BankAccount> accountCache = new ConcurrentHashMap<>();
     private final Map<UUID, CreditScore> creditCache = new ConcurrentHashMap<>();
@@ -75,6 +87,7 @@ public class JsonBankStorage implements BankStorage {
         this.accountsDir = dataDirectory.resolve("accounts");
         this.creditDir = dataDirectory.resolve("credit");
         this.auditDir = dataDirectory.resolve("audit");
+        this.historyDir = dataDirectory.resolve("history");
         this.maxAuditEntries = maxAuditEntries;
     }
 
@@ -84,11 +97,11 @@ public class JsonBankStorage implements BankStorage {
 
     @Override
     @Nonnull
-    public BankAccount loadOrCreateAccount(@Nonnull UUID playerUuid) {
+    public BankAccount loadOrCreateAccount(@Nonnull UUID playerUuid, @Nonnull Instant now) {
         return accountCache.computeIfAbsent(playerUuid, uuid -> {
             BankAccount loaded = readJson(accountsDir, uuid, BankAccount.class);
             if (loaded != null) return loaded;
-            BankAccount fresh = new BankAccount(uuid);
+            BankAccount fresh = new BankAccount(uuid, now);
             LOGGER.debug("Created new bank account for {}", uuid);
             return fresh;
         });
@@ -118,11 +131,11 @@ public class JsonBankStorage implements BankStorage {
 
     @Override
     @Nonnull
-    public CreditScore loadOrCreateCreditScore(@Nonnull UUID playerUuid) {
+    public CreditScore loadOrCreateCreditScore(@Nonnull UUID playerUuid, @Nonnull Instant now) {
         return creditCache.computeIfAbsent(playerUuid, uuid -> {
             CreditScore loaded = readJson(creditDir, uuid, CreditScore.class);
             if (loaded != null) return loaded;
-            return new CreditScore(uuid);
+            return new CreditScore(uuid, now);
         });
     }
 
@@ -132,6 +145,79 @@ public class JsonBankStorage implements BankStorage {
         writeJson(creditDir, score.getPlayerUuid(), score);
     }
 
+    // ═════════════════════════════════════════════════════════
+    //  INSTRUMENT HISTORY
+    // ═════════════════════════════════════════════════════════
+
+    @Override
+    public boolean appendHistory(@Nonnull UUID playerUuid,
+                                 @Nonnull List<Deposit> deposits,
+                                 @Nonnull List<Loan> loans) {
+        if (deposits.isEmpty() && loans.isEmpty()) return true;
+        Path file = historyDir.resolve(playerUuid.toString() + ".jsonl");
+        try {
+            Files.createDirectories(historyDir);
+            try (Writer writer = Files.newBufferedWriter(file, StandardCharsets.UTF_8,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                for (Deposit d : deposits) {
+                    writer.write(LINE_GSON.toJson(new HistoryLine(d, null)));
+                    writer.write('\n');
+                }
+                for (Loan l : loans) {
+                    writer.write(LINE_GSON.toJson(new HistoryLine(null, l)));
+                    writer.write('\n');
+                }
+            }
+            return true;
+        } catch (IOException e) {
+            LOGGER.error("Failed to append history for {}: {}", playerUuid, e.getMessage());
+            return false;
+        }
+    }
+
+    @Override
+    @Nonnull
+    public InstrumentHistory loadHistory(@Nonnull UUID playerUuid) {
+        Path file = historyDir.resolve(playerUuid.toString() + ".jsonl");
+        if (!Files.exists(file)) return InstrumentHistory.empty(playerUuid);
+
+        List<Deposit> deposits = new ArrayList<>();
+        List<Loan> loans = new ArrayList<>();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            int lineNo = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNo++;
+                if (line.isBlank()) continue;
+                try {
+                    HistoryLine entry = LINE_GSON.fromJson(line, HistoryLine.class);
+                    if (entry.deposit != null) deposits.add(entry.deposit);
+                    if (entry.loan != null) loans.add(entry.loan);
+                } catch (JsonParseException e) {
+                    // Torn last line after a crash — skip it
+                    LOGGER.warn("Skipping malformed history line {} for {}: {}",
+                            lineNo, playerUuid, e.getMessage());
+                }
+            }
+        } catch (IOException e) {
+            LOGGER.error("Failed to load history for {}: {}", playerUuid, e.getMessage());
+        }
+        return new InstrumentHistory(playerUuid, deposits, loans);
+    }
+
+    /**
+     * One line of a history file: exactly one of the fields is set.
+     */
+    private static final class HistoryLine {
+        final Deposit deposit;
+        final Loan loan;
+
+        HistoryLine(Deposit deposit, Loan loan) {
+            this.deposit = deposit;
+            this.loan = loan;
+        }
+    }
+
     // ═════════════════════════════════════════════════════════
     //  AUDIT LOG
     // ═════════════════════════════════════════════════════════
@@ -157,6 +243,56 @@ public class JsonBankStorage implements BankStorage {
         return new ArrayList<>(logs.subList(start, logs.size()));
     }
 
+    @Override
+    public void forEachAuditLog(@Nonnull UUID playerUuid, @Nonnull Consumer<AuditLog> action) {
+        List<AuditLog> cached = auditCache.get(playerUuid);
+        if (cached != null) {
+            for (Object entry : cached.toArray()) {
+                action.accept((AuditLog) entry);
+            }
+            return;
+        }
+
+        // Not cached — stream entries straight from disk, one at a time
+        Path file = auditDir.resolve(playerUuid.toString() + ".json");
+        if (!Files.exists(file)) return;
+
+        try (JsonReader reader = new JsonReader(new InputStreamReader(
+                Files.newInputStream(file), StandardCharsets.UTF_8))) {
+            if (reader.peek() != JsonToken.BEGIN_ARRAY) return;
+            reader.beginArray();
+            while (reader.hasNext()) {
+                action.accept(GSON.fromJson(reader, AuditLog.class));
+            }
+            reader.endArray();
+        } catch (Exception e) {
+            LOGGER.error("Failed to stream audit log for {}: {}", playerUuid, e.getMessage());
+        }
+    }
+
+    @Override
+    @Nonnull
+    public Collection<UUID> getAuditedPlayers() {
+        Set<UUID> players = new LinkedHashSet<>(accountCache.keySet());
+        players.addAll(auditCache.keySet());
+        if (Files.isDirectory(auditDir)) {
+            try (var files = Files.list(auditDir)) {
+                files.map(f -> f.getFileName().toString())
+                        .filter(name -> name.endsWith(".json"))
+                        .forEach(name -> {
+                            try {
+                                players.add(UUID.fromString(name.substring(0, name.length() - 5)));
+                            } catch (IllegalArgumentException ignored) {
+                                // Not a UUID filename
+                            }
+                        });
+            } catch (IOException e) {
+                LOGGER.error("Failed to list audit files: {}", e.getMessage());
+            }
+        }
+        return players;
+    }
+
     private List<AuditLog> loadAuditList(UUID uuid) {
         Type listType = new TypeToken<List<AuditLog>>() {}.getType();
         Path file = auditDir.resolve(uuid.toString() + ".json");
@@ -216,6 +352,7 @@ public class JsonBankStorage implements BankStorage {
             Files.createDirectories(accountsDir);
             Files.createDirectories(creditDir);
             Files.createDirectories(auditDir);
+            Files.createDirectories(historyDir);
         } catch (IOException e) {
             LOGGER.error("Failed to create storage directories: {}", e.getMessage());
         }
@@ -0,0 +1,196 @@
+package com.crystalrealm.ecotalebanking.storage;
+
+import com.crystalrealm.ecotalebanking.model.AuditLog;
+import com.crystalrealm.ecotalebanking.model.BankAccount;
+import com.crystalrealm.ecotalebanking.model.CreditScore;
+import com.crystalrealm.ecotalebanking.model.Deposit;
+import com.crystalrealm.ecotalebanking.model.InstrumentHistory;
+import com.crystalrealm.ecotalebanking.model.Loan;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.time.Instant;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Purely in-memory banking storage. Nothing touches disk.
+ *
+ * <p>Used for offline projections: {@link #snapshotOf(BankStorage, int)}
+ * deep-copies the accounts, credit scores and instrument history of a
+ * live storage so the copy can be mutated freely.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public class MemoryBankStorage implements BankStorage {
+
+    private final Map<UUID, BankAccount> accounts = new ConcurrentHashMap<>();
+    private final Map<UUID, CreditScore> credits = new ConcurrentHashMap<>();
+    private final Map<UUID, List<AuditLog>> audits = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Deposit>> depositHistory = new ConcurrentHashMap<>();
+    private final Map<UUID, List<Loan>> loanHistory = new ConcurrentHashMap<>();
+
+    private final int maxAuditEntries;
+
+    public MemoryBankStorage(int maxAuditEntries) {
+        this.maxAuditEntries = maxAuditEntries;
+    }
+
+    /**
+     * Creates an independent deep copy of the accounts, credit scores and
+     * instrument history of {@code source}. Audit logs are not copied.
+     */
+    @Nonnull
+    public static MemoryBankStorage snapshotOf(@Nonnull BankStorage source, int maxAuditEntries) {
+        MemoryBankStorage copy = new MemoryBankStorage(maxAuditEntries);
+        for (BankAccount account : source.getAllAccounts()) {
+            copy.accounts.put(account.getPlayerUuid(),
+                    JsonBankStorage.GSON.fromJson(JsonBankStorage.GSON.toJsonTree(account), BankAccount.class));
+        }
+        for (CreditScore score : source.getAllCreditScores()) {
+            copy.credits.put(score.getPlayerUuid(),
+                    JsonBankStorage.GSON.fromJson(JsonBankStorage.GSON.toJsonTree(score), CreditScore.class));
+        }
+        for (UUID uuid : copy.accounts.keySet()) {
+            InstrumentHistory history = source.loadHistory(uuid);
+            if (history.isEmpty()) continue;
+            List<Deposit> deposits = new ArrayList<>();
+            for (Deposit d : history.getDeposits()) {
+                deposits.add(JsonBankStorage.GSON.fromJson(JsonBankStorage.GSON.toJsonTree(d), Deposit.class));
+            }
+            List<Loan> loans = new ArrayList<>();
+            for (Loan l : history.getLoans()) {
+                loans.add(JsonBankStorage.GSON.fromJson(JsonBankStorage.GSON.toJsonTree(l), Loan.class));
+            }
+            copy.appendHistory(uuid, deposits, loans);
+        }
+        return copy;
+    }
+
+    /**
+     * Creates an independent deep copy of this storage (accounts, credit scores, history).
+     */
+    @Nonnull
+    public MemoryBankStorage copy() {
+        return snapshotOf(this, maxAuditEntries);
+    }
+
+    // ── Accounts ────────────────────────────────────────────
+
+    @Override
+    @Nonnull
+    public BankAccount loadOrCreateAccount(@Nonnull UUID playerUuid, @Nonnull Instant now) {
+        return accounts.computeIfAbsent(playerUuid, uuid -> new BankAccount(uuid, now));
+    }
+
+    @Override
+    @Nullable
+    public BankAccount loadAccount(@Nonnull UUID playerUuid) {
+        return accounts.get(playerUuid);
+    }
+
+    @Override
+    public void saveAccount(@Nonnull BankAccount account) {
+        accounts.put(account.getPlayerUuid(), account);
+    }
+
+    // ── Credit Scores ───────────────────────────────────────
+
+    @Override
+    @Nonnull
+    public CreditScore loadOrCreateCreditScore(@Nonnull UUID playerUuid, @Nonnull Instant now) {
+        return credits.computeIfAbsent(playerUuid, uuid -> new CreditScore(uuid, now));
+    }
+
+    @Override
+    public void saveCreditScore(@Nonnull CreditScore score) {
+        credits.put(score.getPlayerUuid(), score);
+    }
+
+    // ── Instrument History ──────────────────────────────────
+
+    @Override
+    public boolean appendHistory(@Nonnull UUID playerUuid,
+                                 @Nonnull List<Deposit> deposits,
+                                 @Nonnull List<Loan> loans) {
+        if (!deposits.isEmpty()) {
+            List<Deposit> list = depositHistory.computeIfAbsent(playerUuid, k -> new ArrayList<>());
+            synchronized (list) {
+                list.addAll(deposits);
+            }
+        }
+        if (!loans.isEmpty()) {
+            List<Loan> list = loanHistory.computeIfAbsent(playerUuid, k -> new ArrayList<>());
+            synchronized (list) {
+                list.addAll(loans);
+            }
+        }
+        return true;
+    }
+
+    @Override
+    @Nonnull
+    public InstrumentHistory loadHistory(@Nonnull UUID playerUuid) {
+        return new InstrumentHistory(playerUuid,
+                snapshot(depositHistory.get(playerUuid)),
+                snapshot(loanHistory.get(playerUuid)));
+    }
+
+    private static <T> List<T> snapshot(@Nullable List<T> list) {
+        if (list == null) return List.of();
+        synchronized (list) {
+            return new ArrayList<>(list);
+        }
+    }
+
+    // ── Audit Log ───────────────────────────────────────────
+
+    @Override
+    public void addAuditLog(@Nonnull AuditLog entry) {
+        List<AuditLog> logs = audits.computeIfAbsent(entry.getPlayerUuid(), k -> new ArrayList<>());
+        synchronized (logs) {
+            logs.add(entry);
+            if (logs.size() > maxAuditEntries) {
+                logs.subList(0, logs.size() - maxAuditEntries).clear();
+            }
+        }
+    }
+
+    @Override
+    @Nonnull
+    public List<AuditLog> getAuditLogs(@Nonnull UUID playerUuid, int limit) {
+        List<AuditLog> logs = audits.get(playerUuid);
+        if (logs == null) return new ArrayList<>();
+        synchronized (logs) {
+            int start = Math.max(0, logs.size() - limit);
+            return new ArrayList<>(logs.subList(start, logs.size()));
+        }
+    }
+
+    // ── Collections ─────────────────────────────────────────
+
+    @Override
+    @Nonnull
+    public Collection<BankAccount> getAllAccounts() {
+        return Collections.unmodifiableCollection(accounts.values());
+    }
+
+    @Override
+    @Nonnull
+    public Collection<CreditScore> getAllCreditScores() {
+        return Collections.unmodifiableCollection(credits.values());
+    }
+
+    // ── Lifecycle ───────────────────────────────────────────
+
+    @Override
+    public void saveAll() {
+        // nothing to flush
+    }
+
+    @Override
+    public void loadAll() {
+        // nothing to load
+    }
+}
@@ -0,0 +1,72 @@
+package com.crystalrealm.ecotalebanking.util;
+
+import javax.annotation.Nonnull;
+import java.time.Instant;
+
+/**
+ * Source of "now" for all banking time arithmetic.
+ *
+ * <p>Live code uses {@link #system()}, a coarse clock refreshed once per
+ * scheduler tick, so hot paths read a cached value instead of calling
+ * {@link Instant#now()}. Projections and benchmarks use a
+ * {@link SimulatedClock} that can be fast-forwarded by whole game days.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public interface BankClock {
+
+    /**
+     * @return current time in epoch milliseconds
+     */
+    long millis();
+
+    /**
+     * @return real-time seconds that constitute one game day on this clock
+     */
+    int getSecondsPerDay();
+
+    /**
+     * @return current time as an instant
+     */
+    @Nonnull
+    default Instant now() {
+        return Instant.ofEpochMilli(millis());
+    }
+
+    /**
+     * @return current time in epoch seconds
+     */
+    default long epochSecond() {
+        return Math.floorDiv(millis(), 1000L);
+    }
+
+    /**
+     * @return number of whole game days since the epoch
+     */
+    default long currentGameDay() {
+        return epochSecond() / getSecondsPerDay();
+    }
+
+    /**
+     * Whole game days from {@code from} to now (negative if {@code from} is in the future).
+     */
+    default long gameDaysSince(@Nonnull Instant from) {
+        return (epochSecond() - from.getEpochSecond()) / getSecondsPerDay();
+    }
+
+    /**
+     * Whole game days from now to {@code to} (negative if {@code to} has passed).
+     */
+    default long gameDaysUntil(@Nonnull Instant to) {
+        return (to.getEpochSecond() - epochSecond()) / getSecondsPerDay();
+    }
+
+    /**
+     * @return the shared tick-cached system clock
+     */
+    @Nonnull
+    static BankClock system() {
+        return SystemBankClock.INSTANCE;
+    }
+}
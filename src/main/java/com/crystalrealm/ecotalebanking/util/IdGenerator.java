@@ -0,0 +1,190 @@
+package com.crystalrealm.ecotalebanking.util;
+
+import com.google.gson.Gson;
+
+import javax.annotation.Nonnull;
+import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic, collision-safe IDs for deposits, loans and audit entries.
+ *
+ * <p>An ID packs 42 bits of milliseconds since 2024-01-01, a 10-bit node
+ * number and a 12-bit per-millisecond sequence into 64 bits, encoded as
+ * 13 Crockford base32 characters. IDs sort in creation order.</p>
+ *
+ * <p>The node number and a time high-water mark are kept in
+ * {@code ids.json} in the data directory. The mark is leased a few
+ * seconds ahead and persisted before any ID beyond it is handed out, so
+ * after a restart — even with the clock set back — no ID is ever reused.</p>
+ *
+ * <p>Before {@link #init(Path)} (offline projections) a random node is
+ * used and nothing is persisted. Legacy 8-character IDs stay valid; they
+ * are plain strings to every lookup.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class IdGenerator {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+    private static final Gson GSON = new Gson();
+
+    /** 2024-01-01T00:00:00Z */
+    private static final long EPOCH_MILLIS = 1_704_067_200_000L;
+
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int NODE_MASK = (1 << NODE_BITS) - 1;
+
+    /** How far ahead of the last issued timestamp the persisted mark is leased. */
+    private static final long LEASE_MILLIS = 10_000L;
+
+    /** Length of an encoded ID. */
+    public static final int LENGTH = 13;
+
+    private static final char[] ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ".toCharArray();
+
+    /** Last issued (timestamp << SEQUENCE_BITS | sequence). */
+    private static final AtomicLong STATE = new AtomicLong();
+
+    private static volatile int node = ThreadLocalRandom.current().nextInt(NODE_MASK + 1);
+    /** Timestamps below this are covered by the persisted mark (MAX_VALUE: not persisted). */
+    private static volatile long leaseUntil = Long.MAX_VALUE;
+    private static Path stateFile;
+
+    private IdGenerator() {}
+
+    /**
+     * Loads (or creates) the node number and high-water mark of the data
+     * directory. Must be called once during plugin setup, before any ID is issued.
+     */
+    public static synchronized void init(@Nonnull Path dataDirectory) {
+        stateFile = dataDirectory.resolve("ids.json");
+        State state = read(stateFile);
+        if (state == null) {
+            state = new State();
+            state.node = ThreadLocalRandom.current().nextInt(NODE_MASK + 1);
+        }
+        node = state.node & NODE_MASK;
+
+        // Never go below anything a previous run may have issued
+        long start = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, state.highWater);
+        STATE.set(start << SEQUENCE_BITS);
+        leaseUntil = 0;
+        extendLease(start);
+        LOGGER.info("ID generator ready (node {}).", node);
+    }
+
+    /**
+     * @return a new unique ID
+     */
+    @Nonnull
+    public static String next() {
+        long now = System.currentTimeMillis() - EPOCH_MILLIS;
+        long prev;
+        long next;
+        do {
+            prev = STATE.get();
+            // New millisecond → sequence 0; same (or clock behind) → next sequence,
+            // overflowing into the following millisecond
+            next = Math.max(now << SEQUENCE_BITS, prev + 1);
+        } while (!STATE.compareAndSet(prev, next));
+
+        long timestamp = next >>> SEQUENCE_BITS;
+        if (timestamp >= leaseUntil) extendLease(timestamp);
+
+        long id = (timestamp << (NODE_BITS + SEQUENCE_BITS))
+                | ((long) node << SEQUENCE_BITS)
+                | (next & SEQUENCE_MASK);
+        return encode(id);
+    }
+
+    /**
+     * Canonical form of a user-typed ID: generated IDs are matched
+     * case-insensitively with Crockford's I/L→1 and O→0 aliases,
+     * legacy IDs are returned unchanged.
+     */
+    @Nonnull
+    public static String normalize(@Nonnull String id) {
+        String trimmed = id.trim();
+        if (trimmed.length() != LENGTH) return trimmed;
+        char[] out = new char[LENGTH];
+        for (int i = 0; i < LENGTH; i++) {
+            char c = Character.toUpperCase(trimmed.charAt(i));
+            if (c == 'I' || c == 'L') c = '1';
+            else if (c == 'O') c = '0';
+            if (!isAlphabet(c)) return trimmed;
+            out[i] = c;
+        }
+        return new String(out);
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  INTERNAL
+    // ═════════════════════════════════════════════════════════
+
+    private static String encode(long value) {
+        char[] out = new char[LENGTH];
+        // 65 bits: the first character carries only the top 4 bits
+        for (int i = LENGTH - 1; i >= 0; i--) {
+            out[i] = ALPHABET[(int) (value & 31)];
+            value >>>= 5;
+        }
+        return new String(out);
+    }
+
+    private static boolean isAlphabet(char c) {
+        for (char a : ALPHABET) {
+            if (a == c) return true;
+        }
+        return false;
+    }
+
+    private static synchronized void extendLease(long timestamp) {
+        if (stateFile == null || timestamp < leaseUntil) return;
+        long lease = timestamp + LEASE_MILLIS;
+        State state = new State();
+        state.node = node;
+        state.highWater = lease;
+        write(stateFile, state);
+        leaseUntil = lease;
+    }
+
+    private static State read(Path file) {
+        if (!Files.exists(file)) return null;
+        try (Reader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            return GSON.fromJson(reader, State.class);
+        } catch (Exception e) {
+            LOGGER.error("Failed to read {}: {}", file, e.getMessage());
+            return null;
+        }
+    }
+
+    private static void write(Path file, State state) {
+        try {
+            Files.createDirectories(file.getParent());
+            Path tmp = file.resolveSibling(file.getFileName() + ".tmp");
+            try (Writer writer = Files.newBufferedWriter(tmp, StandardCharsets.UTF_8)) {
+                GSON.toJson(state, writer);
+            }
+            Files.move(tmp, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            LOGGER.error("Failed to write {}: {}", file, e.getMessage());
+        }
+    }
+
+    /** Persisted generator state. */
+    private static final class State {
+        int node;
+        long highWater;
+    }
+}
@@ -2,7 +2,7 @@ package com.crystalrealm.ecotalebanking.util;
 
 import com.crystalrealm.ecotalebanking.lang.LangManager;
 
-import java.lang.reflect.Method;
+import java.lang.invoke.MethodHandle;
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.text.DecimalFormatSymbols;
@@ -21,6 +21,8 @@ public final class MessageUtil {
 
     private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
 
+    private static final String MESSAGE_CLASS = "com.hypixel.hytale.server.core.Message";
+
     private static final DecimalFormat COIN_FORMAT;
     private static final DecimalFormat PERCENT_FORMAT;
 
@@ -60,12 +62,7 @@ public final class MessageUtil {
         if (playerRef == null) return;
 
         try {
-            String json = MiniMessageParser.toJson(miniMessageText);
-            Class<?> msgClass = Class.forName("com.hypixel.hytale.server.core.Message");
-            Method parseMethod = msgClass.getMethod("parse", String.class);
-            Object message = parseMethod.invoke(null, json);
-            Method sendMethod = playerRef.getClass().getMethod("sendMessage", msgClass);
-            sendMethod.invoke(playerRef, message);
+            sendMessage(playerRef, miniMessageText);
         } catch (Exception e) {
             LOGGER.debug("sendNotification failed for {}: {}", playerUuid, e.getMessage());
             PLAYER_REF_CACHE.remove(playerUuid);
@@ -79,18 +76,38 @@ public final class MessageUtil {
      */
     public static void sendViaContext(Object context, String text) {
         try {
-            String jsonText = MiniMessageParser.toJson(text);
-            Class<?> msgClass = Class.forName("com.hypixel.hytale.server.core.Message");
-            Method parseMethod = msgClass.getMethod("parse", String.class);
-            Object msg = parseMethod.invoke(null, jsonText);
-
-            Method sendMsg = context.getClass().getMethod("sendMessage", msgClass);
-            sendMsg.invoke(context, msg);
+            sendMessage(context, text);
         } catch (Exception e) {
             LOGGER.debug("sendViaContext failed: {}", e.getMessage());
         }
     }
 
+    /**
+     * Parses MiniMessage text into a {@code Message} and calls
+     * {@code receiver.sendMessage(Message)} (PlayerRef, CommandContext, ...).
+     *
+     * @throws ReflectiveOperationException if the message API is missing or throws
+     */
+    public static void sendMessage(Object receiver, String miniMessageText) throws ReflectiveOperationException {
+        if (MessageBridge.PARSE == null || MessageBridge.SEND == null) {
+            throw new NoSuchMethodException(MESSAGE_CLASS + ".parse(String)");
+        }
+        Object message = ReflectionBridge.invoke(MessageBridge.PARSE, MiniMessageParser.toJson(miniMessageText));
+        MessageBridge.SEND.invoke(receiver, message);
+    }
+
+    /** Message API handles, resolved on first send. */
+    private static final class MessageBridge {
+        static final MethodHandle PARSE;
+        static final ReflectionBridge.Call SEND;
+
+        static {
+            Class<?> msgClass = ReflectionBridge.findClass(MESSAGE_CLASS);
+            PARSE = msgClass != null ? ReflectionBridge.findStatic(msgClass, "parse", String.class) : null;
+            SEND = msgClass != null ? ReflectionBridge.method("sendMessage", msgClass) : null;
+        }
+    }
+
     // ── Formatting Helpers ──────────────────────────────────────
 
     /**
@@ -14,7 +14,6 @@ import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 import java.util.*;
-import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Reads {@code permissions.json} and resolves group-based permissions manually,
@@ -29,10 +28,10 @@ public final class PermissionHelper {
 
     private static volatile PermissionHelper instance;
 
-    private final Map<String, List<String>> userGroups = new ConcurrentHashMap<>();
-    private final Map<String, Set<String>> groupPermissions = new ConcurrentHashMap<>();
+    /** Parsed permissions.json; replaced as a whole on reload. */
+    private volatile Snapshot snapshot = Snapshot.EMPTY;
 
-    private Path permissionsFile;
+    private volatile Path permissionsFile;
 
     private PermissionHelper() {}
 
@@ -57,10 +56,26 @@ public final class PermissionHelper {
         }
     }
 
-    public void reload() {
-        if (permissionsFile != null && Files.exists(permissionsFile)) {
-            load();
+    /**
+     * Re-reads permissions.json. A file that fails to parse is rejected
+     * and the previous permissions stay in effect.
+     *
+     * @return true if a new version was published
+     */
+    public boolean reload() {
+        Path file = permissionsFile;
+        if (file != null && Files.exists(file)) {
+            return load();
         }
+        return false;
+    }
+
+    /**
+     * @return resolved permissions.json, or null if none was found
+     */
+    @Nullable
+    public Path getPermissionsFile() {
+        return permissionsFile;
     }
 
     // ── LuckPerms API (reflection) ─────────────────────────
@@ -115,10 +130,11 @@ public final class PermissionHelper {
         if (lpResult != null) return lpResult;
 
         // 2. Fallback: permissions.json
+        Snapshot current = snapshot;
         String uuidStr = uuid.toString();
-        List<String> groups = userGroups.get(uuidStr);
+        List<String> groups = current.userGroups.get(uuidStr);
         if (groups == null || groups.isEmpty()) {
-            Set<String> defaultPerms = groupPermissions.get("Default");
+            Set<String> defaultPerms = current.groupPermissions.get("Default");
             if (defaultPerms != null) {
                 return matchesAny(defaultPerms, permission);
             }
@@ -126,7 +142,7 @@ public final class PermissionHelper {
         }
 
         for (String group : groups) {
-            Set<String> perms = groupPermissions.get(group);
+            Set<String> perms = current.groupPermissions.get(group);
             if (perms != null && matchesAny(perms, permission)) {
                 return true;
             }
@@ -148,16 +164,23 @@ public final class PermissionHelper {
         return false;
     }
 
+    /**
+     * Parses permissions.json into a fresh snapshot and swaps it in.
+     */
     @SuppressWarnings("unchecked")
-    private void load() {
-        userGroups.clear();
-        groupPermissions.clear();
+    private boolean load() {
+        Map<String, List<String>> userGroups = new HashMap<>();
+        Map<String, Set<String>> groupPermissions = new HashMap<>();
 
         try (Reader reader = new InputStreamReader(
                 Files.newInputStream(permissionsFile), StandardCharsets.UTF_8)) {
 
             Type mapType = new TypeToken<Map<String, Object>>() {}.getType();
             Map<String, Object> root = GSON.fromJson(reader, mapType);
+            if (root == null) {
+                LOGGER.error("permissions.json is empty — keeping current permissions");
+                return false;
+            }
 
             Map<String, Object> users = (Map<String, Object>) root.get("users");
             if (users != null) {
@@ -166,7 +189,7 @@ public final class PermissionHelper {
                     Map<String, Object> userData = (Map<String, Object>) entry.getValue();
                     List<String> groups = (List<String>) userData.get("groups");
                     if (groups != null) {
-                        userGroups.put(uuid, new ArrayList<>(groups));
+                        userGroups.put(uuid, List.copyOf(groups));
                     }
                 }
             }
@@ -183,19 +206,35 @@ public final class PermissionHelper {
                                 permSet.add(p.trim());
                             }
                         }
-                        groupPermissions.put(groupName, permSet);
+                        groupPermissions.put(groupName, Set.copyOf(permSet));
                     }
                 }
             }
 
+            snapshot = new Snapshot(userGroups, groupPermissions);
             LOGGER.info("permissions.json loaded: {} users, {} groups",
                     userGroups.size(), groupPermissions.size());
+            return true;
 
         } catch (IOException e) {
             LOGGER.error("Failed to load permissions.json: {}", e.getMessage());
         } catch (Exception e) {
             LOGGER.error("Error parsing permissions.json: {}", e.getMessage());
         }
+        return false;
+    }
+
+    /** Immutable user → groups and group → permissions tables. */
+    private static final class Snapshot {
+        static final Snapshot EMPTY = new Snapshot(Map.of(), Map.of());
+
+        final Map<String, List<String>> userGroups;
+        final Map<String, Set<String>> groupPermissions;
+
+        Snapshot(Map<String, List<String>> userGroups, Map<String, Set<String>> groupPermissions) {
+            this.userGroups = Map.copyOf(userGroups);
+            this.groupPermissions = Map.copyOf(groupPermissions);
+        }
     }
 
     @Nullable
@@ -1,5 +1,6 @@
 package com.crystalrealm.ecotalebanking.util;
 
+import java.util.function.Supplier;
 import java.util.logging.Level;
 import java.util.logging.Logger;
 
@@ -12,6 +13,9 @@ import java.util.logging.Logger;
  */
 public final class PluginLogger {
 
+    /** Threads currently running muted work (offline projections). */
+    private static final ThreadLocal<Boolean> MUTED = ThreadLocal.withInitial(() -> Boolean.FALSE);
+
     private final Logger logger;
 
     private PluginLogger(String name) {
@@ -23,14 +27,28 @@ public final class PluginLogger {
         return new PluginLogger(caller.getClassName());
     }
 
+    /**
+     * Runs {@code work} with debug/info/warn output suppressed on the
+     * current thread. Errors are still logged.
+     */
+    public static <T> T muted(Supplier<T> work) {
+        boolean previous = MUTED.get();
+        MUTED.set(Boolean.TRUE);
+        try {
+            return work.get();
+        } finally {
+            MUTED.set(previous);
+        }
+    }
+
     public void info(String msg, Object... args) {
-        if (logger.isLoggable(Level.INFO)) {
+        if (!MUTED.get() && logger.isLoggable(Level.INFO)) {
             logger.info(format(msg, args));
         }
     }
 
     public void warn(String msg, Object... args) {
-        if (logger.isLoggable(Level.WARNING)) {
+        if (!MUTED.get() && logger.isLoggable(Level.WARNING)) {
             FormattedMessage fm = formatWithThrowable(msg, args);
             if (fm.throwable != null) {
                 logger.log(Level.WARNING, fm.message, fm.throwable);
@@ -52,7 +70,7 @@ public final class PluginLogger {
     }
 
     public void debug(String msg, Object... args) {
-        if (logger.isLoggable(Level.FINE)) {
+        if (!MUTED.get() && logger.isLoggable(Level.FINE)) {
             logger.fine(format(msg, args));
         }
     }
@@ -0,0 +1,236 @@
+package com.crystalrealm.ecotalebanking.util;
+
+import javax.annotation.Nonnull;
+import javax.annotation.Nullable;
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Cached reflective access to server API whose stub descriptors may not
+ * match the running server.
+ *
+ * <p>Every target is resolved once — per receiver class for instance
+ * methods — into a {@link MethodHandle} adapted to a generic
+ * {@code (Object...)Object} type and invoked with {@code invokeExact}.
+ * Repeated calls skip {@code getMethod}, the linear {@code getMethods()}
+ * scan and {@code Method.invoke}'s access checks. Missing targets are
+ * cached as well and surface as {@link NoSuchMethodException}, so callers
+ * keep their existing fallback handling.</p>
+ *
+ * <pre>{@code
+ *   private static final ReflectionBridge.Call GET_WORLD = ReflectionBridge.method("getWorld");
+ *   Object world = GET_WORLD.invoke(extData);
+ * }</pre>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class ReflectionBridge {
+
+    private static final PluginLogger LOGGER = PluginLogger.forEnclosingClass();
+    private static final MethodHandles.Lookup LOOKUP = MethodHandles.lookup();
+
+    /** Marks a target that does not exist on a class. */
+    private static final Object MISSING = new Object();
+
+    private static final Map<String, Optional<Class<?>>> CLASSES = new ConcurrentHashMap<>();
+
+    private ReflectionBridge() {}
+
+    // ═════════════════════════════════════════════════════════
+    //  RESOLVE
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * @return the class, or null if it cannot be loaded (remembered)
+     */
+    @Nullable
+    public static Class<?> findClass(@Nonnull String name) {
+        return CLASSES.computeIfAbsent(name, n -> {
+            try {
+                return Optional.of(Class.forName(n));
+            } catch (ClassNotFoundException | LinkageError e) {
+                LOGGER.debug("Class {} not available: {}", n, e.getMessage());
+                return Optional.empty();
+            }
+        }).orElse(null);
+    }
+
+    /**
+     * Instance method with exactly these parameter types.
+     */
+    @Nonnull
+    public static Call method(@Nonnull String name, @Nonnull Class<?>... paramTypes) {
+        return new Call(name, paramTypes.length, paramTypes.clone());
+    }
+
+    /**
+     * First public instance method with this name and parameter count,
+     * for signatures whose parameter types differ between stubs and server.
+     */
+    @Nonnull
+    public static Call method(@Nonnull String name, int paramCount) {
+        return new Call(name, paramCount, null);
+    }
+
+    /**
+     * Resolves a public static method. Callers keep the handle; it is not cached here.
+     *
+     * @return handle of type {@code (Object...)Object}, or null if the method is missing
+     */
+    @Nullable
+    public static MethodHandle findStatic(@Nonnull Class<?> owner, @Nonnull String name,
+                                          @Nonnull Class<?>... paramTypes) {
+        try {
+            Method m = owner.getMethod(name, paramTypes);
+            if (!Modifier.isStatic(m.getModifiers())) return null;
+            return unreflect(m);
+        } catch (NoSuchMethodException | IllegalAccessException e) {
+            LOGGER.debug("Static method {}.{} not available: {}", owner.getName(), name, e.getMessage());
+            return null;
+        }
+    }
+
+    // ═════════════════════════════════════════════════════════
+    //  INVOKE
+    // ═════════════════════════════════════════════════════════
+
+    /**
+     * Invokes a handle from {@link #findStatic}.
+     *
+     * @throws InvocationTargetException wrapping anything the target throws
+     */
+    public static Object invoke(@Nonnull MethodHandle handle, Object... args)
+            throws ReflectiveOperationException {
+        try {
+            return switch (args.length) {
+                case 0 -> (Object) handle.invokeExact();
+                case 1 -> (Object) handle.invokeExact(args[0]);
+                case 2 -> (Object) handle.invokeExact(args[0], args[1]);
+                case 3 -> (Object) handle.invokeExact(args[0], args[1], args[2]);
+                default -> handle.invokeWithArguments(args);
+            };
+        } catch (Error e) {
+            throw e;
+        } catch (Throwable t) {
+            throw new InvocationTargetException(t);
+        }
+    }
+
+    /**
+     * An instance method looked up by name on the receiver's runtime class.
+     * Resolution happens once per receiver class.
+     */
+    public static final class Call {
+        private final String name;
+        private final int paramCount;
+        @Nullable private final Class<?>[] paramTypes;
+
+        private final ClassValue<Object> handles = new ClassValue<>() {
+            @Override
+            protected Object computeValue(Class<?> type) {
+                MethodHandle handle = resolve(type);
+                if (handle == null) {
+                    LOGGER.debug("Method {}.{} not available.", type.getName(), Call.this);
+                    return MISSING;
+                }
+                return handle;
+            }
+        };
+
+        private Call(String name, int paramCount, @Nullable Class<?>[] paramTypes) {
+            this.name = name;
+            this.paramCount = paramCount;
+            this.paramTypes = paramTypes;
+        }
+
+        /**
+         * @return handle of type {@code (Object receiver, Object...)Object}, or null if missing
+         */
+        @Nullable
+        public MethodHandle handle(@Nonnull Class<?> receiverType) {
+            Object handle = handles.get(receiverType);
+            return handle == MISSING ? null : (MethodHandle) handle;
+        }
+
+        /**
+         * @throws NoSuchMethodException     if the receiver's class has no such method
+         * @throws InvocationTargetException wrapping anything the target throws
+         */
+        public Object invoke(@Nonnull Object receiver, Object... args) throws ReflectiveOperationException {
+            MethodHandle handle = handle(receiver.getClass());
+            if (handle == null) {
+                throw new NoSuchMethodException(receiver.getClass().getName() + "." + this);
+            }
+            if (args.length != paramCount) {
+                throw new IllegalArgumentException(this + " called with " + args.length + " arguments");
+            }
+            try {
+                return switch (args.length) {
+                    case 0 -> (Object) handle.invokeExact(receiver);
+                    case 1 -> (Object) handle.invokeExact(receiver, args[0]);
+                    case 2 -> (Object) handle.invokeExact(receiver, args[0], args[1]);
+                    case 3 -> (Object) handle.invokeExact(receiver, args[0], args[1], args[2]);
+                    default -> {
+                        Object[] all = new Object[args.length + 1];
+                        all[0] = receiver;
+                        System.arraycopy(args, 0, all, 1, args.length);
+                        yield handle.invokeWithArguments(all);
+                    }
+                };
+            } catch (Error e) {
+                throw e;
+            } catch (Throwable t) {
+                throw new InvocationTargetException(t);
+            }
+        }
+
+        @Nullable
+        private MethodHandle resolve(Class<?> type) {
+            for (Method m : type.getMethods()) {
+                if (Modifier.isStatic(m.getModifiers()) || !m.getName().equals(name)
+                        || m.getParameterCount() != paramCount) continue;
+                if (paramTypes != null && !Arrays.equals(m.getParameterTypes(), paramTypes)) continue;
+                try {
+                    return unreflect(m);
+                } catch (IllegalAccessException e) {
+                    LOGGER.debug("Cannot access {}: {}", m, e.getMessage());
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String toString() {
+            return name + (paramTypes != null
+                    ? Arrays.toString(paramTypes).replace('[', '(').replace(']', ')')
+                    : "/" + paramCount);
+        }
+    }
+
+    // ── Internal ────────────────────────────────────────────
+
+    /**
+     * Unreflects and adapts to the generic type. Public methods declared on
+     * non-public classes are made accessible first, as {@code Method.invoke}
+     * would require.
+     */
+    private static MethodHandle unreflect(Method m) throws IllegalAccessException {
+        MethodHandle handle;
+        try {
+            handle = LOOKUP.unreflect(m);
+        } catch (IllegalAccessException e) {
+            if (!m.trySetAccessible()) throw e;
+            handle = LOOKUP.unreflect(m);
+        }
+        return handle.asType(MethodType.genericMethodType(handle.type().parameterCount()));
+    }
+}
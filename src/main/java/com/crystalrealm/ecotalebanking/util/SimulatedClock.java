@@ -0,0 +1,63 @@
+package com.crystalrealm.ecotalebanking.util;
+
+import javax.annotation.Nonnull;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Manually driven clock for projections and benchmarks.
+ * Time only moves when told to, so hundreds of game days pass instantly.
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class SimulatedClock implements BankClock {
+
+    private final AtomicLong millis;
+    private final int secondsPerDay;
+
+    /**
+     * @param start         initial time
+     * @param secondsPerDay real-time seconds per game day (minimum 60)
+     */
+    public SimulatedClock(@Nonnull Instant start, int secondsPerDay) {
+        this.millis = new AtomicLong(start.toEpochMilli());
+        this.secondsPerDay = Math.max(60, secondsPerDay);
+    }
+
+    /**
+     * Starts at the current system time with the configured game day length.
+     */
+    public SimulatedClock() {
+        this(Instant.now(), GameTime.getSecondsPerDay());
+    }
+
+    @Override
+    public long millis() {
+        return millis.get();
+    }
+
+    @Override
+    public int getSecondsPerDay() {
+        return secondsPerDay;
+    }
+
+    /**
+     * Moves the clock forward (or back, for negative durations).
+     */
+    public void advance(@Nonnull Duration duration) {
+        millis.addAndGet(duration.toMillis());
+    }
+
+    /**
+     * Moves the clock forward by whole game days.
+     */
+    public void advanceDays(long days) {
+        millis.addAndGet(days * secondsPerDay * 1000L);
+    }
+
+    public void set(@Nonnull Instant instant) {
+        millis.set(instant.toEpochMilli());
+    }
+}
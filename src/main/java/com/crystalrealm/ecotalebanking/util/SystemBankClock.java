@@ -0,0 +1,87 @@
+package com.crystalrealm.ecotalebanking.util;
+
+import javax.annotation.Nonnull;
+import java.time.Instant;
+
+/**
+ * Wall clock cached per scheduler tick.
+ *
+ * <p>While the scheduler drives it through {@link #tick()}, reads return
+ * the value captured at the last tick (at most one tick stale) without
+ * allocating. Until the first tick, and after {@link #stopTicking()},
+ * every read falls through to the live system time, so code running
+ * without a scheduler never sees a frozen clock.</p>
+ *
+ * @author CrystalRealm
+ * @version 1.0.0
+ */
+public final class SystemBankClock implements BankClock {
+
+    /** Refresh period the scheduler should use. */
+    public static final long TICK_MILLIS = 250L;
+
+    static final SystemBankClock INSTANCE = new SystemBankClock();
+
+    /** Immutable reading, swapped atomically per tick. */
+    private static final class Reading {
+        final long millis;
+        final Instant instant;
+        final int secondsPerDay;
+        final long gameDay;
+
+        Reading(long millis) {
+            this.millis = millis;
+            this.instant = Instant.ofEpochMilli(millis);
+            this.secondsPerDay = GameTime.getSecondsPerDay();
+            this.gameDay = Math.floorDiv(millis, 1000L) / secondsPerDay;
+        }
+    }
+
+    private volatile Reading reading;
+
+    private SystemBankClock() {}
+
+    /**
+     * Refreshes the cached time. Called by the scheduler every {@link #TICK_MILLIS}.
+     */
+    public void tick() {
+        reading = new Reading(System.currentTimeMillis());
+    }
+
+    /**
+     * Returns to live reads (scheduler stopped).
+     */
+    public void stopTicking() {
+        reading = null;
+    }
+
+    @Nonnull
+    public static SystemBankClock getInstance() {
+        return INSTANCE;
+    }
+
+    @Override
+    public long millis() {
+        Reading r = reading;
+        return r != null ? r.millis : System.currentTimeMillis();
+    }
+
+    @Override
+    public int getSecondsPerDay() {
+        return GameTime.getSecondsPerDay();
+    }
+
+    @Nonnull
+    @Override
+    public Instant now() {
+        Reading r = reading;
+        return r != null ? r.instant : Instant.now();
+    }
+
+    @Override
+    public long currentGameDay() {
+        Reading r = reading;
+        return r != null && r.secondsPerDay == GameTime.getSecondsPerDay()
+                ? r.gameDay : BankClock.super.currentGameDay();
+    }
+}